@@ -0,0 +1,49 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.ai.EndgameSolver;
+import hr.algebra.azul.ai.GreedyPolicy;
+import hr.algebra.azul.ai.HeadlessGame;
+import hr.algebra.azul.ai.Position;
+import hr.algebra.azul.ai.SearchBudget;
+import hr.algebra.azul.ai.SearchContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exact solve of a whole two player final round, from its first pick. The
+ * games are played greedily up to the last deal; the seed picks the game.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Thread)
+public class EndgameSolverBenchmark {
+    @Param({"1", "9", "19"})
+    public long seed;
+
+    private Position finalRound;
+    private EndgameSolver solver;
+
+    @Setup(Level.Trial)
+    public void playToFinalRound() {
+        HeadlessGame game = new HeadlessGame(2, seed);
+        int[] buffer = new int[game.getPosition().maxMoves()];
+        finalRound = game.getPosition();
+        while (!game.isOver()) {
+            Position position = game.getPosition();
+            if (position.round() != finalRound.round()) {
+                finalRound = position;
+            }
+            game.play(GreedyPolicy.chooseMove(position, buffer));
+        }
+        solver = new EndgameSolver();
+    }
+
+    @Benchmark
+    public int solveFinalRound() {
+        return solver.solve(finalRound, true, new SearchContext(SearchBudget.ofMillis(60_000))).move();
+    }
+}
@@ -0,0 +1,53 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.models.Tile;
+import hr.algebra.azul.models.TileColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taking a color from a factory. The factory is refilled with the same four
+ * tiles before each selection; {@link #refillOnly()} measures that part alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FactoryBenchmark {
+    private final Factory factory = new Factory(0);
+    private final Tile[] tiles = {
+            new Tile(TileColor.RED), new Tile(TileColor.BLUE),
+            new Tile(TileColor.RED), new Tile(TileColor.YELLOW)
+    };
+
+    @Benchmark
+    public List<Tile> selectTilesByColor() {
+        refill();
+        return factory.selectTilesByColor(TileColor.RED);
+    }
+
+    @Benchmark
+    public List<Tile> selectAndRemoveRemaining() {
+        refill();
+        factory.selectTilesByColor(TileColor.RED);
+        return factory.removeRemainingTiles();
+    }
+
+    @Benchmark
+    public Factory refillOnly() {
+        refill();
+        return factory;
+    }
+
+    private void refill() {
+        factory.clear();
+        for (Tile tile : tiles) {
+            factory.addTile(tile);
+        }
+    }
+}
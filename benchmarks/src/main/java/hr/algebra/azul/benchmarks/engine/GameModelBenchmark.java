@@ -0,0 +1,127 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.models.GameModel;
+import hr.algebra.azul.models.Tile;
+import hr.algebra.azul.models.TileColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turn and round operations on {@link GameModel}. Single selections need a fresh
+ * game each time and are too short for per-invocation setup to be accurate in
+ * throughput mode, so they are sampled instead. {@link #newGame()} is the
+ * baseline to subtract from the round and playout numbers.
+ *
+ * The tile bag shuffles with an unseeded random, so games differ between
+ * invocations; the averages are stable, individual samples are not.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GameModelBenchmark {
+
+    @State(Scope.Thread)
+    public static class FreshGame {
+        GameModel game;
+        TileColor factoryColor;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            game = new GameModel(2);
+            factoryColor = game.getFactories().get(0).getTiles().get(0).getColor();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class GameWithCenter {
+        GameModel game;
+        TileColor centerColor;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            do {
+                game = new GameModel(2);
+                Factory factory = game.getFactories().get(0);
+                game.selectTilesFromFactory(0, factory.getTiles().get(0).getColor(), 4);
+                game.nextTurn();
+                centerColor = firstCenterColor(game);
+            } while (centerColor == null);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DraftedRound {
+        GameModel game;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            game = new GameModel(2);
+            Random random = new Random();
+            while (!game.isRoundComplete()) {
+                RandomPlayout.playRandomMove(game, random);
+                game.nextTurn();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Randomness {
+        final Random random = new Random(7);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public GameModel newGame() {
+        return new GameModel(2);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean selectTilesFromFactory(FreshGame state) {
+        return state.game.selectTilesFromFactory(0, state.factoryColor, 4);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean selectTilesFromCenter(GameWithCenter state) {
+        return state.game.selectTilesFromCenter(state.centerColor, 4);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean processRoundEnd(DraftedRound state) {
+        return state.game.processRoundEnd();
+    }
+
+    // One drafted and scored round on a fresh game
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public GameModel playRound(Randomness state) {
+        GameModel game = new GameModel(2);
+        RandomPlayout.playRound(game, state.random);
+        return game;
+    }
+
+    // A whole game of random legal moves until the bag is empty
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int randomPlayout(Randomness state) {
+        return RandomPlayout.playGame(new GameModel(2), state.random);
+    }
+
+    private static TileColor firstCenterColor(GameModel game) {
+        for (Tile tile : game.getCenterPool()) {
+            if (tile.getColor() != null) return tile.getColor();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.ai.GreedyPolicy;
+import hr.algebra.azul.ai.HeadlessGame;
+import hr.algebra.azul.ai.Position;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Greedy move choice as used for playouts. {@code scoreMoveList} scores an
+ * already generated list, {@code chooseMove} includes move generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GreedyPolicyBenchmark {
+    // Moves already played in the round; the first move sees the longest list
+    @Param({"0", "4", "8"})
+    public int played;
+
+    private Position position;
+    private int[] moves;
+    private int count;
+
+    @Setup(Level.Trial)
+    public void playIntoRound() {
+        HeadlessGame game = new HeadlessGame(2, 42);
+        int[] buffer = new int[game.getPosition().maxMoves()];
+        for (int i = 0; i < played; i++) {
+            game.play(GreedyPolicy.chooseMove(game.getPosition(), buffer));
+        }
+        position = game.getPosition();
+        moves = new int[position.maxMoves()];
+        count = position.generateMoves(moves);
+    }
+
+    @Benchmark
+    public int scoreMoveList() {
+        return GreedyPolicy.bestMove(position, moves, count);
+    }
+
+    @Benchmark
+    public int chooseMove() {
+        return GreedyPolicy.chooseMove(position, moves);
+    }
+
+    // A whole game of greedy moves for both players, dealing included
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int playout() {
+        HeadlessGame game = new HeadlessGame(2, 7);
+        int[] buffer = moves.clone();
+        while (!game.isOver()) {
+            game.play(GreedyPolicy.chooseMove(game.getPosition(), buffer));
+        }
+        return game.finalScore(0);
+    }
+}
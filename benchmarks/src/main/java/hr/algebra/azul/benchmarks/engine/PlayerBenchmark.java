@@ -0,0 +1,46 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.models.Player;
+import hr.algebra.azul.models.Tile;
+import hr.algebra.azul.models.TileColor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Legality checks as done for every hover and every generated move: all
+ * (color, pattern line) pairs on a player with a partly filled board.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+    private static final TileColor[] COLORS = TileColor.values();
+
+    private Player player;
+
+    @Setup
+    public void preparePlayer() {
+        player = new Player("Benchmark");
+        player.getWall().addTile(0, TileColor.BLUE);
+        player.getWall().addTile(1, TileColor.WHITE);
+        player.getWall().addTile(2, TileColor.RED);
+        player.getWall().addTile(3, TileColor.BLUE);
+        player.getPatternLine(2).addTiles(List.of(new Tile(TileColor.YELLOW)));
+        player.getPatternLine(4).addTiles(List.of(new Tile(TileColor.BLACK), new Tile(TileColor.BLACK)));
+    }
+
+    @Benchmark
+    public void canPlaceTilesAllMoves(Blackhole blackhole) {
+        for (TileColor color : COLORS) {
+            for (int line = 0; line < 5; line++) {
+                blackhole.consume(player.canPlaceTiles(color, line));
+            }
+        }
+    }
+}
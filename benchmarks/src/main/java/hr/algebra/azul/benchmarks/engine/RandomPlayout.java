@@ -0,0 +1,131 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.models.GameModel;
+import hr.algebra.azul.models.Player;
+import hr.algebra.azul.models.Tile;
+import hr.algebra.azul.models.TileColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Plays games through the public {@link GameModel} API with uniformly random
+ * legal moves. A move takes every tile of one color from a factory or the center
+ * and puts it on a pattern line that accepts it. When no line accepts the color
+ * the tiles go straight to the floor line, as the rules require.
+ */
+final class RandomPlayout {
+    // The bag holds 100 tiles and 20 are drawn per round, so a game lasts 5 rounds
+    static final int MAX_ROUNDS = 5;
+
+    private static final int CENTER = -1;
+    private static final int PATTERN_LINES = 5;
+
+    private RandomPlayout() {
+    }
+
+    // Plays until the bag runs out and returns the sum of all final scores
+    static int playGame(GameModel game, Random random) {
+        while (game.getCurrentRound() <= MAX_ROUNDS && hasTiles(game)) {
+            playRound(game, random);
+        }
+
+        int total = 0;
+        for (Player player : game.getPlayers()) {
+            total += player.getScore();
+        }
+        return total;
+    }
+
+    // Drafts until the round is complete, then processes the round end
+    static void playRound(GameModel game, Random random) {
+        while (!game.isRoundComplete()) {
+            playRandomMove(game, random);
+            game.nextTurn();
+        }
+        game.processRoundEnd();
+    }
+
+    static void playRandomMove(GameModel game, Random random) {
+        int[] chosenSource = new int[1];
+        TileColor[] chosenColor = new TileColor[1];
+        int options = 0;
+
+        // Pick a random (source, color) option with reservoir sampling
+        List<Factory> factories = game.getFactories();
+        for (int f = 0; f < factories.size(); f++) {
+            for (TileColor color : TileColor.values()) {
+                if (containsColor(factories.get(f).getTiles(), color)) {
+                    options = offer(chosenSource, chosenColor, options, f, color, random);
+                }
+            }
+        }
+        for (TileColor color : TileColor.values()) {
+            if (containsColor(game.getCenterPool(), color)) {
+                options = offer(chosenSource, chosenColor, options, CENTER, color, random);
+            }
+        }
+        if (options == 0) return;
+
+        int source = chosenSource[0];
+        TileColor color = chosenColor[0];
+        Player player = game.getCurrentPlayer();
+
+        List<Integer> lines = new ArrayList<>(PATTERN_LINES);
+        for (int line = 0; line < PATTERN_LINES; line++) {
+            if (player.canPlaceTiles(color, line)) {
+                lines.add(line);
+            }
+        }
+
+        if (!lines.isEmpty()) {
+            int line = lines.get(random.nextInt(lines.size()));
+            if (source == CENTER) {
+                game.selectTilesFromCenter(color, line);
+            } else {
+                game.selectTilesFromFactory(source, color, line);
+            }
+        } else {
+            takeToFloor(game, source, color);
+        }
+    }
+
+    private static void takeToFloor(GameModel game, int source, TileColor color) {
+        List<Tile> selected;
+        if (source == CENTER) {
+            selected = game.collectTilesFromCenter(color);
+            game.handleFirstPlayerToken();
+        } else {
+            Factory factory = game.getFactories().get(source);
+            selected = factory.selectTilesByColor(color);
+            game.addTilesToCenter(factory.removeRemainingTiles());
+        }
+        game.getCurrentPlayer().getFloorLine().addTiles(selected);
+    }
+
+    private static int offer(int[] chosenSource, TileColor[] chosenColor, int seen,
+                             int source, TileColor color, Random random) {
+        seen++;
+        if (random.nextInt(seen) == 0) {
+            chosenSource[0] = source;
+            chosenColor[0] = color;
+        }
+        return seen;
+    }
+
+    private static boolean containsColor(List<Tile> tiles, TileColor color) {
+        for (Tile tile : tiles) {
+            if (tile.getColor() == color) return true;
+        }
+        return false;
+    }
+
+    private static boolean hasTiles(GameModel game) {
+        for (Factory factory : game.getFactories()) {
+            if (!factory.isEmpty()) return true;
+        }
+        return false;
+    }
+}
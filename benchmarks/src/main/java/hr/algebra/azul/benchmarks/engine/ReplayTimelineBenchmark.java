@@ -0,0 +1,55 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.ai.GameRecorder;
+import hr.algebra.azul.ai.GreedyPolicy;
+import hr.algebra.azul.ai.HeadlessGame;
+import hr.algebra.azul.ai.Position;
+import hr.algebra.azul.ai.ReplayTimeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilds positions of a recorded four player greedy game the way the
+ * replay screen does: a jump to a random step, as when dragging the slider,
+ * and one step forward, as during playback. Time is per position; a frame at
+ * 60 fps has about 16 ms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ReplayTimelineBenchmark {
+    private ReplayTimeline timeline;
+    private SplittableRandom random;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void recordGame() {
+        HeadlessGame game = new HeadlessGame(4, 1);
+        GameRecorder recorder = new GameRecorder(List.of("P1", "P2", "P3", "P4"));
+        int[] buffer = new int[game.getPosition().maxMoves()];
+        recorder.observe(game.getPosition());
+        while (!game.isOver()) {
+            game.play(GreedyPolicy.chooseMove(game.getPosition(), buffer));
+            recorder.observe(game.getPosition());
+        }
+        timeline = new ReplayTimeline(recorder.toRecord());
+        random = new SplittableRandom(1);
+    }
+
+    @Benchmark
+    public Position jumpToRandomStep() {
+        return timeline.positionAt(random.nextInt(timeline.size()));
+    }
+
+    @Benchmark
+    public Position stepForward() {
+        step = step + 1 < timeline.size() ? step + 1 : 0;
+        return timeline.positionAt(step);
+    }
+}
@@ -0,0 +1,95 @@
+package hr.algebra.azul.benchmarks.engine;
+
+import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.models.Wall;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall placement and scoring. {@code addTile} includes the adjacency scoring done
+ * by {@code calculatePoints}, which is private, so both are measured together.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WallBenchmark {
+    private static final TileColor[] COLORS = TileColor.values();
+
+    // Number of tiles already on the wall before the measured placement
+    @Param({"0", "12", "24"})
+    public int filled;
+
+    private int[] placementOrder;
+    private Wall wall;
+    private int row;
+    private TileColor color;
+
+    @Setup(Level.Trial)
+    public void shuffleOrder() {
+        List<Integer> cells = new ArrayList<>();
+        for (int cell = 0; cell < Wall.WALL_SIZE * Wall.WALL_SIZE; cell++) {
+            cells.add(cell);
+        }
+        Collections.shuffle(cells, new Random(42));
+        placementOrder = cells.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareWall() {
+        wall = new Wall();
+        for (int i = 0; i < filled; i++) {
+            place(wall, placementOrder[i]);
+        }
+        int next = placementOrder[filled];
+        row = next / Wall.WALL_SIZE;
+        color = colorAt(row, next % Wall.WALL_SIZE);
+    }
+
+    // Too short for per-invocation setup in throughput mode, so it is sampled
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int addTile() {
+        return wall.addTile(row, color);
+    }
+
+    @Benchmark
+    public void hasColor(Blackhole blackhole) {
+        for (int r = 0; r < Wall.WALL_SIZE; r++) {
+            for (TileColor c : COLORS) {
+                blackhole.consume(wall.hasColor(r, c));
+            }
+        }
+    }
+
+    // All 25 placements on a fresh wall, including allocation of the wall itself
+    @Benchmark
+    public int fillWall() {
+        Wall fresh = new Wall();
+        int points = 0;
+        for (int cell : placementOrder) {
+            points += place(fresh, cell);
+        }
+        return points;
+    }
+
+    private static int place(Wall wall, int cell) {
+        int row = cell / Wall.WALL_SIZE;
+        return wall.addTile(row, colorAt(row, cell % Wall.WALL_SIZE));
+    }
+
+    // Same layout as Wall.initializeWallPattern: each row is shifted right by one
+    private static TileColor colorAt(int row, int col) {
+        TileColor[] firstRow = {TileColor.BLUE, TileColor.YELLOW, TileColor.RED, TileColor.BLACK, TileColor.WHITE};
+        return firstRow[(col - row + Wall.WALL_SIZE) % Wall.WALL_SIZE];
+    }
+}
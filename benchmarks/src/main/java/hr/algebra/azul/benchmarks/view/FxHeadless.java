@@ -0,0 +1,91 @@
+package hr.algebra.azul.benchmarks.view;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Starts the JavaFX toolkit on Monocle's headless platform and runs work on the
+ * FX thread. Scenes are never shown; CSS and layout are applied explicitly.
+ */
+final class FxHeadless {
+    private static boolean started;
+
+    private FxHeadless() {
+    }
+
+    static synchronized void start() throws InterruptedException {
+        if (started) return;
+
+        // Also passed by @Fork; set here so the class works from other harnesses
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+
+        CountDownLatch ready = new CountDownLatch(1);
+        Platform.startup(ready::countDown);
+        Platform.setImplicitExit(false);
+        ready.await();
+        started = true;
+    }
+
+    static <T> T call(Callable<T> task) {
+        try {
+            if (Platform.isFxApplicationThread()) {
+                return task.call();
+            }
+            FutureTask<T> future = new FutureTask<>(task);
+            Platform.runLater(future);
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("FX task failed", e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException("FX task failed", e);
+        }
+    }
+
+    static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // Applies CSS and lays out a scene graph that is not attached to a window
+    static void pass(Parent root) {
+        root.applyCss();
+        root.layout();
+    }
+
+    static Set<Node> collectNodes(Node root) {
+        Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(root, nodes);
+        return nodes;
+    }
+
+    // Nodes reachable from root that are not in the given snapshot
+    static int countNew(Node root, Set<Node> before) {
+        int created = 0;
+        for (Node node : collectNodes(root)) {
+            if (!before.contains(node)) created++;
+        }
+        return created;
+    }
+
+    private static void collect(Node node, Set<Node> nodes) {
+        nodes.add(node);
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                collect(child, nodes);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package hr.algebra.azul.benchmarks.view;
+
+import hr.algebra.azul.helper.BoardRenderer;
+import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.models.GameModel;
+import hr.algebra.azul.models.Player;
+import hr.algebra.azul.models.Tile;
+import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.view.ModernTwoPlayerGameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board refresh paths of the two player screen, run headless on Monocle.
+ * The controller's update methods delegate to {@link BoardRenderer}:
+ * updateFactories/updateFactoryDisplay to renderFactories/renderFactory,
+ * updateCenterPool to renderCenterPool and updatePlayerBoards to
+ * renderPlayerBoards. updateEntireView is all of them plus a CSS and layout pass.
+ *
+ * With {@code change = true} every update follows a model change: factories are
+ * refilled, the center is redealt with {@code centerTiles} random tiles and the
+ * boards are marked dirty. With {@code change = false} nothing changed, which
+ * measures the cost of a redundant refresh.
+ *
+ * Every operation is handed to the FX thread; {@link #fxRoundTrip} is that
+ * overhead alone.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+@State(Scope.Thread)
+public class GameViewBenchmark {
+    private static final TileColor[] COLORS = TileColor.values();
+
+    @Param({"0", "12", "28"})
+    public int centerTiles;
+
+    @Param({"true", "false"})
+    public boolean change;
+
+    private final Random random = new Random(11);
+    private GameModel gameModel;
+    private ModernTwoPlayerGameView view;
+    private BoardRenderer renderer;
+    private SceneRoot scene;
+
+    @Setup(Level.Trial)
+    public void createView(SceneRoot scene) throws InterruptedException {
+        this.scene = scene;
+        FxHeadless.start();
+        FxHeadless.run(() -> {
+            gameModel = new GameModel(2);
+            for (Player player : gameModel.getPlayers()) {
+                player.getWall().addTile(0, TileColor.BLUE);
+                player.getWall().addTile(1, TileColor.BLUE);
+                player.getWall().addTile(2, TileColor.RED);
+            }
+            view = new ModernTwoPlayerGameView();
+            renderer = new BoardRenderer(view, gameModel);
+            scene.root = view.getStage().getScene().getRoot();
+            dealCenter();
+            renderAll();
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareUpdate() {
+        if (!change) return;
+        FxHeadless.run(() -> {
+            refillFactories();
+            dealCenter();
+            gameModel.markAllDirty();
+        });
+    }
+
+    @Benchmark
+    public void fxRoundTrip(NodeCounters counters) {
+        FxHeadless.run(() -> { });
+    }
+
+    @Benchmark
+    public void updateFactories(NodeCounters counters) {
+        FxHeadless.run(renderer::renderFactories);
+    }
+
+    @Benchmark
+    public void updateFactoryDisplay(NodeCounters counters) {
+        FxHeadless.run(() -> renderer.renderFactory(0));
+    }
+
+    @Benchmark
+    public void updateCenterPool(NodeCounters counters) {
+        FxHeadless.run(renderer::renderCenterPool);
+    }
+
+    @Benchmark
+    public void updatePlayerBoards(NodeCounters counters) {
+        FxHeadless.run(renderer::renderPlayerBoards);
+    }
+
+    @Benchmark
+    public void updateEntireView(NodeCounters counters) {
+        FxHeadless.run(this::renderAll);
+    }
+
+    private void renderAll() {
+        renderer.renderFactories();
+        renderer.renderCenterPool();
+        renderer.renderPlayerBoards();
+        FxHeadless.pass(scene.root);
+    }
+
+    private void refillFactories() {
+        for (Factory factory : gameModel.getFactories()) {
+            factory.clear();
+            for (int i = 0; i < 4; i++) {
+                factory.addTile(new Tile(randomColor()));
+            }
+        }
+    }
+
+    private void dealCenter() {
+        for (TileColor color : COLORS) {
+            gameModel.collectTilesFromCenter(color);
+        }
+        List<Tile> tiles = new ArrayList<>(centerTiles);
+        for (int i = 0; i < centerTiles; i++) {
+            tiles.add(new Tile(randomColor()));
+        }
+        gameModel.addTilesToCenter(tiles);
+    }
+
+    private TileColor randomColor() {
+        return COLORS[random.nextInt(COLORS.length)];
+    }
+}
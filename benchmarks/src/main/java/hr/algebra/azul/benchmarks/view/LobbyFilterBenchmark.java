@@ -0,0 +1,73 @@
+package hr.algebra.azul.benchmarks.view;
+
+import hr.algebra.azul.controllers.LobbyController;
+import hr.algebra.azul.models.GameLobby;
+import hr.algebra.azul.view.ModernLobbyView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typing into the lobby search field: the predicate runs over every lobby and the
+ * list view refreshes its cells in the following layout pass. Queries cycle so
+ * each update changes the visible result.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+@State(Scope.Thread)
+public class LobbyFilterBenchmark {
+    private static final String[] QUERIES = {"p", "pro", "casual", "host 1", "", "tour"};
+    private static final String[] NAMES = {"Pro Players Only", "Casual Fun Games", "Tournament Practice", "Late Night Azul"};
+    private static final String[] STATUSES = {"Waiting", "In Queue", "In Game"};
+
+    @Param({"10", "1000", "10000"})
+    public int lobbies;
+
+    private ModernLobbyView view;
+    private SceneRoot scene;
+    private int queryIndex;
+
+    @Setup(Level.Trial)
+    public void createView(SceneRoot scene) throws InterruptedException {
+        this.scene = scene;
+        FxHeadless.start();
+        FxHeadless.run(() -> {
+            view = new ModernLobbyView();
+            LobbyController controller = new LobbyController(view);
+            controller.setLobbies(generateLobbies(lobbies));
+            scene.root = view.getStage().getScene().getRoot();
+            FxHeadless.pass(scene.root);
+        });
+    }
+
+    @Benchmark
+    public int filter(NodeCounters counters) {
+        String query = QUERIES[queryIndex++ % QUERIES.length];
+        return FxHeadless.call(() -> {
+            view.getSearchField().setText(query);
+            FxHeadless.pass(scene.root);
+            return view.getLobbyListView().getItems().size();
+        });
+    }
+
+    private static List<GameLobby> generateLobbies(int count) {
+        Random random = new Random(3);
+        List<GameLobby> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new GameLobby(
+                    NAMES[random.nextInt(NAMES.length)] + " #" + i,
+                    "Host " + random.nextInt(500),
+                    1 + random.nextInt(4),
+                    4,
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    "All Ranks"));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package hr.algebra.azul.benchmarks.view;
+
+import javafx.scene.Node;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Set;
+
+/**
+ * Secondary results reported next to the timing: nodes that appeared in the
+ * scene graph during an update, averaged per update, and the scene size after it.
+ * The counters take their own snapshot of the {@link SceneRoot} around every
+ * invocation; JMH rejects aux counters injected into another state's helpers.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class NodeCounters {
+    public double nodesCreatedPerUpdate;
+    public double sceneNodes;
+
+    private long updates;
+    private long created;
+    private Set<Node> nodesBefore;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        updates = 0;
+        created = 0;
+        nodesCreatedPerUpdate = 0;
+        sceneNodes = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void snapshotNodes(SceneRoot scene) {
+        FxHeadless.run(() -> nodesBefore = FxHeadless.collectNodes(scene.root));
+    }
+
+    @TearDown(Level.Invocation)
+    public void countNodes(SceneRoot scene) {
+        FxHeadless.run(() -> record(
+                FxHeadless.countNew(scene.root, nodesBefore),
+                FxHeadless.collectNodes(scene.root).size()));
+    }
+
+    private void record(int nodesCreated, int nodesInScene) {
+        updates++;
+        created += nodesCreated;
+        nodesCreatedPerUpdate = (double) created / updates;
+        sceneNodes = nodesInScene;
+    }
+}
@@ -0,0 +1,14 @@
+package hr.algebra.azul.benchmarks.view;
+
+import javafx.scene.Parent;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The scene a view benchmark measures. The benchmark sets the root in its
+ * trial setup; {@link NodeCounters} reads it around every invocation.
+ */
+@State(Scope.Thread)
+public class SceneRoot {
+    Parent root;
+}
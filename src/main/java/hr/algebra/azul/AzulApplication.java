@@ -6,10 +6,16 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 
 public class AzulApplication extends Application {
+    // Set by the cds build profile for the run that records startup classes
+    private static final String CDS_TRAINING_PROPERTY = "azul.cds.training";
+
     @Override
     public void start(Stage primaryStage) {
         ModernMenuView menuView = new ModernMenuView();
         ModernMenuController menuController = new ModernMenuController(menuView, primaryStage);
+        if (Boolean.getBoolean(CDS_TRAINING_PROPERTY)) {
+            menuController.runStartupTraining();
+        }
         menuController.show();
     }
 
@@ -0,0 +1,233 @@
+package hr.algebra.azul.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Iterative deepening alpha-beta search over the rest of the current round.
+ * The root player maximises and every opponent minimises its value (paranoid
+ * search), which is plain minimax with two players. Round ends are scored with
+ * {@link Position#scoreRound()} and evaluated statically because the next
+ * round's factories are not known yet.
+ * <p>
+ * The first root move is searched alone to get a bound, the remaining root
+ * moves are then searched in parallel on the given pool. Results go to the
+ * given {@link TranspositionTable} under the {@link TranspositionTable.Kind}
+ * of the evaluator, so an {@link AnalysisSearch} with the same values reads
+ * them and the reverse.
+ */
+public class AlphaBetaSearch {
+    public static final int MAX_DEPTH = 12;
+    // Below any line move's key, which is at least 10 - 6 * tiles taken
+    private static final int FLOOR_KEY = -1000;
+
+    private final Evaluator evaluator;
+    private final TranspositionTable.Kind kind;
+    private final TranspositionTable table;
+    private final ForkJoinPool pool;
+
+    public AlphaBetaSearch(Evaluator evaluator, TranspositionTable.Kind kind, TranspositionTable table,
+                           ForkJoinPool pool) {
+        this.evaluator = evaluator;
+        this.kind = kind;
+        this.table = table;
+        this.pool = pool;
+    }
+
+    /**
+     * Searches until the context runs out of time, is cancelled or the whole
+     * round has been searched. Always returns a legal move when one exists,
+     * falling back to the best move of the last completed iteration.
+     */
+    public SearchResult search(Position root, SearchContext context) {
+        int[] moves = root.legalMoves();
+        if (moves.length == 0) {
+            return new SearchResult(Move.NONE, evaluator.evaluate(root, root.toMove()), 0, 0);
+        }
+        orderMoves(root, moves, moves.length);
+        table.newSearch();
+
+        int player = root.toMove();
+        int bestMove = moves[0];
+        double bestValue = Double.NEGATIVE_INFINITY;
+        int completedDepth = 0;
+        double[] values = new double[moves.length];
+
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            try {
+                searchRoot(root, moves, values, depth, player, context);
+            } catch (SearchAborted aborted) {
+                break;
+            } catch (RuntimeException e) {
+                // Aborts inside parallel workers arrive wrapped
+                if (e.getCause() instanceof SearchAborted || context.shouldStop()) break;
+                throw e;
+            }
+
+            sortByValue(moves, values);
+            bestMove = moves[0];
+            bestValue = values[0];
+            completedDepth = depth;
+            context.reportProgress((double) depth / MAX_DEPTH);
+
+            if (depth >= remainingPlies(root)) {
+                break; // The whole round fits in this depth
+            }
+        }
+
+        context.reportProgress(1.0);
+        return new SearchResult(bestMove, bestValue, completedDepth, context.getNodes());
+    }
+
+    private void searchRoot(Position root, int[] moves, double[] values, int depth, int player,
+                            SearchContext context) {
+        values[0] = value(root.play(moves[0]), depth - 1, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, player, context);
+        double alpha = values[0];
+
+        pool.submit(() -> IntStream.range(1, moves.length).parallel().forEach(i ->
+                values[i] = value(root.play(moves[i]), depth - 1, alpha, Double.POSITIVE_INFINITY, player, context)
+        )).join();
+    }
+
+    private double value(Position position, int depth, double alpha, double beta, int player,
+                         SearchContext context) {
+        if (context.shouldStop()) throw SearchAborted.INSTANCE;
+        context.countNode();
+
+        if (position.isRoundOver()) {
+            return evaluator.evaluate(position.scoreRound(), player);
+        }
+        if (depth == 0) {
+            return evaluator.evaluate(position, player);
+        }
+
+        long key = TranspositionTable.key(position, kind, player);
+        TranspositionTable.Entry entry = table.get(key);
+        if (entry != null && entry.depth() >= depth) {
+            double stored = entry.values()[0];
+            if (entry.bound() == TranspositionTable.EXACT
+                    || entry.bound() == TranspositionTable.LOWER && stored >= beta
+                    || entry.bound() == TranspositionTable.UPPER && stored <= alpha) {
+                return stored;
+            }
+        }
+
+        int[] moves = new int[position.maxMoves()];
+        int count = orderedMoves(position, moves, entry);
+        boolean maximising = position.toMove() == player;
+        double originalAlpha = alpha;
+        double originalBeta = beta;
+        double best = maximising ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestMove = Move.NONE;
+
+        for (int i = 0; i < count; i++) {
+            double value = value(position.play(moves[i]), depth - 1, alpha, beta, player, context);
+            if (maximising ? value > best : value < best) {
+                best = value;
+                bestMove = moves[i];
+            }
+            if (maximising) {
+                alpha = Math.max(alpha, value);
+            } else {
+                beta = Math.min(beta, value);
+            }
+            if (alpha >= beta) break;
+        }
+
+        byte bound = best <= originalAlpha ? TranspositionTable.UPPER
+                : best >= originalBeta ? TranspositionTable.LOWER
+                : TranspositionTable.EXACT;
+        table.put(key, depth, bestMove, bound, new double[]{best});
+        return best;
+    }
+
+    /**
+     * Upper bound on the plies left in the round. Every factory is emptied by one
+     * move and can add at most three new colors to the center, and every center
+     * move clears one color.
+     */
+    static int remainingPlies(Position position) {
+        int factories = 0;
+        for (int f = 0; f < position.factoryCount(); f++) {
+            for (int color = 0; color < Position.COLORS; color++) {
+                if (position.factoryTiles(f, color) > 0) {
+                    factories++;
+                    break;
+                }
+            }
+        }
+        int centerColors = 0;
+        for (int color = 0; color < Position.COLORS; color++) {
+            if (position.centerTiles(color) > 0) centerColors++;
+        }
+        return factories + centerColors + 3 * factories;
+    }
+
+    /**
+     * Cheap move ordering: prefer moves that fill a line without spilling onto
+     * the floor, and finishing a line most of all. Moves straight to the floor
+     * come after every line move, so alpha-beta rarely has to search them.
+     */
+    static void orderMoves(Position position, int[] moves, int count) {
+        int[] keys = new int[count];
+        int player = position.toMove();
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            int taken = position.tilesTaken(move);
+            if (Move.isToFloor(move)) {
+                keys[i] = FLOOR_KEY - taken;
+                continue;
+            }
+            int line = Move.line(move);
+            int space = line + 1 - position.lineCount(player, line);
+            int placed = Math.min(space, taken);
+            keys[i] = placed * 4 - (taken - placed) * 6 + (placed == space ? 8 : 0);
+        }
+        // Insertion sort, move lists are short
+        for (int i = 1; i < count; i++) {
+            int move = moves[i];
+            int key = keys[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] < key) {
+                moves[j + 1] = moves[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            moves[j + 1] = move;
+            keys[j + 1] = key;
+        }
+    }
+
+    // Generated and ordered moves, with the table's best move first when there is one
+    static int orderedMoves(Position position, int[] moves, TranspositionTable.Entry entry) {
+        int count = position.generateMoves(moves);
+        orderMoves(position, moves, count);
+        if (entry != null && entry.move() != Move.NONE) {
+            for (int i = 1; i < count; i++) {
+                if (moves[i] == entry.move()) {
+                    System.arraycopy(moves, 0, moves, 1, i);
+                    moves[0] = entry.move();
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    static void sortByValue(int[] moves, double[] values) {
+        Integer[] order = new Integer[moves.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(values[b], values[a]));
+
+        int[] sortedMoves = new int[moves.length];
+        double[] sortedValues = new double[values.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedMoves[i] = moves[order[i]];
+            sortedValues[i] = values[order[i]];
+        }
+        System.arraycopy(sortedMoves, 0, moves, 0, moves.length);
+        System.arraycopy(sortedValues, 0, values, 0, values.length);
+    }
+}
@@ -0,0 +1,55 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Full AlphaBetaSearch on the shared search threads; the strongest built-in
+ * strategy. In the round that ends the game it plays perfectly with the
+ * {@link EndgameSolver} instead, unless that needs more than half the budget.
+ * First moves come from the {@link OpeningBook} when it knows them.
+ */
+public class AlphaBetaStrategy implements PlayerStrategy {
+    public static final String ID = "alphabeta";
+    // Part of the move budget the endgame solver may use before falling back
+    private static final double ENDGAME_SHARE = 0.5;
+
+    private final AlphaBetaSearch search = new AlphaBetaSearch(new HeuristicEvaluator(),
+            TranspositionTable.Kind.MARGIN, TranspositionTable.engine(), SearchThreads.pool());
+    // The solver's table is not thread safe; one per calling thread
+    private final ThreadLocal<EndgameSolver> solvers = ThreadLocal.withInitial(EndgameSolver::new);
+    private final OpeningBook book = OpeningBook.forStrategy(ID);
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Search";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return SearchBudget.ofMillis(1500);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        int bookMove = book.lookup(position);
+        if (bookMove != Move.NONE) {
+            return bookMove;
+        }
+        boolean lastRound = position.bagSize() == 0;
+        if (lastRound || EndgameSolver.isFinalRound(position)) {
+            try {
+                return solvers.get().solve(position, lastRound, context.share(ENDGAME_SHARE)).move();
+            } catch (SearchAborted aborted) {
+                // Too big for its share of the budget; search with the rest
+            }
+        }
+        int move = search.search(position, context).move();
+        if (!context.isCancelled()) {
+            book.remember(position, move);
+        }
+        return move;
+    }
+}
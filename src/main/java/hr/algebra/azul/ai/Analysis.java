@@ -0,0 +1,29 @@
+package hr.algebra.azul.ai;
+
+import java.util.List;
+
+/**
+ * What an {@link AnalysisSearch} knows about a position so far: every legal
+ * move ranked best first for the player to move. {@code depth} is the deepest
+ * search every move has finished; single lines may already be one ply deeper.
+ * {@code complete} is set once every line is searched to the end of the round.
+ */
+public record Analysis(Position position, List<Analysis.Line> lines, int depth, long nodes, boolean complete) {
+
+    /**
+     * One move with its expected score margin over the strongest opponent, as
+     * valued by the {@link HeuristicEvaluator}, and the win probability that
+     * margin implies.
+     */
+    public record Line(int move, double margin, double winProbability, int depth) {
+    }
+
+    public Analysis {
+        lines = List.copyOf(lines);
+    }
+
+    // The best move found so far, or null when there are no moves
+    public Line best() {
+        return lines.isEmpty() ? null : lines.get(0);
+    }
+}
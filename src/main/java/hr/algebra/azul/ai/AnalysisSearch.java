@@ -0,0 +1,200 @@
+package hr.algebra.azul.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Ranks every legal move of a position for coaching and review. Unlike
+ * {@link AlphaBetaSearch}, which only needs the best move and bounds the
+ * rest, each root move gets a full window, so every margin is exact at its
+ * depth. The search deepens one ply at a time with the root moves forked on
+ * the given pool. After every finished move the listener gets a new
+ * {@link Analysis}, so a caller can stop at any time and keep the best ranking
+ * found so far.
+ * <p>
+ * Values are the paranoid {@link HeuristicEvaluator} margin of the player to
+ * move. The win probability is the logistic of the margin over
+ * {@link MultiplayerSearch#TEMPERATURE}, which for two players is the share
+ * the multiplayer searches give. These are the values an
+ * {@link AlphaBetaSearch} with the same evaluator stores, so with the engine's
+ * {@link TranspositionTable} both share the {@link TranspositionTable.Kind#MARGIN}
+ * entries: positions the computer has searched, or analysed before, come back
+ * at once.
+ */
+public class AnalysisSearch {
+    public static final int MAX_DEPTH = AlphaBetaSearch.MAX_DEPTH;
+
+    private final HeuristicEvaluator evaluator;
+    private final TranspositionTable table;
+    private final ForkJoinPool pool;
+
+    public AnalysisSearch(HeuristicEvaluator evaluator, TranspositionTable table, ForkJoinPool pool) {
+        this.evaluator = evaluator;
+        this.table = table;
+        this.pool = pool;
+    }
+
+    public static double winProbability(double margin) {
+        return 1 / (1 + Math.exp(-margin / MultiplayerSearch.TEMPERATURE));
+    }
+
+    /**
+     * Searches until the context stops or every move is searched to the end of
+     * the round and returns the last analysis. The listener is called on the
+     * pool's threads, one call at a time.
+     */
+    public Analysis analyse(Position root, SearchContext context, Consumer<Analysis> listener) {
+        int[] moves = root.legalMoves();
+        int player = root.toMove();
+        if (moves.length == 0) {
+            Analysis empty = new Analysis(root, List.of(), 0, 0, true);
+            listener.accept(empty);
+            return empty;
+        }
+        AlphaBetaSearch.orderMoves(root, moves, moves.length);
+        table.newSearch();
+
+        // Static margins first, so there is a ranking before any search finishes
+        double[] values = new double[moves.length];
+        int[] depths = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            values[i] = evaluator.evaluate(root.play(moves[i]), player);
+        }
+        Ranking ranking = new Ranking(root, moves, values, depths, context, listener);
+        ranking.publish(0, false);
+
+        int lastDepth = Math.min(MAX_DEPTH, AlphaBetaSearch.remainingPlies(root));
+        for (int depth = 1; depth <= lastDepth; depth++) {
+            int searchDepth = depth;
+            int[] order = ranking.order();
+            try {
+                pool.submit(() -> IntStream.range(0, order.length).parallel().forEach(i -> {
+                    int index = order[i];
+                    double value = paranoid(root.play(moves[index]), searchDepth - 1,
+                            Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, player, context);
+                    ranking.finish(index, value, searchDepth);
+                })).join();
+            } catch (SearchAborted aborted) {
+                break;
+            } catch (RuntimeException e) {
+                // Aborts inside parallel workers arrive wrapped
+                if (e.getCause() instanceof SearchAborted || context.shouldStop()) break;
+                throw e;
+            }
+            ranking.publish(depth, depth == lastDepth);
+            context.reportProgress((double) depth / lastDepth);
+        }
+        return ranking.latest();
+    }
+
+    // Paranoid alpha-beta on the root player's margin
+    private double paranoid(Position position, int depth, double alpha, double beta, int root,
+                            SearchContext context) {
+        if (context.shouldStop()) throw SearchAborted.INSTANCE;
+        context.countNode();
+
+        if (position.isRoundOver()) {
+            return evaluator.evaluate(position.scoreRound(), root);
+        }
+        if (depth == 0) {
+            return evaluator.evaluate(position, root);
+        }
+
+        long key = TranspositionTable.key(position, TranspositionTable.Kind.MARGIN, root);
+        TranspositionTable.Entry entry = table.get(key);
+        if (entry != null && entry.depth() >= depth) {
+            double stored = entry.values()[0];
+            if (entry.bound() == TranspositionTable.EXACT
+                    || entry.bound() == TranspositionTable.LOWER && stored >= beta
+                    || entry.bound() == TranspositionTable.UPPER && stored <= alpha) {
+                return stored;
+            }
+        }
+
+        int[] moves = new int[position.maxMoves()];
+        int count = AlphaBetaSearch.orderedMoves(position, moves, entry);
+        boolean maximising = position.toMove() == root;
+        double originalAlpha = alpha;
+        double originalBeta = beta;
+        double best = maximising ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestMove = Move.NONE;
+
+        for (int i = 0; i < count; i++) {
+            double value = paranoid(position.play(moves[i]), depth - 1, alpha, beta, root, context);
+            if (maximising ? value > best : value < best) {
+                best = value;
+                bestMove = moves[i];
+            }
+            if (maximising) {
+                alpha = Math.max(alpha, value);
+            } else {
+                beta = Math.min(beta, value);
+            }
+            if (alpha >= beta) break;
+        }
+
+        byte bound = best <= originalAlpha ? TranspositionTable.UPPER
+                : best >= originalBeta ? TranspositionTable.LOWER
+                : TranspositionTable.EXACT;
+        table.put(key, depth, bestMove, bound, new double[]{best});
+        return best;
+    }
+
+    /**
+     * Margins and depths of the root moves while workers fill them in. Every
+     * change publishes a fresh, sorted {@link Analysis}.
+     */
+    private static final class Ranking {
+        private final Position root;
+        private final int[] moves;
+        private final double[] values;
+        private final int[] depths;
+        private final SearchContext context;
+        private final Consumer<Analysis> listener;
+        private int depth;
+        private Analysis latest;
+
+        Ranking(Position root, int[] moves, double[] values, int[] depths, SearchContext context,
+                Consumer<Analysis> listener) {
+            this.root = root;
+            this.moves = moves;
+            this.values = values;
+            this.depths = depths;
+            this.context = context;
+            this.listener = listener;
+        }
+
+        synchronized void finish(int index, double value, int searchDepth) {
+            values[index] = value;
+            depths[index] = searchDepth;
+            publish(depth, false);
+        }
+
+        synchronized void publish(int completedDepth, boolean complete) {
+            depth = completedDepth;
+            List<Analysis.Line> lines = new ArrayList<>(moves.length);
+            for (int index : order()) {
+                lines.add(new Analysis.Line(moves[index], values[index], winProbability(values[index]),
+                        depths[index]));
+            }
+            latest = new Analysis(root, lines, completedDepth, context.getNodes(), complete);
+            listener.accept(latest);
+        }
+
+        // Indices of the moves, best margin first
+        synchronized int[] order() {
+            return IntStream.range(0, moves.length).boxed()
+                    .sorted((a, b) -> Double.compare(values[b], values[a]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        synchronized Analysis latest() {
+            return latest;
+        }
+    }
+}
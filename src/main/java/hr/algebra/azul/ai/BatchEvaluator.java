@@ -0,0 +1,40 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Scores every position of an {@link EvalBatch} with an {@link EvalModel} in
+ * one call. {@link #of(EvalModel)} uses the SIMD implementation when the
+ * {@code jdk.incubator.vector} module is present (run with
+ * {@code --add-modules jdk.incubator.vector}) and a plain loop otherwise. Both
+ * read the model's live parameters, so they follow training. Results agree
+ * with {@link EvalModel#value} up to float rounding.
+ */
+public interface BatchEvaluator {
+    String VECTOR_MODULE = "jdk.incubator.vector";
+    // Set to false to keep the scalar loop even when the module is present
+    String VECTOR_PROPERTY = "azul.ai.vector";
+
+    /**
+     * Writes the model's value of position {@code i} of the batch to
+     * {@code out[i]}, for every position in it.
+     */
+    void evaluate(EvalBatch batch, float[] out);
+
+    static BatchEvaluator of(EvalModel model) {
+        if (isVectorAvailable()) {
+            try {
+                // Loaded by name so the scalar path never links against the incubator module
+                return (BatchEvaluator) Class.forName("hr.algebra.azul.ai.VectorBatchEvaluator")
+                        .getDeclaredConstructor(EvalModel.class)
+                        .newInstance(model);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                System.err.println("Vector evaluation unavailable, using the scalar loop: " + e);
+            }
+        }
+        return new ScalarBatchEvaluator(model);
+    }
+
+    static boolean isVectorAvailable() {
+        return Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))
+                && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+}
@@ -0,0 +1,16 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Outcome of {@link EndgameSolver}: the best move, the root player's final score
+ * margin over the best opponent with perfect play, whether every line of play
+ * was certain to end the game (otherwise some leaves were evaluated
+ * statically) and the number of nodes visited.
+ */
+public record EndgameResult(int move, double margin, boolean exact, long nodes) {
+
+    @Override
+    public String toString() {
+        return String.format("%s (margin %s%.0f, %d nodes)", Move.toString(move),
+                exact ? "" : "~", margin, nodes);
+    }
+}
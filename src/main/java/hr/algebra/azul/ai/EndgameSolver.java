@@ -0,0 +1,309 @@
+package hr.algebra.azul.ai;
+
+import java.util.Arrays;
+
+/**
+ * Exact alpha-beta search over every remaining pick of a round, for the round
+ * that ends the game. Leaves are scored like {@code GameModel} scores the end of
+ * the game: the round is tiled and {@link Position#finalScore(int)} adds the row,
+ * column and color bonuses. The value of a position is the root player's final
+ * score minus the best opponent's, so with two players it is the exact margin
+ * under perfect play.
+ * <p>
+ * Positions reached by different move orders share one entry in a
+ * transposition table. Within a round the walls and scores never change and a
+ * factory is either untouched or empty, so the key only packs which factories
+ * are empty, the center, the token, the player to move, pattern lines and
+ * floors.
+ * <p>
+ * A line of play that does not end the game after all is valued with the
+ * {@link Evaluator} instead; {@link EndgameResult#exact()} tells whether that
+ * could have happened. Instances keep their table between calls and are not
+ * thread safe.
+ */
+public class EndgameSolver {
+    public static final int DEFAULT_TABLE_BITS = 18;
+    public static final int MAX_PLAYERS = 4;
+
+    private static final byte EXACT = 0;
+    private static final byte LOWER = 1;
+    private static final byte UPPER = 2;
+
+    private static final int CENTER_BITS = 5;
+    private static final int LINE_STATES_BITS = 20;
+    // What is left of the first key after the center, token and player to move
+    private static final int MAX_FACTORIES = 64 - CENTER_BITS * Position.COLORS - 3;
+
+    private final Evaluator evaluator;
+    private final int mask;
+    private final long[] keys1;
+    private final long[] keys2;
+    private final long[] keys3;
+    private final double[] values;
+    private final int[] bestMoves;
+    private final byte[] bounds;
+    private final int[] stamps;
+    private int stamp;
+
+    // Per-solve state
+    private int player;
+    private boolean lastRound;
+    private SearchContext context;
+    private int rootMove;
+    private int[][] moveBuffers;
+    private int[][] orderBuffers;
+
+    public EndgameSolver() {
+        this(new HeuristicEvaluator(), DEFAULT_TABLE_BITS);
+    }
+
+    public EndgameSolver(Evaluator evaluator, int tableBits) {
+        this.evaluator = evaluator;
+        int size = 1 << tableBits;
+        this.mask = size - 1;
+        this.keys1 = new long[size];
+        this.keys2 = new long[size];
+        this.keys3 = new long[size];
+        this.values = new double[size];
+        this.bestMoves = new int[size];
+        this.bounds = new byte[size];
+        this.stamps = new int[size];
+    }
+
+    /**
+     * True when the game is certain to end with this round: a player has a
+     * full pattern line whose tile completes a wall row, which
+     * {@code Player.hasCompletedRow} will report once the round is tiled.
+     */
+    public static boolean isFinalRound(Position position) {
+        for (int p = 0; p < position.playerCount(); p++) {
+            int wall = position.wall(p);
+            for (int line = 0; line < Position.LINES; line++) {
+                if (position.lineCount(p, line) == line + 1) {
+                    int col = Position.wallColumn(line, position.lineColor(p, line));
+                    int row = Position.rowMask(line);
+                    if (((wall | Position.cellBit(line, col)) & row) == row) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Solves the rest of the round for the player to move. With
+     * {@code lastRound} every round end is scored as the end of the game, as
+     * when the bag cannot refill the factories; otherwise only round ends that
+     * complete a row are. Throws {@code SearchAborted} when the context stops
+     * the search first.
+     */
+    public EndgameResult solve(Position root, boolean lastRound, SearchContext context) {
+        if (root.playerCount() > MAX_PLAYERS || root.factoryCount() > MAX_FACTORIES) {
+            throw new IllegalArgumentException("Position too large for the endgame table");
+        }
+        this.player = root.toMove();
+        this.lastRound = lastRound;
+        this.context = context;
+        this.rootMove = Move.NONE;
+        int plies = AlphaBetaSearch.remainingPlies(root) + 1;
+        this.moveBuffers = new int[plies][root.maxMoves()];
+        this.orderBuffers = new int[plies][root.maxMoves()];
+        if (++stamp == 0) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+
+        long startNodes = context.getNodes();
+        try {
+            double margin = value(root, 0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+            boolean exact = lastRound || isFinalRound(root);
+            return new EndgameResult(rootMove, margin, exact, context.getNodes() - startNodes);
+        } finally {
+            this.context = null;
+            this.moveBuffers = null;
+            this.orderBuffers = null;
+        }
+    }
+
+    private double value(Position position, int ply, double alpha, double beta) {
+        if (context.shouldStop()) throw SearchAborted.INSTANCE;
+        context.countNode();
+
+        if (position.isRoundOver()) {
+            return leafValue(position);
+        }
+
+        long key1 = key1(position);
+        long key2 = key2(position);
+        long key3 = key3(position);
+        int slot = index(key1, key2, key3);
+        int hashMove = Move.NONE;
+        if (stamps[slot] == stamp && keys1[slot] == key1 && keys2[slot] == key2 && keys3[slot] == key3) {
+            double stored = values[slot];
+            byte bound = bounds[slot];
+            if (bound == EXACT) return stored;
+            if (bound == LOWER) alpha = Math.max(alpha, stored);
+            else beta = Math.min(beta, stored);
+            if (alpha >= beta) return stored;
+            hashMove = bestMoves[slot];
+        }
+
+        double originalAlpha = alpha;
+        double originalBeta = beta;
+        boolean maximising = position.toMove() == player;
+        double best = maximising ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestMove = hashMove;
+
+        // The stored move often cuts off on its own, before any move generation
+        if (hashMove != Move.NONE) {
+            best = value(position.play(hashMove), ply + 1, alpha, beta);
+            if (maximising) alpha = Math.max(alpha, best);
+            else beta = Math.min(beta, best);
+        }
+
+        if (alpha < beta) {
+            int[] moves = moveBuffers[ply];
+            int count = position.generateMoves(moves);
+            orderMoves(position, moves, count, orderBuffers[ply]);
+
+            for (int i = 0; i < count && alpha < beta; i++) {
+                int move = moves[i];
+                if (move == hashMove) continue;
+                double value = childValue(position.play(move), ply, alpha, beta, maximising,
+                        bestMove == Move.NONE);
+                if (bestMove == Move.NONE || (maximising ? value > best : value < best)) {
+                    best = value;
+                    bestMove = move;
+                }
+                if (maximising) alpha = Math.max(alpha, value);
+                else beta = Math.min(beta, value);
+            }
+        }
+
+        if (ply == 0) rootMove = bestMove;
+        keys1[slot] = key1;
+        keys2[slot] = key2;
+        keys3[slot] = key3;
+        values[slot] = best;
+        bestMoves[slot] = bestMove;
+        bounds[slot] = best <= originalAlpha ? UPPER : best >= originalBeta ? LOWER : EXACT;
+        stamps[slot] = stamp;
+        return best;
+    }
+
+    /**
+     * Principal variation search: after the first move, a child only has to be
+     * shown no better than the best so far, which a null window settles
+     * quickly; it is searched again with the full window when it is better.
+     */
+    private double childValue(Position child, int ply, double alpha, double beta, boolean maximising,
+                              boolean first) {
+        if (first) {
+            return value(child, ply + 1, alpha, beta);
+        }
+        if (maximising) {
+            double value = value(child, ply + 1, alpha, Math.nextUp(alpha));
+            return value > alpha && value < beta ? value(child, ply + 1, value, beta) : value;
+        }
+        double value = value(child, ply + 1, Math.nextDown(beta), beta);
+        return value < beta && value > alpha ? value(child, ply + 1, alpha, value) : value;
+    }
+
+    // Final score margin once the round is tiled, without building the scored position
+    private double leafValue(Position position) {
+        boolean gameOver = lastRound;
+        for (int p = 0; p < position.playerCount() && !gameOver; p++) {
+            int wall = position.tiledWall(p);
+            for (int row = 0; row < Position.LINES && !gameOver; row++) {
+                gameOver = (wall & Position.rowMask(row)) == Position.rowMask(row);
+            }
+        }
+        if (!gameOver) {
+            return evaluator.evaluate(position.scoreRound(), player);
+        }
+
+        int bestOpponent = Integer.MIN_VALUE;
+        for (int p = 0; p < position.playerCount(); p++) {
+            if (p != player) bestOpponent = Math.max(bestOpponent, finalScore(position, p));
+        }
+        return finalScore(position, player) - bestOpponent;
+    }
+
+    private static int finalScore(Position position, int player) {
+        return position.score(player) + position.roundScoreDelta(player)
+                + Position.endGameBonus(position.tiledWall(player));
+    }
+
+    // Best greedy score first
+    private static void orderMoves(Position position, int[] moves, int count, int[] keys) {
+        for (int i = 0; i < count; i++) {
+            keys[i] = GreedyPolicy.score(position, moves[i]);
+        }
+        for (int i = 1; i < count; i++) {
+            int move = moves[i];
+            int key = keys[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] < key) {
+                moves[j + 1] = moves[j];
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            moves[j + 1] = move;
+            keys[j + 1] = key;
+        }
+    }
+
+    // Center counts, token, player to move and one bit per emptied factory
+    private static long key1(Position position) {
+        long key = 0;
+        for (int color = 0; color < Position.COLORS; color++) {
+            key = key << CENTER_BITS | position.centerTiles(color);
+        }
+        key = key << 1 | (position.isTokenInCenter() ? 1 : 0);
+        key = key << 2 | position.toMove();
+        for (int f = 0; f < position.factoryCount(); f++) {
+            boolean empty = true;
+            for (int color = 0; color < Position.COLORS && empty; color++) {
+                empty = position.factoryTiles(f, color) == 0;
+            }
+            key = key << 1 | (empty ? 1 : 0);
+        }
+        return key;
+    }
+
+    // Floors and the pattern lines of the first two players
+    private static long key2(Position position) {
+        long key = 0;
+        for (int p = 0; p < position.playerCount(); p++) {
+            key = key << 3 | position.floorCount(p);
+        }
+        for (int p = 0; p < Math.min(2, position.playerCount()); p++) {
+            key = key << LINE_STATES_BITS | lineStates(position, p);
+        }
+        return key;
+    }
+
+    // Pattern lines of the third and fourth players
+    private static long key3(Position position) {
+        long key = 0;
+        for (int p = 2; p < position.playerCount(); p++) {
+            key = key << LINE_STATES_BITS | lineStates(position, p);
+        }
+        return key;
+    }
+
+    // All five pattern lines of a player as one number below 2^20
+    private static int lineStates(Position position, int player) {
+        int states = 0;
+        for (int line = 0; line < Position.LINES; line++) {
+            int count = position.lineCount(player, line);
+            int state = count == 0 ? 0 : 1 + (count - 1) * Position.COLORS + position.lineColor(player, line);
+            states = states * (1 + (line + 1) * Position.COLORS) + state;
+        }
+        return states;
+    }
+
+    private int index(long key1, long key2, long key3) {
+        long h = key1 * 0x9E3779B97F4A7C15L ^ key2 * 0xC2B2AE3D27D4EB4FL ^ key3 * 0x165667B19E3779F9L;
+        return (int) (h ^ h >>> 29) & mask;
+    }
+}
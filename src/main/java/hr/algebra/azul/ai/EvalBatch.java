@@ -0,0 +1,57 @@
+package hr.algebra.azul.ai;
+
+/**
+ * {@link EvalFeatures} of many positions packed for a {@link BatchEvaluator}.
+ * The floats are stored feature by feature: feature {@code f} of position
+ * {@code i} is at {@code f * capacity + i}, so one feature of consecutive
+ * positions fills a vector register. A batch is reused with {@link #clear()};
+ * it is not thread safe.
+ */
+public final class EvalBatch {
+    private final int capacity;
+    private final float[] columns;
+    private final float[] row = new float[EvalFeatures.COUNT];
+    private int size;
+
+    public EvalBatch(int capacity) {
+        this.capacity = capacity;
+        this.columns = new float[EvalFeatures.COUNT * capacity];
+    }
+
+    // Adds the features of player in position and returns its index in the batch
+    public int add(Position position, int player) {
+        EvalFeatures.extract(position, player, row, 0);
+        return addRow(row, 0);
+    }
+
+    // Adds EvalFeatures.COUNT features already extracted into features from offset
+    public int addRow(float[] features, int offset) {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full");
+        }
+        for (int f = 0; f < EvalFeatures.COUNT; f++) {
+            columns[f * capacity + size] = features[offset + f];
+        }
+        return size++;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    float[] columns() {
+        return columns;
+    }
+}
@@ -0,0 +1,80 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Features of one player's side of a position, for {@link EvalModel}. Every
+ * feature is scaled to roughly 0..1. Things both players share, like which
+ * colors are on offer, only appear weighted by what this player can still do
+ * with them, so they do not cancel out when two players are compared.
+ */
+public final class EvalFeatures {
+    public static final int SCORE = 0;
+    public static final int ROUND_DELTA = 1;
+    public static final int WALL = 2;
+    public static final int ROW_FILL = WALL + Position.LINES * Position.LINES;
+    public static final int COLUMN_FILL = ROW_FILL + Position.LINES;
+    public static final int COLOR_FILL = COLUMN_FILL + Position.LINES;
+    public static final int LINE_FILL = COLOR_FILL + Position.COLORS;
+    public static final int LINE_FILLABLE = LINE_FILL + Position.LINES;
+    public static final int FLOOR = LINE_FILLABLE + Position.LINES;
+    public static final int TOKEN = FLOOR + 1;
+    public static final int TO_MOVE = TOKEN + 1;
+    public static final int COLOR_OPTIONS = TO_MOVE + 1;
+    public static final int COUNT = COLOR_OPTIONS + Position.COLORS;
+
+    private static final float SCORE_SCALE = 50f;
+    private static final float ROUND_DELTA_SCALE = 20f;
+    private static final float OFFER_SCALE = 20f;
+
+    private EvalFeatures() {
+    }
+
+    // Writes the COUNT features of player into out, starting at offset
+    public static void extract(Position position, int player, float[] out, int offset) {
+        int wall = position.wall(player);
+        out[offset + SCORE] = position.score(player) / SCORE_SCALE;
+        out[offset + ROUND_DELTA] = position.roundScoreDelta(player) / ROUND_DELTA_SCALE;
+
+        for (int cell = 0; cell < Position.LINES * Position.LINES; cell++) {
+            out[offset + WALL + cell] = wall >>> cell & 1;
+        }
+        // Bonuses pay for complete lines only, so fill counts are squared
+        for (int i = 0; i < Position.LINES; i++) {
+            out[offset + ROW_FILL + i] = squaredFill(wall, Position.rowMask(i));
+            out[offset + COLUMN_FILL + i] = squaredFill(wall, Position.columnMask(i));
+            out[offset + COLOR_FILL + i] = squaredFill(wall, Position.colorMask(i));
+        }
+
+        int[] offered = new int[Position.COLORS];
+        for (int color = 0; color < Position.COLORS; color++) {
+            offered[color] = position.centerTiles(color);
+            for (int f = 0; f < position.factoryCount(); f++) {
+                offered[color] += position.factoryTiles(f, color);
+            }
+        }
+
+        for (int line = 0; line < Position.LINES; line++) {
+            int count = position.lineCount(player, line);
+            out[offset + LINE_FILL + line] = count / (line + 1f);
+            boolean fillable = count > 0 && count <= line
+                    && offered[position.lineColor(player, line)] >= line + 1 - count;
+            out[offset + LINE_FILLABLE + line] = fillable ? 1 : 0;
+        }
+
+        out[offset + FLOOR] = -Position.floorPenalty(position.floorCount(player)) / 14f;
+        out[offset + TOKEN] = position.tokenHolder() == player ? 1 : 0;
+        out[offset + TO_MOVE] = position.toMove() == player && !position.isRoundOver() ? 1 : 0;
+
+        for (int color = 0; color < Position.COLORS; color++) {
+            int rows = 0;
+            for (int line = 0; line < Position.LINES; line++) {
+                if (position.canPlace(player, color, line)) rows++;
+            }
+            out[offset + COLOR_OPTIONS + color] = offered[color] / OFFER_SCALE * rows / Position.LINES;
+        }
+    }
+
+    private static float squaredFill(int wall, int mask) {
+        float fill = Integer.bitCount(wall & mask) / (float) Position.LINES;
+        return fill * fill;
+    }
+}
@@ -0,0 +1,191 @@
+package hr.algebra.azul.ai;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Learned value of one player's {@link EvalFeatures}: a linear function, or
+ * with {@code hidden > 0} a single hidden layer of ReLU units. A position is
+ * worth {@code value(own) - value(opponent)}, so the output bias cancels and
+ * only differences between the players are learned.
+ * <p>
+ * All parameters live in one float array, laid out as hidden weights by unit,
+ * hidden biases, output weights and the output bias (just the output weights
+ * and bias for a linear model). Weights files are plain text: a
+ * {@code features} and a {@code hidden} line, then one parameter per line;
+ * lines starting with {@code #} are comments.
+ */
+public class EvalModel {
+    private final int features;
+    private final int hidden;
+    private final float[] parameters;
+
+    public EvalModel(int features, int hidden, long seed) {
+        this(features, hidden, new float[parameterCount(features, hidden)]);
+        // He initialisation for the hidden layer; a linear model starts at zero
+        SplittableRandom random = new SplittableRandom(seed);
+        double scale = Math.sqrt(2.0 / features);
+        for (int i = 0; i < hidden * features; i++) {
+            parameters[i] = (float) (random.nextGaussian() * scale);
+        }
+        for (int i = 0; i < hidden; i++) {
+            parameters[outputOffset() + i] = (float) (random.nextGaussian() / Math.sqrt(hidden));
+        }
+    }
+
+    private EvalModel(int features, int hidden, float[] parameters) {
+        if (features <= 0 || hidden < 0) {
+            throw new IllegalArgumentException("Bad model shape " + features + "x" + hidden);
+        }
+        this.features = features;
+        this.hidden = hidden;
+        this.parameters = parameters;
+    }
+
+    public static int parameterCount(int features, int hidden) {
+        return hidden == 0 ? features + 1 : hidden * features + hidden + hidden + 1;
+    }
+
+    public int getFeatures() {
+        return features;
+    }
+
+    public int getHidden() {
+        return hidden;
+    }
+
+    // Live parameter array, for the trainer
+    float[] parameters() {
+        return parameters;
+    }
+
+    // Scratch needed by value() and addGradient(); one per thread
+    public float[] newScratch() {
+        return new float[Math.max(hidden, 1)];
+    }
+
+    public float value(float[] x, int offset, float[] scratch) {
+        if (hidden == 0) {
+            return dot(x, offset, 0) + parameters[features];
+        }
+        int output = outputOffset();
+        float value = parameters[output + hidden];
+        for (int h = 0; h < hidden; h++) {
+            float activation = Math.max(0f, dot(x, offset, h * features) + parameters[hidden * features + h]);
+            scratch[h] = activation;
+            value += parameters[output + h] * activation;
+        }
+        return value;
+    }
+
+    /**
+     * Adds {@code outputGradient} times the gradient of {@code value(x)} with
+     * respect to every parameter to {@code gradient}.
+     */
+    public void addGradient(float[] x, int offset, float outputGradient, float[] gradient, float[] scratch) {
+        if (hidden == 0) {
+            for (int i = 0; i < features; i++) {
+                gradient[i] += outputGradient * x[offset + i];
+            }
+            gradient[features] += outputGradient;
+            return;
+        }
+
+        value(x, offset, scratch);
+        int output = outputOffset();
+        for (int h = 0; h < hidden; h++) {
+            gradient[output + h] += outputGradient * scratch[h];
+            if (scratch[h] <= 0f) continue;
+
+            float unitGradient = outputGradient * parameters[output + h];
+            int weights = h * features;
+            for (int i = 0; i < features; i++) {
+                gradient[weights + i] += unitGradient * x[offset + i];
+            }
+            gradient[hidden * features + h] += unitGradient;
+        }
+        gradient[output + hidden] += outputGradient;
+    }
+
+    private float dot(float[] x, int offset, int weights) {
+        float sum = 0f;
+        for (int i = 0; i < features; i++) {
+            sum += parameters[weights + i] * x[offset + i];
+        }
+        return sum;
+    }
+
+    private int outputOffset() {
+        return hidden * features + hidden;
+    }
+
+    public void save(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# Azul evaluation weights, see EvalModel");
+            writer.newLine();
+            writer.write("features " + features);
+            writer.newLine();
+            writer.write("hidden " + hidden);
+            writer.newLine();
+            for (float parameter : parameters) {
+                writer.write(Float.toString(parameter));
+                writer.newLine();
+            }
+        }
+    }
+
+    public static EvalModel load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return load(reader);
+        }
+    }
+
+    public static EvalModel load(InputStream in) throws IOException {
+        return load(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static EvalModel load(Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        int features = -1;
+        int hidden = -1;
+        float[] parameters = null;
+        int count = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("features ")) {
+                features = Integer.parseInt(line.substring("features ".length()));
+            } else if (line.startsWith("hidden ")) {
+                hidden = Integer.parseInt(line.substring("hidden ".length()));
+            } else {
+                if (parameters == null) {
+                    if (features < 0 || hidden < 0) {
+                        throw new IOException("Weights file has no features/hidden header");
+                    }
+                    parameters = new float[parameterCount(features, hidden)];
+                }
+                if (count == parameters.length) {
+                    throw new IOException("Too many parameters for " + features + "x" + hidden);
+                }
+                parameters[count++] = Float.parseFloat(line);
+            }
+        }
+
+        if (parameters == null || count != parameters.length) {
+            throw new IOException("Expected " + parameterCount(Math.max(features, 0), Math.max(hidden, 0))
+                    + " parameters, found " + count);
+        }
+        return new EvalModel(features, hidden, parameters);
+    }
+}
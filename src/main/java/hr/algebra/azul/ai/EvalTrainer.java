@@ -0,0 +1,243 @@
+package hr.algebra.azul.ai;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Fits an {@link EvalModel} to self-play results with mini-batch SGD and
+ * momentum, minimising the squared error between the predicted and the final
+ * score margin. Everything runs on the CPU over flat float arrays:
+ * <pre>
+ * java -cp Azul.jar hr.algebra.azul.ai.EvalTrainer --games 20000 --strategy greedy \
+ *         --epsilon 0.1 --hidden 16 --epochs 20 --data selfplay.bin --out eval-weights.txt
+ * </pre>
+ * Games are generated on {@code --threads} threads. With {@code --data} the
+ * samples are saved on the first run and loaded on later ones. The weights
+ * file can be loaded by {@link LearnedStrategy}. Predictions are scored a
+ * mini-batch at a time by a {@link BatchEvaluator}, with SIMD when the JVM
+ * runs with {@code --add-modules jdk.incubator.vector}.
+ */
+public class EvalTrainer {
+    private static final int ERROR_BATCH = 1024;
+
+    private final int epochs;
+    private final int batchSize;
+    private final float rate;
+    private final float momentum;
+    private final float l2;
+    private final double validationShare;
+    private final long seed;
+
+    public EvalTrainer(int epochs, int batchSize, float rate, float momentum, float l2,
+                       double validationShare, long seed) {
+        this.epochs = epochs;
+        this.batchSize = batchSize;
+        this.rate = rate;
+        this.momentum = momentum;
+        this.l2 = l2;
+        this.validationShare = validationShare;
+        this.seed = seed;
+    }
+
+    /**
+     * Trains the model in place. A random share of the samples is held back and
+     * its error is reported after every epoch next to the training error.
+     */
+    public void train(EvalModel model, TrainingSet data) {
+        int[] order = shuffledIndices(data.size(), new SplittableRandom(seed));
+        int validation = (int) (data.size() * validationShare);
+        int trainSize = data.size() - validation;
+        int[] trainOrder = Arrays.copyOfRange(order, validation, order.length);
+        int[] validationOrder = Arrays.copyOf(order, validation);
+
+        float[] parameters = model.parameters();
+        float[] gradient = new float[parameters.length];
+        float[] velocity = new float[parameters.length];
+        float[] scratch = model.newScratch();
+        Predictor predictor = new Predictor(model, Math.max(batchSize, ERROR_BATCH));
+        SplittableRandom random = new SplittableRandom(seed + 1);
+
+        System.out.printf("%d training and %d validation samples, %d parameters%n",
+                trainSize, validation, parameters.length);
+        System.out.printf("Baseline RMSE (always 0): %.3f%n", baselineError(data, validationOrder));
+
+        float epochRate = rate;
+        for (int epoch = 1; epoch <= epochs; epoch++) {
+            shuffle(trainOrder, random);
+            double squaredError = 0;
+
+            for (int start = 0; start < trainSize; start += batchSize) {
+                int end = Math.min(trainSize, start + batchSize);
+                Arrays.fill(gradient, 0f);
+                float[] predictions = predictor.predict(data, trainOrder, start, end);
+                for (int i = start; i < end; i++) {
+                    int sample = trainOrder[i];
+                    float error = predictions[i - start] - data.targets()[sample];
+                    squaredError += error * error;
+                    addGradient(model, data, sample, error / (end - start), gradient, scratch);
+                }
+                for (int p = 0; p < parameters.length; p++) {
+                    velocity[p] = momentum * velocity[p] - epochRate * (gradient[p] + l2 * parameters[p]);
+                    parameters[p] += velocity[p];
+                }
+            }
+
+            System.out.printf("Epoch %3d  train RMSE %.3f  validation RMSE %.3f%n", epoch,
+                    Math.sqrt(squaredError / Math.max(1, trainSize)), predictor.error(data, validationOrder));
+            epochRate *= 0.85f;
+        }
+    }
+
+    private static void addGradient(EvalModel model, TrainingSet data, int sample, float outputGradient,
+                                    float[] gradient, float[] scratch) {
+        int offset = sample * data.getFeatures();
+        model.addGradient(data.ownFeatures(), offset, outputGradient, gradient, scratch);
+        model.addGradient(data.opponentFeatures(), offset, -outputGradient, gradient, scratch);
+    }
+
+    public static double error(EvalModel model, TrainingSet data, int[] samples) {
+        return new Predictor(model, ERROR_BATCH).error(data, samples);
+    }
+
+    private static double baselineError(TrainingSet data, int[] samples) {
+        double squaredError = 0;
+        for (int sample : samples) {
+            squaredError += data.targets()[sample] * data.targets()[sample];
+        }
+        return Math.sqrt(squaredError / Math.max(1, samples.length));
+    }
+
+    private static int[] shuffledIndices(int size, SplittableRandom random) {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) indices[i] = i;
+        shuffle(indices, random);
+        return indices;
+    }
+
+    private static void shuffle(int[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    /**
+     * Predicted margins of many samples at once: the model's value of the
+     * player minus the opponent's, both scored with a {@link BatchEvaluator}.
+     */
+    private static final class Predictor {
+        private final BatchEvaluator evaluator;
+        private final EvalBatch own;
+        private final EvalBatch opponent;
+        private final float[] ownValues;
+        private final float[] opponentValues;
+        private final float[] margins;
+
+        Predictor(EvalModel model, int capacity) {
+            this.evaluator = BatchEvaluator.of(model);
+            this.own = new EvalBatch(capacity);
+            this.opponent = new EvalBatch(capacity);
+            this.ownValues = new float[capacity];
+            this.opponentValues = new float[capacity];
+            this.margins = new float[capacity];
+        }
+
+        // Margins of samples[start..end) at index i - start; at most capacity samples
+        float[] predict(TrainingSet data, int[] samples, int start, int end) {
+            own.clear();
+            opponent.clear();
+            for (int i = start; i < end; i++) {
+                int offset = samples[i] * data.getFeatures();
+                own.addRow(data.ownFeatures(), offset);
+                opponent.addRow(data.opponentFeatures(), offset);
+            }
+            evaluator.evaluate(own, ownValues);
+            evaluator.evaluate(opponent, opponentValues);
+            for (int i = 0; i < end - start; i++) {
+                margins[i] = ownValues[i] - opponentValues[i];
+            }
+            return margins;
+        }
+
+        double error(TrainingSet data, int[] samples) {
+            double squaredError = 0;
+            for (int start = 0; start < samples.length; start += own.capacity()) {
+                int end = Math.min(samples.length, start + own.capacity());
+                float[] predictions = predict(data, samples, start, end);
+                for (int i = start; i < end; i++) {
+                    float error = predictions[i - start] - data.targets()[samples[i]];
+                    squaredError += error * error;
+                }
+            }
+            return Math.sqrt(squaredError / Math.max(1, samples.length));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int games = 20_000;
+        int players = 2;
+        String strategy = GreedyStrategy.ID;
+        double epsilon = 0.1;
+        int positions = 4;
+        long timeMillis = -1;
+        int hidden = 0;
+        int epochs = 20;
+        int batch = 256;
+        float rate = 0.002f;
+        float momentum = 0.9f;
+        float l2 = 1e-5f;
+        double validation = 0.1;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path data = null;
+        Path out = Path.of("eval-weights.txt");
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(value);
+                case "--players" -> players = Integer.parseInt(value);
+                case "--strategy" -> strategy = value;
+                case "--epsilon" -> epsilon = Double.parseDouble(value);
+                case "--positions" -> positions = Integer.parseInt(value);
+                case "--time" -> timeMillis = Long.parseLong(value);
+                case "--hidden" -> hidden = Integer.parseInt(value);
+                case "--epochs" -> epochs = Integer.parseInt(value);
+                case "--batch" -> batch = Integer.parseInt(value);
+                case "--rate" -> rate = Float.parseFloat(value);
+                case "--momentum" -> momentum = Float.parseFloat(value);
+                case "--l2" -> l2 = Float.parseFloat(value);
+                case "--validation" -> validation = Double.parseDouble(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--data" -> data = Path.of(value);
+                case "--out" -> out = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        TrainingSet samples;
+        if (data != null && Files.exists(data)) {
+            samples = TrainingSet.load(data);
+            System.out.println("Loaded " + samples.size() + " samples from " + data);
+        } else {
+            SearchBudget budget = timeMillis >= 0 ? SearchBudget.ofMillis(timeMillis) : null;
+            long start = System.nanoTime();
+            samples = new SelfPlay(strategy, players, epsilon, budget, positions).generate(games, seed, threads);
+            System.out.printf("Generated %d samples from %d games in %.1f s%n",
+                    samples.size(), games, (System.nanoTime() - start) / 1e9);
+            if (data != null) {
+                samples.save(data);
+            }
+        }
+
+        EvalModel model = new EvalModel(EvalFeatures.COUNT, hidden, seed);
+        new EvalTrainer(epochs, batch, rate, momentum, l2, validation, seed).train(model, samples);
+        model.save(out);
+        System.out.println("Weights written to " + out);
+    }
+}
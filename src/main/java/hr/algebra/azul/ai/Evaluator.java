@@ -0,0 +1,14 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Static evaluation of a position. Implementations must be thread safe; the
+ * search calls them from several worker threads at once.
+ */
+@FunctionalInterface
+public interface Evaluator {
+    /**
+     * Returns how good the position is for {@code player}, roughly in points
+     * ahead of the best opponent. Higher is better.
+     */
+    double evaluate(Position position, int player);
+}
@@ -0,0 +1,107 @@
+package hr.algebra.azul.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A played game as a list of segments: a full {@link Position} followed by
+ * the moves played from it. A game gets a new segment wherever the next
+ * position does not follow from a single {@link Position#play(int)}, usually
+ * at the start of each round, where the factories are dealt from the bag.
+ * Records are written by {@link GameRecorder} and replayed with a
+ * {@link ReplayTimeline}.
+ * <p>
+ * The file format is a small header, the player names and then every
+ * segment's position and moves.
+ */
+public final class GameRecord {
+    public static final String EXTENSION = ".azr";
+
+    static final int MAGIC = 0x415A5250; // "AZRP"
+    static final int VERSION = 1;
+
+    public record Segment(Position start, int[] moves) {
+    }
+
+    private final List<String> players;
+    private final List<Segment> segments;
+
+    public GameRecord(List<String> players, List<Segment> segments) {
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("A record needs at least one position");
+        }
+        this.players = List.copyOf(players);
+        this.segments = List.copyOf(segments);
+    }
+
+    public List<String> getPlayers() {
+        return players;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    // Moves over all segments
+    public int moveCount() {
+        int moves = 0;
+        for (Segment segment : segments) {
+            moves += segment.moves().length;
+        }
+        return moves;
+    }
+
+    public void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(players.size());
+            for (String player : players) {
+                out.writeUTF(player);
+            }
+            out.writeShort(segments.size());
+            for (Segment segment : segments) {
+                segment.start().write(out);
+                out.writeShort(segment.moves().length);
+                for (int move : segment.moves()) {
+                    out.writeShort(move);
+                }
+            }
+        }
+    }
+
+    public static GameRecord load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a recorded game");
+            }
+            int version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException(path + " has unsupported version " + version);
+            }
+            List<String> players = new ArrayList<>();
+            int playerCount = in.readByte();
+            for (int p = 0; p < playerCount; p++) {
+                players.add(in.readUTF());
+            }
+            List<Segment> segments = new ArrayList<>();
+            int segmentCount = in.readShort();
+            for (int s = 0; s < segmentCount; s++) {
+                Position start = Position.read(in);
+                int[] moves = new int[in.readShort()];
+                for (int i = 0; i < moves.length; i++) {
+                    moves[i] = in.readShort();
+                }
+                segments.add(new Segment(start, moves));
+            }
+            return new GameRecord(players, segments);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package hr.algebra.azul.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds a {@link GameRecord} from the positions of a game as they are
+ * observed, for example at every turn change. A position that one legal move
+ * of the last one leads to is stored as that move; anything else, such as a
+ * new deal or scoring the game does on its own, starts a new segment. The
+ * recorder never needs to know how the game got there, so it can follow a
+ * {@code GameModel} as well as a {@link HeadlessGame}.
+ */
+public class GameRecorder {
+    private final List<String> players;
+    private final List<GameRecord.Segment> segments = new ArrayList<>();
+    private Position segmentStart;
+    private int[] moves = new int[64];
+    private int moveCount;
+    private Position last;
+
+    public GameRecorder(List<String> players) {
+        this.players = List.copyOf(players);
+    }
+
+    public void observe(Position position) {
+        if (position.equals(last)) return;
+        int move = last == null ? Move.NONE : moveBetween(last, position);
+        if (move == Move.NONE) {
+            closeSegment();
+            segmentStart = position;
+        } else {
+            if (moveCount == moves.length) {
+                moves = Arrays.copyOf(moves, moves.length * 2);
+            }
+            moves[moveCount++] = move;
+        }
+        last = position;
+    }
+
+    public boolean isEmpty() {
+        return last == null;
+    }
+
+    // Everything observed so far; the recorder can keep recording afterwards
+    public GameRecord toRecord() {
+        List<GameRecord.Segment> all = new ArrayList<>(segments);
+        all.add(new GameRecord.Segment(segmentStart, Arrays.copyOf(moves, moveCount)));
+        return new GameRecord(players, all);
+    }
+
+    private void closeSegment() {
+        if (segmentStart != null) {
+            segments.add(new GameRecord.Segment(segmentStart, Arrays.copyOf(moves, moveCount)));
+        }
+        moveCount = 0;
+    }
+
+    // The legal move that turns from into to, or Move.NONE. GameModel leaves the
+    // turn with the player who empties the table, so the last move of a round may
+    // keep the mover where Position#play passes the turn on.
+    private static int moveBetween(Position from, Position to) {
+        int next = (from.toMove() + 1) % from.playerCount();
+        boolean lastMove = to.toMove() == from.toMove() && to.isRoundOver();
+        if (to.round() != from.round() || (to.toMove() != next && !lastMove)) {
+            return Move.NONE;
+        }
+        Position played = lastMove ? to.withToMove(next) : to;
+        for (int move : from.legalMoves()) {
+            if (from.play(move).equals(played)) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+}
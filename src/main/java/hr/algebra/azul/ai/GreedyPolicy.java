@@ -0,0 +1,178 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.FloorLine;
+
+/**
+ * Scores single moves from lookup tables only, cheap enough to choose every
+ * move of a simulated playout. A score, in sixteenths of a point, adds up:
+ * <ul>
+ *     <li>wall points of a line the move completes, looked up from the row and
+ *     column the tile lands in,</li>
+ *     <li>a share of those points for a line the move only fills partly,</li>
+ *     <li>end of game bonus proximity: extra value for tiles in rows, columns
+ *     and colors that are close to complete,</li>
+ *     <li>the floor penalty of overflow and the first player token, from
+ *     {@link FloorLine#PENALTY_POINTS}.</li>
+ * </ul>
+ * The opponents are ignored.
+ */
+public final class GreedyPolicy {
+    public static final int SCALE = 16;
+
+    private static final int LINES = Position.LINES;
+    private static final int MAX_ADDED = 32;
+
+    // Bit of each row in column 0 of a wall mask, and the multiplier that
+    // gathers them into five adjacent bits starting at bit 16
+    private static final int COLUMN_BITS = 0x108421;
+    private static final int GATHER = 0x11111;
+
+    // LINE_CODE[bits << 3 | position] for a 5-bit row or column: 1 when the
+    // position has a neighbour, 0 without one
+    private static final byte[] LINE_CODE = new byte[32 << 3];
+    // Wall points by horizontal code * 2 + vertical code, as Wall.addTile scores them
+    private static final int[] PLACEMENT_POINTS = new int[4];
+    // PLACEMENT[((rowBits << 5 | columnBits) << 5) + row * 5 + col]: wall points
+    // in the low byte, scaled row and column bonus proximity above it
+    private static final int[] PLACEMENT = new int[32 * 32 * 32];
+    // FLOOR_DELTA[tilesOnFloor * MAX_ADDED + added], scaled
+    private static final int[] FLOOR_DELTA = new int[(Position.FLOOR_SIZE + 1) * MAX_ADDED];
+    // PROGRESS[line * (LINES + 1) + tiles] share of the wall points a partly filled line is worth
+    private static final int[] PROGRESS = new int[LINES * (LINES + 1)];
+    // Scaled gain from the n-th tile of a row, column or color, by n
+    private static final int[] ROW_PROXIMITY = new int[LINES + 1];
+    private static final int[] COLUMN_PROXIMITY = new int[LINES + 1];
+    private static final int[] COLOR_PROXIMITY = new int[LINES + 1];
+
+    static {
+        for (int bits = 0; bits < 32; bits++) {
+            for (int pos = 0; pos < LINES; pos++) {
+                boolean neighbour = pos > 0 && (bits & 1 << pos - 1) != 0
+                        || pos < LINES - 1 && (bits & 1 << pos + 1) != 0;
+                LINE_CODE[bits << 3 | pos] = (byte) (neighbour ? 1 : 0);
+            }
+        }
+
+        // Completed rows and columns add nothing here; their bonus comes at the end of the game
+        for (int h = 0; h < 2; h++) {
+            for (int v = 0; v < 2; v++) {
+                PLACEMENT_POINTS[h * 2 + v] = h == 0 && v == 0 ? 1 : h + v;
+            }
+        }
+
+        // Bonus value grows with the square of the tiles in place; store the increments
+        for (int n = 1; n <= LINES; n++) {
+            ROW_PROXIMITY[n] = proximityGain(2, n);
+            COLUMN_PROXIMITY[n] = proximityGain(7, n);
+            COLOR_PROXIMITY[n] = proximityGain(10, n);
+        }
+
+        for (int rowBits = 0; rowBits < 32; rowBits++) {
+            for (int columnBits = 0; columnBits < 32; columnBits++) {
+                for (int row = 0; row < LINES; row++) {
+                    for (int col = 0; col < LINES; col++) {
+                        int points = PLACEMENT_POINTS[LINE_CODE[rowBits << 3 | col] * 2 + LINE_CODE[columnBits << 3 | row]];
+                        int proximity = ROW_PROXIMITY[Integer.bitCount(rowBits | 1 << col)]
+                                + COLUMN_PROXIMITY[Integer.bitCount(columnBits | 1 << row)];
+                        PLACEMENT[((rowBits << 5 | columnBits) << 5) + row * LINES + col] = proximity << 8 | points;
+                    }
+                }
+            }
+        }
+
+        for (int floor = 0; floor <= Position.FLOOR_SIZE; floor++) {
+            for (int added = 0; added < MAX_ADDED; added++) {
+                int delta = Position.floorPenalty(floor + added) - Position.floorPenalty(floor);
+                FLOOR_DELTA[floor * MAX_ADDED + added] = delta * SCALE;
+            }
+        }
+
+        // A partly filled line still has to be finished, so it counts for half at most
+        for (int line = 0; line < LINES; line++) {
+            for (int tiles = 0; tiles <= line + 1; tiles++) {
+                PROGRESS[line * (LINES + 1) + tiles] = SCALE * tiles / (2 * (line + 1));
+            }
+        }
+    }
+
+    private GreedyPolicy() {
+    }
+
+    private static int proximityGain(int bonus, int n) {
+        int squares = LINES * LINES;
+        return bonus * SCALE * (n * n - (n - 1) * (n - 1)) / squares;
+    }
+
+    /**
+     * Scaled greedy value of a legal move for the player to move; higher is
+     * better.
+     */
+    public static int score(Position position, int move) {
+        int player = position.toMove();
+        return score(position, move, player, position.wall(player), position.floorCount(player) * MAX_ADDED);
+    }
+
+    private static int score(Position position, int move, int player, int wall, int floor) {
+        int color = Move.color(move);
+        int line = Move.line(move);
+        int taken = position.tilesTaken(move);
+        int token = Move.isFromCenter(move) && position.isTokenInCenter() ? 1 : 0;
+
+        if (line == Move.FLOOR) {
+            return FLOOR_DELTA[floor + Math.min(taken + token, MAX_ADDED - 1)];
+        }
+
+        int count = position.lineCount(player, line);
+        int space = line + 1 - count;
+        int placed = Math.min(space, taken);
+        int score = FLOOR_DELTA[floor + Math.min(taken - placed + token, MAX_ADDED - 1)];
+
+        int col = Position.wallColumn(line, color);
+        int placement = placement(wall, line, col);
+        int points = placement & 0xFF;
+
+        if (placed == space) {
+            return score + points * SCALE + (placement >> 8)
+                    + COLOR_PROXIMITY[Integer.bitCount(wall & Position.colorMask(color)) + 1];
+        }
+        return score + points * PROGRESS[line * (LINES + 1) + count + placed];
+    }
+
+    // PLACEMENT entry of a tile at (row, col) on the wall, which need not contain it yet
+    private static int placement(int wall, int row, int col) {
+        int rowBits = wall >>> row * LINES & 31;
+        int columnBits = ((wall >>> col & COLUMN_BITS) * GATHER) >>> 16 & 31;
+        return PLACEMENT[((rowBits << 5 | columnBits) << 5) + row * LINES + col];
+    }
+
+    // Wall points of the tile from the tables alone; equal to Position.placementPoints
+    static int placementPoints(int wall, int row, int col) {
+        return placement(wall, row, col) & 0xFF;
+    }
+
+    // Best of the first count moves, the earliest one on ties; Move.NONE when empty
+    public static int bestMove(Position position, int[] moves, int count) {
+        int player = position.toMove();
+        int wall = position.wall(player);
+        int floor = position.floorCount(player) * MAX_ADDED;
+
+        int bestMove = Move.NONE;
+        int bestScore = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            int score = score(position, moves[i], player, wall, floor);
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves[i];
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Generates the legal moves into {@code buffer}, which needs room for
+     * {@link Position#maxMoves()}, and returns the best one.
+     */
+    public static int chooseMove(Position position, int[] buffer) {
+        return bestMove(position, buffer, position.generateMoves(buffer));
+    }
+}
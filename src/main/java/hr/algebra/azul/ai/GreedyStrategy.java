@@ -0,0 +1,30 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Plays the move {@link GreedyPolicy} scores highest. Looks one move ahead,
+ * ignores the opponents and costs well under a microsecond per move list.
+ */
+public class GreedyStrategy implements PlayerStrategy {
+    public static final String ID = "greedy";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Greedy";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return new SearchBudget(10, 1);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        context.countNode();
+        return GreedyPolicy.chooseMove(position, new int[position.maxMoves()]);
+    }
+}
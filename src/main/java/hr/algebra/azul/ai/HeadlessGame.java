@@ -0,0 +1,79 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.TileBag;
+
+import java.util.SplittableRandom;
+
+/**
+ * A whole game played on {@link Position}s, without a {@code GameModel} or
+ * any UI, for tournaments and other bulk play. The bag works like
+ * {@code TileBag}: 20 tiles of each color drawn without refilling, four per
+ * factory. The game ends when a player completes a row or the bag is empty
+ * at the start of a round.
+ */
+public class HeadlessGame {
+    public static final int FACTORY_COUNT = 5;
+    public static final int FACTORY_SIZE = Position.FACTORY_SIZE;
+    public static final int TILES_PER_COLOR = TileBag.TILES_PER_COLOR;
+
+    private final SplittableRandom random;
+    private Position position;
+    private boolean over;
+
+    public HeadlessGame(int playerCount, long seed) {
+        this.random = new SplittableRandom(seed);
+        this.position = Position.start(playerCount, FACTORY_COUNT);
+        this.over = !dealRound();
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+
+    // Tiles of the color still in the bag
+    public int bagTiles(int color) {
+        return position.bagTiles(color);
+    }
+
+    // Plays a move for the player to move, scoring and dealing when the round ends
+    public void play(int move) {
+        if (over) {
+            throw new IllegalStateException("Game is over");
+        }
+        position = position.play(move);
+        if (position.isRoundOver()) {
+            position = position.scoreRound();
+            over = position.isGameOver() || !dealRound();
+        }
+    }
+
+    public int finalScore(int player) {
+        return position.finalScore(player);
+    }
+
+    // Index of the player with the highest final score, or Position.NO_PLAYER on a tie
+    public int winner() {
+        int winner = Position.NO_PLAYER;
+        int best = Integer.MIN_VALUE;
+        for (int p = 0; p < position.playerCount(); p++) {
+            int score = finalScore(p);
+            if (score > best) {
+                best = score;
+                winner = p;
+            } else if (score == best) {
+                winner = Position.NO_PLAYER;
+            }
+        }
+        return winner;
+    }
+
+    private boolean dealRound() {
+        if (position.bagSize() == 0) return false;
+        position = position.deal(random);
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Default evaluation: current score plus what the round would score if it ended
+ * now, partial credit for unfinished pattern lines and for progress towards the
+ * end of game bonuses. The result is relative to the strongest opponent.
+ */
+public class HeuristicEvaluator implements Evaluator {
+    private static final double PARTIAL_LINE_WEIGHT = 0.5;
+    private static final double BONUS_PROGRESS_WEIGHT = 0.5;
+
+    @Override
+    public double evaluate(Position position, int player) {
+        double own = value(position, player);
+        double bestOpponent = Double.NEGATIVE_INFINITY;
+        for (int p = 0; p < position.playerCount(); p++) {
+            if (p != player) {
+                bestOpponent = Math.max(bestOpponent, value(position, p));
+            }
+        }
+        return own - bestOpponent;
+    }
+
+    public double value(Position position, int player) {
+        if (position.isGameOver()) {
+            return position.finalScore(player);
+        }
+
+        double value = position.score(player) + position.roundScoreDelta(player);
+        int wall = position.wall(player);
+
+        for (int line = 0; line < Position.LINES; line++) {
+            int count = position.lineCount(player, line);
+            if (count > 0 && count <= line) {
+                int col = Position.wallColumn(line, position.lineColor(player, line));
+                int withTile = wall | Position.cellBit(line, col);
+                value += PARTIAL_LINE_WEIGHT * count / (line + 1.0) * Position.placementPoints(withTile, line, col);
+            }
+        }
+
+        return value + BONUS_PROGRESS_WEIGHT * bonusProgress(wall);
+    }
+
+    // Squared completion of every row, column and color, weighted by its bonus
+    private static double bonusProgress(int wall) {
+        double progress = 0;
+        for (int i = 0; i < Position.LINES; i++) {
+            progress += 2 * completion(wall, Position.rowMask(i));
+            progress += 7 * completion(wall, Position.columnMask(i));
+            progress += 10 * completion(wall, Position.colorMask(i));
+        }
+        return progress;
+    }
+
+    private static double completion(int wall, int mask) {
+        double filled = Integer.bitCount(wall & mask) / (double) Position.LINES;
+        return filled * filled;
+    }
+}
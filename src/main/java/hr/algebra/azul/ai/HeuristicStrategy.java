@@ -0,0 +1,47 @@
+package hr.algebra.azul.ai;
+
+/**
+ * One move lookahead scored with {@link HeuristicEvaluator}, which also values
+ * partly filled lines and progress towards end of game bonuses.
+ */
+public class HeuristicStrategy implements PlayerStrategy {
+    public static final String ID = "heuristic";
+
+    private final Evaluator evaluator = new HeuristicEvaluator();
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Heuristic";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return new SearchBudget(100, 10_000);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        int player = position.toMove();
+        int[] moves = new int[position.maxMoves()];
+        int count = position.generateMoves(moves);
+        AlphaBetaSearch.orderMoves(position, moves, count);
+
+        int bestMove = count == 0 ? Move.NONE : moves[0];
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count && !context.shouldStop(); i++) {
+            context.countNode();
+            Position next = position.play(moves[i]);
+            double value = evaluator.evaluate(next.isRoundOver() ? next.scoreRound() : next, player);
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = moves[i];
+            }
+        }
+        return bestMove;
+    }
+}
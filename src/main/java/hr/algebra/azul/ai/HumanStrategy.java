@@ -0,0 +1,36 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.Player;
+
+/**
+ * Placeholder for seats played through the board. It never chooses a move;
+ * the game waits for clicks instead.
+ */
+public class HumanStrategy implements PlayerStrategy {
+    public static final String ID = Player.HUMAN_STRATEGY;
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Human";
+    }
+
+    @Override
+    public boolean isHuman() {
+        return true;
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return SearchBudget.ofMillis(0);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        throw new UnsupportedOperationException("Human players move through the board");
+    }
+}
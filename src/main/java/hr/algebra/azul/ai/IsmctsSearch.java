@@ -0,0 +1,405 @@
+package hr.algebra.azul.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Single-observer information set Monte Carlo tree search. The bag's draw
+ * order is the only hidden information: every iteration samples its own
+ * determinization by dealing each new round at random from the bag's color
+ * counts, so the tree plans past the end of the round without pretending to
+ * know the next factories. Nodes are identified by the moves that lead to
+ * them and shared by all determinizations. Because a move can be legal in one
+ * deal and not in another, a child's exploration term counts how often it
+ * was available rather than how often its parent was visited.
+ * <p>
+ * Playouts pick moves with {@link GreedyPolicy} and a share of random moves,
+ * and finish the game. Every worker of the pool grows its own tree (root
+ * parallelism) and the root statistics are summed at the end, so the number
+ * of iterations grows with the cores without any locking.
+ * <p>
+ * Given a {@link SearchMemory}, the trees are kept after the search. The next
+ * search in the same round finds the moves played since and continues from
+ * the matching subtrees, including the trees grown while pondering on another
+ * player's turn.
+ */
+public class IsmctsSearch {
+    public static final double EXPLORATION = 0.7;
+    public static final double PLAYOUT_EPSILON = 0.1;
+
+    // Share of the reward for winning; the rest follows the final margin
+    private static final double WIN_WEIGHT = 0.8;
+    private static final double MARGIN_SCALE = 50.0;
+    // Nodes over all trees; past it the trees stop growing and only play out
+    private static final int MAX_NODES = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final int workers;
+
+    public IsmctsSearch(ForkJoinPool pool) {
+        this(pool, pool.getParallelism());
+    }
+
+    public IsmctsSearch(ForkJoinPool pool, int workers) {
+        this.pool = pool;
+        this.workers = workers;
+    }
+
+    /**
+     * Iterates until the context stops and returns the most visited root move,
+     * with its average reward (0 to 1) as the value and the iterations as
+     * nodes.
+     */
+    public SearchResult search(Position root, SearchContext context) {
+        int[] moves = root.legalMoves();
+        if (moves.length <= 1) {
+            return new SearchResult(moves.length == 0 ? Move.NONE : moves[0], 0, 0, context.getNodes());
+        }
+
+        Node[] roots = reusedRoots(context.getMemory(), root);
+        long seed = System.nanoTime();
+        List<Callable<Tree>> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            long workerSeed = seed + w * 0x9E3779B97F4A7C15L;
+            Node treeRoot = roots[w];
+            boolean reporter = w == 0;
+            tasks.add(() -> {
+                Tree tree = new Tree(root, treeRoot, MAX_NODES / workers, new SplittableRandom(workerSeed));
+                while (!context.shouldStop()) {
+                    tree.iterate();
+                    context.countNode();
+                    if (reporter && (tree.root.visits & 255) == 0) {
+                        context.reportProgress(context.timeUsed());
+                    }
+                }
+                return tree;
+            });
+        }
+
+        int[] visits = new int[moves.length];
+        double[] rewards = new double[moves.length];
+        List<Future<Tree>> results = pool.invokeAll(tasks);
+        for (int w = 0; w < workers; w++) {
+            Node treeRoot = join(results.get(w)).root;
+            roots[w] = treeRoot;
+            for (int i = 0; i < moves.length; i++) {
+                Node child = treeRoot.child(moves[i]);
+                if (child != null) {
+                    visits[i] += child.visits;
+                    rewards[i] += child.reward;
+                }
+            }
+        }
+
+        if (context.getMemory() != null) {
+            context.getMemory().keep(new Forest(root, roots));
+        }
+
+        int best = 0;
+        for (int i = 1; i < moves.length; i++) {
+            if (visits[i] > visits[best]) best = i;
+        }
+        context.reportProgress(1.0);
+        double value = visits[best] == 0 ? 0 : rewards[best] / visits[best];
+        return new SearchResult(moves[best], value, 0, context.getNodes());
+    }
+
+    /**
+     * The subtrees of the remembered trees that match the moves played since
+     * they were searched, or fresh roots when there is nothing to continue.
+     */
+    private Node[] reusedRoots(SearchMemory memory, Position root) {
+        Node[] roots = new Node[workers];
+        if (memory != null && memory.state() instanceof Forest forest && forest.roots().length == workers) {
+            int[] path = movesBetween(forest.position(), root, 2 * root.playerCount());
+            if (path != null) {
+                for (int w = 0; w < workers; w++) {
+                    Node node = forest.roots()[w];
+                    for (int i = 0; node != null && i < path.length; i++) {
+                        node = node.child(path[i]);
+                    }
+                    roots[w] = node;
+                }
+            }
+        }
+        for (int w = 0; w < workers; w++) {
+            if (roots[w] == null) roots[w] = new Node(Move.NONE, -1);
+        }
+        return roots;
+    }
+
+    /**
+     * The moves that lead from one position to a later one of the same round,
+     * at most {@code maxDepth} of them, or null when there are none. Only moves
+     * that keep the later position reachable are tried: factories are emptied
+     * for good and pattern lines and floors only fill up within a round.
+     */
+    static int[] movesBetween(Position from, Position to, int maxDepth) {
+        if (from.round() != to.round() || from.playerCount() != to.playerCount()
+                || from.factoryCount() != to.factoryCount()) {
+            return null;
+        }
+        int[] path = new int[maxDepth];
+        int depth = findPath(from, to, path, 0);
+        return depth < 0 ? null : Arrays.copyOf(path, depth);
+    }
+
+    private static int findPath(Position position, Position target, int[] path, int depth) {
+        if (position.equals(target)) return depth;
+        if (depth == path.length || position.isRoundOver()) return -1;
+        for (int move : position.legalMoves()) {
+            Position next = position.play(move);
+            if (!canReach(next, target)) continue;
+            path[depth] = move;
+            int found = findPath(next, target, path, depth + 1);
+            if (found >= 0) return found;
+        }
+        return -1;
+    }
+
+    private static boolean canReach(Position position, Position target) {
+        for (int f = 0; f < position.factoryCount(); f++) {
+            for (int color = 0; color < Position.COLORS; color++) {
+                int tiles = target.factoryTiles(f, color);
+                if (tiles != 0 && tiles != position.factoryTiles(f, color)) return false;
+            }
+        }
+        for (int p = 0; p < position.playerCount(); p++) {
+            if (position.floorCount(p) > target.floorCount(p)) return false;
+            for (int line = 0; line < Position.LINES; line++) {
+                int count = position.lineCount(p, line);
+                if (count > target.lineCount(p, line)
+                        || count > 0 && position.lineColor(p, line) != target.lineColor(p, line)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Tree join(Future<Tree> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Rewards of the finished game for every player: mostly whether the player
+     * won (shared on a tie), the rest from the margin over the best opponent.
+     */
+    static double[] rewards(Position finished) {
+        int players = finished.playerCount();
+        int[] scores = new int[players];
+        int top = Integer.MIN_VALUE;
+        int winners = 0;
+        for (int p = 0; p < players; p++) {
+            scores[p] = finished.finalScore(p);
+            if (scores[p] > top) {
+                top = scores[p];
+                winners = 1;
+            } else if (scores[p] == top) {
+                winners++;
+            }
+        }
+
+        double[] rewards = new double[players];
+        for (int p = 0; p < players; p++) {
+            int bestOther = Integer.MIN_VALUE;
+            for (int q = 0; q < players; q++) {
+                if (q != p) bestOther = Math.max(bestOther, scores[q]);
+            }
+            double win = scores[p] == top ? 1.0 / winners : 0;
+            double margin = Math.max(0, Math.min(1, 0.5 + (scores[p] - bestOther) / MARGIN_SCALE));
+            rewards[p] = WIN_WEIGHT * win + (1 - WIN_WEIGHT) * margin;
+        }
+        return rewards;
+    }
+
+    // The trees of the last search and the position they were grown from
+    private record Forest(Position position, Node[] roots) {
+    }
+
+    // One worker's tree and the scratch it needs
+    private static final class Tree {
+        private final Node root;
+        private final Position rootPosition;
+        private final int maxNodes;
+        private final SplittableRandom random;
+        private final int[] moves;
+        private final List<Node> path = new ArrayList<>();
+        private int size;
+
+        Tree(Position rootPosition, Node root, int maxNodes, SplittableRandom random) {
+            this.rootPosition = rootPosition;
+            this.root = root;
+            this.maxNodes = maxNodes;
+            this.random = random;
+            this.moves = new int[rootPosition.maxMoves()];
+            this.size = root.subtreeSize();
+        }
+
+        void iterate() {
+            path.clear();
+            path.add(root);
+            Node node = root;
+            Position position = rootPosition;
+
+            // Selection and expansion, in this iteration's determinization
+            while (!position.isRoundOver()) {
+                int count = position.generateMoves(moves);
+                Node untried = null;
+                int untriedSeen = 0;
+                Node best = null;
+                double bestScore = Double.NEGATIVE_INFINITY;
+
+                for (int i = 0; i < count; i++) {
+                    Node child = node.child(moves[i]);
+                    if (child == null) {
+                        // Reservoir sampling picks a random untried move
+                        if (random.nextInt(++untriedSeen) == 0) {
+                            untried = new Node(moves[i], position.toMove());
+                        }
+                        continue;
+                    }
+                    child.availability++;
+                    double score = child.reward / child.visits
+                            + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = child;
+                    }
+                }
+
+                if (untried != null) {
+                    position = advance(position, untried.move);
+                    if (size < maxNodes) {
+                        node.addChild(untried);
+                        path.add(untried);
+                        size++;
+                    }
+                    break;
+                }
+                node = best;
+                position = advance(position, node.move);
+                path.add(node);
+            }
+
+            double[] rewards = rewards(playout(position));
+            for (Node visited : path) {
+                visited.visits++;
+                if (visited.player >= 0) {
+                    visited.reward += rewards[visited.player];
+                }
+            }
+        }
+
+        private Position playout(Position position) {
+            while (!position.isRoundOver()) {
+                int move;
+                if (random.nextDouble() < PLAYOUT_EPSILON) {
+                    int count = position.generateMoves(moves);
+                    move = moves[random.nextInt(count)];
+                } else {
+                    move = GreedyPolicy.chooseMove(position, moves);
+                }
+                position = advance(position, move);
+            }
+            return position;
+        }
+
+        /**
+         * Plays the move; at a round end, scores the round and deals the next
+         * one from the bag. A finished game is returned scored, with empty
+         * factories, as HeadlessGame ends it.
+         */
+        private Position advance(Position position, int move) {
+            Position next = position.play(move);
+            if (!next.isRoundOver()) return next;
+
+            Position scored = next.scoreRound();
+            if (scored.isGameOver() || scored.bagSize() == 0) return scored;
+            return scored.deal(random);
+        }
+    }
+
+    static final class Node {
+        final int move;     // move that led here
+        final int player;   // player who made it, -1 at the root
+        int visits;
+        int availability;
+        double reward;      // summed over visits, for player
+
+        // Children in a small open addressing table keyed by move, created
+        // with the first child since most nodes are leaves
+        private int[] keys;
+        private Node[] values;
+        private int size;
+
+        Node(int move, int player) {
+            this.move = move;
+            this.player = player;
+        }
+
+        Node child(int move) {
+            if (values == null) return null;
+            int mask = keys.length - 1;
+            for (int i = hash(move) & mask; values[i] != null; i = i + 1 & mask) {
+                if (keys[i] == move) return values[i];
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            if (values == null) {
+                keys = new int[8];
+                values = new Node[8];
+            } else if (2 * (size + 1) > keys.length) {
+                grow();
+            }
+            insert(child);
+            size++;
+        }
+
+        private void insert(Node child) {
+            int mask = keys.length - 1;
+            int i = hash(child.move) & mask;
+            while (values[i] != null) i = i + 1 & mask;
+            keys[i] = child.move;
+            values[i] = child;
+        }
+
+        private void grow() {
+            Node[] old = values;
+            keys = new int[keys.length * 2];
+            values = new Node[values.length * 2];
+            for (Node child : old) {
+                if (child != null) insert(child);
+            }
+        }
+
+        int subtreeSize() {
+            int nodes = 1;
+            if (values != null) {
+                for (Node child : values) {
+                    if (child != null) nodes += child.subtreeSize();
+                }
+            }
+            return nodes;
+        }
+
+        private static int hash(int move) {
+            return move * 0x9E3779B9 >>> 16;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package hr.algebra.azul.ai;
+
+/**
+ * {@link IsmctsSearch} on the shared search threads. Unlike the alpha-beta
+ * strategies it plans across round ends, sampling the next deals from the
+ * tiles left in the bag. It keeps its trees in the seat's {@link SearchMemory}
+ * and can ponder, so time spent on the other players' turns is not lost.
+ */
+public class IsmctsStrategy implements PlayerStrategy {
+    public static final String ID = "ismcts";
+
+    private final IsmctsSearch search = new IsmctsSearch(SearchThreads.pool());
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Monte Carlo";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return SearchBudget.ofMillis(1500);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        return search.search(position, context).move();
+    }
+
+    @Override
+    public boolean canPonder() {
+        return true;
+    }
+
+    @Override
+    public void ponder(Position position, SearchContext context) {
+        search.search(position, context);
+    }
+}
@@ -0,0 +1,44 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Evaluates with a trained {@link EvalModel}: the model's value of the player's
+ * {@link EvalFeatures} minus the best opponent's. Finished games are scored
+ * exactly from the final scores.
+ */
+public class LearnedEvaluator implements Evaluator {
+    private final EvalModel model;
+    private final ThreadLocal<float[]> features = ThreadLocal.withInitial(() -> new float[EvalFeatures.COUNT]);
+    private final ThreadLocal<float[]> scratch;
+
+    public LearnedEvaluator(EvalModel model) {
+        if (model.getFeatures() != EvalFeatures.COUNT) {
+            throw new IllegalArgumentException("Model expects " + model.getFeatures()
+                    + " features, positions have " + EvalFeatures.COUNT);
+        }
+        this.model = model;
+        this.scratch = ThreadLocal.withInitial(model::newScratch);
+    }
+
+    @Override
+    public double evaluate(Position position, int player) {
+        boolean over = position.isGameOver();
+        double own = over ? position.finalScore(player) : value(position, player);
+        double bestOpponent = Double.NEGATIVE_INFINITY;
+        for (int p = 0; p < position.playerCount(); p++) {
+            if (p != player) {
+                bestOpponent = Math.max(bestOpponent, over ? position.finalScore(p) : value(position, p));
+            }
+        }
+        return own - bestOpponent;
+    }
+
+    public double value(Position position, int player) {
+        float[] x = features.get();
+        EvalFeatures.extract(position, player, x, 0);
+        return model.value(x, 0, scratch.get());
+    }
+
+    public EvalModel getModel() {
+        return model;
+    }
+}
@@ -0,0 +1,82 @@
+package hr.algebra.azul.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * AlphaBetaSearch with a {@link LearnedEvaluator}. The weights come from the
+ * file named by the {@code azul.ai.weights} system property, for example the
+ * output of {@link EvalTrainer}, or from the weights bundled with the game.
+ * First moves come from the {@link OpeningBook} when it knows them.
+ */
+public class LearnedStrategy implements PlayerStrategy {
+    public static final String ID = "learned";
+    public static final String WEIGHTS_PROPERTY = "azul.ai.weights";
+    public static final String DEFAULT_WEIGHTS = "eval-weights.txt";
+
+    private final OpeningBook book = OpeningBook.forStrategy(ID);
+    private volatile AlphaBetaSearch search;
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Learned";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return SearchBudget.ofMillis(1500);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        int bookMove = book.lookup(position);
+        if (bookMove != Move.NONE) {
+            return bookMove;
+        }
+        int move = getSearch().search(position, context).move();
+        if (!context.isCancelled()) {
+            book.remember(position, move);
+        }
+        return move;
+    }
+
+    // Weights are read on the first move rather than when the registry loads strategies
+    private AlphaBetaSearch getSearch() {
+        AlphaBetaSearch current = search;
+        if (current == null) {
+            synchronized (this) {
+                current = search;
+                if (current == null) {
+                    current = new AlphaBetaSearch(new LearnedEvaluator(loadModel()),
+                            TranspositionTable.Kind.LEARNED_MARGIN, TranspositionTable.engine(), SearchThreads.pool());
+                    search = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    static EvalModel loadModel() {
+        String path = System.getProperty(WEIGHTS_PROPERTY);
+        try {
+            if (path != null) {
+                return EvalModel.load(Path.of(path));
+            }
+            try (InputStream in = LearnedStrategy.class.getResourceAsStream(DEFAULT_WEIGHTS)) {
+                if (in == null) {
+                    throw new IOException("Missing resource " + DEFAULT_WEIGHTS);
+                }
+                return EvalModel.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load evaluation weights", e);
+        }
+    }
+}
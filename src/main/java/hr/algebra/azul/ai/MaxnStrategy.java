@@ -0,0 +1,32 @@
+package hr.algebra.azul.ai;
+
+/**
+ * {@link MultiplayerSearch} in max^n mode on the shared search threads: each
+ * opponent is expected to play for itself. Meant for three and four players.
+ */
+public class MaxnStrategy implements PlayerStrategy {
+    public static final String ID = "maxn";
+
+    private final MultiplayerSearch search = new MultiplayerSearch(MultiplayerSearch.Mode.MAXN,
+            new HeuristicEvaluator(), TranspositionTable.engine(), SearchThreads.pool());
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Max^n";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return SearchBudget.ofMillis(1500);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        return search.search(position, context).move();
+    }
+}
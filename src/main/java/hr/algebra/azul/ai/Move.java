@@ -0,0 +1,54 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.TileColor;
+
+/**
+ * Moves are packed into a single int so move lists are plain {@code int[]}:
+ * bits 0-2 hold the pattern line (or {@link #FLOOR}), bits 3-5 the color
+ * ordinal and bits 6-9 the source factory (or {@link #CENTER}).
+ */
+public final class Move {
+    public static final int CENTER = 15;
+    public static final int FLOOR = 5;
+    public static final int NONE = -1;
+
+    private static final TileColor[] COLORS = TileColor.values();
+
+    private Move() {
+    }
+
+    public static int of(int source, int color, int line) {
+        return source << 6 | color << 3 | line;
+    }
+
+    public static int source(int move) {
+        return move >>> 6 & 0xF;
+    }
+
+    public static int color(int move) {
+        return move >>> 3 & 0x7;
+    }
+
+    public static int line(int move) {
+        return move & 0x7;
+    }
+
+    public static boolean isFromCenter(int move) {
+        return source(move) == CENTER;
+    }
+
+    public static boolean isToFloor(int move) {
+        return line(move) == FLOOR;
+    }
+
+    public static TileColor tileColor(int move) {
+        return COLORS[color(move)];
+    }
+
+    public static String toString(int move) {
+        if (move == NONE) return "none";
+        String source = isFromCenter(move) ? "center" : "factory " + (source(move) + 1);
+        String target = isToFloor(move) ? "floor" : "line " + (line(move) + 1);
+        return tileColor(move) + " from " + source + " to " + target;
+    }
+}
@@ -0,0 +1,43 @@
+package hr.algebra.azul.ai;
+
+/**
+ * What a move would do for the player making it, if the round were scored
+ * right after it. {@code points} is the change in wall points, so it also
+ * counts what the new tile adds to lines that are already full, and
+ * {@code floorPenalty} the change in the floor penalty (zero or negative).
+ * For a move to a pattern line, {@code missing} is the number of tiles the
+ * line still lacks and the three counts say how many of the five tiles of
+ * the wall row, column and color the player would have with this tile on
+ * the wall. They are -1 for a floor move.
+ */
+public record MovePreview(int move, int points, int floorPenalty, int missing,
+                          int rowTiles, int columnTiles, int colorTiles) {
+
+    // Works on the snapshot only, so any thread may call it
+    public static MovePreview of(Position position, int move) {
+        int player = position.toMove();
+        Position next = position.play(move);
+
+        int floorPenalty = Position.floorPenalty(next.floorCount(player))
+                - Position.floorPenalty(position.floorCount(player));
+        int points = next.roundScoreDelta(player) - position.roundScoreDelta(player) - floorPenalty;
+        if (Move.isToFloor(move)) {
+            return new MovePreview(move, points, floorPenalty, -1, -1, -1, -1);
+        }
+
+        int line = Move.line(move);
+        int color = Move.color(move);
+        int col = Position.wallColumn(line, color);
+        int wall = next.tiledWall(player) | Position.cellBit(line, col);
+        return new MovePreview(move, points, floorPenalty,
+                line + 1 - next.lineCount(player, line),
+                Integer.bitCount(wall & Position.rowMask(line)),
+                Integer.bitCount(wall & Position.columnMask(col)),
+                Integer.bitCount(wall & Position.colorMask(color)));
+    }
+
+    // Change in the round's score
+    public int total() {
+        return points + floorPenalty;
+    }
+}
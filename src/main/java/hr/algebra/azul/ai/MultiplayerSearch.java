@@ -0,0 +1,222 @@
+package hr.algebra.azul.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Iterative deepening search over the rest of the round for tables of three
+ * or four players, where treating everyone else as one minimising opponent
+ * misjudges most moves. Leaves are valued as a vector with one share per
+ * player: a softmax of the {@link HeuristicEvaluator} values, so the shares
+ * are positive and always sum to one.
+ * <ul>
+ * <li>{@link Mode#MAXN}: every player picks the move best for its own share.
+ * A move is cut off early (shallow pruning) once the player to move has
+ * taken so much that the previous player can no longer beat the choice it
+ * already has.</li>
+ * <li>{@link Mode#PARANOID}: the root player maximises its share and all
+ * others minimise it, searched with alpha-beta. It prunes much more and sees
+ * deeper, at the price of assuming that everyone plays against it.</li>
+ * </ul>
+ * Both share the move generation and ordering of {@link AlphaBetaSearch} and
+ * the given {@link TranspositionTable}, normally {@link TranspositionTable#engine()}. The
+ * first root move is searched alone for a bound and the other root moves
+ * fork on the given pool.
+ */
+public class MultiplayerSearch {
+    public static final int MAX_DEPTH = 12;
+    // Points of lead that multiply a player's share by e
+    public static final double TEMPERATURE = 8.0;
+
+    public enum Mode { MAXN, PARANOID }
+
+    private final Mode mode;
+    private final HeuristicEvaluator evaluator;
+    private final TranspositionTable table;
+    private final ForkJoinPool pool;
+
+    public MultiplayerSearch(Mode mode, HeuristicEvaluator evaluator, TranspositionTable table, ForkJoinPool pool) {
+        this.mode = mode;
+        this.evaluator = evaluator;
+        this.table = table;
+        this.pool = pool;
+    }
+
+    /**
+     * Searches until the context stops or the whole round is searched and
+     * returns the best move with the root player's share (0 to 1) as value.
+     */
+    public SearchResult search(Position root, SearchContext context) {
+        int[] moves = root.legalMoves();
+        int player = root.toMove();
+        if (moves.length == 0) {
+            return new SearchResult(Move.NONE, shares(root)[player], 0, 0);
+        }
+        AlphaBetaSearch.orderMoves(root, moves, moves.length);
+        table.newSearch();
+
+        int bestMove = moves[0];
+        double bestValue = 0;
+        int completedDepth = 0;
+        double[] values = new double[moves.length];
+
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            try {
+                searchRoot(root, moves, values, depth, context);
+            } catch (SearchAborted aborted) {
+                break;
+            } catch (RuntimeException e) {
+                // Aborts inside parallel workers arrive wrapped
+                if (e.getCause() instanceof SearchAborted || context.shouldStop()) break;
+                throw e;
+            }
+
+            AlphaBetaSearch.sortByValue(moves, values);
+            bestMove = moves[0];
+            bestValue = values[0];
+            completedDepth = depth;
+            context.reportProgress((double) depth / MAX_DEPTH);
+
+            if (depth >= AlphaBetaSearch.remainingPlies(root)) {
+                break;
+            }
+        }
+
+        context.reportProgress(1.0);
+        return new SearchResult(bestMove, bestValue, completedDepth, context.getNodes());
+    }
+
+    private void searchRoot(Position root, int[] moves, double[] values, int depth, SearchContext context) {
+        int player = root.toMove();
+        values[0] = rootValue(root.play(moves[0]), depth - 1, player, 0, context);
+        double bound = values[0];
+
+        pool.submit(() -> IntStream.range(1, moves.length).parallel().forEach(i ->
+                values[i] = rootValue(root.play(moves[i]), depth - 1, player, bound, context)
+        )).join();
+    }
+
+    // The root player's share after a root move; bound is the best share already found
+    private double rootValue(Position child, int depth, int player, double bound, SearchContext context) {
+        return mode == Mode.MAXN
+                ? maxn(child, depth, player, bound, context)[player]
+                : paranoid(child, depth, bound, 1.0, player, context);
+    }
+
+    /**
+     * Max^n value vector. {@code parentBest} is the share the previous player
+     * is already sure of; once the player to move holds at least
+     * {@code 1 - parentBest}, the previous player cannot gain here and the
+     * remaining moves are skipped. Cut off results are not stored.
+     */
+    private double[] maxn(Position position, int depth, int parent, double parentBest, SearchContext context) {
+        if (context.shouldStop()) throw SearchAborted.INSTANCE;
+        context.countNode();
+
+        if (position.isRoundOver()) {
+            return shares(position.scoreRound());
+        }
+        if (depth == 0) {
+            return shares(position);
+        }
+
+        int player = position.toMove();
+        long key = TranspositionTable.key(position, TranspositionTable.Kind.MAXN, player);
+        TranspositionTable.Entry entry = table.get(key);
+        if (entry != null && entry.depth() >= depth && entry.bound() == TranspositionTable.EXACT) {
+            return entry.values();
+        }
+
+        int[] moves = new int[position.maxMoves()];
+        int count = AlphaBetaSearch.orderedMoves(position, moves, entry);
+        double[] best = null;
+        int bestMove = Move.NONE;
+
+        for (int i = 0; i < count; i++) {
+            double[] value = maxn(position.play(moves[i]), depth - 1, player,
+                    best == null ? 0 : best[player], context);
+            if (best == null || value[player] > best[player]) {
+                best = value;
+                bestMove = moves[i];
+            }
+            if (parent != player && best[player] >= 1 - parentBest) {
+                return best;
+            }
+        }
+        table.put(key, depth, bestMove, TranspositionTable.EXACT, best);
+        return best;
+    }
+
+    // Paranoid alpha-beta on the root player's share
+    private double paranoid(Position position, int depth, double alpha, double beta, int root,
+                            SearchContext context) {
+        if (context.shouldStop()) throw SearchAborted.INSTANCE;
+        context.countNode();
+
+        if (position.isRoundOver()) {
+            return shares(position.scoreRound())[root];
+        }
+        if (depth == 0) {
+            return shares(position)[root];
+        }
+
+        long key = TranspositionTable.key(position, TranspositionTable.Kind.PARANOID, root);
+        TranspositionTable.Entry entry = table.get(key);
+        if (entry != null && entry.depth() >= depth) {
+            double stored = entry.values()[0];
+            if (entry.bound() == TranspositionTable.EXACT
+                    || entry.bound() == TranspositionTable.LOWER && stored >= beta
+                    || entry.bound() == TranspositionTable.UPPER && stored <= alpha) {
+                return stored;
+            }
+        }
+
+        int[] moves = new int[position.maxMoves()];
+        int count = AlphaBetaSearch.orderedMoves(position, moves, entry);
+        boolean maximising = position.toMove() == root;
+        double originalAlpha = alpha;
+        double originalBeta = beta;
+        double best = maximising ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        int bestMove = Move.NONE;
+
+        for (int i = 0; i < count; i++) {
+            double value = paranoid(position.play(moves[i]), depth - 1, alpha, beta, root, context);
+            if (maximising ? value > best : value < best) {
+                best = value;
+                bestMove = moves[i];
+            }
+            if (maximising) {
+                alpha = Math.max(alpha, value);
+            } else {
+                beta = Math.min(beta, value);
+            }
+            if (alpha >= beta) break;
+        }
+
+        byte bound = best <= originalAlpha ? TranspositionTable.UPPER
+                : best >= originalBeta ? TranspositionTable.LOWER
+                : TranspositionTable.EXACT;
+        table.put(key, depth, bestMove, bound, new double[]{best});
+        return best;
+    }
+
+    // Softmax of the players' values: positive shares that sum to one
+    double[] shares(Position position) {
+        int players = position.playerCount();
+        double[] shares = new double[players];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int p = 0; p < players; p++) {
+            shares[p] = evaluator.value(position, p) / TEMPERATURE;
+            max = Math.max(max, shares[p]);
+        }
+        double sum = 0;
+        for (int p = 0; p < players; p++) {
+            shares[p] = Math.exp(shares[p] - max);
+            sum += shares[p];
+        }
+        for (int p = 0; p < players; p++) {
+            shares[p] /= sum;
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,298 @@
+package hr.algebra.azul.ai;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Best first moves of a game, looked up instead of searched. The opening is
+ * the first deal: five factories of four tiles and nothing else on the
+ * table. Its key ignores the order of the factories and a cyclic shift of the
+ * colors. The wall is a cyclic Latin square, so shifting every color by the
+ * same number of steps moves every wall tile the same number of columns, which
+ * leaves all round one scoring unchanged. Arbitrary color permutations would
+ * not: they change which tiles end up vertically adjacent.
+ * <p>
+ * Entries computed offline by {@link OpeningBookBuilder} are read from a
+ * sorted file of {@code (long key, int move)} pairs that is memory mapped and
+ * binary searched. Moves found by a search during play are remembered in
+ * memory as well, so each opening is searched once per run at most.
+ */
+public final class OpeningBook {
+    public static final String DIRECTORY_PROPERTY = "azul.ai.books";
+    public static final String EXTENSION = ".book";
+
+    static final int MAGIC = 0x415A4F42; // "AZOB"
+    static final int HEADER_BYTES = 8;
+    static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    private static final int FACTORIES = HeadlessGame.FACTORY_COUNT;
+    private static final int FACTORY_SIZE = HeadlessGame.FACTORY_SIZE;
+    private static final int COLORS = Position.COLORS;
+
+    // Four tiles in five colors can fill a factory in 70 ways; COMPOSITIONS lists
+    // their per-color counts and COMPOSITION_INDEX finds one from counts packed
+    // three bits per color
+    private static final int[][] COMPOSITIONS = new int[70][];
+    private static final int[] COMPOSITION_INDEX = new int[1 << 3 * COLORS];
+    // SHIFT[k][color] is the color k columns to the right on every wall row
+    private static final int[][] SHIFT = new int[COLORS][COLORS];
+
+    private static final Map<String, OpeningBook> BOOKS = new ConcurrentHashMap<>();
+
+    static {
+        int count = 0;
+        for (int packed = 0; packed < COMPOSITION_INDEX.length; packed++) {
+            int[] counts = new int[COLORS];
+            int sum = 0;
+            for (int color = 0; color < COLORS; color++) {
+                counts[color] = packed >>> 3 * color & 7;
+                sum += counts[color];
+            }
+            if (sum == FACTORY_SIZE) {
+                COMPOSITIONS[count] = counts;
+                COMPOSITION_INDEX[packed] = count++;
+            } else {
+                COMPOSITION_INDEX[packed] = -1;
+            }
+        }
+
+        int[] colorAtColumn = new int[COLORS];
+        for (int color = 0; color < COLORS; color++) {
+            colorAtColumn[Position.wallColumn(0, color)] = color;
+        }
+        for (int k = 0; k < COLORS; k++) {
+            for (int color = 0; color < COLORS; color++) {
+                SHIFT[k][color] = colorAtColumn[(Position.wallColumn(0, color) + k) % COLORS];
+            }
+        }
+    }
+
+    private final ByteBuffer entries; // null without a book file
+    private final int entryCount;
+    private final Map<Long, Integer> learned = new ConcurrentHashMap<>();
+
+    private OpeningBook(ByteBuffer entries, int entryCount) {
+        this.entries = entries;
+        this.entryCount = entryCount;
+    }
+
+    public static OpeningBook empty() {
+        return new OpeningBook(null, 0);
+    }
+
+    /**
+     * The book of a strategy: {@code <id>.book} in the directory named by the
+     * {@code azul.ai.books} system property when that file exists, otherwise an
+     * empty one that only remembers what is searched during this run.
+     */
+    public static OpeningBook forStrategy(String strategyId) {
+        return BOOKS.computeIfAbsent(strategyId, id -> {
+            String directory = System.getProperty(DIRECTORY_PROPERTY);
+            if (directory != null) {
+                Path path = Path.of(directory, id + EXTENSION);
+                if (Files.exists(path)) {
+                    try {
+                        return open(path);
+                    } catch (IOException e) {
+                        System.err.println("Cannot open opening book " + path + ": " + e.getMessage());
+                    }
+                }
+            }
+            return empty();
+        });
+    }
+
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException(path + " is not an opening book");
+            }
+            int count = buffer.getInt(4);
+            if (HEADER_BYTES + (long) count * ENTRY_BYTES > buffer.limit()) {
+                throw new IOException(path + " is truncated");
+            }
+            return new OpeningBook(buffer, count);
+        }
+    }
+
+    // True for the first position of a game with the standard five factories
+    public static boolean isOpening(Position position) {
+        if (position.factoryCount() != FACTORIES || !position.isTokenInCenter()) return false;
+        for (int p = 0; p < position.playerCount(); p++) {
+            if (position.wall(p) != 0 || position.score(p) != 0 || position.floorCount(p) != 0) return false;
+            for (int line = 0; line < Position.LINES; line++) {
+                if (position.lineCount(p, line) != 0) return false;
+            }
+        }
+        for (int color = 0; color < COLORS; color++) {
+            if (position.centerTiles(color) != 0) return false;
+        }
+        for (int f = 0; f < FACTORIES; f++) {
+            int tiles = 0;
+            for (int color = 0; color < COLORS; color++) {
+                tiles += position.factoryTiles(f, color);
+            }
+            if (tiles != FACTORY_SIZE) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The book move for an opening, or {@link Move#NONE} when the position is
+     * not an opening or the book does not know it.
+     */
+    public int lookup(Position position) {
+        if (!isOpening(position)) return Move.NONE;
+        Canonical canonical = canonicalize(position);
+        int move = find(canonical.key);
+        if (move == Move.NONE) {
+            move = learned.getOrDefault(canonical.key, Move.NONE);
+        }
+        return move == Move.NONE ? Move.NONE : canonical.toActual(move);
+    }
+
+    // Remembers a searched move for an opening; ignored for other positions
+    public void remember(Position position, int move) {
+        if (move == Move.NONE || !isOpening(position)) return;
+        Canonical canonical = canonicalize(position);
+        learned.putIfAbsent(canonical.key, canonical.toCanonical(move));
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    private int find(long key) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long found = entries.getLong(HEADER_BYTES + mid * ENTRY_BYTES);
+            if (found < key) low = mid + 1;
+            else if (found > key) high = mid - 1;
+            else return entries.getInt(HEADER_BYTES + mid * ENTRY_BYTES + Long.BYTES);
+        }
+        return Move.NONE;
+    }
+
+    static int compositionCount() {
+        return COMPOSITIONS.length;
+    }
+
+    // The opening whose factories hold the given compositions
+    static Position opening(int playerCount, int[] compositions) {
+        byte[] tiles = new byte[FACTORIES * COLORS];
+        for (int f = 0; f < FACTORIES; f++) {
+            for (int color = 0; color < COLORS; color++) {
+                tiles[f * COLORS + color] = (byte) COMPOSITIONS[compositions[f]][color];
+            }
+        }
+        return Position.start(playerCount, FACTORIES).withFactories(tiles);
+    }
+
+    // Key of sorted compositions without any color shift
+    static long key(int playerCount, int[] sortedCompositions) {
+        long key = playerCount;
+        for (int composition : sortedCompositions) {
+            key = key * COMPOSITIONS.length + composition;
+        }
+        return key;
+    }
+
+    /**
+     * Key of the opening under its smallest color shift: the player count and
+     * the five factory compositions, sorted, in base 70. Equal keys mean equal
+     * openings up to factory order and color shift.
+     */
+    static Canonical canonicalize(Position position) {
+        int[] order = new int[FACTORIES];
+        int[] indices = new int[FACTORIES];
+        Canonical best = null;
+
+        for (int k = 0; k < COLORS; k++) {
+            for (int f = 0; f < FACTORIES; f++) {
+                int packed = 0;
+                for (int color = 0; color < COLORS; color++) {
+                    packed |= position.factoryTiles(f, color) << 3 * SHIFT[k][color];
+                }
+                indices[f] = COMPOSITION_INDEX[packed];
+                order[f] = f;
+            }
+            // Sort factories by composition; insertion sort over five
+            for (int i = 1; i < FACTORIES; i++) {
+                for (int j = i; j > 0 && indices[order[j - 1]] > indices[order[j]]; j--) {
+                    int swap = order[j];
+                    order[j] = order[j - 1];
+                    order[j - 1] = swap;
+                }
+            }
+            int[] sorted = new int[FACTORIES];
+            for (int slot = 0; slot < FACTORIES; slot++) {
+                sorted[slot] = indices[order[slot]];
+            }
+            long key = key(position.playerCount(), sorted);
+            if (best == null || key < best.key) {
+                best = new Canonical(key, k, order.clone());
+            }
+        }
+        return best;
+    }
+
+    // order[slot] is the actual factory placed at a canonical slot
+    record Canonical(long key, int shift, int[] order) {
+
+        int toCanonical(int move) {
+            int color = SHIFT[shift][Move.color(move)];
+            int source = Move.isFromCenter(move) ? Move.CENTER : slotOf(Move.source(move));
+            return Move.of(source, color, Move.line(move));
+        }
+
+        int toActual(int move) {
+            int color = SHIFT[(COLORS - shift) % COLORS][Move.color(move)];
+            int source = Move.isFromCenter(move) ? Move.CENTER : order[Move.source(move)];
+            return Move.of(source, color, Move.line(move));
+        }
+
+        private int slotOf(int factory) {
+            for (int slot = 0; slot < order.length; slot++) {
+                if (order[slot] == factory) return slot;
+            }
+            throw new IllegalArgumentException("No factory " + factory);
+        }
+    }
+
+    // Writes entries sorted by key in the book file format
+    static void write(Path path, Map<Long, Integer> entries) throws IOException {
+        long[] keys = entries.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + keys.length * ENTRY_BYTES);
+        buffer.putInt(MAGIC).putInt(keys.length);
+        for (long key : keys) {
+            buffer.putLong(key).putInt(entries.get(key));
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    // Every entry of the book file, for merging
+    Map<Long, Integer> entries() {
+        Map<Long, Integer> all = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            all.put(entries.getLong(HEADER_BYTES + i * ENTRY_BYTES),
+                    entries.getInt(HEADER_BYTES + i * ENTRY_BYTES + Long.BYTES));
+        }
+        return all;
+    }
+}
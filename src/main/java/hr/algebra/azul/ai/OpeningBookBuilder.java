@@ -0,0 +1,156 @@
+package hr.algebra.azul.ai;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills an {@link OpeningBook} offline by searching sampled first deals:
+ * <pre>
+ * java -cp Azul.jar hr.algebra.azul.ai.OpeningBookBuilder --strategy alphabeta --players 2 \
+ *         --deals 5000 --time 2000 --seed 1 --threads 4 --out books/alphabeta.book
+ * </pre>
+ * Deals are drawn like {@link HeadlessGame} draws them. Random deals hardly
+ * ever repeat, so {@code --all true} instead walks through every possible
+ * opening, about 3.3 million per player count, and searches the next
+ * {@code --deals} of them the book is missing. An existing book at
+ * {@code --out} is kept and extended; openings it already knows, or that turn
+ * out equal to an earlier deal up to color shift and factory order, are not
+ * searched again.
+ */
+public class OpeningBookBuilder {
+    private final PlayerStrategy strategy;
+    private final SearchBudget budget;
+    private final int threads;
+
+    public OpeningBookBuilder(String strategyId, SearchBudget budget, int threads) {
+        this.strategy = StrategyRegistry.getInstance().get(strategyId);
+        if (strategy.isHuman()) {
+            throw new IllegalArgumentException("A book needs a computer strategy");
+        }
+        this.budget = budget != null ? budget : strategy.defaultBudget();
+        this.threads = threads;
+    }
+
+    // Searches every new opening among sampled deals and adds its move to entries
+    public int extend(Map<Long, Integer> entries, int players, int deals, long seed) throws Exception {
+        Map<Long, Position> openings = new LinkedHashMap<>();
+        for (int deal = 0; deal < deals; deal++) {
+            Position opening = new HeadlessGame(players, seed + deal).getPosition();
+            long key = OpeningBook.canonicalize(opening).key();
+            if (!entries.containsKey(key)) {
+                openings.putIfAbsent(key, opening);
+            }
+        }
+        return search(entries, openings);
+    }
+
+    /**
+     * Searches up to {@code limit} openings the book does not know yet, going
+     * through every possible opening in key order, so repeated runs complete
+     * the book batch by batch.
+     */
+    public int extendAll(Map<Long, Integer> entries, int players, int limit) throws Exception {
+        Map<Long, Position> openings = new LinkedHashMap<>();
+        int compositions = OpeningBook.compositionCount();
+        int[] slots = new int[HeadlessGame.FACTORY_COUNT];
+        while (openings.size() < limit) {
+            Position opening = OpeningBook.opening(players, slots);
+            long key = OpeningBook.canonicalize(opening).key();
+            // Only the representative of each class, which is its own canonical form
+            if (key == OpeningBook.key(players, slots) && !entries.containsKey(key)) {
+                openings.put(key, opening);
+            }
+            if (!nextSorted(slots, compositions)) break;
+        }
+        return search(entries, openings);
+    }
+
+    // Next non-decreasing tuple of composition indices; false after the last
+    private static boolean nextSorted(int[] slots, int compositions) {
+        int i = slots.length - 1;
+        while (i >= 0 && slots[i] == compositions - 1) i--;
+        if (i < 0) return false;
+        slots[i]++;
+        for (int j = i + 1; j < slots.length; j++) slots[j] = slots[i];
+        return true;
+    }
+
+    private int search(Map<Long, Integer> entries, Map<Long, Position> openings) throws Exception {
+        Map<Long, Integer> found = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (Map.Entry<Long, Position> opening : openings.entrySet()) {
+                results.add(executor.submit(() -> {
+                    Position position = opening.getValue();
+                    int move = strategy.chooseMove(position, new SearchContext(budget));
+                    found.put(opening.getKey(), OpeningBook.canonicalize(position).toCanonical(move));
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        entries.putAll(found);
+        return found.size();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String strategy = AlphaBetaStrategy.ID;
+        int players = 2;
+        int deals = 1000;
+        boolean all = false;
+        long timeMillis = -1;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path out = null;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--strategy" -> strategy = value;
+                case "--players" -> players = Integer.parseInt(value);
+                case "--deals" -> deals = Integer.parseInt(value);
+                case "--all" -> all = Boolean.parseBoolean(value);
+                case "--time" -> timeMillis = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--out" -> out = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (out == null) {
+            out = Path.of(strategy + OpeningBook.EXTENSION);
+        }
+
+        Map<Long, Integer> entries = new LinkedHashMap<>();
+        if (Files.exists(out)) {
+            entries.putAll(OpeningBook.open(out).entries());
+            System.out.println("Extending " + out + " with " + entries.size() + " openings");
+        }
+
+        SearchBudget budget = timeMillis >= 0 ? SearchBudget.ofMillis(timeMillis) : null;
+        long start = System.nanoTime();
+        OpeningBookBuilder builder = new OpeningBookBuilder(strategy, budget, threads);
+        int added = all
+                ? builder.extendAll(entries, players, deals)
+                : builder.extend(entries, players, deals, seed);
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        OpeningBook.write(out, entries);
+        System.out.printf("Searched %d new openings in %.1f s, %s now holds %d%n",
+                added, (System.nanoTime() - start) / 1e9, out, entries.size());
+    }
+}
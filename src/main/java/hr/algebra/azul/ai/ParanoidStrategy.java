@@ -0,0 +1,33 @@
+package hr.algebra.azul.ai;
+
+/**
+ * {@link MultiplayerSearch} in paranoid mode on the shared search threads:
+ * all opponents are expected to play against this seat. Meant for three and
+ * four players.
+ */
+public class ParanoidStrategy implements PlayerStrategy {
+    public static final String ID = "paranoid";
+
+    private final MultiplayerSearch search = new MultiplayerSearch(MultiplayerSearch.Mode.PARANOID,
+            new HeuristicEvaluator(), TranspositionTable.engine(), SearchThreads.pool());
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Paranoid";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return SearchBudget.ofMillis(1500);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        return search.search(position, context).move();
+    }
+}
@@ -0,0 +1,47 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Decides the moves for one seat at the table. Strategies are discovered with
+ * {@link java.util.ServiceLoader}, so a new one can be dropped in as a module
+ * or jar that provides this interface, without recompiling the game.
+ * <p>
+ * Implementations need a public no-argument constructor and must be thread
+ * safe: one instance serves every seat and every game that uses it.
+ */
+public interface PlayerStrategy {
+    /**
+     * Stable identifier stored with each player, e.g. {@code "greedy"}.
+     */
+    String id();
+
+    String displayName();
+
+    // Human seats get their moves from the board instead of chooseMove
+    default boolean isHuman() {
+        return false;
+    }
+
+    // Time and node limits for one move unless the caller sets its own
+    SearchBudget defaultBudget();
+
+    /**
+     * Returns the move to play for the player to move in {@code position}, or
+     * {@link Move#NONE} when there is no legal move. Should return promptly
+     * once {@link SearchContext#shouldStop()} is true.
+     */
+    int chooseMove(Position position, SearchContext context);
+
+    // True when ponder does something useful
+    default boolean canPonder() {
+        return false;
+    }
+
+    /**
+     * Searches while another player is to move in {@code position}, until the
+     * context stops, so that the next {@link #chooseMove} given the same
+     * {@link SearchMemory} can start from what was found. Does nothing by
+     * default.
+     */
+    default void ponder(Position position, SearchContext context) {
+    }
+}
@@ -0,0 +1,667 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.models.FloorLine;
+import hr.algebra.azul.models.GameModel;
+import hr.algebra.azul.models.PatternLine;
+import hr.algebra.azul.models.PlacementMask;
+import hr.algebra.azul.models.Player;
+import hr.algebra.azul.models.ScoringSystem;
+import hr.algebra.azul.models.Tile;
+import hr.algebra.azul.models.TileBag;
+import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.models.Wall;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Immutable snapshot of a {@link GameModel} for move search. Everything is
+ * stored as primitive counts: tiles per color in each factory and in the
+ * center, one 25-bit mask per wall and color/count pairs for pattern lines.
+ * The bag is only known by its tile count per color, like a player sees it.
+ * {@link #play(int)} returns a new position and never touches the model, so
+ * snapshots can be searched on any thread.
+ * <p>
+ * Scoring follows the game's own rules in {@link Wall} and {@link FloorLine},
+ * and a round ends as {@link GameModel#processRoundEnd()} ends it: partial
+ * pattern lines carry over and the first player token holder starts next.
+ */
+public final class Position {
+    public static final int COLORS = TileColor.values().length;
+    public static final int LINES = Wall.WALL_SIZE;
+    public static final int FLOOR_SIZE = FloorLine.MAX_TILES;
+    public static final int FACTORY_SIZE = Factory.FACTORY_SIZE;
+    public static final int NO_PLAYER = -1;
+
+    // WALL_COLUMN[row][color] is the wall column of that color in that row
+    private static final int[][] WALL_COLUMN = new int[LINES][COLORS];
+    private static final int[] ROW_MASKS = new int[LINES];
+    private static final int[] COLUMN_MASKS = new int[LINES];
+    private static final int[] COLOR_MASKS = new int[COLORS];
+    private static final int[] FLOOR_PENALTY = new int[FLOOR_SIZE + 1];
+    // LINE_BITS[line] has the legality bit of every color on that line
+    private static final int[] LINE_BITS = new int[LINES];
+
+    static {
+        TileColor[][] pattern = new Wall().initializeWallPattern();
+        for (int row = 0; row < LINES; row++) {
+            for (int col = 0; col < LINES; col++) {
+                int color = pattern[row][col].ordinal();
+                WALL_COLUMN[row][color] = col;
+                ROW_MASKS[row] |= cellBit(row, col);
+                COLUMN_MASKS[col] |= cellBit(row, col);
+                COLOR_MASKS[color] |= cellBit(row, col);
+                LINE_BITS[row] |= PlacementMask.bit(color, row);
+            }
+        }
+        for (int tiles = 1; tiles <= FLOOR_SIZE; tiles++) {
+            FLOOR_PENALTY[tiles] = FLOOR_PENALTY[tiles - 1] + FloorLine.PENALTY_POINTS[tiles - 1];
+        }
+    }
+
+    private final int playerCount;
+    private final int factoryCount;
+    private final byte[] factories;     // factoryCount * COLORS tile counts
+    private final byte[] center;        // COLORS tile counts
+    private final boolean tokenInCenter;
+    private final int tokenHolder;      // player with the first player token, or NO_PLAYER
+    private final int toMove;
+    private final int round;
+    private final int[] scores;
+    private final int[] walls;          // bit (row * 5 + col) set when tiled
+    private final byte[] lineColors;    // playerCount * LINES, -1 when empty
+    private final byte[] lineCounts;
+    private final byte[] floors;        // tiles on the floor line, token included
+    private final byte[] bag;           // COLORS tile counts left in the bag
+    private final int[] legal;          // per player, bit (color * 5 + line) set when canPlace
+
+    private Position(int playerCount, int factoryCount, byte[] factories, byte[] center,
+                     boolean tokenInCenter, int tokenHolder, int toMove, int round, int[] scores,
+                     int[] walls, byte[] lineColors, byte[] lineCounts, byte[] floors, byte[] bag,
+                     int[] legal) {
+        this.playerCount = playerCount;
+        this.factoryCount = factoryCount;
+        this.factories = factories;
+        this.center = center;
+        this.tokenInCenter = tokenInCenter;
+        this.tokenHolder = tokenHolder;
+        this.toMove = toMove;
+        this.round = round;
+        this.scores = scores;
+        this.walls = walls;
+        this.lineColors = lineColors;
+        this.lineCounts = lineCounts;
+        this.floors = floors;
+        this.bag = bag;
+        this.legal = legal;
+    }
+
+    // Copies the model; call it on the thread that owns the model
+    public static Position of(GameModel model) {
+        List<Player> players = model.getPlayers();
+        List<Factory> factoryList = model.getFactories();
+        int playerCount = players.size();
+        int factoryCount = factoryList.size();
+
+        byte[] factories = new byte[factoryCount * COLORS];
+        for (int f = 0; f < factoryCount; f++) {
+            for (Tile tile : factoryList.get(f).getTiles()) {
+                if (tile.getColor() != null) {
+                    factories[f * COLORS + tile.getColor().ordinal()]++;
+                }
+            }
+        }
+
+        byte[] center = new byte[COLORS];
+        boolean tokenInCenter = false;
+        for (Tile tile : model.getCenterPool()) {
+            if (tile.getColor() == null) {
+                tokenInCenter = true;
+            } else {
+                center[tile.getColor().ordinal()]++;
+            }
+        }
+
+        int tokenHolder = NO_PLAYER;
+        int[] scores = new int[playerCount];
+        int[] walls = new int[playerCount];
+        byte[] lineColors = new byte[playerCount * LINES];
+        byte[] lineCounts = new byte[playerCount * LINES];
+        byte[] floors = new byte[playerCount];
+        int[] legal = new int[playerCount];
+
+        for (int p = 0; p < playerCount; p++) {
+            Player player = players.get(p);
+            scores[p] = player.getScore();
+            legal[p] = player.getPlacementMask();
+
+            Wall wall = player.getWall();
+            for (int row = 0; row < LINES; row++) {
+                for (int col = 0; col < LINES; col++) {
+                    if (wall.isTilePlaced(row, col)) {
+                        walls[p] |= cellBit(row, col);
+                    }
+                }
+            }
+
+            for (int line = 0; line < LINES; line++) {
+                PatternLine patternLine = player.getPatternLine(line);
+                TileColor color = patternLine.getColor();
+                lineColors[p * LINES + line] = (byte) (color == null ? -1 : color.ordinal());
+                lineCounts[p * LINES + line] = (byte) patternLine.getTiles().size();
+            }
+
+            floors[p] = (byte) player.getFloorLine().getSize();
+            for (Tile tile : player.getFloorLine().getTiles()) {
+                if (tile.getColor() == null) {
+                    tokenHolder = p;
+                }
+            }
+        }
+
+        byte[] bag = new byte[COLORS];
+        TileBag tileBag = model.getTileBag();
+        for (TileColor color : TileColor.values()) {
+            bag[color.ordinal()] = (byte) tileBag.getRemainingCount(color);
+        }
+
+        return new Position(playerCount, factoryCount, factories, center, tokenInCenter, tokenHolder,
+                players.indexOf(model.getCurrentPlayer()), model.getCurrentRound(),
+                scores, walls, lineColors, lineCounts, floors, bag, legal);
+    }
+
+    // Empty boards and a full bag before the first deal; player 0 moves first
+    public static Position start(int playerCount, int factoryCount) {
+        byte[] lineColors = new byte[playerCount * LINES];
+        Arrays.fill(lineColors, (byte) -1);
+        byte[] bag = new byte[COLORS];
+        Arrays.fill(bag, (byte) TileBag.TILES_PER_COLOR);
+        return new Position(playerCount, factoryCount, new byte[factoryCount * COLORS], new byte[COLORS],
+                true, NO_PLAYER, 0, 1, new int[playerCount], new int[playerCount],
+                lineColors, new byte[playerCount * LINES], new byte[playerCount], bag,
+                legalMasks(playerCount, new int[playerCount], lineColors, new byte[playerCount * LINES]));
+    }
+
+    /**
+     * Returns this position with the factories filled; {@code tiles} holds
+     * factoryCount * COLORS counts. Used at the start of a round.
+     */
+    public Position withFactories(byte[] tiles) {
+        if (tiles.length != factoryCount * COLORS) {
+            throw new IllegalArgumentException("Expected " + factoryCount * COLORS + " factory counts");
+        }
+        return new Position(playerCount, factoryCount, tiles.clone(), center, tokenInCenter, tokenHolder,
+                toMove, round, scores, walls, lineColors, lineCounts, floors, bag, legal);
+    }
+
+    // Returns this position with another player to move
+    Position withToMove(int player) {
+        return new Position(playerCount, factoryCount, factories, center, tokenInCenter, tokenHolder,
+                player, round, scores, walls, lineColors, lineCounts, floors, bag, legal);
+    }
+
+    // Returns this position with the bag holding the given count per color
+    public Position withBag(int[] counts) {
+        if (counts.length != COLORS) {
+            throw new IllegalArgumentException("Expected " + COLORS + " bag counts");
+        }
+        byte[] nextBag = new byte[COLORS];
+        for (int color = 0; color < COLORS; color++) {
+            nextBag[color] = (byte) counts[color];
+        }
+        return new Position(playerCount, factoryCount, factories, center, tokenInCenter, tokenHolder,
+                toMove, round, scores, walls, lineColors, lineCounts, floors, nextBag, legal);
+    }
+
+    /**
+     * Fills the factories with FACTORY_SIZE tiles each drawn from the bag, every
+     * remaining tile equally likely, as a shuffled {@link TileBag} deals them.
+     * The last factories stay short when the bag runs out. Used at the start of
+     * a round, when the factories are empty.
+     */
+    public Position deal(SplittableRandom random) {
+        byte[] nextBag = bag.clone();
+        int remaining = bagSize();
+        byte[] tiles = new byte[factoryCount * COLORS];
+        for (int f = 0; f < factoryCount; f++) {
+            for (int slot = 0; slot < FACTORY_SIZE && remaining > 0; slot++) {
+                int pick = random.nextInt(remaining);
+                int color = 0;
+                while (pick >= nextBag[color]) {
+                    pick -= nextBag[color];
+                    color++;
+                }
+                nextBag[color]--;
+                remaining--;
+                tiles[f * COLORS + color]++;
+            }
+        }
+        return new Position(playerCount, factoryCount, tiles, center, tokenInCenter, tokenHolder,
+                toMove, round, scores, walls, lineColors, lineCounts, floors, nextBag, legal);
+    }
+
+    // Wall geometry
+
+    public static int cellBit(int row, int col) {
+        return 1 << (row * LINES + col);
+    }
+
+    public static int wallColumn(int row, int color) {
+        return WALL_COLUMN[row][color];
+    }
+
+    public static int rowMask(int row) {
+        return ROW_MASKS[row];
+    }
+
+    public static int columnMask(int col) {
+        return COLUMN_MASKS[col];
+    }
+
+    public static int colorMask(int color) {
+        return COLOR_MASKS[color];
+    }
+
+    // Total floor penalty for the given number of floor tiles
+    public static int floorPenalty(int tiles) {
+        return FLOOR_PENALTY[Math.min(tiles, FLOOR_SIZE)];
+    }
+
+    /**
+     * Points for a tile just placed at (row, col); {@code wall} already contains
+     * it. Same rules as {@link ScoringSystem#placementPoints}.
+     */
+    public static int placementPoints(int wall, int row, int col) {
+        boolean horizontal = col > 0 && (wall & cellBit(row, col - 1)) != 0
+                || col < LINES - 1 && (wall & cellBit(row, col + 1)) != 0;
+        boolean vertical = row > 0 && (wall & cellBit(row - 1, col)) != 0
+                || row < LINES - 1 && (wall & cellBit(row + 1, col)) != 0;
+        int points = (horizontal ? 1 : 0) + (vertical ? 1 : 0);
+        return points == 0 ? 1 : points;
+    }
+
+    // End of game bonus: 2 per row, 7 per column and 10 per color, as in ScoringSystem
+    public static int endGameBonus(int wall) {
+        int bonus = 0;
+        for (int i = 0; i < LINES; i++) {
+            if ((wall & ROW_MASKS[i]) == ROW_MASKS[i]) bonus += ScoringSystem.ROW_BONUS;
+            if ((wall & COLUMN_MASKS[i]) == COLUMN_MASKS[i]) bonus += ScoringSystem.COLUMN_BONUS;
+        }
+        for (int color = 0; color < COLORS; color++) {
+            if ((wall & COLOR_MASKS[color]) == COLOR_MASKS[color]) bonus += ScoringSystem.COLOR_BONUS;
+        }
+        return bonus;
+    }
+
+    // Move generation
+
+    public int maxMoves() {
+        return (factoryCount + 1) * COLORS * (LINES + 1);
+    }
+
+    public boolean canPlace(int player, int color, int line) {
+        return (legal[player] & PlacementMask.bit(color, line)) != 0;
+    }
+
+    // Bit color * LINES + line is set when canPlace(player, color, line)
+    public int legalLines(int player) {
+        return legal[player];
+    }
+
+    // Legality from scratch, for positions not reached by play()
+    private static int[] legalMasks(int playerCount, int[] walls, byte[] lineColors, byte[] lineCounts) {
+        int[] masks = new int[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            for (int line = 0; line < LINES; line++) {
+                int index = p * LINES + line;
+                int count = lineCounts[index];
+                for (int color = 0; color < COLORS; color++) {
+                    if ((count == 0 || lineColors[index] == color) && count < line + 1
+                            && (walls[p] & cellBit(line, WALL_COLUMN[line][color])) == 0) {
+                        masks[p] |= PlacementMask.bit(color, line);
+                    }
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Writes the legal moves for the player to move into {@code out} and returns
+     * how many there are. Every source and color can also go straight to the
+     * floor, as on the board; searches try those moves last.
+     */
+    public int generateMoves(int[] out) {
+        int legal = this.legal[toMove];
+        int count = 0;
+        for (int source = 0; source <= factoryCount; source++) {
+            boolean fromCenter = source == factoryCount;
+            for (int color = 0; color < COLORS; color++) {
+                int tiles = fromCenter ? center[color] : factories[source * COLORS + color];
+                if (tiles == 0) continue;
+
+                int encodedSource = fromCenter ? Move.CENTER : source;
+                int lines = legal >>> color * LINES & (1 << LINES) - 1;
+                out[count++] = Move.of(encodedSource, color, Move.FLOOR);
+                for (; lines != 0; lines &= lines - 1) {
+                    out[count++] = Move.of(encodedSource, color, Integer.numberOfTrailingZeros(lines));
+                }
+            }
+        }
+        return count;
+    }
+
+    public int[] legalMoves() {
+        int[] buffer = new int[maxMoves()];
+        return Arrays.copyOf(buffer, generateMoves(buffer));
+    }
+
+    // Number of tiles the move picks up
+    public int tilesTaken(int move) {
+        int color = Move.color(move);
+        return Move.isFromCenter(move) ? center[color] : factories[Move.source(move) * COLORS + color];
+    }
+
+    public Position play(int move) {
+        int source = Move.source(move);
+        int color = Move.color(move);
+        int line = Move.line(move);
+
+        byte[] nextFactories = factories;
+        byte[] nextCenter = center.clone();
+        byte[] nextFloors = floors.clone();
+        boolean nextTokenInCenter = tokenInCenter;
+        int nextTokenHolder = tokenHolder;
+        int taken;
+
+        if (source == Move.CENTER) {
+            taken = nextCenter[color];
+            nextCenter[color] = 0;
+            if (tokenInCenter) {
+                nextTokenInCenter = false;
+                nextTokenHolder = toMove;
+                nextFloors[toMove]++;
+            }
+        } else {
+            nextFactories = factories.clone();
+            int base = source * COLORS;
+            taken = nextFactories[base + color];
+            for (int c = 0; c < COLORS; c++) {
+                if (c != color) {
+                    nextCenter[c] = (byte) (nextCenter[c] + nextFactories[base + c]);
+                }
+                nextFactories[base + c] = 0;
+            }
+        }
+
+        byte[] nextLineColors = lineColors;
+        byte[] nextLineCounts = lineCounts;
+        int[] nextLegal = legal;
+        int overflow = taken;
+        if (line != Move.FLOOR) {
+            nextLineColors = lineColors.clone();
+            nextLineCounts = lineCounts.clone();
+            int index = toMove * LINES + line;
+            int placed = Math.min(line + 1 - nextLineCounts[index], taken);
+            nextLineCounts[index] = (byte) (nextLineCounts[index] + placed);
+            nextLineColors[index] = (byte) color;
+            overflow = taken - placed;
+
+            // Only this line changes: it keeps the color until it is full
+            nextLegal = legal.clone();
+            nextLegal[toMove] &= ~LINE_BITS[line];
+            if (nextLineCounts[index] < line + 1) {
+                nextLegal[toMove] |= PlacementMask.bit(color, line);
+            }
+        }
+        nextFloors[toMove] = (byte) Math.min(FLOOR_SIZE, nextFloors[toMove] + overflow);
+
+        return new Position(playerCount, factoryCount, nextFactories, nextCenter, nextTokenInCenter,
+                nextTokenHolder, (toMove + 1) % playerCount, round, scores, walls,
+                nextLineColors, nextLineCounts, nextFloors, bag, nextLegal);
+    }
+
+    // Round end
+
+    public boolean isRoundOver() {
+        for (byte tiles : factories) {
+            if (tiles != 0) return false;
+        }
+        for (byte tiles : center) {
+            if (tiles != 0) return false;
+        }
+        return true;
+    }
+
+    // Points the player would get if the round were scored now
+    public int roundScoreDelta(int player) {
+        int wall = walls[player];
+        int points = 0;
+        for (int line = 0; line < LINES; line++) {
+            int index = player * LINES + line;
+            if (lineCounts[index] == line + 1) {
+                int col = WALL_COLUMN[line][lineColors[index]];
+                wall |= cellBit(line, col);
+                points += placementPoints(wall, line, col);
+            }
+        }
+        return points + floorPenalty(floors[player]);
+    }
+
+    // The player's wall with every full pattern line tiled, as scoreRound() leaves it
+    public int tiledWall(int player) {
+        int wall = walls[player];
+        for (int line = 0; line < LINES; line++) {
+            int index = player * LINES + line;
+            if (lineCounts[index] == line + 1) {
+                wall |= cellBit(line, WALL_COLUMN[line][lineColors[index]]);
+            }
+        }
+        return wall;
+    }
+
+    /**
+     * Tiles full pattern lines, applies floor penalties and starts the next round
+     * with empty factories; the player holding the first player token moves first.
+     */
+    public Position scoreRound() {
+        int[] nextScores = scores.clone();
+        int[] nextWalls = walls.clone();
+        byte[] nextLineColors = lineColors.clone();
+        byte[] nextLineCounts = lineCounts.clone();
+
+        for (int p = 0; p < playerCount; p++) {
+            nextScores[p] += roundScoreDelta(p);
+            for (int line = 0; line < LINES; line++) {
+                int index = p * LINES + line;
+                if (nextLineCounts[index] == line + 1) {
+                    nextWalls[p] |= cellBit(line, WALL_COLUMN[line][nextLineColors[index]]);
+                    nextLineCounts[index] = 0;
+                    nextLineColors[index] = -1;
+                }
+            }
+        }
+
+        return new Position(playerCount, factoryCount, new byte[factoryCount * COLORS], new byte[COLORS],
+                true, NO_PLAYER, tokenHolder != NO_PLAYER ? tokenHolder : toMove, round + 1,
+                nextScores, nextWalls, nextLineColors, nextLineCounts, new byte[playerCount], bag,
+                legalMasks(playerCount, nextWalls, nextLineColors, nextLineCounts));
+    }
+
+    // True once a player has completed a horizontal row
+    public boolean isGameOver() {
+        for (int wall : walls) {
+            for (int row = 0; row < LINES; row++) {
+                if ((wall & ROW_MASKS[row]) == ROW_MASKS[row]) return true;
+            }
+        }
+        return false;
+    }
+
+    public int finalScore(int player) {
+        return scores[player] + endGameBonus(walls[player]);
+    }
+
+    // Serialization, for recorded games
+
+    void write(DataOutput out) throws IOException {
+        out.writeByte(playerCount);
+        out.writeByte(factoryCount);
+        out.write(factories);
+        out.write(center);
+        out.writeBoolean(tokenInCenter);
+        out.writeByte(tokenHolder);
+        out.writeByte(toMove);
+        out.writeByte(round);
+        for (int p = 0; p < playerCount; p++) {
+            out.writeShort(scores[p]);
+            out.writeInt(walls[p]);
+        }
+        out.write(lineColors);
+        out.write(lineCounts);
+        out.write(floors);
+        out.write(bag);
+    }
+
+    static Position read(DataInput in) throws IOException {
+        int playerCount = in.readByte();
+        int factoryCount = in.readByte();
+        byte[] factories = readBytes(in, factoryCount * COLORS);
+        byte[] center = readBytes(in, COLORS);
+        boolean tokenInCenter = in.readBoolean();
+        int tokenHolder = in.readByte();
+        int toMove = in.readByte();
+        int round = in.readByte();
+        int[] scores = new int[playerCount];
+        int[] walls = new int[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            scores[p] = in.readShort();
+            walls[p] = in.readInt();
+        }
+        byte[] lineColors = readBytes(in, playerCount * LINES);
+        byte[] lineCounts = readBytes(in, playerCount * LINES);
+        byte[] floors = readBytes(in, playerCount);
+        byte[] bag = readBytes(in, COLORS);
+        return new Position(playerCount, factoryCount, factories, center, tokenInCenter, tokenHolder,
+                toMove, round, scores, walls, lineColors, lineCounts, floors, bag,
+                legalMasks(playerCount, walls, lineColors, lineCounts));
+    }
+
+    private static byte[] readBytes(DataInput in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    // Accessors
+
+    public int playerCount() {
+        return playerCount;
+    }
+
+    public int factoryCount() {
+        return factoryCount;
+    }
+
+    public int factoryTiles(int factory, int color) {
+        return factories[factory * COLORS + color];
+    }
+
+    public int centerTiles(int color) {
+        return center[color];
+    }
+
+    public boolean isTokenInCenter() {
+        return tokenInCenter;
+    }
+
+    public int tokenHolder() {
+        return tokenHolder;
+    }
+
+    public int toMove() {
+        return toMove;
+    }
+
+    public int round() {
+        return round;
+    }
+
+    public int score(int player) {
+        return scores[player];
+    }
+
+    public int wall(int player) {
+        return walls[player];
+    }
+
+    // Color ordinal on the line, or -1 when empty
+    public int lineColor(int player, int line) {
+        return lineColors[player * LINES + line];
+    }
+
+    public int lineCount(int player, int line) {
+        return lineCounts[player * LINES + line];
+    }
+
+    public int floorCount(int player) {
+        return floors[player];
+    }
+
+    // Tiles of the color left in the bag
+    public int bagTiles(int color) {
+        return bag[color];
+    }
+
+    public int bagSize() {
+        int size = 0;
+        for (byte tiles : bag) size += tiles;
+        return size;
+    }
+
+    // Same tiles everywhere, same scores and the same player to move
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Position other)) return false;
+        return playerCount == other.playerCount && factoryCount == other.factoryCount
+                && tokenInCenter == other.tokenInCenter && tokenHolder == other.tokenHolder
+                && toMove == other.toMove && round == other.round
+                && Arrays.equals(factories, other.factories) && Arrays.equals(center, other.center)
+                && Arrays.equals(scores, other.scores) && Arrays.equals(walls, other.walls)
+                && Arrays.equals(lineColors, other.lineColors) && Arrays.equals(lineCounts, other.lineCounts)
+                && Arrays.equals(floors, other.floors) && Arrays.equals(bag, other.bag);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(factories);
+        hash = 31 * hash + Arrays.hashCode(center);
+        hash = 31 * hash + Arrays.hashCode(walls);
+        hash = 31 * hash + Arrays.hashCode(lineCounts);
+        hash = 31 * hash + Arrays.hashCode(floors);
+        return 31 * hash + toMove;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Round ").append(round).append(", player ").append(toMove + 1).append(" to move\n");
+        for (int f = 0; f < factoryCount; f++) {
+            sb.append("F").append(f + 1).append(Arrays.toString(Arrays.copyOfRange(factories, f * COLORS, (f + 1) * COLORS))).append(' ');
+        }
+        sb.append("C").append(Arrays.toString(center)).append(tokenInCenter ? " +token" : "")
+                .append(" bag ").append(Arrays.toString(bag)).append('\n');
+        for (int p = 0; p < playerCount; p++) {
+            sb.append("P").append(p + 1).append(" score ").append(scores[p])
+                    .append(" wall ").append(Integer.toBinaryString(walls[p]))
+                    .append(" floor ").append(floors[p]).append('\n');
+        }
+        return sb.toString();
+    }
+}
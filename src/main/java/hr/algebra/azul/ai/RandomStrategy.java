@@ -0,0 +1,31 @@
+package hr.algebra.azul.ai;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Uniformly random legal move; the weakest baseline
+public class RandomStrategy implements PlayerStrategy {
+    public static final String ID = "random";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public String displayName() {
+        return "Random";
+    }
+
+    @Override
+    public SearchBudget defaultBudget() {
+        return new SearchBudget(10, 1);
+    }
+
+    @Override
+    public int chooseMove(Position position, SearchContext context) {
+        int[] moves = new int[position.maxMoves()];
+        int count = position.generateMoves(moves);
+        context.countNode();
+        return count == 0 ? Move.NONE : moves[ThreadLocalRandom.current().nextInt(count)];
+    }
+}
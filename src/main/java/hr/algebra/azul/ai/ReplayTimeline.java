@@ -0,0 +1,98 @@
+package hr.algebra.azul.ai;
+
+import java.util.List;
+
+/**
+ * Random access to every position of a {@link GameRecord}. Step 0 is the
+ * first position; each later step is one move or the start of a new segment.
+ * Positions are not all kept: one is stored every {@link #CHECKPOINT_INTERVAL}
+ * steps and at every segment start, and any other step is rebuilt from the
+ * nearest checkpoint before it with a few {@link Position#play(int)} calls.
+ * Stepping forward one move from the last position asked for is a single play.
+ * Not thread safe; use it from one thread.
+ */
+public class ReplayTimeline {
+    public static final int CHECKPOINT_INTERVAL = 8;
+
+    private final GameRecord record;
+    private final int size;
+    // Per step: the move that led to it, or Move.NONE at a segment start
+    private final int[] moves;
+    private final Position[] checkpoints;
+
+    private int lastStep = -1;
+    private Position lastPosition;
+
+    public ReplayTimeline(GameRecord record) {
+        this.record = record;
+        List<GameRecord.Segment> segments = record.getSegments();
+        int steps = 0;
+        for (GameRecord.Segment segment : segments) {
+            steps += 1 + segment.moves().length;
+        }
+        this.size = steps;
+        this.moves = new int[size];
+        this.checkpoints = new Position[size];
+
+        int step = 0;
+        for (GameRecord.Segment segment : segments) {
+            Position position = segment.start();
+            moves[step] = Move.NONE;
+            checkpoints[step++] = position;
+            int sinceCheckpoint = 0;
+            for (int move : segment.moves()) {
+                position = position.play(move);
+                moves[step] = move;
+                if (++sinceCheckpoint == CHECKPOINT_INTERVAL) {
+                    checkpoints[step] = position;
+                    sinceCheckpoint = 0;
+                }
+                step++;
+            }
+        }
+    }
+
+    public GameRecord getRecord() {
+        return record;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // The move that led to the step, or Move.NONE when the step starts a segment
+    public int moveAt(int step) {
+        return moves[step];
+    }
+
+    // Who played the move that led to the step, or Position.NO_PLAYER
+    public int moverAt(int step) {
+        if (moves[step] == Move.NONE) return Position.NO_PLAYER;
+        Position position = positionAt(step);
+        return (position.toMove() + position.playerCount() - 1) % position.playerCount();
+    }
+
+    public Position positionAt(int step) {
+        if (step < 0 || step >= size) {
+            throw new IndexOutOfBoundsException("Step " + step + " of " + size);
+        }
+        if (step == lastStep) return lastPosition;
+
+        Position position;
+        if (checkpoints[step] != null) {
+            position = checkpoints[step];
+        } else if (step == lastStep + 1) {
+            position = lastPosition.play(moves[step]);
+        } else {
+            int from = step;
+            while (checkpoints[from] == null) from--;
+            position = checkpoints[from];
+            for (int s = from + 1; s <= step; s++) {
+                position = position.play(moves[s]);
+            }
+        }
+        lastStep = step;
+        lastPosition = position;
+        return position;
+    }
+}
@@ -0,0 +1,71 @@
+package hr.algebra.azul.ai;
+
+import java.util.Arrays;
+
+/**
+ * Plain loop {@link BatchEvaluator}, used when the vector module is missing.
+ * The inner loops run over positions, along the feature columns of the
+ * batch, which the JIT can often vectorize on its own. It also finishes the
+ * positions that do not fill a whole vector in the SIMD version.
+ */
+final class ScalarBatchEvaluator implements BatchEvaluator {
+    private final int features;
+    private final int hidden;
+    private final float[] parameters;
+    // Hidden unit sums, one per position; grows to the largest batch a thread has seen
+    private final ThreadLocal<float[]> scratch = ThreadLocal.withInitial(() -> new float[0]);
+
+    ScalarBatchEvaluator(EvalModel model) {
+        this.features = model.getFeatures();
+        this.hidden = model.getHidden();
+        this.parameters = model.parameters();
+    }
+
+    @Override
+    public void evaluate(EvalBatch batch, float[] out) {
+        evaluate(batch, out, 0);
+    }
+
+    // Evaluates the positions from index first to the end of the batch
+    void evaluate(EvalBatch batch, float[] out, int first) {
+        int end = batch.size();
+        if (hidden == 0) {
+            dot(batch, 0, parameters[features], out, first, end);
+            return;
+        }
+
+        int output = hidden * features + hidden;
+        float[] activations = activations(end);
+        Arrays.fill(out, first, end, parameters[output + hidden]);
+        for (int h = 0; h < hidden; h++) {
+            dot(batch, h * features, parameters[hidden * features + h], activations, first, end);
+            float weight = parameters[output + h];
+            for (int i = first; i < end; i++) {
+                out[i] += weight * Math.max(0f, activations[i]);
+            }
+        }
+    }
+
+    private float[] activations(int size) {
+        float[] buffer = scratch.get();
+        if (buffer.length < size) {
+            buffer = new float[size];
+            scratch.set(buffer);
+        }
+        return buffer;
+    }
+
+    // sums[i] = bias plus the weights from the given offset times the features of position i
+    private void dot(EvalBatch batch, int weights, float bias, float[] sums, int first, int end) {
+        float[] x = batch.columns();
+        int stride = batch.capacity();
+        Arrays.fill(sums, first, end, bias);
+        for (int f = 0; f < features; f++) {
+            float weight = parameters[weights + f];
+            int column = f * stride;
+            for (int i = first; i < end; i++) {
+                sums[i] += weight * x[column + i];
+            }
+        }
+    }
+}
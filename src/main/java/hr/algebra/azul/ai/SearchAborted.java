@@ -0,0 +1,11 @@
+package hr.algebra.azul.ai;
+
+// Thrown to unwind a search once its context says stop; carries no stack trace
+final class SearchAborted extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+    static final SearchAborted INSTANCE = new SearchAborted();
+
+    private SearchAborted() {
+        super(null, null, false, false);
+    }
+}
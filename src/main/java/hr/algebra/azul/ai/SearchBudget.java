@@ -0,0 +1,21 @@
+package hr.algebra.azul.ai;
+
+/**
+ * How much a strategy may spend on one move: wall-clock time and searched
+ * nodes, whichever runs out first.
+ */
+public record SearchBudget(long timeMillis, long maxNodes) {
+    public static final long UNLIMITED_NODES = Long.MAX_VALUE;
+
+    public static SearchBudget ofMillis(long timeMillis) {
+        return new SearchBudget(timeMillis, UNLIMITED_NODES);
+    }
+
+    public SearchBudget withTimeMillis(long timeMillis) {
+        return new SearchBudget(timeMillis, maxNodes);
+    }
+
+    public SearchBudget withMaxNodes(long maxNodes) {
+        return new SearchBudget(timeMillis, maxNodes);
+    }
+}
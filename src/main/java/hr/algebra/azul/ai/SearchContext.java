@@ -0,0 +1,113 @@
+package hr.algebra.azul.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Limits and cancellation for one search. The search polls
+ * {@link #shouldStop()} cooperatively; {@link #cancel()} may be called from
+ * any thread.
+ */
+public class SearchContext {
+    private final long start;
+    private final long deadline;
+    private final long maxNodes;
+    private final DoubleConsumer progressListener;
+    private final SearchContext parent; // set for a share of another search
+    private final SearchMemory memory;  // null when nothing is kept between searches
+    private final LongAdder nodes = new LongAdder();
+    private volatile boolean cancelled;
+
+    public SearchContext(SearchBudget budget, DoubleConsumer progressListener, SearchMemory memory) {
+        this.start = System.nanoTime();
+        this.deadline = start + budget.timeMillis() * 1_000_000L;
+        this.maxNodes = budget.maxNodes();
+        this.progressListener = progressListener;
+        this.parent = null;
+        this.memory = memory;
+    }
+
+    public SearchContext(SearchBudget budget, DoubleConsumer progressListener) {
+        this(budget, progressListener, null);
+    }
+
+    private SearchContext(SearchContext parent, long start, long deadline, long maxNodes) {
+        this.start = start;
+        this.deadline = deadline;
+        this.maxNodes = maxNodes;
+        this.progressListener = parent.progressListener;
+        this.parent = parent;
+        this.memory = null;
+    }
+
+    public SearchContext(SearchBudget budget) {
+        this(budget, progress -> { });
+    }
+
+    public SearchContext(long timeMillis, DoubleConsumer progressListener) {
+        this(SearchBudget.ofMillis(timeMillis), progressListener);
+    }
+
+    public SearchContext(long timeMillis) {
+        this(SearchBudget.ofMillis(timeMillis));
+    }
+
+    /**
+     * A context for one part of this search, limited to {@code fraction} of the
+     * time and nodes left. It also stops when this context stops, and the nodes
+     * it visits count here too.
+     */
+    public SearchContext share(double fraction) {
+        long now = System.nanoTime();
+        long shareDeadline = now + (long) (Math.max(0, deadline - now) * fraction);
+        long shareNodes = maxNodes == SearchBudget.UNLIMITED_NODES
+                ? SearchBudget.UNLIMITED_NODES
+                : (long) (Math.max(0, maxNodes - getNodes()) * fraction);
+        return new SearchContext(this, now, shareDeadline, shareNodes);
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isTimeUp() {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    public boolean isOutOfNodes() {
+        return maxNodes != SearchBudget.UNLIMITED_NODES && nodes.sum() >= maxNodes;
+    }
+
+    // Share of the time budget used so far, between 0 and 1
+    public double timeUsed() {
+        long total = deadline - start;
+        return total <= 0 ? 1.0 : Math.min(1.0, (double) (System.nanoTime() - start) / total);
+    }
+
+    public boolean shouldStop() {
+        return cancelled || isTimeUp() || isOutOfNodes() || parent != null && parent.shouldStop();
+    }
+
+    public void countNode() {
+        nodes.increment();
+        if (parent != null) parent.countNode();
+    }
+
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    // The seat's memory from earlier searches, or null
+    public SearchMemory getMemory() {
+        return memory;
+    }
+
+    // Progress between 0 and 1, reported from a search thread
+    public void reportProgress(double progress) {
+        progressListener.accept(progress);
+    }
+}
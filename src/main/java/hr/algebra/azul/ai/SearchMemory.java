@@ -0,0 +1,24 @@
+package hr.algebra.azul.ai;
+
+/**
+ * What a strategy keeps between the searches of one seat in one game, such as
+ * the tree it can continue from after the other players have moved. Pass the
+ * same memory with every {@link SearchContext} for that seat; strategies
+ * without such state ignore it.
+ */
+public final class SearchMemory {
+    private volatile Object state;
+
+    Object state() {
+        return state;
+    }
+
+    void keep(Object state) {
+        this.state = state;
+    }
+
+    // Forgets everything, e.g. when a new game starts
+    public void clear() {
+        state = null;
+    }
+}
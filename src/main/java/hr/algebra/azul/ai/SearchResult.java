@@ -0,0 +1,13 @@
+package hr.algebra.azul.ai;
+
+/**
+ * Outcome of a search: the chosen move, its value for the searching player,
+ * the deepest completed iteration and the number of nodes visited.
+ */
+public record SearchResult(int move, double value, int depth, long nodes) {
+
+    @Override
+    public String toString() {
+        return String.format("%s (value %.2f, depth %d, %d nodes)", Move.toString(move), value, depth, nodes);
+    }
+}
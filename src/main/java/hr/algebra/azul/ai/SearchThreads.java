@@ -0,0 +1,37 @@
+package hr.algebra.azul.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Worker pools of the searches. Threads are daemons and run at low priority
+ * so the FX and render threads stay ahead of them. The computer players share
+ * {@link #pool()}; background analysis gets {@link #analysisPool()}, with half
+ * the threads, so it never queues in front of a computer player's move.
+ */
+public final class SearchThreads {
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+    private static final ForkJoinPool POOL = newPool("search-", PROCESSORS);
+    private static final ForkJoinPool ANALYSIS_POOL = newPool("analysis-", Math.max(1, PROCESSORS / 2));
+
+    private SearchThreads() {
+    }
+
+    public static ForkJoinPool pool() {
+        return POOL;
+    }
+
+    public static ForkJoinPool analysisPool() {
+        return ANALYSIS_POOL;
+    }
+
+    private static ForkJoinPool newPool(String name, int threads) {
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + thread.getPoolIndex());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }, null, false);
+    }
+}
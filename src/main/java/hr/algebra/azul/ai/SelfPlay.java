@@ -0,0 +1,106 @@
+package hr.algebra.azul.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates {@link TrainingSet}s from headless games of one strategy against
+ * itself. Every seat plays a random legal move with probability
+ * {@code epsilon} so the games do not all look alike. A few positions of each
+ * game are kept, including round ends as the search evaluates them, and each
+ * one becomes a sample per player labelled with the game's final margin.
+ */
+public class SelfPlay {
+    private final PlayerStrategy strategy;
+    private final int playerCount;
+    private final double epsilon;
+    private final SearchBudget budget;
+    private final int positionsPerGame;
+
+    public SelfPlay(String strategyId, int playerCount, double epsilon, SearchBudget budget, int positionsPerGame) {
+        this.strategy = StrategyRegistry.getInstance().get(strategyId);
+        if (strategy.isHuman()) {
+            throw new IllegalArgumentException("Self-play needs a computer strategy");
+        }
+        this.playerCount = playerCount;
+        this.epsilon = epsilon;
+        this.budget = budget != null ? budget : strategy.defaultBudget();
+        this.positionsPerGame = positionsPerGame;
+    }
+
+    // Plays the games on a pool of threads; the result does not depend on the thread count
+    public TrainingSet generate(int games, long seed, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<TrainingSet>> results = new ArrayList<>();
+            for (int game = 0; game < games; game++) {
+                long gameSeed = seed + game;
+                results.add(executor.submit(() -> playGame(gameSeed)));
+            }
+            List<TrainingSet> parts = new ArrayList<>();
+            for (Future<TrainingSet> result : results) {
+                parts.add(result.get());
+            }
+            return TrainingSet.concat(EvalFeatures.COUNT, parts);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    TrainingSet playGame(long seed) {
+        HeadlessGame game = new HeadlessGame(playerCount, seed);
+        SplittableRandom random = new SplittableRandom(~seed);
+        List<Position> seen = new ArrayList<>();
+
+        while (!game.isOver()) {
+            Position position = game.getPosition();
+            seen.add(position);
+
+            int move;
+            if (random.nextDouble() < epsilon) {
+                int[] moves = position.legalMoves();
+                move = moves[random.nextInt(moves.length)];
+            } else {
+                move = strategy.chooseMove(position, new SearchContext(budget));
+            }
+
+            Position next = position.play(move);
+            if (next.isRoundOver()) {
+                Position scored = next.scoreRound();
+                if (!scored.isGameOver()) seen.add(scored);
+            }
+            game.play(move);
+        }
+
+        int[] finalScores = new int[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            finalScores[p] = game.finalScore(p);
+        }
+
+        TrainingSet samples = new TrainingSet(EvalFeatures.COUNT);
+        float[] own = new float[EvalFeatures.COUNT];
+        float[] opponent = new float[EvalFeatures.COUNT];
+        for (int i = 0; i < positionsPerGame && !seen.isEmpty(); i++) {
+            Position position = seen.remove(random.nextInt(seen.size()));
+            for (int p = 0; p < playerCount; p++) {
+                int rival = strongestOpponent(finalScores, p);
+                EvalFeatures.extract(position, p, own, 0);
+                EvalFeatures.extract(position, rival, opponent, 0);
+                samples.add(own, opponent, finalScores[p] - finalScores[rival]);
+            }
+        }
+        return samples;
+    }
+
+    private static int strongestOpponent(int[] scores, int player) {
+        int best = -1;
+        for (int p = 0; p < scores.length; p++) {
+            if (p != player && (best < 0 || scores[p] > scores[best])) best = p;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,55 @@
+package hr.algebra.azul.ai;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Every {@link PlayerStrategy} found through {@link ServiceLoader}, by id.
+ * Strategies are loaded once; the first provider of an id wins.
+ */
+public class StrategyRegistry {
+    // Used when a seat is given to the computer without naming a strategy
+    public static final String DEFAULT_COMPUTER = AlphaBetaStrategy.ID;
+
+    private static StrategyRegistry instance;
+    private final Map<String, PlayerStrategy> strategies = new LinkedHashMap<>();
+
+    private StrategyRegistry() {
+        for (PlayerStrategy strategy : ServiceLoader.load(PlayerStrategy.class, PlayerStrategy.class.getClassLoader())) {
+            strategies.putIfAbsent(strategy.id(), strategy);
+        }
+        // Built-in seats must work even when the service configuration is missing
+        strategies.putIfAbsent(HumanStrategy.ID, new HumanStrategy());
+        strategies.putIfAbsent(AlphaBetaStrategy.ID, new AlphaBetaStrategy());
+    }
+
+    public static synchronized StrategyRegistry getInstance() {
+        if (instance == null) {
+            instance = new StrategyRegistry();
+        }
+        return instance;
+    }
+
+    public PlayerStrategy get(String id) {
+        PlayerStrategy strategy = strategies.get(id);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown player strategy: " + id + ", known: " + strategies.keySet());
+        }
+        return strategy;
+    }
+
+    public boolean contains(String id) {
+        return strategies.containsKey(id);
+    }
+
+    public List<PlayerStrategy> getAll() {
+        return new ArrayList<>(strategies.values());
+    }
+
+    public List<String> getIds() {
+        return new ArrayList<>(strategies.keySet());
+    }
+}
@@ -0,0 +1,170 @@
+package hr.algebra.azul.ai;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays strategies against each other without the UI:
+ * <pre>
+ * java -cp Azul.jar hr.algebra.azul.ai.Tournament --players greedy,alphabeta --games 200 \
+ *         --time 200 --nodes 50000 --seed 1 --threads 4
+ * </pre>
+ * One strategy id per seat. Seats rotate every game so nobody keeps the first
+ * move. {@code --time} and {@code --nodes} override each strategy's own budget.
+ */
+public class Tournament {
+    private final List<PlayerStrategy> seats;
+    private final SearchBudget budget;
+    private final int games;
+    private final long seed;
+    private final int threads;
+
+    // Results for one strategy over the whole tournament
+    public static class Standing {
+        private double wins;
+        private long totalScore;
+        private int games;
+        private long moves;
+        private long thinkNanos;
+
+        private synchronized void add(double win, int score, long moveCount, long nanos) {
+            wins += win;
+            totalScore += score;
+            games++;
+            moves += moveCount;
+            thinkNanos += nanos;
+        }
+
+        public synchronized double getWins() {
+            return wins;
+        }
+
+        public synchronized double getAverageScore() {
+            return games == 0 ? 0 : (double) totalScore / games;
+        }
+
+        public synchronized double getAverageMoveMillis() {
+            return moves == 0 ? 0 : thinkNanos / 1e6 / moves;
+        }
+
+        public synchronized int getGames() {
+            return games;
+        }
+    }
+
+    /**
+     * @param budget per-move budget for every seat, or null to use each
+     *               strategy's default
+     */
+    public Tournament(List<String> strategyIds, int games, SearchBudget budget, long seed, int threads) {
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+        this.seats = new ArrayList<>();
+        for (String id : strategyIds) {
+            PlayerStrategy strategy = registry.get(id);
+            if (strategy.isHuman()) {
+                throw new IllegalArgumentException("A tournament cannot seat a human player");
+            }
+            seats.add(strategy);
+        }
+        this.budget = budget;
+        this.games = games;
+        this.seed = seed;
+        this.threads = threads;
+    }
+
+    public Map<String, Standing> run() throws Exception {
+        Map<String, Standing> standings = new LinkedHashMap<>();
+        for (PlayerStrategy strategy : seats) {
+            standings.putIfAbsent(strategy.id(), new Standing());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int game = 0; game < games; game++) {
+                final int gameIndex = game;
+                results.add(executor.submit(() -> playGame(gameIndex, standings)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return standings;
+    }
+
+    private void playGame(int gameIndex, Map<String, Standing> standings) {
+        int players = seats.size();
+        PlayerStrategy[] order = new PlayerStrategy[players];
+        for (int p = 0; p < players; p++) {
+            order[p] = seats.get((p + gameIndex) % players);
+        }
+
+        HeadlessGame game = new HeadlessGame(players, seed + gameIndex);
+        long[] moves = new long[players];
+        long[] nanos = new long[players];
+        while (!game.isOver()) {
+            Position position = game.getPosition();
+            int player = position.toMove();
+            PlayerStrategy strategy = order[player];
+            SearchContext context = new SearchContext(budget != null ? budget : strategy.defaultBudget());
+
+            long start = System.nanoTime();
+            int move = strategy.chooseMove(position, context);
+            nanos[player] += System.nanoTime() - start;
+            moves[player]++;
+
+            if (move == Move.NONE) {
+                throw new IllegalStateException(strategy.id() + " returned no move in\n" + position);
+            }
+            game.play(move);
+        }
+
+        int winner = game.winner();
+        for (int p = 0; p < players; p++) {
+            double win = winner == p ? 1 : 0;
+            standings.get(order[p].id()).add(win, game.finalScore(p), moves[p], nanos[p]);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> players = List.of(GreedyStrategy.ID, AlphaBetaStrategy.ID);
+        int games = 100;
+        long timeMillis = -1;
+        long maxNodes = SearchBudget.UNLIMITED_NODES;
+        long seed = System.nanoTime();
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--players" -> players = List.of(value.split(","));
+                case "--games" -> games = Integer.parseInt(value);
+                case "--time" -> timeMillis = Long.parseLong(value);
+                case "--nodes" -> maxNodes = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--threads" -> threads = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        SearchBudget budget = null;
+        if (timeMillis >= 0 || maxNodes != SearchBudget.UNLIMITED_NODES) {
+            budget = new SearchBudget(timeMillis >= 0 ? timeMillis : Long.MAX_VALUE / 2_000_000L, maxNodes);
+        }
+
+        System.out.println("Strategies: " + StrategyRegistry.getInstance().getIds());
+        Map<String, Standing> standings = new Tournament(players, games, budget, seed, threads).run();
+
+        System.out.printf("%-12s %8s %8s %10s %10s%n", "Strategy", "Games", "Wins", "Avg score", "ms/move");
+        standings.forEach((id, standing) -> System.out.printf("%-12s %8d %8.1f %10.1f %10.2f%n",
+                id, standing.getGames(), standing.getWins(), standing.getAverageScore(),
+                standing.getAverageMoveMillis()));
+    }
+}
@@ -0,0 +1,122 @@
+package hr.algebra.azul.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Samples for {@link EvalTrainer}, in flat float arrays: the
+ * {@link EvalFeatures} of a player and of its strongest opponent, and the final
+ * score margin between the two that the game ended with.
+ */
+public class TrainingSet {
+    private static final int MAGIC = 0x415A4531; // "AZE1"
+
+    private final int features;
+    private float[] own;
+    private float[] opponent;
+    private float[] target;
+    private int size;
+
+    public TrainingSet(int features) {
+        this(features, new float[16 * features], new float[16 * features], new float[16], 0);
+    }
+
+    private TrainingSet(int features, float[] own, float[] opponent, float[] target, int size) {
+        this.features = features;
+        this.own = own;
+        this.opponent = opponent;
+        this.target = target;
+        this.size = size;
+    }
+
+    public void add(float[] ownFeatures, float[] opponentFeatures, float margin) {
+        ensureCapacity(size + 1);
+        System.arraycopy(ownFeatures, 0, own, size * features, features);
+        System.arraycopy(opponentFeatures, 0, opponent, size * features, features);
+        target[size++] = margin;
+    }
+
+    public void addAll(TrainingSet other) {
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.own, 0, own, size * features, other.size * features);
+        System.arraycopy(other.opponent, 0, opponent, size * features, other.size * features);
+        System.arraycopy(other.target, 0, target, size, other.size);
+        size += other.size;
+    }
+
+    private void ensureCapacity(int samples) {
+        if (samples <= target.length) return;
+        int capacity = Math.max(samples, target.length * 2);
+        own = Arrays.copyOf(own, capacity * features);
+        opponent = Arrays.copyOf(opponent, capacity * features);
+        target = Arrays.copyOf(target, capacity);
+    }
+
+    public static TrainingSet concat(int features, List<TrainingSet> parts) {
+        TrainingSet all = new TrainingSet(features);
+        for (TrainingSet part : parts) {
+            all.addAll(part);
+        }
+        return all;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getFeatures() {
+        return features;
+    }
+
+    // Features of sample i start at i * getFeatures() in ownFeatures() and opponentFeatures()
+    float[] ownFeatures() {
+        return own;
+    }
+
+    float[] opponentFeatures() {
+        return opponent;
+    }
+
+    float[] targets() {
+        return target;
+    }
+
+    public void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(features);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                for (int f = 0; f < features; f++) out.writeFloat(own[i * features + f]);
+                for (int f = 0; f < features; f++) out.writeFloat(opponent[i * features + f]);
+                out.writeFloat(target[i]);
+            }
+        }
+    }
+
+    public static TrainingSet load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a training set");
+            }
+            int features = in.readInt();
+            int size = in.readInt();
+            float[] own = new float[Math.max(size, 1) * features];
+            float[] opponent = new float[Math.max(size, 1) * features];
+            float[] target = new float[Math.max(size, 1)];
+            for (int i = 0; i < size; i++) {
+                for (int f = 0; f < features; f++) own[i * features + f] = in.readFloat();
+                for (int f = 0; f < features; f++) opponent[i * features + f] = in.readFloat();
+                target[i] = in.readFloat();
+            }
+            return new TrainingSet(features, own, opponent, target, size);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package hr.algebra.azul.ai;
+
+import java.util.Arrays;
+
+/**
+ * Results of searched positions, keyed by their {@link Zobrist} hash and
+ * shared by every thread and every search. The hash already holds the player
+ * to move; {@link #key} mixes in the {@link Kind} of value and the player
+ * whose view it takes, so searches that value positions alike read each
+ * other's entries and the others never do. Entries are
+ * immutable and published by a plain array store, so readers see either a
+ * whole entry or an older one, never a torn mix. A slot keeps the deeper
+ * result unless its entry is from an older search.
+ */
+public final class TranspositionTable {
+    public static final int DEFAULT_BITS = 20;
+
+    static final byte EXACT = 0;
+    static final byte LOWER = 1; // the true value is at least the stored one
+    static final byte UPPER = 2; // the true value is at most the stored one
+
+    /**
+     * One searched position: its best move and value vector (one value per
+     * player, or a single value for searches from one player's view).
+     */
+    record Entry(long key, int depth, int move, byte bound, double[] values, int generation) {
+    }
+
+    /**
+     * What the stored values mean, with one salt per player whose view they
+     * take.
+     */
+    public enum Kind {
+        // Max^n share vectors, the same whoever searches
+        MAXN(0x243F6A8885A308D3L, 0x243F6A8885A308D3L, 0x243F6A8885A308D3L, 0x243F6A8885A308D3L),
+        // The root player's share when everyone plays against it
+        PARANOID(0x6A09E667F3BCC908L, 0xBB67AE8584CAA73BL, 0x3C6EF372FE94F82BL, 0xA54FF53A5F1D36F1L),
+        // The root player's HeuristicEvaluator margin under paranoid play: alpha-beta and analysis
+        MARGIN(0x510E527FADE682D1L, 0x9B05688C2B3E6C1FL, 0x1F83D9ABFB41BD6BL, 0x5BE0CD19137E2179L),
+        // The same margin as a LearnedEvaluator sees it
+        LEARNED_MARGIN(0x13198A2E03707344L, 0xA4093822299F31D0L, 0x082EFA98EC4E6C89L, 0x452821E638D01377L);
+
+        private final long[] salts;
+
+        Kind(long... salts) {
+            this.salts = salts;
+        }
+    }
+
+    private static final TranspositionTable ENGINE = new TranspositionTable();
+
+    private final Entry[] entries;
+    private final int mask;
+    private volatile int generation;
+
+    public TranspositionTable(int bits) {
+        this.entries = new Entry[1 << bits];
+        this.mask = entries.length - 1;
+    }
+
+    public TranspositionTable() {
+        this(DEFAULT_BITS);
+    }
+
+    // The engine's table, kept for the life of the process
+    public static TranspositionTable engine() {
+        return ENGINE;
+    }
+
+    static long key(Position position, Kind kind, int viewer) {
+        return Zobrist.hash(position) ^ kind.salts[viewer];
+    }
+
+    // Marks older entries as replaceable; call at the start of each search
+    public void newSearch() {
+        generation++;
+    }
+
+    Entry get(long key) {
+        Entry entry = entries[index(key)];
+        return entry != null && entry.key() == key ? entry : null;
+    }
+
+    // The stored values array must not be changed afterwards
+    void put(long key, int depth, int move, byte bound, double[] values) {
+        int index = index(key);
+        Entry old = entries[index];
+        int current = generation;
+        if (old == null || old.key() == key || old.generation() != current || depth >= old.depth()) {
+            entries[index] = new Entry(key, depth, move, bound, values, current);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    private int index(long key) {
+        return (int) (key ^ key >>> 32) & mask;
+    }
+}
@@ -0,0 +1,67 @@
+package hr.algebra.azul.ai;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD {@link BatchEvaluator} on the incubating Vector API. Each lane holds
+ * one position: a weight is broadcast and multiplied into a feature of as
+ * many positions as the register has lanes, so there are no horizontal sums.
+ * Positions left over after the last full vector go through the scalar loop.
+ * Only created through {@link BatchEvaluator#of} when the module is present.
+ */
+final class VectorBatchEvaluator implements BatchEvaluator {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private final int features;
+    private final int hidden;
+    private final float[] parameters;
+    private final ScalarBatchEvaluator tail;
+
+    VectorBatchEvaluator(EvalModel model) {
+        this.features = model.getFeatures();
+        this.hidden = model.getHidden();
+        this.parameters = model.parameters();
+        this.tail = new ScalarBatchEvaluator(model);
+    }
+
+    @Override
+    public void evaluate(EvalBatch batch, float[] out) {
+        float[] x = batch.columns();
+        int stride = batch.capacity();
+        int vectorized = SPECIES.loopBound(batch.size());
+
+        for (int i = 0; i < vectorized; i += SPECIES.length()) {
+            FloatVector value = hidden == 0 ? linear(x, stride, i) : layered(x, stride, i);
+            value.intoArray(out, i);
+        }
+        if (vectorized < batch.size()) {
+            tail.evaluate(batch, out, vectorized);
+        }
+    }
+
+    private FloatVector linear(float[] x, int stride, int i) {
+        return dot(x, stride, i, 0, parameters[features]);
+    }
+
+    private FloatVector layered(float[] x, int stride, int i) {
+        int output = hidden * features + hidden;
+        FloatVector value = FloatVector.broadcast(SPECIES, parameters[output + hidden]);
+        for (int h = 0; h < hidden; h++) {
+            FloatVector activation = dot(x, stride, i, h * features, parameters[hidden * features + h])
+                    .max(0f);
+            value = activation.fma(FloatVector.broadcast(SPECIES, parameters[output + h]), value);
+        }
+        return value;
+    }
+
+    // Bias plus the weights from the given offset times the features of lanes i..
+    private FloatVector dot(float[] x, int stride, int i, int weights, float bias) {
+        FloatVector sum = FloatVector.broadcast(SPECIES, bias);
+        for (int f = 0; f < features; f++) {
+            FloatVector weight = FloatVector.broadcast(SPECIES, parameters[weights + f]);
+            sum = FloatVector.fromArray(SPECIES, x, f * stride + i).fma(weight, sum);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,88 @@
+package hr.algebra.azul.ai;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys of {@link Position}s: one random 64-bit key per piece of state,
+ * combined with XOR. Equal positions get equal keys and different positions
+ * collide with probability of about 2^-64 per pair, so a key can stand for
+ * its position in a {@link TranspositionTable}.
+ */
+final class Zobrist {
+    static final int MAX_PLAYERS = 4;
+    static final int MAX_FACTORIES = 9;
+    private static final int MAX_TILES = 20; // of one color on the table or in the bag
+
+    private static final long[][][] FACTORY = new long[MAX_FACTORIES][Position.COLORS][Position.FACTORY_SIZE + 1];
+    private static final long[][] CENTER = new long[Position.COLORS][MAX_TILES + 1];
+    private static final long[][] BAG = new long[Position.COLORS][MAX_TILES + 1];
+    private static final long[][][][] LINE = new long[MAX_PLAYERS][Position.LINES][Position.COLORS][Position.LINES + 1];
+    private static final long[][] FLOOR = new long[MAX_PLAYERS][Position.FLOOR_SIZE + 1];
+    private static final long[][][] WALL_ROW = new long[MAX_PLAYERS][Position.LINES][1 << Position.LINES];
+    private static final long[] TO_MOVE = new long[MAX_PLAYERS];
+    private static final long[] TOKEN_HOLDER = new long[MAX_PLAYERS + 1];
+    private static final long TOKEN_IN_CENTER;
+    private static final long SCORE;
+    private static final long ROUND;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5A0B_2157L);
+        fill(FACTORY, random);
+        fill(CENTER, random);
+        fill(BAG, random);
+        fill(LINE, random);
+        fill(FLOOR, random);
+        fill(WALL_ROW, random);
+        fill(TO_MOVE, random);
+        fill(TOKEN_HOLDER, random);
+        TOKEN_IN_CENTER = random.nextLong();
+        SCORE = random.nextLong();
+        ROUND = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    static long hash(Position position) {
+        long hash = TO_MOVE[position.toMove()] ^ TOKEN_HOLDER[position.tokenHolder() + 1]
+                ^ mix(ROUND + position.round());
+        if (position.isTokenInCenter()) hash ^= TOKEN_IN_CENTER;
+
+        for (int color = 0; color < Position.COLORS; color++) {
+            hash ^= CENTER[color][position.centerTiles(color)] ^ BAG[color][position.bagTiles(color)];
+            for (int f = 0; f < position.factoryCount(); f++) {
+                hash ^= FACTORY[f][color][position.factoryTiles(f, color)];
+            }
+        }
+
+        for (int p = 0; p < position.playerCount(); p++) {
+            // Scores have no fixed range, so they are mixed in rather than looked up
+            hash ^= mix(SCORE + p * 0x1_0000_0000L + position.score(p));
+            hash ^= FLOOR[p][position.floorCount(p)];
+            int wall = position.wall(p);
+            for (int line = 0; line < Position.LINES; line++) {
+                hash ^= WALL_ROW[p][line][wall >>> line * Position.LINES & (1 << Position.LINES) - 1];
+                int count = position.lineCount(p, line);
+                if (count > 0) {
+                    hash ^= LINE[p][line][position.lineColor(p, line)][count];
+                }
+            }
+        }
+        return hash;
+    }
+
+    // splitmix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ value >>> 30) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ value >>> 27) * 0x94D049BB133111EBL;
+        return value ^ value >>> 31;
+    }
+
+    private static void fill(Object table, SplittableRandom random) {
+        if (table instanceof long[] keys) {
+            for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+        } else {
+            for (Object inner : (Object[]) table) fill(inner, random);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package hr.algebra.azul.controllers;
 
 import hr.algebra.azul.models.GameLobby;
+import hr.algebra.azul.models.Player;
+import hr.algebra.azul.view.CreateLobbyDialog;
 import hr.algebra.azul.view.ModernLobbyView;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
+import java.util.List;
+
 public class LobbyController {
     private ModernLobbyView view;
     private ObservableList<GameLobby> lobbies;
@@ -51,8 +55,29 @@ public class LobbyController {
     }
 
     private void showCreateLobbyDialog() {
-        // TODO: Implement create lobby dialog
-        System.out.println("Create lobby clicked");
+        CreateLobbyDialog dialog = new CreateLobbyDialog(view.getStage());
+        dialog.getCancelButton().setOnAction(e -> dialog.getStage().close());
+        dialog.getCreateButton().setOnAction(e -> {
+            String name = dialog.getLobbyNameField().getText();
+            if (name == null || name.isBlank()) {
+                dialog.getLobbyNameField().requestFocus();
+                return;
+            }
+
+            // Computer seats are filled right away; the host takes one human seat
+            List<String> seats = dialog.getSeatStrategyIds();
+            long computerSeats = seats.stream().filter(id -> !Player.HUMAN_STRATEGY.equals(id)).count();
+            int maxPlayers = dialog.getMaxPlayersBox().getValue();
+            int currentPlayers = (int) Math.min(maxPlayers, computerSeats + 1);
+
+            GameLobby lobby = new GameLobby(name.trim(), "You", currentPlayers, maxPlayers,
+                    "Waiting", dialog.getRankRequirementBox().getValue());
+            lobby.setSeatStrategies(seats);
+            lobbies.add(lobby);
+            view.getLobbyListView().getSelectionModel().select(lobby);
+            dialog.getStage().close();
+        });
+        dialog.getStage().showAndWait();
     }
 
     private void refreshLobbies() {
@@ -60,6 +85,14 @@ public class LobbyController {
         System.out.println("Refresh clicked");
     }
 
+    public void setLobbies(List<GameLobby> newLobbies) {
+        lobbies.setAll(newLobbies);
+    }
+
+    public FilteredList<GameLobby> getFilteredLobbies() {
+        return filteredLobbies;
+    }
+
     public void show() {
         view.getStage().show();
     }
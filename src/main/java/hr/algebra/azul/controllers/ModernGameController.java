@@ -1,6 +1,7 @@
 package hr.algebra.azul.controllers;
 
 import hr.algebra.azul.models.GameState;
+import hr.algebra.azul.styles.Theme;
 import hr.algebra.azul.view.ModernGameView;
 import javafx.animation.*;
 import javafx.application.Platform;
@@ -334,11 +335,7 @@ public class ModernGameController {
     }
 
     private void styleDialog(Dialog<?> dialog) {
-        DialogPane dialogPane = dialog.getDialogPane();
-        dialogPane.getStylesheets().add(
-                getClass().getResource("/styles/dialog.css").toExternalForm()
-        );
-        dialogPane.getScene().getRoot().setStyle("-fx-background-color: #1F2937;");
+        Theme.styleDialog(dialog);
     }
 
 
@@ -1,17 +1,64 @@
 package hr.algebra.azul.controllers;
 
+import hr.algebra.azul.ai.GameRecord;
+import hr.algebra.azul.ai.ReplayTimeline;
 import hr.algebra.azul.models.GameState;
+import hr.algebra.azul.styles.Theme;
 import hr.algebra.azul.view.ModernMenuView;
 import hr.algebra.azul.view.ModernTwoPlayerGameView;
+import hr.algebra.azul.view.ReplayView;
+import hr.algebra.azul.view.ScreenPreloader;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
 
 public class ModernMenuController {
+    // Loaded in the background while the menu is up
+    private static final List<String> GAME_SCREEN_CLASSES = List.of(
+            "hr.algebra.azul.controllers.ModernTwoPlayerGameController",
+            "hr.algebra.azul.ai.AlphaBetaSearch",
+            "hr.algebra.azul.ai.HeuristicEvaluator",
+            "hr.algebra.azul.ai.Position",
+            "hr.algebra.azul.handlers.FactoryInteractionHandler",
+            "hr.algebra.azul.helper.AnimationScheduler",
+            "hr.algebra.azul.helper.BoardRenderer",
+            "hr.algebra.azul.helper.ComputerPlayer",
+            "hr.algebra.azul.helper.GameUIConstants",
+            "hr.algebra.azul.helper.ParticleSystem",
+            "hr.algebra.azul.helper.PatternLineInteractionHandler",
+            "hr.algebra.azul.helper.TileAnimationManager",
+            "hr.algebra.azul.helper.TilePool",
+            "hr.algebra.azul.helper.TurnManager",
+            "hr.algebra.azul.helper.WallTilingManager",
+            "hr.algebra.azul.models.GameModel",
+            "hr.algebra.azul.models.Player",
+            "hr.algebra.azul.models.Wall",
+            "hr.algebra.azul.models.TileBag",
+            "javafx.scene.canvas.Canvas",
+            "javafx.scene.control.Dialog",
+            "javafx.scene.control.DialogPane",
+            "javafx.scene.control.Tooltip",
+            "javafx.scene.control.ComboBox",
+            "javafx.scene.control.Slider",
+            "javafx.scene.control.TitledPane",
+            "javafx.scene.effect.InnerShadow",
+            "javafx.animation.PathTransition"
+    );
+
     private ModernMenuView view;
     private GameState gameState;
     private Stage primaryStage;
+    private final ScreenPreloader<ModernTwoPlayerGameView> gameScreenPreloader =
+            new ScreenPreloader<>(ModernTwoPlayerGameView::new, GAME_SCREEN_CLASSES);
 
     public ModernMenuController(ModernMenuView view, Stage primaryStage) {
         this.view = view;
@@ -24,6 +71,7 @@ public class ModernMenuController {
         // Set up button click handlers with smooth transitions
         view.getSinglePlayerButton().setOnAction(e -> handleSinglePlayerClick());
         //view.getMultiPlayerButton().setOnAction(e -> handleMultiplayerClick());
+        view.getReplayButton().setOnAction(e -> handleReplayClick());
         view.getOptionsButton().setOnAction(e -> handleOptionsClick());
         view.getExitButton().setOnAction(e -> handleExitClick());
 
@@ -32,14 +80,18 @@ public class ModernMenuController {
             e.consume();
             handleExitClick();
         });
+
+        // Prepare the game screen while the menu sits idle
+        view.getStage().addEventHandler(WindowEvent.WINDOW_SHOWN, e -> gameScreenPreloader.preload());
     }
 
 
     private void handleSinglePlayerClick() {
         gameState.setCurrentScreen("SINGLE_PLAYER");
-        ModernTwoPlayerGameView gameView = new ModernTwoPlayerGameView();
+        ModernTwoPlayerGameView gameView = gameScreenPreloader.take();
+        // Single player means playing against the computer
         ModernTwoPlayerGameController gameController =
-                new ModernTwoPlayerGameController(gameView, primaryStage);
+                new ModernTwoPlayerGameController(gameView, primaryStage, true);
 
         // Hide menu window
         view.getStage().hide();
@@ -53,6 +105,39 @@ public class ModernMenuController {
         });
     }
 
+    // Recorded games are written to the working directory when a game ends
+    private void handleReplayClick() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Open Replay");
+        chooser.setInitialDirectory(new File(System.getProperty("user.dir")));
+        chooser.getExtensionFilters().add(
+                new FileChooser.ExtensionFilter("Azul replays", "*" + GameRecord.EXTENSION));
+        File file = chooser.showOpenDialog(view.getStage());
+        if (file == null) return;
+
+        GameRecord record;
+        try {
+            record = GameRecord.load(file.toPath());
+        } catch (IOException e) {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Replay");
+            alert.setHeaderText("Cannot open " + file.getName());
+            alert.setContentText(e.getMessage());
+            Theme.styleDialog(alert);
+            alert.showAndWait();
+            return;
+        }
+
+        gameState.setCurrentScreen("REPLAY");
+        ReplayView replayView = new ReplayView(record.getPlayers(),
+                record.getSegments().get(0).start().factoryCount());
+        ReplayController replayController = new ReplayController(replayView, new ReplayTimeline(record));
+
+        view.getStage().hide();
+        replayController.show();
+        replayView.getStage().setOnHidden(e -> view.getStage().show());
+    }
+
     private void handleOptionsClick() {
         gameState.setCurrentScreen("OPTIONS");
         // TODO: Add transition animation
@@ -67,7 +152,7 @@ public class ModernMenuController {
         alert.setContentText("Any unsaved progress will be lost.");
 
         // Style the alert dialog
-        DialogStyler.style(alert);
+        Theme.styleDialog(alert);
 
         alert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
@@ -80,37 +165,17 @@ public class ModernMenuController {
         view.getStage().show();
     }
 
-    // Utility class for styling dialogs
-    private static class DialogStyler {
-        public static void style(Alert alert) {
-            alert.getDialogPane().setStyle("""
-                -fx-background-color: #1F2937;
-                -fx-text-fill: white;
-                """);
-
-            alert.getDialogPane().getStylesheets().add("""
-                .dialog-pane {
-                    -fx-background-color: #1F2937;
-                }
-                .dialog-pane > *.header-panel {
-                    -fx-background-color: #111827;
-                }
-                .dialog-pane > *.header-panel *.label {
-                    -fx-text-fill: white;
-                }
-                .dialog-pane > *.content.label {
-                    -fx-text-fill: #9CA3AF;
-                    -fx-font-size: 14px;
-                }
-                .dialog-pane > *.button-bar *.button {
-                    -fx-background-color: #3B82F6;
-                    -fx-text-fill: white;
-                    -fx-font-size: 14px;
-                }
-                .dialog-pane > *.button-bar *.button:hover {
-                    -fx-background-color: #2563EB;
-                }
-                """);
-        }
+    /**
+     * Startup training run used when building the class data sharing archive:
+     * waits for the preloaded game screen, opens it and exits shortly after so
+     * every class on the startup path gets recorded.
+     */
+    public void runStartupTraining() {
+        gameScreenPreloader.setOnPrepared(() -> {
+            handleSinglePlayerClick();
+            PauseTransition settle = new PauseTransition(Duration.seconds(2));
+            settle.setOnFinished(e -> Platform.exit());
+            settle.play();
+        });
     }
-}
\ No newline at end of file
+}
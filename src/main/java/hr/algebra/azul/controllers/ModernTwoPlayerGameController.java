@@ -1,18 +1,34 @@
-    // Part 1: Imports and class setup through handleFactoryClickEvent()
+    // Part 1: Imports and class setup through the constructors
 
     package hr.algebra.azul.controllers;
 
     import hr.algebra.azul.events.EventBus;
     import hr.algebra.azul.events.GameEvent;
     import hr.algebra.azul.events.GameEventType;
+    import hr.algebra.azul.ai.GameRecord;
+    import hr.algebra.azul.ai.GameRecorder;
+    import hr.algebra.azul.ai.Move;
+    import hr.algebra.azul.ai.MovePreview;
+    import hr.algebra.azul.ai.Position;
+    import hr.algebra.azul.ai.PlayerStrategy;
+    import hr.algebra.azul.ai.StrategyRegistry;
     import hr.algebra.azul.events.payloads.FactoryClickPayload;
-    import hr.algebra.azul.events.payloads.TileSelectionPayload;
     import hr.algebra.azul.handlers.FactoryInteractionHandler;
+    import hr.algebra.azul.helper.AnalysisPanel;
+    import hr.algebra.azul.helper.BoardRenderer;
+    import hr.algebra.azul.helper.AnimationScheduler;
+    import hr.algebra.azul.helper.ComputerPlayer;
+    import hr.algebra.azul.helper.GameUIConstants;
+    import hr.algebra.azul.helper.MovePreviewService;
     import hr.algebra.azul.helper.PatternLineInteractionHandler;
+    import hr.algebra.azul.helper.PositionAnalyzer;
     import hr.algebra.azul.helper.TileAnimationManager;
+    import hr.algebra.azul.helper.TilePool;
     import hr.algebra.azul.helper.TurnManager;
     import hr.algebra.azul.helper.WallTilingManager;
     import hr.algebra.azul.models.*;
+    import hr.algebra.azul.styles.Styles;
+    import hr.algebra.azul.styles.Theme;
     import hr.algebra.azul.view.ModernTwoPlayerGameView;
     import javafx.animation.*;
     import javafx.application.Platform;
@@ -21,27 +37,21 @@
     import javafx.geometry.Pos;
     import javafx.scene.Node;
     import javafx.scene.control.*;
-    import javafx.scene.effect.DropShadow;
-    import javafx.scene.effect.InnerShadow;
     import javafx.scene.layout.*;
     import javafx.scene.paint.Color;
     import javafx.scene.shape.Circle;
-    import javafx.scene.shape.Rectangle;
     import javafx.stage.Stage;
     import javafx.util.Duration;
+    import java.io.IOException;
+    import java.nio.file.Path;
+    import java.time.LocalDateTime;
+    import java.time.format.DateTimeFormatter;
     import java.util.*;
 
     public class ModernTwoPlayerGameController {
         // Constants
         private static final Duration ANIMATION_DURATION = Duration.millis(500);
-        private static final String DIALOG_BG = "#1F2937";
-        private static final String DIALOG_HEADER_BG = "#111827";
-        private static final String BUTTON_BG = "#3B82F6";
-        private static final String BUTTON_HOVER_BG = "#2563EB";
-        private static final String TEXT_PRIMARY = "white";
-        private static final String TEXT_SECONDARY = "#9CA3AF";
-        private static final String CARD_BG = "#1F2937";
-        private static final String ACCENT_COLOR = "#4F46E5";
+        private static final DateTimeFormatter REPLAY_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
         // Core components
         private final ModernTwoPlayerGameView view;
@@ -55,27 +65,56 @@
         private final TileAnimationManager animationManager;
         private final TurnManager turnManager;
         private final FactoryInteractionHandler factoryHandler;
+        private final BoardRenderer boardRenderer;
+        private final TilePool tilePool;
+        private final ComputerPlayer computerPlayer;
+        private final MovePreviewService previewService;
+        private final PositionAnalyzer analyzer;
+        private final GameRecorder recorder;
 
         // State tracking
         private boolean isGamePaused;
         private TileColor selectedColor;
+        private int pendingComputerMove = Move.NONE;
+        // The board as it was when the tiles in hand were taken, for previews of where they go
+        private Position selectionPosition;
+        private int selectionSource;
+        private int hoverToken;
 
         public ModernTwoPlayerGameController(ModernTwoPlayerGameView view, Stage primaryStage) {
+            this(view, primaryStage, false);
+        }
+
+        // With vsComputer the second player is played by the default computer strategy
+        public ModernTwoPlayerGameController(ModernTwoPlayerGameView view, Stage primaryStage, boolean vsComputer) {
+            this(view, primaryStage, List.of(Player.HUMAN_STRATEGY,
+                    vsComputer ? StrategyRegistry.DEFAULT_COMPUTER : Player.HUMAN_STRATEGY));
+        }
+
+        // One PlayerStrategy id per seat
+        public ModernTwoPlayerGameController(ModernTwoPlayerGameView view, Stage primaryStage, List<String> strategyIds) {
             this.view = view;
             this.primaryStage = primaryStage;
-            this.gameModel = new GameModel(2);
+            this.gameModel = new GameModel(strategyIds);
             this.eventBus = EventBus.getInstance();
+            this.boardRenderer = new BoardRenderer(view, gameModel);
+            this.tilePool = TilePool.getInstance();
 
             // Initialize managers
-            this.wallTilingManager = new WallTilingManager(view, gameModel);
+            this.wallTilingManager = new WallTilingManager(view, gameModel, boardRenderer);
             this.turnManager = new TurnManager(gameModel, view, view.getTimerLabel());
-            this.patternLineInteractionHandler = new PatternLineInteractionHandler(view, gameModel, turnManager);
+            this.patternLineInteractionHandler = new PatternLineInteractionHandler(view, gameModel, turnManager, boardRenderer);
             this.animationManager = new TileAnimationManager(view.getAnimationLayer());
-            this.factoryHandler = new FactoryInteractionHandler(gameModel, view, animationManager);
+            this.factoryHandler = new FactoryInteractionHandler(gameModel, view, animationManager, boardRenderer);
+            this.computerPlayer = new ComputerPlayer();
+            this.previewService = new MovePreviewService();
+            this.analyzer = new PositionAnalyzer();
+            this.recorder = new GameRecorder(gameModel.getPlayers().stream().map(Player::getName).toList());
 
             initializeController();
             subscribeToEvents();
             updateEntireView();
+            recordPosition();
         }
         // Part 2: Core initialization and event subscription
 
@@ -86,12 +125,13 @@
             setupPatternLineHandlers();
             setupCenterPoolClickHandlers();
             setupWindowHandlers();
+            setupComputerPlayer();
+            setupMovePreviews();
+            setupAnalysis();
             System.out.println("Game initialized with " + gameModel.getFactories().size() + " factories");
         }
 
         private void subscribeToEvents() {
-            eventBus.subscribe(GameEventType.FACTORY_CLICKED, this::handleFactoryClickEvent);
-            eventBus.subscribe(GameEventType.TILES_SELECTED, this::handleTilesSelectedEvent);
             eventBus.subscribe(GameEventType.TILES_MOVED_TO_HAND, this::handleTilesMovedToHandEvent);
             eventBus.subscribe(GameEventType.TILES_MOVED_TO_CENTER, this::handleTilesMovedToCenterEvent);
             eventBus.subscribe(GameEventType.PATTERN_LINE_CLICKED, this::handlePatternLineClickEvent);
@@ -109,163 +149,142 @@
                 VBox factory = (VBox) factoriesGrid.getChildren().get(i);
                 GridPane tileGrid = (GridPane) factory.getChildren().get(0);
 
-                // Clear existing tiles
-                tileGrid.getChildren().clear();
-
-                // Get tiles from model
-                Factory gameFactory = gameModel.getFactories().get(factoryIndex);
-                List<Tile> tiles = gameFactory.getTiles();
-
-                // Create new tiles with click handlers
-                int tileIndex = 0;
-                for (int row = 0; row < 2; row++) {
-                    for (int col = 0; col < 2; col++) {
-                        Circle tileCircle = new Circle(15);
-                        if (tileIndex < tiles.size()) {
-                            Tile tile = tiles.get(tileIndex);
-                            TileColor tileColor = tile.getColor();
-                            tileCircle.setFill(Color.web(tileColor.getHexCode()));
-
-                            // Add click handler
-                            final Color tileFillColor = (Color) tileCircle.getFill();
-                            tileCircle.setOnMouseClicked(e -> {
-                                if (!isGamePaused && getCurrentPlayerHand().getChildren().isEmpty()) {
-                                    // Create and publish the factory click event
-                                    FactoryClickPayload payload = new FactoryClickPayload(
-                                            factoryIndex,
-                                            tileFillColor,
-                                            tileCircle,
-                                            factory
-                                    );
-                                    GameEvent event = new GameEvent(GameEventType.FACTORY_CLICKED, payload);
-                                    eventBus.publish(event);
-
-                                    // Add debug logging
-                                    System.out.println("Tile clicked at factory " + factoryIndex +
-                                            " with color " + tileFillColor);
-                                }
-                                e.consume();
-                            });
-
-                            // Add hover effects
-                            setupTileHoverEffects(tileCircle, factory);
-                        } else {
-                            tileCircle.setFill(Color.web("#374151"));
+                // Tile circles are created once by the view and repainted in place,
+                // so the handlers read the current fill when the event fires
+                for (Node node : tileGrid.getChildren()) {
+                    Circle tileCircle = (Circle) node;
+                    tileCircle.setOnMouseClicked(e -> {
+                        if (!isGamePaused && !BoardRenderer.isEmptySpace(tileCircle)
+                                && getCurrentPlayerHand().getChildren().isEmpty()) {
+                            // Create and publish the factory click event
+                            Color tileFillColor = (Color) tileCircle.getFill();
+                            FactoryClickPayload payload = new FactoryClickPayload(
+                                    factoryIndex,
+                                    tileFillColor,
+                                    tileCircle,
+                                    factory
+                            );
+                            GameEvent event = new GameEvent(GameEventType.FACTORY_CLICKED, payload);
+                            eventBus.publish(event);
+
+                            // Add debug logging
+                            System.out.println("Tile clicked at factory " + factoryIndex +
+                                    " with color " + tileFillColor);
                         }
+                        e.consume();
+                    });
 
-                        tileCircle.setStroke(Color.web("#4B5563"));
-                        tileCircle.setStrokeWidth(1);
-                        tileCircle.setEffect(new InnerShadow(5, Color.web("#000000", 0.2)));
+                    // Add hover effects
+                    setupTileHoverEffects(tileCircle, factory, factoryIndex);
 
-                        // Make sure the tile can receive mouse events
-                        tileCircle.setMouseTransparent(false);
-                        tileGrid.add(tileCircle, col, row);
-                        tileIndex++;
-                    }
+                    // Make sure the tile can receive mouse events
+                    tileCircle.setMouseTransparent(false);
                 }
 
                 // Make sure containers aren't blocking clicks
                 tileGrid.setMouseTransparent(false);
                 factory.setMouseTransparent(false);
             }
+            boardRenderer.renderFactories();
         }
 
         // Part 3: Event handlers and tile interaction
 
-        private void handleTileClick(int factoryIndex, TileColor tileColor, VBox factory) {
-            if (isGamePaused || getCurrentPlayerHand().getChildren().size() > 0) {
-                System.out.println("Click blocked - Game paused or hand not empty");
-                return;
+        private void setupComputerPlayer() {
+            factoryHandler.setInputLock(this::isInputLocked);
+            patternLineInteractionHandler.setInputLock(this::isInputLocked);
+            factoryHandler.setOnSelectionComplete(this::handleSelectionComplete);
+
+            // The search never runs while the game is paused
+            turnManager.setOnPaused(computerPlayer::cancel);
+            turnManager.setOnResumed(this::maybeStartComputerTurn);
+            turnManager.setOnTurnChanged(player -> {
+                recordPosition();
+                maybeStartComputerTurn();
+                refreshAnalysis();
+            });
+
+            ProgressIndicator indicator = view.getThinkingIndicator();
+            indicator.visibleProperty().bind(computerPlayer.thinkingProperty());
+            indicator.progressProperty().bind(computerPlayer.progressProperty());
+
+            // The computer may hold the first turn
+            Platform.runLater(this::maybeStartComputerTurn);
+        }
+
+        private void handleSelectionComplete() {
+            patternLineInteractionHandler.setupPatternLineInteractions();
+
+            int move = pendingComputerMove;
+            pendingComputerMove = Move.NONE;
+            if (move == Move.NONE || !isComputerTurn()) return;
+
+            VBox playerBoard = getCurrentPlayerBoard();
+            if (Move.isToFloor(move)) {
+                patternLineInteractionHandler.placeOnFloor(playerBoard);
+            } else {
+                patternLineInteractionHandler.handlePatternLineClick(Move.line(move), playerBoard);
             }
+        }
 
-            System.out.println("Processing tile click for factory " + factoryIndex + " color " + tileColor);
+        private boolean isComputerTurn() {
+            return !getCurrentStrategy().isHuman();
+        }
+
+        private PlayerStrategy getCurrentStrategy() {
+            return StrategyRegistry.getInstance().get(gameModel.getCurrentPlayer().getStrategyId());
+        }
 
-            Factory targetFactory = gameModel.getFactories().get(factoryIndex);
-            if (targetFactory.getTiles().stream().noneMatch(t -> t.getColor() == tileColor)) {
-                System.out.println("No matching tiles found in factory");
+        private boolean isInputLocked() {
+            return isGamePaused || isComputerTurn();
+        }
+
+        // Starts the search when the computer is on turn and has not picked tiles yet
+        private void maybeStartComputerTurn() {
+            if (turnManager.isGamePaused() || computerPlayer.isThinking()) return;
+            if (gameModel.getGameState() == GameModel.GameState.GAME_END) return;
+            if (!isComputerTurn()) {
+                startPondering();
                 return;
             }
+            if (pendingComputerMove != Move.NONE || !getCurrentPlayerHand().getChildren().isEmpty()) return;
 
-            List<Tile> selectedTiles = targetFactory.selectTilesByColor(tileColor);
-            List<Tile> remainingTiles = targetFactory.removeRemainingTiles();
+            computerPlayer.requestMove(gameModel, getCurrentStrategy(), this::playComputerMove);
+        }
 
-            System.out.println("Selected " + selectedTiles.size() + " tiles");
-            System.out.println("Remaining " + remainingTiles.size() + " tiles");
+        // A computer seat keeps searching on the human's time; the next request, a pause or the end stops it
+        private void startPondering() {
+            if (!getCurrentPlayerHand().getChildren().isEmpty()) return;
 
-            // Debug the event publishing
-            GameEvent event = new GameEvent(
-                    GameEventType.TILES_SELECTED,
-                    new TileSelectionPayload(factoryIndex, selectedTiles, remainingTiles)
-            );
-            System.out.println("Publishing event: " + event.getType());
-            eventBus.publish(event);
-        }
-
-        private void handleTilesSelectedEvent(GameEvent event) {
-            TileSelectionPayload payload = (TileSelectionPayload) event.getPayload();
-            HBox playerHand = getCurrentPlayerHand();
-            int factoryIndex = payload.factoryIndex();
-            VBox factory = (VBox) view.getFactoriesContainer().getChildren().get(factoryIndex);
-            Factory gameFactory = gameModel.getFactories().get(factoryIndex);
-
-            animationManager.animateFactorySelection(
-                    factory,
-                    payload.selectedTiles(),
-                    payload.remainingTiles(),
-                    playerHand,
-                    view.getCenterPool(),
-                    () -> {
-                        updatePlayerHand(payload.selectedTiles());
-                        gameModel.addTilesToCenter(payload.remainingTiles());
-                        updateFactoryDisplay(factory, gameFactory);  // Now passing both required arguments
-                        updateCenterPool();
-                        patternLineInteractionHandler.setupPatternLineInteractions();
-
-                        if (gameModel.isRoundComplete()) {
-                            eventBus.publish(new GameEvent(GameEventType.ROUND_ENDED, null));
-                        }
-                    }
-            );
+            List<Player> players = gameModel.getPlayers();
+            for (int seat = 0; seat < players.size(); seat++) {
+                PlayerStrategy strategy = StrategyRegistry.getInstance().get(players.get(seat).getStrategyId());
+                if (!strategy.isHuman()) {
+                    computerPlayer.ponder(gameModel, strategy, seat);
+                    return;
+                }
+            }
         }
 
-        private void updateFactoryDisplay(VBox factoryBox) {
-            // Get the factory index from the factory box's position in the grid
-            GridPane factoriesGrid = view.getFactoriesContainer();
-            int factoryIndex = factoriesGrid.getChildren().indexOf(factoryBox);
+        private void playComputerMove(int move) {
+            if (!isComputerTurn() || turnManager.isGamePaused()) return;
 
-            if (factoryIndex >= 0 && factoryIndex < gameModel.getFactories().size()) {
-                Factory factory = gameModel.getFactories().get(factoryIndex);
-                updateFactoryDisplay(factoryBox, factory);
-            } else {
-                // Create empty factory display if no corresponding Factory model is found
-                GridPane tileGrid = (GridPane) factoryBox.getChildren().get(0);
-                tileGrid.getChildren().clear();
-
-                for (int row = 0; row < 2; row++) {
-                    for (int col = 0; col < 2; col++) {
-                        Circle tileCircle = new Circle(15);
-                        tileCircle.setFill(Color.web("#374151"));
-                        tileCircle.setStroke(Color.web("#4B5563"));
-                        tileCircle.setStrokeWidth(1);
-                        tileCircle.setEffect(new InnerShadow(5, Color.web("#000000", 0.2)));
-                        tileGrid.add(tileCircle, col, row);
-                    }
-                }
+            pendingComputerMove = move;
+            TileColor color = Move.tileColor(move);
+            boolean selected = Move.isFromCenter(move)
+                    ? factoryHandler.selectFromCenter(color)
+                    : factoryHandler.selectFromFactory(Move.source(move), color);
+            if (!selected) {
+                System.err.println("Computer move rejected: " + Move.toString(move));
+                pendingComputerMove = Move.NONE;
             }
         }
 
         private void handlePatternLineClickEvent(GameEvent event) {
-            if (isGamePaused) return;
+            if (isInputLocked()) return;
 
             int lineIndex = (int) event.getPayload();
-            VBox playerBoard = gameModel.getCurrentPlayer() == gameModel.getPlayers().get(0) ?
-                    view.getPlayer1Board() : view.getPlayer2Board();
-
-            patternLineInteractionHandler.handlePatternLineClick(lineIndex, playerBoard);
-
-            if (gameModel.isRoundComplete()) {
-                eventBus.publish(new GameEvent(GameEventType.ROUND_ENDED, null));
-            }
+            patternLineInteractionHandler.handlePatternLineClick(lineIndex, getCurrentPlayerBoard());
         }
 
         // Part 4: UI Update Methods
@@ -281,102 +300,11 @@
         }
 
         private void updateFactories() {
-            List<Factory> factories = gameModel.getFactories();
-            GridPane factoriesGrid = view.getFactoriesContainer();
-
-            for (int i = 0; i < factories.size(); i++) {
-                Factory factory = factories.get(i);
-                VBox factoryBox = (VBox) factoriesGrid.getChildren().get(i);
-                updateFactoryDisplay(factoryBox, factory);
-            }
-        }
-
-        private void updateFactoryDisplay(VBox factoryBox, Factory factory) {
-            GridPane tileGrid = (GridPane) factoryBox.getChildren().get(0);
-            tileGrid.getChildren().clear();
-
-            List<Tile> tiles = factory.getTiles();
-            int index = 0;
-            for (int row = 0; row < 2; row++) {
-                for (int col = 0; col < 2; col++) {
-                    Circle tileCircle = new Circle(15);
-                    if (index < tiles.size()) {
-                        Tile tile = tiles.get(index);
-                        tileCircle.setFill(Color.web(tile.getColor().getHexCode()));
-                        setupTileHoverEffects(tileCircle, factoryBox);
-                    } else {
-                        tileCircle.setFill(Color.web("#374151"));
-                    }
-
-                    tileCircle.setStroke(Color.web("#4B5563"));
-                    tileCircle.setStrokeWidth(1);
-                    tileCircle.setEffect(new InnerShadow(5, Color.web("#000000", 0.2)));
-
-                    tileGrid.add(tileCircle, col, row);
-                    index++;
-                }
-            }
-        }
-
-        private void updatePlayerBoard(VBox playerBoard, Player player) {
-            updatePatternLines(playerBoard, player);
-            updateWall(playerBoard, player);
-            updateFloorLine(playerBoard, player);
+            boardRenderer.renderFactories();
         }
 
         private void updatePlayerBoards() {
-            List<Player> players = gameModel.getPlayers();
-            updatePlayerBoard(view.getPlayer1Board(), players.get(0));
-            updatePlayerBoard(view.getPlayer2Board(), players.get(1));
-        }
-
-        private void updatePatternLines(VBox playerBoard, Player player) {
-            VBox patternLinesContainer = patternLineInteractionHandler.findPatternLinesContainer(playerBoard);
-            if (patternLinesContainer == null) return;
-
-            List<PatternLine> playerPatternLines = player.getPatternLines();
-            for (int i = 1; i <= playerPatternLines.size(); i++) {
-                HBox lineContainer = (HBox) patternLinesContainer.getChildren().get(i);
-                PatternLine patternLine = playerPatternLines.get(i - 1);
-                updateSinglePatternLine(lineContainer, patternLine);
-            }
-        }
-
-        private void updateSinglePatternLine(HBox lineContainer, PatternLine patternLine) {
-            List<Tile> tiles = patternLine.getTiles();
-            for (int i = 0; i < lineContainer.getChildren().size(); i++) {
-                Circle space = (Circle) lineContainer.getChildren().get(i);
-                if (i < tiles.size()) {
-                    space.setFill(Color.web(tiles.get(i).getColor().getHexCode()));
-                } else {
-                    space.setFill(Color.web("#374151"));
-                }
-            }
-        }
-
-        private void updateWall(VBox playerBoard, Player player) {
-            GridPane wall = (GridPane) playerBoard.getChildren().stream()
-                    .filter(node -> node instanceof GridPane)
-                    .findFirst()
-                    .orElse(null);
-
-            if (wall != null) {
-                boolean[][] tiles = player.getWall().getTiles();
-                TileColor[][] pattern = player.getWall().getWallPattern();
-
-                for (int row = 0; row < Wall.WALL_SIZE; row++) {
-                    for (int col = 0; col < Wall.WALL_SIZE; col++) {
-                        StackPane space = (StackPane) wall.getChildren().get(row * 5 + col);
-                        Circle colorCircle = (Circle) space.getChildren().get(2);
-
-                        if (tiles[row][col]) {
-                            colorCircle.setFill(Color.web(pattern[row][col].getHexCode()));
-                            colorCircle.setOpacity(1.0);
-                            addTilePlacementAnimation(colorCircle);
-                        }
-                    }
-                }
-            }
+            boardRenderer.renderPlayerBoards();
         }
 
         private void updateCurrentPlayer() {
@@ -384,90 +312,141 @@
             view.getCurrentPlayerLabel().setText(current.getName() + "'s Turn");
 
             boolean isFirstPlayer = current == gameModel.getPlayers().get(0);
-            view.getPlayer1Board().setStyle(getBoardStyle(isFirstPlayer));
-            view.getPlayer2Board().setStyle(getBoardStyle(!isFirstPlayer));
+            view.getPlayer1Board().pseudoClassStateChanged(Styles.ACTIVE, isFirstPlayer);
+            view.getPlayer2Board().pseudoClassStateChanged(Styles.ACTIVE, !isFirstPlayer);
 
-            animatePlayerTurnChange(isFirstPlayer);
+            turnManager.animateTurnChange(isFirstPlayer);
         }
 
         // Part 5: Animation and Interaction Methods
 
-        private void setupTileHoverEffects(Circle tileCircle, VBox factory) {
-            Color tileColor = (Color) tileCircle.getFill();
-            if (tileColor.equals(Color.web("#374151"))) return;
+        private void setupTileHoverEffects(Circle tileCircle, VBox factory, int factoryIndex) {
+            tileCircle.setOnMouseEntered(e -> {
+                if (BoardRenderer.isEmptySpace(tileCircle)) return;
 
-            DropShadow glow = new DropShadow();
-            glow.setColor(tileColor);
-            glow.setRadius(10);
-            glow.setSpread(0.3);
+                factory.pseudoClassStateChanged(Styles.HIGHLIGHTED, true);
 
-            tileCircle.setOnMouseEntered(e -> {
-                factory.setStyle(String.format("""
-                    -fx-background-color: %s;
-                    -fx-background-radius: 10;
-                    -fx-border-color: #60A5FA;
-                    -fx-border-width: 2;
-                    -fx-border-radius: 10;
-                    """, CARD_BG));
-
-                ScaleTransition scale = new ScaleTransition(Duration.millis(100), tileCircle);
-                scale.setToX(1.1);
-                scale.setToY(1.1);
-                scale.play();
-
-                tileCircle.setEffect(glow);
+                GameUIConstants.playHoverScale(tileCircle, 1.1);
+                tileCircle.setEffect(GameUIConstants.tileGlow(tileCircle.getFill()));
+                showSourcePreview(factoryIndex, tileCircle);
             });
 
             tileCircle.setOnMouseExited(e -> {
-                factory.setStyle(String.format("""
-                    -fx-background-color: %s;
-                    -fx-background-radius: 10;
-                    """, CARD_BG));
+                factory.pseudoClassStateChanged(Styles.HIGHLIGHTED, false);
+                clearPreview();
 
-                ScaleTransition scale = new ScaleTransition(Duration.millis(100), tileCircle);
-                scale.setToX(1.0);
-                scale.setToY(1.0);
-                scale.play();
+                GameUIConstants.playHoverScale(tileCircle, 1.0);
+                tileCircle.setEffect(GameUIConstants.TILE_INNER_SHADOW);
+            });
+        }
 
-                tileCircle.setEffect(new InnerShadow(5, Color.web("#000000", 0.2)));
+        // Move previews: worked out by MovePreviewService, shown in the top bar while hovering
+
+        private void setupMovePreviews() {
+            factoryHandler.setOnSelectionStarting((source, color) -> {
+                selectionPosition = Position.of(gameModel);
+                selectionSource = source < 0 ? Move.CENTER : source;
+            });
+            patternLineInteractionHandler.setOnLineHover(line -> {
+                if (line < 0) clearPreview();
+                else showLinePreview(line);
             });
         }
 
-        private void addTilePlacementAnimation(Circle tile) {
-            ScaleTransition scale = new ScaleTransition(Duration.millis(300), tile);
-            scale.setFromX(0.5);
-            scale.setFromY(0.5);
-            scale.setToX(1.0);
-            scale.setToY(1.0);
+        // Analysis panel: searched by PositionAnalyzer while the panel is open and no computer is thinking
 
-            FadeTransition fade = new FadeTransition(Duration.millis(300), tile);
-            fade.setFromValue(0.5);
-            fade.setToValue(1.0);
+        private void setupAnalysis() {
+            AnalysisPanel panel = view.getAnalysisPanel();
+            panel.setSource(analyzer::latest);
+            panel.visibleProperty().addListener((obs, wasVisible, visible) -> {
+                if (visible) refreshAnalysis();
+                else analyzer.stop();
+            });
+            // Analysis waits while the computer thinks, so the two never compete for the processors
+            computerPlayer.thinkingProperty().addListener((obs, wasThinking, thinking) -> {
+                if (thinking) analyzer.stop();
+                else refreshAnalysis();
+            });
+        }
 
-            ParallelTransition animation = new ParallelTransition(scale, fade);
-            animation.play();
+        private void refreshAnalysis() {
+            if (view.getAnalysisPanel().isVisible() && !computerPlayer.isThinking()) {
+                analyzer.analyse(Position.of(gameModel));
+            }
         }
 
-        private void animatePlayerTurnChange(boolean isFirstPlayer) {
-            double sceneWidth = view.getStage().getWidth();
-            double sceneHeight = view.getStage().getHeight();
+        // Replays: the recorder sees the board at every turn change and round end
 
-            Rectangle indicator = new Rectangle(sceneWidth, 4);
-            indicator.setFill(Color.web("#3B82F6"));
-            indicator.setTranslateY(isFirstPlayer ? -2 : sceneHeight - 2);
+        private void recordPosition() {
+            recorder.observe(Position.of(gameModel));
+        }
 
-            DropShadow glow = new DropShadow();
-            glow.setColor(Color.web("#3B82F6"));
-            glow.setRadius(10);
-            indicator.setEffect(glow);
+        // Writes the game to the working directory, where the menu's replay screen looks first
+        private void saveReplay() {
+            Path file = Path.of("azul-replay-" + LocalDateTime.now().format(REPLAY_NAME_FORMAT) + GameRecord.EXTENSION);
+            try {
+                recorder.toRecord().save(file);
+                System.out.println("Replay written to " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Failed to write replay: " + e.getMessage());
+            }
+        }
 
-            view.getAnimationLayer().getChildren().add(indicator);
+        // Best lines for the hovered tile's color, before any tiles are taken
+        private void showSourcePreview(int source, Circle tile) {
+            if (isInputLocked() || !getCurrentPlayerHand().getChildren().isEmpty()
+                    || !(tile.getFill() instanceof Color fill)) return;
+            TileColor color = getTileColorFromFill(fill);
+            if (color == null) return;
 
-            TranslateTransition slide = new TranslateTransition(Duration.millis(600), indicator);
-            slide.setFromX(-sceneWidth);
-            slide.setToX(sceneWidth);
-            slide.setOnFinished(e -> view.getAnimationLayer().getChildren().remove(indicator));
-            slide.play();
+            int token = ++hoverToken;
+            previewService.previewSource(Position.of(gameModel), source, color.ordinal(), previews -> {
+                if (token != hoverToken) return;
+                StringJoiner text = new StringJoiner("   ");
+                previews.stream().limit(3).forEach(preview -> text.add(describePreview(preview)));
+                view.getPreviewLabel().setText(text.toString());
+            });
+        }
+
+        // Where the tiles in hand would score on the hovered line
+        private void showLinePreview(int line) {
+            List<Tile> hand = gameModel.getCurrentPlayer().getHand();
+            if (isInputLocked() || selectionPosition == null || hand.isEmpty()) return;
+
+            int color = hand.get(0).getColor().ordinal();
+            if (!selectionPosition.canPlace(selectionPosition.toMove(), color, line)) {
+                view.getPreviewLabel().setText("Line " + (line + 1) + " cannot take "
+                        + hand.get(0).getColor().name().toLowerCase());
+                return;
+            }
+
+            int token = ++hoverToken;
+            previewService.preview(selectionPosition, Move.of(selectionSource, color, line), preview -> {
+                if (token == hoverToken) view.getPreviewLabel().setText(describePreview(preview));
+            });
+        }
+
+        private void clearPreview() {
+            hoverToken++;
+            view.getPreviewLabel().setText(" ");
+        }
+
+        // e.g. "Line 3: +2 (floor -1), 2 to go, row 3/5 col 1/5 blue 2/5"
+        private String describePreview(MovePreview preview) {
+            StringBuilder text = new StringBuilder(Move.isToFloor(preview.move())
+                    ? "Floor: " : "Line " + (Move.line(preview.move()) + 1) + ": ");
+            text.append(String.format("%+d", preview.total()));
+            if (preview.floorPenalty() != 0) {
+                text.append(" (floor ").append(preview.floorPenalty()).append(')');
+            }
+            if (!Move.isToFloor(preview.move())) {
+                if (preview.missing() > 0) text.append(", ").append(preview.missing()).append(" to go");
+                text.append(", row ").append(preview.rowTiles()).append("/5")
+                        .append(" col ").append(preview.columnTiles()).append("/5 ")
+                        .append(Move.tileColor(preview.move()).name().toLowerCase())
+                        .append(' ').append(preview.colorTiles()).append("/5");
+            }
+            return text.toString();
         }
 
         private void animateScoreUpdate(VBox playerBoard, Player player) {
@@ -488,46 +467,18 @@
                         )
                 );
 
-                scoreLabel.setStyle("-fx-text-fill: " + (newScore > currentScore ? "#22C55E" : "#EF4444"));
-                scoreTicker.setOnFinished(e -> scoreLabel.setStyle("-fx-text-fill: #60A5FA"));
-                scoreTicker.play();
+                scoreLabel.pseudoClassStateChanged(Styles.GAIN, newScore > currentScore);
+                scoreLabel.pseudoClassStateChanged(Styles.LOSS, newScore < currentScore);
+                scoreTicker.setOnFinished(e -> {
+                    scoreLabel.pseudoClassStateChanged(Styles.GAIN, false);
+                    scoreLabel.pseudoClassStateChanged(Styles.LOSS, false);
+                });
+                AnimationScheduler.getInstance().playDecorative("score", scoreLabel, scoreTicker);
             }
         }
 
         // Part 6: Game State Management and Event Handlers
 
-        private void handleFactoryClickEvent(GameEvent event) {
-            System.out.println("Factory click event received");
-
-            if (isGamePaused || getCurrentPlayerHand().getChildren().size() > 0) {
-                System.out.println("Click blocked - Game paused or hand not empty");
-                return;
-            }
-
-            FactoryClickPayload payload = (FactoryClickPayload) event.getPayload();
-            Factory factory = gameModel.getFactories().get(payload.factoryIndex());
-            TileColor selectedColor = getTileColorFromFill(payload.tileColor());
-
-            System.out.println("Processing click for factory " + payload.factoryIndex() +
-                    " color " + selectedColor);
-
-            if (factory.getTiles().stream().noneMatch(t -> t.getColor() == selectedColor)) {
-                System.out.println("No matching tiles found in factory");
-                return;
-            }
-
-            List<Tile> selectedTiles = factory.selectTilesByColor(selectedColor);
-            List<Tile> remainingTiles = factory.removeRemainingTiles();
-
-            System.out.println("Selected " + selectedTiles.size() + " tiles");
-            System.out.println("Remaining " + remainingTiles.size() + " tiles");
-
-            eventBus.publish(new GameEvent(
-                    GameEventType.TILES_SELECTED,
-                    new TileSelectionPayload(payload.factoryIndex(), selectedTiles, remainingTiles)
-            ));
-        }
-
         private void handleTilesMovedToHandEvent(GameEvent event) {
             updatePlayerHand((List<Tile>) event.getPayload());
         }
@@ -548,10 +499,26 @@
         }
 
         private void handleRoundEndedEvent(GameEvent event) {
+            computerPlayer.cancel();
+            previewService.invalidate();
+            selectionPosition = null;
+            // The last pick of the round never changes the turn, so it is only seen here
+            if (gameModel.isRoundComplete()) {
+                recordPosition();
+            }
             if (gameModel.processRoundEnd()) {
                 wallTilingManager.processWallTiling();
                 clearPlayerHands();
                 updateEntireView();
+                recordPosition();
+                refreshAnalysis();
+                if (gameModel.getGameState() == GameModel.GameState.GAME_END) {
+                    turnManager.pauseTimer();
+                    saveReplay();
+                    eventBus.publish(new GameEvent(GameEventType.GAME_ENDED, null));
+                    Platform.runLater(this::showGameEndDialog);
+                    return;
+                }
                 turnManager.resetTimer();
                 Platform.runLater(this::showRoundEndDialog);
             }
@@ -571,7 +538,9 @@
             view.getSaveButton().setOnAction(e -> handleSaveClick());
             view.getExitButton().setOnAction(e -> handleExitClick());
             view.getSettingsButton().setOnAction(e -> handleSettingsClick());
-            view.getEndTurnButton().setOnAction(e -> eventBus.publish(new GameEvent(GameEventType.TURN_ENDED, null)));
+            view.getEndTurnButton().setOnAction(e -> {
+                if (!isInputLocked()) eventBus.publish(new GameEvent(GameEventType.TURN_ENDED, null));
+            });
             view.getEndRoundButton().setOnAction(e -> eventBus.publish(new GameEvent(GameEventType.ROUND_ENDED, null)));
         }
 
@@ -583,7 +552,7 @@
         // Part 7: Pattern Line and Center Pool Handling
 
         private void setupPlayerPatternLines(VBox playerBoard) {
-            VBox patternLinesContainer = patternLineInteractionHandler.findPatternLinesContainer(playerBoard);
+            VBox patternLinesContainer = boardRenderer.findPatternLinesContainer(playerBoard);
             if (patternLinesContainer == null) return;
 
             for (int i = 1; i < patternLinesContainer.getChildren().size(); i++) {
@@ -621,47 +590,42 @@
         }
 
         private void setupCenterTileHoverEffects(Circle tile) {
-            Color tileColor = (Color) tile.getFill();
-            DropShadow glow = new DropShadow();
-            glow.setColor(tileColor);
-            glow.setRadius(10);
-            glow.setSpread(0.3);
-
             tile.setOnMouseEntered(e -> {
-                ScaleTransition scale = new ScaleTransition(Duration.millis(100), tile);
-                scale.setToX(1.1);
-                scale.setToY(1.1);
-                scale.play();
-                tile.setEffect(glow);
+                GameUIConstants.playHoverScale(tile, 1.1);
+                tile.setEffect(GameUIConstants.tileGlow(tile.getFill()));
+                showSourcePreview(Move.CENTER, tile);
             });
 
             tile.setOnMouseExited(e -> {
-                ScaleTransition scale = new ScaleTransition(Duration.millis(100), tile);
-                scale.setToX(1.0);
-                scale.setToY(1.0);
-                scale.play();
-                tile.setEffect(new InnerShadow(5, Color.web("#000000", 0.2)));
+                clearPreview();
+                GameUIConstants.playHoverScale(tile, 1.0);
+                tile.setEffect(GameUIConstants.TILE_INNER_SHADOW);
             });
         }
 
         private void updatePlayerHand(List<Tile> tiles) {
             HBox hand = getCurrentPlayerHand();
-            hand.getChildren().clear();
+            clearHand(hand);
 
             // Update model
-            gameModel.getCurrentPlayer().getHand().clear();
-            gameModel.getCurrentPlayer().getHand().addAll(tiles);
+            gameModel.getCurrentPlayer().clearHand();
+            gameModel.getCurrentPlayer().addTilesToHand(tiles);
 
             // Update UI
             for (Tile tile : tiles) {
-                Circle tileCircle = createTileCircle(tile.getColor());
-                hand.getChildren().add(tileCircle);
+                hand.getChildren().add(tilePool.acquire(tile.getColor()));
             }
         }
 
         private void clearPlayerHands() {
-            view.getPlayer1Hand().getChildren().clear();
-            view.getPlayer2Hand().getChildren().clear();
+            clearHand(view.getPlayer1Hand());
+            clearHand(view.getPlayer2Hand());
+        }
+
+        private void clearHand(HBox hand) {
+            List<Node> tiles = new ArrayList<>(hand.getChildren());
+            hand.getChildren().clear();
+            tilePool.releaseAll(tiles);
         }
 
         // Part 8: Dialogs, Settings, and Utility Methods
@@ -675,8 +639,9 @@
             dialog.getDialogPane().setContent(content);
             dialog.getDialogPane().getButtonTypes().add(ButtonType.OK);
 
-            styleDialog(dialog);
+            Theme.styleDialog(dialog);
             dialog.showAndWait();
+            maybeStartComputerTurn();
         }
 
         private VBox createRoundSummaryContent() {
@@ -686,16 +651,39 @@
             for (Player player : gameModel.getPlayers()) {
                 VBox playerSummary = new VBox(5);
                 Label nameLabel = new Label(player.getName());
-                nameLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: white;");
+                nameLabel.getStyleClass().add("summary-name");
                 Label scoreLabel = new Label("Score: " + player.getScore());
-                scoreLabel.setStyle("-fx-text-fill: #9CA3AF;");
-                playerSummary.getChildren().addAll(nameLabel, scoreLabel);
+                scoreLabel.getStyleClass().add("summary-score");
+                // The model has already moved on to the next round
+                Label breakdownLabel = new Label(scoreBreakdown(player, gameModel.getCurrentRound() - 1));
+                playerSummary.getChildren().addAll(nameLabel, scoreLabel, breakdownLabel);
                 content.getChildren().add(playerSummary);
             }
 
             return content;
         }
 
+        // Points of one round by kind, e.g. "Wall +6, Floor -2"
+        private String scoreBreakdown(Player player, int round) {
+            Map<ScoreEvent.Kind, Integer> totals = new EnumMap<>(ScoreEvent.Kind.class);
+            for (ScoreEvent event : player.getScoreEvents()) {
+                if (event.round() == round) {
+                    totals.merge(event.kind(), event.points(), Integer::sum);
+                }
+            }
+            if (totals.isEmpty()) return "No points this round";
+
+            StringJoiner breakdown = new StringJoiner(", ");
+            totals.forEach((kind, points) -> breakdown.add(switch (kind) {
+                case TILE -> "Wall";
+                case FLOOR -> "Floor";
+                case ROW_BONUS -> "Rows";
+                case COLUMN_BONUS -> "Columns";
+                case COLOR_BONUS -> "Colors";
+            } + String.format(" %+d", points)));
+            return breakdown.toString();
+        }
+
         private void showGameEndDialog() {
             Dialog<ButtonType> dialog = new Dialog<>();
             dialog.setTitle("Game Over");
@@ -705,7 +693,7 @@
             dialog.getDialogPane().setContent(content);
             dialog.getDialogPane().getButtonTypes().add(ButtonType.OK);
 
-            styleDialog(dialog);
+            Theme.styleDialog(dialog);
 
             dialog.showAndWait().ifPresent(response -> {
                 turnManager.pauseTimer();
@@ -734,57 +722,14 @@
             showSettingsDialog();
         }
 
-        private void styleDialog(Dialog<?> dialog) {
-            DialogPane dialogPane = dialog.getDialogPane();
-            dialogPane.setStyle("-fx-background-color: " + DIALOG_BG);
-
-            // Style header
-            dialogPane.lookup(".header-panel").setStyle("-fx-background-color: " + DIALOG_HEADER_BG);
-            Label headerText = (Label) dialogPane.lookup(".header-panel > .label");
-            if (headerText != null) {
-                headerText.setStyle("-fx-text-fill: white; -fx-font-size: 18px; -fx-font-weight: bold;");
-            }
-
-            // Style content
-            Label contentText = (Label) dialogPane.lookup(".content.label");
-            if (contentText != null) {
-                contentText.setStyle("-fx-text-fill: " + TEXT_SECONDARY + "; -fx-font-size: 14px;");
-            }
-
-            // Style buttons
-            dialog.getDialogPane().getButtonTypes().forEach(buttonType -> {
-                Button button = (Button) dialogPane.lookupButton(buttonType);
-                button.setStyle(getButtonStyle(BUTTON_BG));
-                button.setOnMouseEntered(e -> button.setStyle(getButtonStyle(BUTTON_HOVER_BG)));
-                button.setOnMouseExited(e -> button.setStyle(getButtonStyle(BUTTON_BG)));
-            });
-        }
-
-        // Utility methods
-        private String getButtonStyle(String backgroundColor) {
-            return String.format("""
-                -fx-background-color: %s;
-                -fx-text-fill: white;
-                -fx-font-size: 14px;
-                -fx-padding: 8 15;
-                -fx-background-radius: 5;
-                """, backgroundColor);
-        }
-
         private HBox getCurrentPlayerHand() {
             return gameModel.getCurrentPlayer() == gameModel.getPlayers().get(0) ?
                     view.getPlayer1Hand() : view.getPlayer2Hand();
         }
 
-        private String getBoardStyle(boolean isActive) {
-            return String.format("""
-                -fx-background-color: %s;
-                -fx-padding: 20;
-                %s
-                """,
-                    CARD_BG,
-                    isActive ? "-fx-border-color: " + ACCENT_COLOR + "; -fx-border-width: 2; -fx-border-radius: 10;" : ""
-            );
+        private VBox getCurrentPlayerBoard() {
+            return gameModel.getCurrentPlayer() == gameModel.getPlayers().get(0) ?
+                    view.getPlayer1Board() : view.getPlayer2Board();
         }
 
         public void show() {
@@ -796,20 +741,22 @@
                 e.consume();
                 handleExitClick();
             });
+
+            // Nothing on this screen should keep animating once it is gone
+            view.getStage().setOnHidden(e -> {
+                turnManager.pauseTimer();
+                computerPlayer.shutdown();
+                previewService.shutdown();
+                analyzer.shutdown();
+                view.getAnalysisPanel().hide();
+                AnimationScheduler.getInstance().stopAll();
+                view.getParticleSystem().clear();
+                view.getDiagnosticsOverlay().hide();
+            });
         }
 
         private void updateCenterPool() {
-            VBox centerPool = view.getCenterPool();
-            FlowPane tilesContainer = (FlowPane) centerPool.getChildren().get(1);
-            tilesContainer.getChildren().clear();
-
-            for (Tile tile : gameModel.getCenterPool()) {
-                if (tile.getColor() != null) {
-                    Circle tileCircle = createTileCircle(tile.getColor());
-                    setupCenterTileInteraction(tileCircle);
-                    tilesContainer.getChildren().add(tileCircle);
-                }
-            }
+            boardRenderer.renderCenterPool();
         }
 
         private void updateScores() {
@@ -820,21 +767,6 @@
             });
         }
 
-        private void updateFloorLine(VBox playerBoard, Player player) {
-            HBox floorLine = (HBox) playerBoard.getChildren().stream()
-                    .filter(node -> node instanceof HBox)
-                    .reduce((first, second) -> second)
-                    .orElse(null);
-
-            if (floorLine != null) {
-                floorLine.getChildren().clear();
-                for (int i = 0; i < FloorLine.MAX_TILES; i++) {
-                    Circle space = createFloorLineSpace(i, player.getFloorLine().getTileAt(i));
-                    floorLine.getChildren().add(space);
-                }
-            }
-        }
-
         private TileColor getTileColorFromFill(Color fillColor) {
             String hexColor = String.format("#%02X%02X%02X",
                     (int)(fillColor.getRed() * 255),
@@ -856,33 +788,9 @@
         }
 
         private void handleCenterTileClick(Circle tile) {
-            if (isGamePaused || getCurrentPlayerHand().getChildren().size() > 0) return;
-
-            Color tileColor = (Color) tile.getFill();
-            TileColor selectedColor = getTileColorFromFill(tileColor);
-            if (selectedColor == null) return;
-
-            List<Tile> selectedTiles = collectTilesFromCenter(selectedColor);
-            boolean hasFirstPlayerToken = handleFirstPlayerToken();
-
-            eventBus.publish(new GameEvent(
-                    GameEventType.TILES_SELECTED,
-                    new TileSelectionPayload(-1, selectedTiles, List.of())
-            ));
-        }
-
-        private Circle createTileCircle(TileColor color) {
-            Circle circle = new Circle(15);
-            circle.setFill(Color.web(color.getHexCode()));
-            circle.setStroke(Color.web("#4B5563"));
-            circle.setStrokeWidth(1);
+            if (isInputLocked() || !(tile.getFill() instanceof Color tileColor)) return;
 
-            DropShadow shadow = new DropShadow();
-            shadow.setColor(Color.web("#000000", 0.3));
-            shadow.setRadius(5);
-            circle.setEffect(shadow);
-
-            return circle;
+            factoryHandler.selectFromCenter(getTileColorFromFill(tileColor));
         }
 
         private VBox createGameEndContent() {
@@ -894,7 +802,7 @@
 
             winner.ifPresent(player -> {
                 Label winnerLabel = new Label(player.getName() + " Wins!");
-                winnerLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: #22C55E;");
+                winnerLabel.getStyleClass().add("winner-label");
                 content.getChildren().add(winnerLabel);
             });
 
@@ -914,7 +822,7 @@
             dialog.getDialogPane().setContent(content);
             dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
 
-            styleDialog(dialog);
+            Theme.styleDialog(dialog);
 
             dialog.showAndWait().ifPresent(response -> {
                 isGamePaused = false;
@@ -927,66 +835,23 @@
             alert.setTitle(title);
             alert.setHeaderText(title);
             alert.setContentText(content);
-            styleDialog(alert);
+            Theme.styleDialog(alert);
             alert.showAndWait();
         }
 
-        private Circle createFloorLineSpace(int index, Tile tile) {
-            Circle space = new Circle(15);
-            space.setStroke(Color.web("#4B5563"));
-            space.setStrokeWidth(1);
-
-            if (tile != null && tile.getColor() != null) {
-                space.setFill(Color.web(tile.getColor().getHexCode()));
-                setupPenaltyTooltip(space, index);
-            } else {
-                space.setFill(Color.web("#374151"));
-            }
-
-            return space;
-        }
-
-        private List<Tile> collectTilesFromCenter(TileColor color) {
-            List<Tile> selectedTiles = new ArrayList<>();
-            Iterator<Tile> iterator = gameModel.getCenterPool().iterator();
-
-            while (iterator.hasNext()) {
-                Tile tile = iterator.next();
-                if (tile.getColor() == color) {
-                    selectedTiles.add(tile);
-                    iterator.remove();
-                }
-            }
-
-            return selectedTiles;
-        }
-
-        private boolean handleFirstPlayerToken() {
-            if (!gameModel.isFirstPlayerTokenTaken()) {
-                Iterator<Tile> iterator = gameModel.getCenterPool().iterator();
-                while (iterator.hasNext()) {
-                    Tile tile = iterator.next();
-                    if (tile.getColor() == null) {  // First player token has null color
-                        iterator.remove();
-                        gameModel.getCurrentPlayer().getFloorLine().addTile(tile);
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }
-
         private HBox createPlayerScoreSummary(Player player) {
             HBox playerScore = new HBox(10);
             playerScore.setAlignment(Pos.CENTER);
 
             Label nameLabel = new Label(player.getName());
-            nameLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: white;");
+            nameLabel.getStyleClass().add("summary-name");
 
             Label scoreLabel = new Label("Score: " + player.getScore());
-            scoreLabel.setStyle("-fx-text-fill: #9CA3AF;");
+            scoreLabel.getStyleClass().add("summary-score");
+
+            Label breakdownLabel = new Label(scoreBreakdown(player, gameModel.getCurrentRound()));
 
-            playerScore.getChildren().addAll(nameLabel, scoreLabel);
+            playerScore.getChildren().addAll(nameLabel, scoreLabel, breakdownLabel);
             return playerScore;
         }
 
@@ -995,18 +860,17 @@
             alert.setTitle(title);
             alert.setHeaderText(header);
             alert.setContentText(content);
-            styleDialog(alert);
+            Theme.styleDialog(alert);
             return alert;
         }
 
         private VBox createSettingsContent() {
             VBox content = new VBox(15);
             content.setPadding(new Insets(20));
-            content.setStyle("-fx-spacing: 15;");
 
             // Game Settings
             CheckBox muteAudioBox = new CheckBox("Mute Audio");
-            muteAudioBox.setStyle("-fx-text-fill: white;");
+            muteAudioBox.getStyleClass().add("settings-label");
 
             // Timer Settings
             VBox timerSettings = createTimerSettings();
@@ -1018,27 +882,16 @@
             return content;
         }
 
-        private void setupPenaltyTooltip(Circle space, int index) {
-            Tooltip penalty = new Tooltip("Penalty: -" + FloorLine.PENALTY_POINTS[index]);
-            penalty.setStyle("""
-            -fx-background-color: #1F2937;
-            -fx-text-fill: #EF4444;
-            -fx-font-size: 12px;
-            """);
-            Tooltip.install(space, penalty);
-        }
-
         private VBox createTimerSettings() {
             VBox timerContainer = new VBox(5);
             Label timerLabel = new Label("Turn Timer (seconds):");
-            timerLabel.setStyle("-fx-text-fill: white;");
+            timerLabel.getStyleClass().add("settings-label");
 
             Slider timerSlider = new Slider(60, 180, 150);
             timerSlider.setShowTickLabels(true);
             timerSlider.setShowTickMarks(true);
             timerSlider.setMajorTickUnit(30);
             timerSlider.setBlockIncrement(10);
-            timerSlider.setStyle("-fx-control-inner-background: #374151;");
 
             timerContainer.getChildren().addAll(timerLabel, timerSlider);
             return timerContainer;
@@ -1047,22 +900,38 @@
         private TitledPane createVisualSettingsPane() {
             TitledPane visualSettings = new TitledPane();
             visualSettings.setText("Visual Settings");
-            visualSettings.setStyle("-fx-text-fill: white;");
+            visualSettings.getStyleClass().add("settings-label");
 
             VBox content = new VBox(10);
             content.setPadding(new Insets(10));
 
             HBox animationSpeedBox = new HBox(10);
             Label speedLabel = new Label("Animation Speed:");
-            speedLabel.setStyle("-fx-text-fill: white;");
+            speedLabel.getStyleClass().add("settings-label");
             ComboBox<String> speedCombo = new ComboBox<>();
             speedCombo.getItems().addAll("Slow", "Normal", "Fast");
             speedCombo.setValue("Normal");
 
             CheckBox highlightMovesBox = new CheckBox("Highlight Valid Moves");
-            highlightMovesBox.setStyle("-fx-text-fill: white;");
-
-            content.getChildren().addAll(animationSpeedBox, highlightMovesBox);
+            highlightMovesBox.getStyleClass().add("settings-label");
+
+            AnimationScheduler scheduler = AnimationScheduler.getInstance();
+            CheckBox reducedMotionBox = new CheckBox("Reduced Motion");
+            reducedMotionBox.getStyleClass().add("settings-label");
+            reducedMotionBox.setSelected(scheduler.isReducedMotion());
+            reducedMotionBox.selectedProperty().addListener((obs, oldValue, newValue) ->
+                    scheduler.setReducedMotion(newValue));
+
+            HBox themeBox = new HBox(10);
+            Label themeLabel = new Label("Theme:");
+            themeLabel.getStyleClass().add("settings-label");
+            ComboBox<Theme> themeCombo = new ComboBox<>();
+            themeCombo.getItems().addAll(Theme.values());
+            themeCombo.setValue(Theme.getCurrent());
+            themeCombo.valueProperty().addListener((obs, oldValue, newValue) -> Theme.setCurrent(newValue));
+            themeBox.getChildren().addAll(themeLabel, themeCombo);
+
+            content.getChildren().addAll(animationSpeedBox, highlightMovesBox, reducedMotionBox, themeBox);
             visualSettings.setContent(content);
 
             return visualSettings;
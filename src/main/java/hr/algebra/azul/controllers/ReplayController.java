@@ -0,0 +1,193 @@
+package hr.algebra.azul.controllers;
+
+import hr.algebra.azul.ai.Move;
+import hr.algebra.azul.ai.Position;
+import hr.algebra.azul.ai.ReplayTimeline;
+import hr.algebra.azul.helper.GameUIConstants;
+import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.styles.Styles;
+import hr.algebra.azul.view.ReplayView;
+import hr.algebra.azul.view.components.FactoryComponent;
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.control.Slider;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays back a recorded game in a {@link ReplayView}. The slider only sets
+ * the step to show; an {@link AnimationTimer} renders it at most once per
+ * pulse, however fast the slider moves. Each step is rebuilt by the
+ * {@link ReplayTimeline} from its nearest checkpoint and drawn by updating
+ * the existing nodes in place.
+ */
+public class ReplayController {
+    private static final Duration AUTOPLAY_STEP = Duration.millis(700);
+    private static final TileColor[] COLORS = TileColor.values();
+
+    private final ReplayView view;
+    private final ReplayTimeline timeline;
+    private final List<String> players;
+    private final AnimationTimer renderer;
+    private final Timeline autoplay;
+    private final List<TileColor> factoryTiles = new ArrayList<>();
+    private int shownStep = -1;
+
+    public ReplayController(ReplayView view, ReplayTimeline timeline) {
+        this.view = view;
+        this.timeline = timeline;
+        this.players = timeline.getRecord().getPlayers();
+
+        renderer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                int step = (int) Math.round(view.getTimeline().getValue());
+                if (step != shownStep) {
+                    render(step);
+                }
+            }
+        };
+        autoplay = new Timeline(new KeyFrame(AUTOPLAY_STEP, e -> advance()));
+        autoplay.setCycleCount(Timeline.INDEFINITE);
+
+        initializeController();
+    }
+
+    private void initializeController() {
+        Slider slider = view.getTimeline();
+        slider.setMax(timeline.size() - 1);
+        slider.setValue(0);
+
+        view.getPreviousButton().setOnAction(e -> {
+            stopAutoplay();
+            slider.setValue(Math.max(0, shownStep - 1));
+        });
+        view.getNextButton().setOnAction(e -> {
+            stopAutoplay();
+            slider.setValue(Math.min(timeline.size() - 1, shownStep + 1));
+        });
+        view.getPlayButton().setOnAction(e -> toggleAutoplay());
+        slider.setOnMousePressed(e -> stopAutoplay());
+
+        view.getStage().addEventHandler(WindowEvent.WINDOW_SHOWN, e -> {
+            render(0);
+            renderer.start();
+        });
+        view.getStage().addEventHandler(WindowEvent.WINDOW_HIDDEN, e -> {
+            renderer.stop();
+            autoplay.stop();
+        });
+    }
+
+    public void show() {
+        view.getStage().show();
+    }
+
+    private void toggleAutoplay() {
+        if (autoplay.getStatus() == Timeline.Status.RUNNING) {
+            stopAutoplay();
+            return;
+        }
+        if (shownStep >= timeline.size() - 1) {
+            view.getTimeline().setValue(0);
+        }
+        view.getPlayButton().setText("⏸");
+        autoplay.play();
+    }
+
+    private void stopAutoplay() {
+        autoplay.stop();
+        view.getPlayButton().setText("▶");
+    }
+
+    private void advance() {
+        if (shownStep >= timeline.size() - 1) {
+            stopAutoplay();
+        } else {
+            view.getTimeline().setValue(shownStep + 1);
+        }
+    }
+
+    // Brings every node in line with the step; setters skip values that did not change
+    private void render(int step) {
+        Position position = timeline.positionAt(step);
+        renderFactories(position);
+        renderCenter(position);
+        for (int p = 0; p < position.playerCount(); p++) {
+            renderBoard(view.getBoards().get(p), position, p);
+        }
+
+        view.getStatusLabel().setText("Round " + position.round() + " • " + (position.isRoundOver()
+                ? "table empty" : players.get(position.toMove()) + " to move"));
+        view.getMoveLabel().setText(describeStep(step, position));
+        view.getStepLabel().setText(step + " / " + (timeline.size() - 1));
+        shownStep = step;
+    }
+
+    private void renderFactories(Position position) {
+        for (FactoryComponent factory : view.getFactories()) {
+            factoryTiles.clear();
+            for (int color = 0; color < Position.COLORS; color++) {
+                for (int i = position.factoryTiles(factory.getIndex(), color); i > 0; i--) {
+                    factoryTiles.add(COLORS[color]);
+                }
+            }
+            factory.update(factoryTiles);
+        }
+    }
+
+    private void renderCenter(Position position) {
+        List<Circle> tiles = view.getCenterTiles();
+        int shown = 0;
+        for (int color = 0; color < Position.COLORS; color++) {
+            Color fill = GameUIConstants.tileFill(COLORS[color]);
+            for (int i = position.centerTiles(color); i > 0 && shown < tiles.size(); i--) {
+                Circle tile = tiles.get(shown++);
+                if (!fill.equals(tile.getFill())) {
+                    tile.setFill(fill);
+                }
+                tile.setVisible(true);
+            }
+        }
+        for (int i = shown; i < tiles.size(); i++) {
+            tiles.get(i).setVisible(false);
+        }
+    }
+
+    private void renderBoard(ReplayView.PlayerBoard board, Position position, int player) {
+        board.node().pseudoClassStateChanged(Styles.ACTIVE, player == position.toMove());
+        board.scoreLabel().setText(String.valueOf(position.score(player)));
+
+        for (int line = 0; line < Position.LINES; line++) {
+            int color = position.lineColor(player, line);
+            board.patternLines().update(line, color < 0 ? null : COLORS[color], position.lineCount(player, line));
+        }
+
+        int wall = position.wall(player);
+        Circle[][] wallTiles = board.wallTiles();
+        for (int row = 0; row < Position.LINES; row++) {
+            for (int col = 0; col < Position.LINES; col++) {
+                wallTiles[row][col].setOpacity((wall & Position.cellBit(row, col)) != 0 ? 1.0 : 0.2);
+            }
+        }
+
+        board.floorLine().update(position.floorCount(player));
+    }
+
+    // e.g. "Player 1: BLUE from factory 3 to line 2"
+    private String describeStep(int step, Position position) {
+        int move = timeline.moveAt(step);
+        if (move != Move.NONE) {
+            return players.get(timeline.moverAt(step)) + ": " + Move.toString(move);
+        }
+        if (step == 0) return "Start of the game";
+        if (step == timeline.size() - 1 && position.isRoundOver()) return "Final scores";
+        return "Start of round " + position.round();
+    }
+}
@@ -5,36 +5,46 @@ import hr.algebra.azul.events.GameEvent;
 import hr.algebra.azul.events.GameEventType;
 import hr.algebra.azul.events.payloads.FactoryClickPayload;
 import hr.algebra.azul.events.payloads.TileSelectionPayload;
+import hr.algebra.azul.helper.BoardRenderer;
 import hr.algebra.azul.helper.TileAnimationManager;
+import hr.algebra.azul.helper.TilePool;
 import hr.algebra.azul.models.Factory;
 import hr.algebra.azul.models.GameModel;
 import hr.algebra.azul.models.Tile;
 import hr.algebra.azul.models.TileColor;
 import hr.algebra.azul.view.ModernTwoPlayerGameView;
-import javafx.scene.layout.FlowPane;
-import javafx.scene.layout.GridPane;
+import javafx.scene.Node;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
-public class FactoryInteractionHandler {
+// Final, so subscribing to the event bus from the constructor cannot leak a half built subclass
+public final class FactoryInteractionHandler {
     private final EventBus eventBus;
     private final GameModel gameModel;
     private final ModernTwoPlayerGameView view;
     private final TileAnimationManager animationManager;
+    private final BoardRenderer boardRenderer;
+    private BooleanSupplier inputLock = () -> false;
+    private Runnable onSelectionComplete = () -> { };
+    private BiConsumer<Integer, TileColor> onSelectionStarting = (source, color) -> { };
 
     public FactoryInteractionHandler(
             GameModel gameModel,
             ModernTwoPlayerGameView view,
-            TileAnimationManager animationManager
+            TileAnimationManager animationManager,
+            BoardRenderer boardRenderer
     ) {
         this.eventBus = EventBus.getInstance();
         this.gameModel = gameModel;
         this.view = view;
         this.animationManager = animationManager;
+        this.boardRenderer = boardRenderer;
         subscribeToEvents();
     }
 
@@ -46,37 +56,76 @@ public class FactoryInteractionHandler {
     private void handleFactoryClick(GameEvent event) {
         FactoryClickPayload payload = (FactoryClickPayload) event.getPayload();
 
-        // Validate the click
-        if (!isValidFactoryClick(payload)) {
+        // Clicks are ignored while input is locked, e.g. on the computer's turn
+        if (inputLock.getAsBoolean()) {
             return;
         }
 
-        // Get the factory and process tile selection
-        Factory factory = gameModel.getFactories().get(payload.factoryIndex());
-        TileColor selectedColor = getTileColorFromFill(payload.tileColor());
+        selectFromFactory(payload.factoryIndex(), getTileColorFromFill(payload.tileColor()));
+    }
+
+    /**
+     * Takes every tile of the color from the factory into the current player's
+     * hand and pushes the rest to the center. Returns false when the selection
+     * is not allowed right now.
+     */
+    public boolean selectFromFactory(int factoryIndex, TileColor selectedColor) {
+        // Validate the selection
+        if (!isValidFactorySelection(factoryIndex, selectedColor)) {
+            return false;
+        }
+
+        onSelectionStarting.accept(factoryIndex, selectedColor);
 
         // Select tiles from factory
+        Factory factory = gameModel.getFactories().get(factoryIndex);
         List<Tile> selectedTiles = factory.selectTilesByColor(selectedColor);
         List<Tile> remainingTiles = factory.removeRemainingTiles();
 
         // Publish tiles selected event
         eventBus.publish(new GameEvent(
                 GameEventType.TILES_SELECTED,
-                new TileSelectionPayload(payload.factoryIndex(), selectedTiles, remainingTiles)
+                new TileSelectionPayload(factoryIndex, selectedTiles, remainingTiles)
         ));
+        return true;
+    }
+
+    // Takes every tile of the color from the center, and the first player token with them
+    public boolean selectFromCenter(TileColor selectedColor) {
+        if (selectedColor == null || !getCurrentPlayerHand().getChildren().isEmpty()) {
+            return false;
+        }
+        if (gameModel.getCenterPool().stream().noneMatch(tile -> tile.getColor() == selectedColor)) {
+            return false;
+        }
+        onSelectionStarting.accept(-1, selectedColor);
+
+        List<Tile> selectedTiles = gameModel.collectTilesFromCenter(selectedColor);
+        if (selectedTiles.isEmpty()) {
+            return false;
+        }
+        gameModel.handleFirstPlayerToken();
+
+        eventBus.publish(new GameEvent(
+                GameEventType.TILES_SELECTED,
+                new TileSelectionPayload(-1, selectedTiles, List.of())
+        ));
+        return true;
     }
 
     private void handleTilesSelected(GameEvent event) {
         TileSelectionPayload payload = (TileSelectionPayload) event.getPayload();
         HBox playerHand = getCurrentPlayerHand();
+        boolean fromCenter = payload.factoryIndex() < 0;
 
-        // Get the factory visual component
-        VBox factory = (VBox) view.getFactoriesContainer()
-                .getChildren().get(payload.factoryIndex());
+        // Get the visual component the tiles come from
+        VBox source = fromCenter
+                ? view.getCenterPool()
+                : (VBox) view.getFactoriesContainer().getChildren().get(payload.factoryIndex());
 
         // Start animation
         animationManager.animateFactorySelection(
-                factory,
+                source,
                 payload.selectedTiles(),
                 payload.remainingTiles(),
                 playerHand,
@@ -85,22 +134,45 @@ public class FactoryInteractionHandler {
                     // After animation completes
                     updatePlayerHand(payload.selectedTiles());
                     gameModel.addTilesToCenter(payload.remainingTiles());
-                    updateFactoryDisplay(factory);
-                    updateCenterPool();
+                    if (fromCenter) {
+                        // The first player token may have moved to the floor line
+                        VBox board = gameModel.getCurrentPlayer() == gameModel.getPlayers().get(0)
+                                ? view.getPlayer1Board()
+                                : view.getPlayer2Board();
+                        boardRenderer.renderFloorLine(board, gameModel.getCurrentPlayer());
+                    } else {
+                        boardRenderer.renderFactory(payload.factoryIndex());
+                    }
+                    boardRenderer.renderCenterPool();
+                    onSelectionComplete.run();
                 }
         );
     }
 
-    private boolean isValidFactoryClick(FactoryClickPayload payload) {
-        // Check if it's valid player's turn
-        if (isGamePaused()) return false;
+    private boolean isValidFactorySelection(int factoryIndex, TileColor color) {
+        if (color == null || factoryIndex < 0 || factoryIndex >= gameModel.getFactories().size()) return false;
 
         // Check if player's hand is empty
         if (!getCurrentPlayerHand().getChildren().isEmpty()) return false;
 
-        // Check if factory is not empty
-        Factory factory = gameModel.getFactories().get(payload.factoryIndex());
-        return !factory.isEmpty();
+        // Check if factory holds the color
+        Factory factory = gameModel.getFactories().get(factoryIndex);
+        return factory.getTiles().stream().anyMatch(tile -> tile.getColor() == color);
+    }
+
+    // Called once the selected tiles have reached the player's hand
+    public void setOnSelectionComplete(Runnable onSelectionComplete) {
+        this.onSelectionComplete = onSelectionComplete;
+    }
+
+    // Called with the factory (-1 for the center) and color just before the tiles are taken
+    public void setOnSelectionStarting(BiConsumer<Integer, TileColor> onSelectionStarting) {
+        this.onSelectionStarting = onSelectionStarting;
+    }
+
+    // While the supplier returns true, clicks on factories are ignored
+    public void setInputLock(BooleanSupplier inputLock) {
+        this.inputLock = inputLock;
     }
 
     private HBox getCurrentPlayerHand() {
@@ -111,30 +183,17 @@ public class FactoryInteractionHandler {
 
     private void updatePlayerHand(List<Tile> tiles) {
         HBox hand = getCurrentPlayerHand();
+        List<Node> previous = new ArrayList<>(hand.getChildren());
         hand.getChildren().clear();
+        TilePool.getInstance().releaseAll(previous);
 
         for (Tile tile : tiles) {
-            Circle tileCircle = createTileCircle(tile.getColor());
-            hand.getChildren().add(tileCircle);
+            hand.getChildren().add(TilePool.getInstance().acquire(tile.getColor()));
         }
-    }
 
-    private void updateFactoryDisplay(VBox factory) {
-        // Clear the factory display
-        ((GridPane) factory.getChildren().get(0)).getChildren().clear();
-    }
-
-    private void updateCenterPool() {
-        // Update center pool display with current tiles
-        FlowPane centerTiles = (FlowPane) view.getCenterPool().getChildren().get(1);
-        centerTiles.getChildren().clear();
-
-        for (Tile tile : gameModel.getCenterPool()) {
-            if (tile.getColor() != null) {  // Skip first player token
-                Circle tileCircle = createTileCircle(tile.getColor());
-                centerTiles.getChildren().add(tileCircle);
-            }
-        }
+        // Keep the model's hand in step so round completion can be detected
+        gameModel.getCurrentPlayer().clearHand();
+        gameModel.getCurrentPlayer().addTilesToHand(tiles);
     }
 
     private TileColor getTileColorFromFill(Color fillColor) {
@@ -150,17 +209,4 @@ public class FactoryInteractionHandler {
         }
         return null;
     }
-
-    private Circle createTileCircle(TileColor color) {
-        Circle circle = new Circle(15);
-        circle.setFill(Color.web(color.getHexCode()));
-        circle.setStroke(Color.web("#4B5563"));
-        circle.setStrokeWidth(1);
-        return circle;
-    }
-
-    private boolean isGamePaused() {
-        // Implement game pause check
-        return false;
-    }
 }
\ No newline at end of file
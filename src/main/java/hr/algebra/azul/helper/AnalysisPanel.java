@@ -0,0 +1,118 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.ai.Analysis;
+import hr.algebra.azul.ai.Move;
+import hr.algebra.azul.styles.Styles;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Toggleable panel with the ranked moves of the current position, drawn on top
+ * of the game. The analysis is searched elsewhere and keeps improving; the
+ * panel polls its source every pulse but redraws at most four times a second
+ * and only when something changed. Each line shows the move, the estimated win
+ * probability and score margin of the player to move and the depth searched.
+ */
+public class AnalysisPanel extends VBox {
+    private static final int SHOWN_LINES = 8;
+    private static final long REFRESH_NANOS = 250_000_000L;
+
+    private final Label headerLabel = createLabel();
+    private final Label[] lineLabels = new Label[SHOWN_LINES];
+    private final AnimationTimer refresher;
+
+    private Supplier<Analysis> source = () -> null;
+    private Analysis shown;
+    private long lastRefresh;
+
+    public AnalysisPanel() {
+        setSpacing(2);
+        setPadding(new Insets(8));
+        setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+        setMouseTransparent(true);
+        getStyleClass().add(Styles.ANALYSIS_PANEL);
+        StackPane.setAlignment(this, Pos.TOP_RIGHT);
+        StackPane.setMargin(this, new Insets(10));
+        getChildren().add(headerLabel);
+        for (int i = 0; i < SHOWN_LINES; i++) {
+            lineLabels[i] = createLabel();
+            getChildren().add(lineLabels[i]);
+        }
+
+        setVisible(false);
+        refresher = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (now - lastRefresh >= REFRESH_NANOS) {
+                    lastRefresh = now;
+                    render(source.get());
+                }
+            }
+        };
+    }
+
+    // Where the panel reads the latest analysis from; polled on the FX thread
+    public void setSource(Supplier<Analysis> source) {
+        this.source = source;
+    }
+
+    public void toggle() {
+        if (isVisible()) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    public void show() {
+        shown = null;
+        render(null);
+        setVisible(true);
+        toFront();
+        refresher.start();
+    }
+
+    public void hide() {
+        refresher.stop();
+        setVisible(false);
+    }
+
+    private void render(Analysis analysis) {
+        if (analysis != null && analysis == shown) return;
+        shown = analysis;
+
+        if (analysis == null) {
+            headerLabel.setText("Analysis  searching...");
+            for (Label label : lineLabels) {
+                label.setText("");
+            }
+            return;
+        }
+
+        headerLabel.setText(String.format("Analysis  depth %d%s  %,d nodes", analysis.depth(),
+                analysis.complete() ? " (round)" : "", analysis.nodes()));
+        List<Analysis.Line> lines = analysis.lines();
+        for (int i = 0; i < SHOWN_LINES; i++) {
+            if (i < lines.size()) {
+                Analysis.Line line = lines.get(i);
+                lineLabels[i].setText(String.format("%d. %-34s %3.0f%%  %+5.1f  d%d", i + 1,
+                        Move.toString(line.move()), line.winProbability() * 100, line.margin(), line.depth()));
+            } else {
+                lineLabels[i].setText(i == 0 ? "No moves left this round" : "");
+            }
+        }
+    }
+
+    private static Label createLabel() {
+        Label label = new Label();
+        label.getStyleClass().add(Styles.ANALYSIS_LINE);
+        return label;
+    }
+}
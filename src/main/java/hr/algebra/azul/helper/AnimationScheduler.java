@@ -0,0 +1,217 @@
+package hr.algebra.azul.helper;
+
+import javafx.animation.Animation;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * Owns every game animation. Animations are started through {@link #play} or
+ * {@link #playDecorative} with a source name and an optional target node.
+ * <ul>
+ *   <li>A new animation for the same node and source supersedes the running one.</li>
+ *   <li>At most {@link #getMaxConcurrent()} animations run at once; the oldest
+ *       decorative ones are finished early to make room.</li>
+ *   <li>In reduced-motion mode decorative animations jump straight to their end,
+ *       looping ones are not started and gameplay animations run faster.</li>
+ *   <li>{@link #stopAll()} stops everything when the game screen goes away.</li>
+ * </ul>
+ */
+public class AnimationScheduler {
+    public static final int DEFAULT_MAX_CONCURRENT = 32;
+    private static final double REDUCED_MOTION_RATE = 3.0;
+
+    private static AnimationScheduler instance;
+
+    private final Map<Animation, Entry> entries = new WeakHashMap<>();
+    private final Map<Key, Animation> byTarget = new HashMap<>();
+    // Running animations in start order, oldest first
+    private final Map<Animation, Entry> running = new LinkedHashMap<>();
+    private final Map<String, int[]> runningBySource = new TreeMap<>();
+
+    private int maxConcurrent = DEFAULT_MAX_CONCURRENT;
+    private boolean reducedMotion;
+
+    private AnimationScheduler() {
+    }
+
+    public static AnimationScheduler getInstance() {
+        if (instance == null) {
+            instance = new AnimationScheduler();
+        }
+        return instance;
+    }
+
+    private record Key(Node target, String source) {
+    }
+
+    private record Entry(String source, Key key, boolean decorative) {
+    }
+
+    /**
+     * Plays an animation the game flow depends on, typically because its
+     * onFinished handler updates the model or the board. It always runs to the end
+     * unless superseded or stopped with {@link #stopAll()}.
+     */
+    public <T extends Animation> T play(String source, Node target, T animation) {
+        return schedule(source, target, animation, false);
+    }
+
+    /**
+     * Plays a purely visual animation. It may be finished early when the
+     * concurrency cap is reached and is skipped in reduced-motion mode.
+     */
+    public <T extends Animation> T playDecorative(String source, Node target, T animation) {
+        return schedule(source, target, animation, true);
+    }
+
+    // Stops every animation on the given node
+    public void cancel(Node target) {
+        for (Animation animation : new ArrayList<>(byTarget.values())) {
+            Entry entry = entries.get(animation);
+            if (entry != null && entry.key() != null && entry.key().target() == target) {
+                animation.stop();
+            }
+        }
+    }
+
+    public void stopAll() {
+        for (Animation animation : new ArrayList<>(running.keySet())) {
+            animation.stop();
+        }
+        byTarget.clear();
+    }
+
+    public int getRunningCount() {
+        return running.size();
+    }
+
+    public Map<String, Integer> getRunningCountsBySource() {
+        Map<String, Integer> counts = new TreeMap<>();
+        runningBySource.forEach((source, counter) -> {
+            if (counter[0] > 0) counts.put(source, counter[0]);
+        });
+        return counts;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+    }
+
+    public boolean isReducedMotion() {
+        return reducedMotion;
+    }
+
+    public void setReducedMotion(boolean reducedMotion) {
+        this.reducedMotion = reducedMotion;
+        if (reducedMotion) {
+            // Looping animations have no end to jump to, so just stop them
+            for (Animation animation : new ArrayList<>(running.keySet())) {
+                if (animation.getCycleCount() == Animation.INDEFINITE) {
+                    animation.stop();
+                }
+            }
+        }
+    }
+
+    private <T extends Animation> T schedule(String source, Node target, T animation, boolean decorative) {
+        boolean looping = animation.getCycleCount() == Animation.INDEFINITE;
+        if (reducedMotion && looping) {
+            return animation;
+        }
+
+        Entry entry = register(source, target, animation, decorative);
+
+        if (entry.key() != null) {
+            Animation previous = byTarget.put(entry.key(), animation);
+            if (previous != null && previous != animation) {
+                previous.stop();
+            }
+        }
+        if (animation.getStatus() == Animation.Status.RUNNING) {
+            animation.stop();
+        }
+
+        makeRoom();
+
+        animation.setRate(reducedMotion && !decorative ? REDUCED_MOTION_RATE : 1.0);
+        animation.playFromStart();
+        if (reducedMotion && decorative) {
+            animation.jumpTo("end");
+        }
+        return animation;
+    }
+
+    private Entry register(String source, Node target, Animation animation, boolean decorative) {
+        Entry existing = entries.get(animation);
+        if (existing != null && existing.source().equals(source) && existing.decorative() == decorative
+                && (existing.key() == null ? target == null : existing.key().target() == target)) {
+            return existing;
+        }
+
+        Entry entry = new Entry(source, target != null ? new Key(target, source) : null, decorative);
+        boolean firstRegistration = existing == null;
+        entries.put(animation, entry);
+
+        if (firstRegistration) {
+            animation.statusProperty().addListener((obs, oldStatus, newStatus) ->
+                    onStatusChanged(animation, oldStatus, newStatus));
+        }
+        return entry;
+    }
+
+    private void onStatusChanged(Animation animation, Animation.Status oldStatus, Animation.Status newStatus) {
+        Entry entry = entries.get(animation);
+        if (entry == null) return;
+
+        if (newStatus == Animation.Status.RUNNING) {
+            if (running.put(animation, entry) == null) {
+                runningBySource.computeIfAbsent(entry.source(), key -> new int[1])[0]++;
+            }
+        } else if (oldStatus == Animation.Status.RUNNING) {
+            if (running.remove(animation) != null) {
+                runningBySource.get(entry.source())[0]--;
+            }
+        }
+
+        if (newStatus == Animation.Status.STOPPED && entry.key() != null) {
+            byTarget.remove(entry.key(), animation);
+        }
+    }
+
+    private void makeRoom() {
+        int excess = running.size() - maxConcurrent + 1;
+        if (excess <= 0) return;
+
+        List<Animation> victims = new ArrayList<>();
+        for (Map.Entry<Animation, Entry> candidate : running.entrySet()) {
+            if (victims.size() == excess) break;
+            if (candidate.getValue().decorative()) {
+                victims.add(candidate.getKey());
+            }
+        }
+
+        for (Animation victim : victims) {
+            finishEarly(victim);
+        }
+    }
+
+    private void finishEarly(Animation animation) {
+        if (animation.getCycleCount() == Animation.INDEFINITE) {
+            animation.stop();
+        } else {
+            // Finishes on the next pulse so onFinished cleanup still runs
+            animation.jumpTo("end");
+        }
+    }
+}
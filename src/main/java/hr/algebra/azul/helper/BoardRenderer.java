@@ -0,0 +1,223 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.models.*;
+import hr.algebra.azul.view.ModernTwoPlayerGameView;
+import javafx.animation.FadeTransition;
+import javafx.animation.ParallelTransition;
+import javafx.animation.ScaleTransition;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Circle;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pushes model changes into the nodes built by {@link ModernTwoPlayerGameView}.
+ * Every render method reads the dirty flags kept by the model, updates only the
+ * nodes that belong to changed factories, pattern lines, wall cells and floor
+ * slots, and then marks the model clean. Board nodes are never recreated.
+ */
+public class BoardRenderer {
+    public static final Color EMPTY_FILL = Color.web(GameUIConstants.EMPTY_SPACE_COLOR);
+    private static final Duration PLACEMENT_DURATION = Duration.millis(300);
+
+    private final ModernTwoPlayerGameView view;
+    private final GameModel gameModel;
+    private final TilePool tilePool;
+
+    public BoardRenderer(ModernTwoPlayerGameView view, GameModel gameModel) {
+        this.view = view;
+        this.gameModel = gameModel;
+        this.tilePool = TilePool.getInstance();
+    }
+
+    public static boolean isEmptySpace(Circle circle) {
+        return EMPTY_FILL.equals(circle.getFill());
+    }
+
+    // Factories
+
+    public void renderFactories() {
+        for (int i = 0; i < gameModel.getFactories().size(); i++) {
+            renderFactory(i);
+        }
+    }
+
+    public void renderFactory(int factoryIndex) {
+        Factory factory = gameModel.getFactories().get(factoryIndex);
+        if (!factory.isDirty()) return;
+
+        VBox factoryBox = (VBox) view.getFactoriesContainer().getChildren().get(factoryIndex);
+        GridPane tileGrid = (GridPane) factoryBox.getChildren().get(0);
+        List<Tile> tiles = factory.getTiles();
+
+        ObservableList<Node> circles = tileGrid.getChildren();
+        for (int i = 0; i < circles.size(); i++) {
+            Circle circle = (Circle) circles.get(i);
+            setFill(circle, i < tiles.size() ? tiles.get(i).getColor() : null);
+        }
+        factory.markClean();
+    }
+
+    // Center pool
+
+    public void renderCenterPool() {
+        if (!gameModel.isCenterDirty()) return;
+
+        FlowPane tilesContainer = (FlowPane) view.getCenterPool().getChildren().get(1);
+        ObservableList<Node> circles = tilesContainer.getChildren();
+
+        int index = 0;
+        for (Tile tile : gameModel.getCenterPool()) {
+            if (tile.getColor() == null) continue; // First player token is not drawn
+            if (index < circles.size()) {
+                setFill((Circle) circles.get(index), tile.getColor());
+            } else {
+                circles.add(tilePool.acquire(tile.getColor()));
+            }
+            index++;
+        }
+        if (index < circles.size()) {
+            List<Node> surplus = new ArrayList<>(circles.subList(index, circles.size()));
+            circles.remove(index, circles.size());
+            tilePool.releaseAll(surplus);
+        }
+        gameModel.markCenterClean();
+    }
+
+    // Player boards
+
+    public void renderPlayerBoards() {
+        List<Player> players = gameModel.getPlayers();
+        renderPlayerBoard(view.getPlayer1Board(), players.get(0));
+        renderPlayerBoard(view.getPlayer2Board(), players.get(1));
+    }
+
+    public void renderPlayerBoard(VBox playerBoard, Player player) {
+        renderPatternLines(playerBoard, player);
+        renderWall(playerBoard, player);
+        renderFloorLine(playerBoard, player);
+    }
+
+    public void renderPatternLines(VBox playerBoard, Player player) {
+        VBox patternLinesContainer = findPatternLinesContainer(playerBoard);
+        if (patternLinesContainer == null) return;
+
+        List<PatternLine> patternLines = player.getPatternLines();
+        // Child 0 is the section label
+        for (int i = 1; i <= patternLines.size(); i++) {
+            PatternLine patternLine = patternLines.get(i - 1);
+            if (!patternLine.isDirty()) continue;
+
+            HBox lineContainer = (HBox) patternLinesContainer.getChildren().get(i);
+            List<Tile> tiles = patternLine.getTiles();
+            for (int j = 0; j < lineContainer.getChildren().size(); j++) {
+                Circle space = (Circle) lineContainer.getChildren().get(j);
+                setFill(space, j < tiles.size() ? tiles.get(j).getColor() : null);
+            }
+            patternLine.markClean();
+        }
+    }
+
+    public void renderWall(VBox playerBoard, Player player) {
+        Wall wall = player.getWall();
+        int dirtyCells = wall.getDirtyCells();
+        if (dirtyCells == 0) return;
+
+        GridPane wallGrid = findWallGrid(playerBoard);
+        if (wallGrid == null) return;
+
+        while (dirtyCells != 0) {
+            int cell = Integer.numberOfTrailingZeros(dirtyCells);
+            dirtyCells &= dirtyCells - 1;
+
+            StackPane space = (StackPane) wallGrid.getChildren().get(cell);
+            Circle colorCircle = (Circle) space.getChildren().get(2);
+            boolean placed = wall.isTilePlaced(cell / Wall.WALL_SIZE, cell % Wall.WALL_SIZE);
+
+            if (placed && colorCircle.getOpacity() < 1.0) {
+                colorCircle.setOpacity(1.0);
+                playPlacementAnimation(colorCircle);
+            } else if (!placed) {
+                colorCircle.setOpacity(0);
+            }
+        }
+        wall.markClean();
+    }
+
+    public void renderFloorLine(VBox playerBoard, Player player) {
+        FloorLine floorLine = player.getFloorLine();
+        int dirtySlots = floorLine.getDirtySlots();
+        if (dirtySlots == 0) return;
+
+        HBox floorLineBox = findFloorLine(playerBoard);
+        if (floorLineBox == null) return;
+
+        while (dirtySlots != 0) {
+            int slot = Integer.numberOfTrailingZeros(dirtySlots);
+            dirtySlots &= dirtySlots - 1;
+            if (slot >= floorLineBox.getChildren().size()) break;
+
+            Tile tile = floorLine.getTileAt(slot);
+            setFill((Circle) floorLineBox.getChildren().get(slot), tile != null ? tile.getColor() : null);
+        }
+        floorLine.markClean();
+    }
+
+    // Node lookups
+
+    public VBox findPatternLinesContainer(VBox playerBoard) {
+        for (Node node : playerBoard.getChildren()) {
+            if (node instanceof VBox box) return box;
+        }
+        return null;
+    }
+
+    public GridPane findWallGrid(VBox playerBoard) {
+        for (Node node : playerBoard.getChildren()) {
+            if (node instanceof GridPane grid) return grid;
+        }
+        return null;
+    }
+
+    public HBox findFloorLine(VBox playerBoard) {
+        // The floor line is the last HBox on the board; the first one is the header
+        List<Node> children = playerBoard.getChildren();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            if (children.get(i) instanceof HBox box) return box;
+        }
+        return null;
+    }
+
+    // Helpers
+
+    private void setFill(Circle circle, TileColor color) {
+        Paint fill = color != null ? tilePool.fillFor(color) : EMPTY_FILL;
+        if (!fill.equals(circle.getFill())) {
+            circle.setFill(fill);
+        }
+    }
+
+    private void playPlacementAnimation(Circle tile) {
+        ScaleTransition scale = new ScaleTransition(PLACEMENT_DURATION, tile);
+        scale.setFromX(0.5);
+        scale.setFromY(0.5);
+        scale.setToX(1.0);
+        scale.setToY(1.0);
+
+        FadeTransition fade = new FadeTransition(PLACEMENT_DURATION, tile);
+        fade.setFromValue(0.5);
+        fade.setToValue(1.0);
+
+        AnimationScheduler.getInstance().playDecorative("wall-placement", tile, new ParallelTransition(scale, fade));
+    }
+}
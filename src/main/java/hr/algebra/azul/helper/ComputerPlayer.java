@@ -0,0 +1,200 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.ai.Move;
+import hr.algebra.azul.ai.PlayerStrategy;
+import hr.algebra.azul.ai.Position;
+import hr.algebra.azul.ai.SearchBudget;
+import hr.algebra.azul.ai.SearchContext;
+import hr.algebra.azul.ai.SearchMemory;
+import hr.algebra.azul.models.GameModel;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.concurrent.Task;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs computer players' strategies off the FX thread. Each request snapshots
+ * the {@link GameModel} into a {@link Position} on the FX thread and lets the
+ * {@link PlayerStrategy} search it on background threads; only the chosen move
+ * comes back to the FX thread. A request can be cancelled at any time, for example when the game
+ * is paused or closed, and its progress can drive a "thinking" indicator.
+ * <p>
+ * Each seat has a {@link SearchMemory}, so strategies that keep their search
+ * continue from it on the seat's next move. While a human is on turn, a
+ * computer seat can {@link #ponder} in the background until the next request
+ * or cancel.
+ */
+public class ComputerPlayer {
+    // As long as TurnManager gives a human for one turn
+    public static final long PONDER_MILLIS = 150_000;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "computer-player");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ReadOnlyBooleanWrapper thinking = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0);
+    private SearchBudget budget; // null uses each strategy's own budget
+
+    private final Map<Integer, SearchMemory> memories = new HashMap<>();
+
+    private SearchTask currentTask;
+    private PonderTask ponderTask;
+
+    /**
+     * Asks the strategy for a move for the current player of the model and
+     * hands it to {@code onMove} on the FX thread. Any earlier request is
+     * cancelled. Must be called on the FX thread.
+     */
+    public void requestMove(GameModel model, PlayerStrategy strategy, IntConsumer onMove) {
+        cancel();
+
+        SearchBudget moveBudget = budget != null ? budget : strategy.defaultBudget();
+        Position position = Position.of(model);
+        SearchTask task = new SearchTask(strategy, position, moveBudget, memoryOf(position.toMove()));
+        task.setOnSucceeded(e -> {
+            if (task != currentTask) return;
+            finish();
+            int move = task.getValue();
+            if (move != Move.NONE) {
+                onMove.accept(move);
+            }
+        });
+        task.setOnFailed(e -> {
+            if (task != currentTask) return;
+            finish();
+            System.err.println("Computer move search failed: " + task.getException());
+        });
+
+        currentTask = task;
+        progress.bind(task.progressProperty());
+        thinking.set(true);
+        coordinator.execute(task);
+    }
+
+    /**
+     * Lets the strategy of a computer seat search the current position, where
+     * another player is to move, until the next request or cancel. Does nothing
+     * for strategies that cannot ponder. Must be called on the FX thread.
+     */
+    public void ponder(GameModel model, PlayerStrategy strategy, int seat) {
+        stopPondering();
+        if (!strategy.canPonder()) return;
+
+        PonderTask task = new PonderTask(strategy, Position.of(model), memoryOf(seat));
+        task.setOnFailed(e -> System.err.println("Pondering failed: " + task.getException()));
+        ponderTask = task;
+        coordinator.execute(task);
+    }
+
+    // Stops the running search and any pondering; the move is discarded
+    public void cancel() {
+        stopPondering();
+        if (currentTask == null) return;
+        currentTask.cancel(false);
+        finish();
+    }
+
+    // Cancels the search and forgets every seat's memory; the shared search threads are daemons and stay up
+    public void shutdown() {
+        cancel();
+        memories.clear();
+        coordinator.shutdownNow();
+    }
+
+    public boolean isThinking() {
+        return thinking.get();
+    }
+
+    public ReadOnlyBooleanProperty thinkingProperty() {
+        return thinking.getReadOnlyProperty();
+    }
+
+    // 0 to 1 while thinking, -1 before the first iteration completes
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    public SearchBudget getBudget() {
+        return budget;
+    }
+
+    // Overrides every strategy's default budget; null restores the defaults
+    public void setBudget(SearchBudget budget) {
+        this.budget = budget;
+    }
+
+    private SearchMemory memoryOf(int seat) {
+        return memories.computeIfAbsent(seat, s -> new SearchMemory());
+    }
+
+    private void stopPondering() {
+        if (ponderTask == null) return;
+        ponderTask.cancel(false);
+        ponderTask = null;
+    }
+
+    private void finish() {
+        progress.unbind();
+        progress.set(0);
+        thinking.set(false);
+        currentTask = null;
+    }
+
+    private static class SearchTask extends Task<Integer> {
+        private final PlayerStrategy strategy;
+        private final Position position;
+        private final SearchContext context;
+
+        SearchTask(PlayerStrategy strategy, Position position, SearchBudget budget, SearchMemory memory) {
+            this.strategy = strategy;
+            this.position = position;
+            this.context = new SearchContext(budget, value -> updateProgress(value, 1.0), memory);
+        }
+
+        @Override
+        protected Integer call() {
+            return strategy.chooseMove(position, context);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            context.cancel();
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    // Searches on another player's time; nothing comes back but the seat's memory
+    private static class PonderTask extends Task<Void> {
+        private final PlayerStrategy strategy;
+        private final Position position;
+        private final SearchContext context;
+
+        PonderTask(PlayerStrategy strategy, Position position, SearchMemory memory) {
+            this.strategy = strategy;
+            this.position = position;
+            this.context = new SearchContext(SearchBudget.ofMillis(PONDER_MILLIS), progress -> { }, memory);
+        }
+
+        @Override
+        protected Void call() {
+            strategy.ponder(position, context);
+            return null;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            context.cancel();
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.styles.Styles;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Toggleable diagnostics panel drawn on top of the game. While visible it samples
+ * every pulse with an {@link AnimationTimer} and once per second shows frame time
+ * percentiles, pulses per second, live node count, animations running in the
+ * {@link AnimationScheduler} grouped by source and GC pauses. The collected data
+ * can be dumped to a CSV file.
+ */
+public class DiagnosticsOverlay extends VBox {
+    private static final int FRAME_SAMPLES = 600;      // ~10 seconds at 60 fps
+    private static final int HISTORY_SECONDS = 600;
+    private static final long SECOND_NANOS = 1_000_000_000L;
+    private static final DateTimeFormatter DUMP_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Label frameLabel = createLabel();
+    private final Label pulseLabel = createLabel();
+    private final Label nodeLabel = createLabel();
+    private final Label animationLabel = createLabel();
+    private final Label gcLabel = createLabel();
+    private final Label statusLabel = createLabel();
+
+    private final long[] frameTimes = new long[FRAME_SAMPLES];
+    private final long[] sortedFrameTimes = new long[FRAME_SAMPLES];
+    private int frameIndex;
+    private int frameCount;
+
+    private final Deque<String> history = new ArrayDeque<>();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final AnimationTimer sampler;
+
+    private long lastPulse;
+    private long secondStart;
+    private int pulsesThisSecond;
+    private int secondsSampled;
+    private long lastGcCount;
+    private long lastGcTime;
+
+    public DiagnosticsOverlay() {
+        setSpacing(2);
+        setPadding(new Insets(8));
+        setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+        setMouseTransparent(true);
+        getStyleClass().add(Styles.DIAGNOSTICS_OVERLAY);
+        StackPane.setAlignment(this, Pos.TOP_LEFT);
+        StackPane.setMargin(this, new Insets(10));
+        getChildren().addAll(frameLabel, pulseLabel, nodeLabel, animationLabel, gcLabel, statusLabel);
+        statusLabel.managedProperty().bind(statusLabel.textProperty().isNotEmpty());
+
+        setVisible(false);
+        sampler = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                sample(now);
+            }
+        };
+    }
+
+    public void toggle() {
+        if (isVisible()) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    public void show() {
+        resetSamples();
+        setVisible(true);
+        toFront();
+        sampler.start();
+    }
+
+    public void hide() {
+        sampler.stop();
+        setVisible(false);
+    }
+
+    // Writes the per-second history and the raw frame times to the working directory
+    public Path dump() throws IOException {
+        Path file = Path.of("azul-diagnostics-" + LocalDateTime.now().format(DUMP_NAME_FORMAT) + ".csv");
+        dump(file);
+        return file;
+    }
+
+    // A line under the samples, e.g. where the last dump went; kept until the overlay is shown again
+    public void showStatus(String status) {
+        statusLabel.setText(status);
+    }
+
+    public void dump(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("second,p50_ms,p95_ms,p99_ms,max_ms,pulses,nodes,animations,gc_count,gc_ms");
+            writer.newLine();
+            for (String line : history) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.newLine();
+            writer.write("frame_ms");
+            writer.newLine();
+            int start = frameCount < FRAME_SAMPLES ? 0 : frameIndex;
+            for (int i = 0; i < frameCount; i++) {
+                writer.write(String.format("%.3f", frameTimes[(start + i) % FRAME_SAMPLES] / 1e6));
+                writer.newLine();
+            }
+        }
+    }
+
+    private void sample(long now) {
+        if (lastPulse != 0) {
+            frameTimes[frameIndex] = now - lastPulse;
+            frameIndex = (frameIndex + 1) % FRAME_SAMPLES;
+            frameCount = Math.min(frameCount + 1, FRAME_SAMPLES);
+        } else {
+            secondStart = now;
+        }
+        lastPulse = now;
+        pulsesThisSecond++;
+
+        if (now - secondStart >= SECOND_NANOS) {
+            publishSecond();
+            secondStart = now;
+            pulsesThisSecond = 0;
+        }
+    }
+
+    private void publishSecond() {
+        System.arraycopy(frameTimes, 0, sortedFrameTimes, 0, frameCount);
+        Arrays.sort(sortedFrameTimes, 0, frameCount);
+        double p50 = percentile(0.50);
+        double p95 = percentile(0.95);
+        double p99 = percentile(0.99);
+        double max = frameCount == 0 ? 0 : sortedFrameTimes[frameCount - 1] / 1e6;
+
+        int nodes = getScene() != null ? countNodes(getScene().getRoot()) : 0;
+        int animations = AnimationScheduler.getInstance().getRunningCount();
+
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcTime += Math.max(0, collector.getCollectionTime());
+        }
+        long gcCountDelta = gcCount - lastGcCount;
+        long gcTimeDelta = gcTime - lastGcTime;
+        lastGcCount = gcCount;
+        lastGcTime = gcTime;
+
+        frameLabel.setText(String.format("Frame  p50 %.1f  p95 %.1f  p99 %.1f  max %.1f ms", p50, p95, p99, max));
+        pulseLabel.setText("Pulses " + pulsesThisSecond + "/s");
+        nodeLabel.setText("Nodes  " + nodes);
+        animationLabel.setText("Animations " + animations + describeAnimationSources());
+        gcLabel.setText("GC     " + gcCountDelta + " pauses, " + gcTimeDelta + " ms");
+
+        history.addLast(String.format("%d,%.3f,%.3f,%.3f,%.3f,%d,%d,%d,%d,%d",
+                secondsSampled++, p50, p95, p99, max, pulsesThisSecond, nodes, animations, gcCountDelta, gcTimeDelta));
+        if (history.size() > HISTORY_SECONDS) {
+            history.removeFirst();
+        }
+    }
+
+    private double percentile(double fraction) {
+        if (frameCount == 0) return 0;
+        int index = (int) Math.ceil(fraction * frameCount) - 1;
+        return sortedFrameTimes[Math.max(0, index)] / 1e6;
+    }
+
+    private String describeAnimationSources() {
+        StringBuilder builder = new StringBuilder();
+        AnimationScheduler.getInstance().getRunningCountsBySource().forEach((source, count) ->
+                builder.append("\n  ").append(source).append(": ").append(count));
+        return builder.toString();
+    }
+
+    private int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private void resetSamples() {
+        frameIndex = 0;
+        frameCount = 0;
+        lastPulse = 0;
+        pulsesThisSecond = 0;
+        secondsSampled = 0;
+        history.clear();
+        lastGcCount = 0;
+        lastGcTime = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            lastGcCount += Math.max(0, collector.getCollectionCount());
+            lastGcTime += Math.max(0, collector.getCollectionTime());
+        }
+        frameLabel.setText("Frame  sampling...");
+        statusLabel.setText("");
+    }
+
+    private static Label createLabel() {
+        Label label = new Label();
+        label.getStyleClass().add(Styles.DIAGNOSTICS_LINE);
+        return label;
+    }
+}
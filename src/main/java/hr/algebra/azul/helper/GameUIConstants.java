@@ -1,8 +1,18 @@
 package hr.algebra.azul.helper;
 
+import hr.algebra.azul.models.TileColor;
+import javafx.animation.ScaleTransition;
+import javafx.scene.Node;
+import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.InnerShadow;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.Circle;
+import javafx.util.Duration;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 public final class GameUIConstants {
     // Tile appearance constants
@@ -10,13 +20,38 @@ public final class GameUIConstants {
     public static final String EMPTY_SPACE_COLOR = "#374151";
     public static final String TILE_BORDER_COLOR = "#4B5563";
     public static final double TILE_STROKE_WIDTH = 1.0;
+    public static final Color TILE_BORDER = Color.web(TILE_BORDER_COLOR);
+    public static final Color EMPTY_SPACE = Color.web(EMPTY_SPACE_COLOR);
+
+    // Shared effect instances. An effect may be set on any number of nodes,
+    // so these are created once and must never be mutated by callers.
+    public static final InnerShadow TILE_INNER_SHADOW = new InnerShadow(5, Color.web("#000000", 0.2));
+    public static final DropShadow TILE_DROP_SHADOW = createDropShadow(Color.web("#000000", 0.3), 5, 0);
+    public static final DropShadow ACCENT_GLOW = createDropShadow(Color.web("#3B82F6"), 10, 0);
+
+    private static final Map<Paint, DropShadow> TILE_GLOWS = new HashMap<>();
+    // Parsed once; Color.web on every render allocates while a replay is scrubbed
+    private static final Map<TileColor, Color> TILE_FILLS = new EnumMap<>(TileColor.class);
+    private static final String HOVER_SCALE_KEY = "azul.hoverScale";
+    private static final Duration HOVER_DURATION = Duration.millis(100);
+
+    static {
+        for (TileColor color : TileColor.values()) {
+            TILE_FILLS.put(color, Color.web(color.getHexCode()));
+        }
+    }
 
     private GameUIConstants() {} // Prevent instantiation
 
+    // The fill of a tile of this color, the same instance every time
+    public static Color tileFill(TileColor color) {
+        return TILE_FILLS.get(color);
+    }
+
     // Utility method to create base circle with common properties
     public static Circle createBaseCircle() {
         Circle circle = new Circle(TILE_RADIUS);
-        circle.setStroke(Color.web(TILE_BORDER_COLOR));
+        circle.setStroke(TILE_BORDER);
         circle.setStrokeWidth(TILE_STROKE_WIDTH);
         return circle;
     }
@@ -28,4 +63,36 @@ public final class GameUIConstants {
         innerShadow.setColor(Color.rgb(0, 0, 0, 0.3));
         return innerShadow;
     }
-}
\ No newline at end of file
+
+    // Hover glow for a tile fill, shared by every tile of that color
+    public static DropShadow tileGlow(Paint fill) {
+        return TILE_GLOWS.computeIfAbsent(fill, paint ->
+                createDropShadow(paint instanceof Color color ? color : Color.WHITE, 10, 0.3));
+    }
+
+    // Plays the hover scale on a node, reusing one transition per node
+    public static void playHoverScale(Node node, double scale) {
+        ScaleTransition transition = (ScaleTransition) node.getProperties()
+                .computeIfAbsent(HOVER_SCALE_KEY, key -> new ScaleTransition(HOVER_DURATION, node));
+        transition.stop();
+        transition.setToX(scale);
+        transition.setToY(scale);
+        AnimationScheduler.getInstance().playDecorative("hover", node, transition);
+    }
+
+    // Stops a pending hover scale so a recycled node starts at rest
+    public static void stopHoverScale(Node node) {
+        Object transition = node.getProperties().get(HOVER_SCALE_KEY);
+        if (transition instanceof ScaleTransition scale) {
+            scale.stop();
+        }
+    }
+
+    private static DropShadow createDropShadow(Color color, double radius, double spread) {
+        DropShadow shadow = new DropShadow();
+        shadow.setColor(color);
+        shadow.setRadius(radius);
+        shadow.setSpread(spread);
+        return shadow;
+    }
+}
@@ -0,0 +1,118 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.ai.Move;
+import hr.algebra.azul.ai.MovePreview;
+import hr.algebra.azul.ai.Position;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Hover previews of moves, worked out on a background thread. Callers pass a
+ * {@link Position} snapshot; previews are cached per move, which encodes the
+ * source, color and line, for that one position. A snapshot that differs
+ * from the cached one means the model changed, and the cache is dropped.
+ * Answers come back on the FX thread and are dropped as well when the
+ * position changed in the meantime, so a slow preview never shows over a
+ * newer board.
+ * <p>
+ * All methods except {@link #shutdown()} must be called on the FX thread.
+ */
+public class MovePreviewService {
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "move-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Integer, MovePreview> cache = new HashMap<>();
+    private Position position;
+
+    /**
+     * Previews of every legal move that takes the color from the source
+     * ({@link Move#CENTER} for the center), best first. {@code onReady} runs
+     * at once when all of them are cached, otherwise later on the FX thread.
+     */
+    public void previewSource(Position snapshot, int source, int color, Consumer<List<MovePreview>> onReady) {
+        Position current = use(snapshot);
+        List<Integer> moves = new ArrayList<>();
+        for (int move : current.legalMoves()) {
+            if (Move.source(move) == source && Move.color(move) == color) {
+                moves.add(move);
+            }
+        }
+        if (moves.isEmpty()) return;
+
+        List<MovePreview> cached = new ArrayList<>();
+        for (int move : moves) {
+            MovePreview preview = cache.get(move);
+            if (preview == null) break;
+            cached.add(preview);
+        }
+        if (cached.size() == moves.size()) {
+            onReady.accept(sorted(cached));
+            return;
+        }
+
+        worker.execute(() -> {
+            List<MovePreview> previews = new ArrayList<>();
+            for (int move : moves) {
+                previews.add(MovePreview.of(current, move));
+            }
+            Platform.runLater(() -> {
+                if (current != position) return;
+                previews.forEach(preview -> cache.put(preview.move(), preview));
+                onReady.accept(sorted(previews));
+            });
+        });
+    }
+
+    // Preview of one legal move of the snapshot, handed over like previewSource does
+    public void preview(Position snapshot, int move, Consumer<MovePreview> onReady) {
+        Position current = use(snapshot);
+        MovePreview cached = cache.get(move);
+        if (cached != null) {
+            onReady.accept(cached);
+            return;
+        }
+
+        worker.execute(() -> {
+            MovePreview preview = MovePreview.of(current, move);
+            Platform.runLater(() -> {
+                if (current != position) return;
+                cache.put(move, preview);
+                onReady.accept(preview);
+            });
+        });
+    }
+
+    // Forgets the cached previews, e.g. when a new round is dealt
+    public void invalidate() {
+        position = null;
+        cache.clear();
+    }
+
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // The cached position when the snapshot equals it, so its previews stay valid
+    private Position use(Position snapshot) {
+        if (position == null || !position.equals(snapshot)) {
+            position = snapshot;
+            cache.clear();
+        }
+        return position;
+    }
+
+    private static List<MovePreview> sorted(List<MovePreview> previews) {
+        previews.sort((a, b) -> Integer.compare(b.total(), a.total()));
+        return previews;
+    }
+}
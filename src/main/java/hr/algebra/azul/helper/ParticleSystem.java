@@ -1,87 +1,201 @@
 package hr.algebra.azul.helper;
 
-import javafx.animation.*;
-import javafx.scene.Group;
-import javafx.scene.Node;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.util.Duration;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
-public class ParticleSystem extends Group {
+/**
+ * Canvas-backed particle renderer. Particle state is kept in primitive arrays
+ * (struct-of-arrays) and advanced by a single {@link AnimationTimer} that only
+ * runs while particles are alive. Nothing is allocated per frame, so one
+ * instance can drive thousands of particles for the whole game screen.
+ */
+public class ParticleSystem extends Canvas {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int MAX_COLORS = 16;
+    private static final double GRAVITY = 60;           // px/s^2
+    private static final double MAX_FRAME_SECONDS = 0.05;
+
     private final Random random = new Random();
-    private double emitterX, emitterY;
-    private final List<Node> particlesToRemove = new ArrayList<>();
+    private final int capacity;
+
+    // Particle state, one slot per live particle in [0, count)
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] life;
+    private final float[] maxLife;
+    private final float[] radius;
+    private final byte[] colorIndex;
+    private int count;
+
+    private final Color[] palette = new Color[MAX_COLORS];
+    private int paletteSize;
+
+    private final AnimationTimer timer;
+    private boolean running;
+    private long lastFrame;
 
     public ParticleSystem() {
-        this.emitterX = 0;
-        this.emitterY = 10;
+        this(DEFAULT_CAPACITY);
+    }
 
-        // Cleanup timer for removing finished particles
-        AnimationTimer cleanupTimer = new AnimationTimer() {
+    public ParticleSystem(int capacity) {
+        this.capacity = capacity;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.vx = new float[capacity];
+        this.vy = new float[capacity];
+        this.life = new float[capacity];
+        this.maxLife = new float[capacity];
+        this.radius = new float[capacity];
+        this.colorIndex = new byte[capacity];
+
+        setMouseTransparent(true);
+        // Unmanaged so the canvas never influences the layout of its parent
+        setManaged(false);
+
+        timer = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                if (!particlesToRemove.isEmpty()) {
-                    getChildren().removeAll(particlesToRemove);
-                    particlesToRemove.clear();
-                }
+                step(now);
             }
         };
-        cleanupTimer.start();
     }
 
-    public void setEmitterLocation(double x, double y) {
-        this.emitterX = x;
-        this.emitterY = y;
+    // Adds the canvas to a layer and keeps it sized to that layer
+    public void attachTo(Pane layer) {
+        widthProperty().bind(layer.widthProperty());
+        heightProperty().bind(layer.heightProperty());
+        layer.getChildren().add(this);
     }
 
-    public void emit() {
-        for (int i = 0; i < 3; i++) {
-            Circle particle = new Circle(random.nextDouble() * 1.5 + 0.5);
-            particle.setFill(Color.WHITE);
-            particle.setOpacity(0.8);
-            particle.setMouseTransparent(true); // Prevent mouse interaction
-
-            // Set initial position
-            particle.setCenterX(emitterX);
-            particle.setCenterY(emitterY);
+    /**
+     * Emits a burst of particles at the given position in canvas coordinates.
+     * Particles beyond the capacity are dropped.
+     */
+    public void emit(double emitterX, double emitterY, int particles, Color color) {
+        byte paletteIndex = paletteIndex(color);
+        int toEmit = Math.min(particles, capacity - count);
 
-            // Calculate random movement
+        for (int n = 0; n < toEmit; n++) {
+            int i = count++;
             double angle = random.nextDouble() * 2 * Math.PI;
-            double speed = random.nextDouble() * 2 + 1;
-            double targetX = emitterX + Math.cos(angle) * speed * 10;
-            double targetY = emitterY + Math.sin(angle) * speed * 10;
-
-            // Create and configure animation
-            ParallelTransition animation = new ParallelTransition();
-
-            // Movement
-            Timeline moveTimeline = new Timeline(
-                    new KeyFrame(Duration.ZERO,
-                            new KeyValue(particle.centerXProperty(), emitterX),
-                            new KeyValue(particle.centerYProperty(), emitterY)
-                    ),
-                    new KeyFrame(Duration.millis(500),
-                            new KeyValue(particle.centerXProperty(), targetX),
-                            new KeyValue(particle.centerYProperty(), targetY)
-                    )
-            );
-
-            // Fade out
-            FadeTransition fade = new FadeTransition(Duration.millis(500), particle);
-            fade.setFromValue(0.8);
-            fade.setToValue(0);
-
-            animation.getChildren().addAll(moveTimeline, fade);
-
-            // Clean up when done
-            animation.setOnFinished(event -> particlesToRemove.add(particle));
-
-            getChildren().add(particle);
-            animation.play();
+            double speed = random.nextDouble() * 40 + 20;   // px/s
+
+            x[i] = (float) emitterX;
+            y[i] = (float) emitterY;
+            vx[i] = (float) (Math.cos(angle) * speed);
+            vy[i] = (float) (Math.sin(angle) * speed);
+            maxLife[i] = (float) (0.4 + random.nextDouble() * 0.3);
+            life[i] = maxLife[i];
+            radius[i] = (float) (random.nextDouble() * 1.5 + 0.5);
+            colorIndex[i] = paletteIndex;
+        }
+
+        if (count > 0 && !running) {
+            running = true;
+            lastFrame = 0;
+            timer.start();
+        }
+    }
+
+    public void emit(double emitterX, double emitterY) {
+        emit(emitterX, emitterY, 3, Color.WHITE);
+    }
+
+    public int getParticleCount() {
+        return count;
+    }
+
+    // Removes all particles and stops the timer
+    public void clear() {
+        count = 0;
+        stop();
+        getGraphicsContext2D().clearRect(0, 0, getWidth(), getHeight());
+    }
+
+    private void stop() {
+        if (running) {
+            timer.stop();
+            running = false;
+        }
+    }
+
+    private void step(long now) {
+        double dt = lastFrame == 0 ? 0 : Math.min((now - lastFrame) / 1_000_000_000.0, MAX_FRAME_SECONDS);
+        lastFrame = now;
+
+        update((float) dt);
+        render();
+
+        if (count == 0) {
+            stop();
+        }
+    }
+
+    private void update(float dt) {
+        float gravity = (float) (GRAVITY * dt);
+        int i = 0;
+        while (i < count) {
+            life[i] -= dt;
+            if (life[i] <= 0) {
+                // Swap the last live particle into this slot
+                removeAt(i);
+                continue;
+            }
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            vy[i] += gravity;
+            i++;
+        }
+    }
+
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        radius[i] = radius[last];
+        colorIndex[i] = colorIndex[last];
+    }
+
+    private void render() {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+
+        int currentColor = -1;
+        for (int i = 0; i < count; i++) {
+            if (colorIndex[i] != currentColor) {
+                currentColor = colorIndex[i];
+                gc.setFill(palette[currentColor]);
+            }
+            float r = radius[i];
+            gc.setGlobalAlpha(0.8 * life[i] / maxLife[i]);
+            gc.fillOval(x[i] - r, y[i] - r, r * 2, r * 2);
+        }
+        gc.setGlobalAlpha(1.0);
+    }
+
+    private byte paletteIndex(Color color) {
+        for (int i = 0; i < paletteSize; i++) {
+            if (palette[i].equals(color)) {
+                return (byte) i;
+            }
+        }
+        if (paletteSize == MAX_COLORS) {
+            return 0; // Palette full, reuse the first color
         }
+        palette[paletteSize] = color;
+        return (byte) paletteSize++;
     }
 }
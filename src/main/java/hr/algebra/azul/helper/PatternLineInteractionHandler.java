@@ -1,6 +1,7 @@
 package hr.algebra.azul.helper;
 
 import hr.algebra.azul.models.*;
+import hr.algebra.azul.styles.Styles;
 import hr.algebra.azul.view.ModernTwoPlayerGameView;
 import javafx.animation.ParallelTransition;
 import javafx.animation.PathTransition;
@@ -19,16 +20,23 @@ import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
 
 public class PatternLineInteractionHandler {
     private final ModernTwoPlayerGameView view;
     private final GameModel gameModel;
     private final TurnManager turnManager;
+    private final BoardRenderer boardRenderer;
+    private BooleanSupplier inputLock = () -> false;
+    private IntConsumer onLineHover = line -> { };
 
-    public PatternLineInteractionHandler(ModernTwoPlayerGameView view, GameModel gameModel, TurnManager turnManager) {
+    public PatternLineInteractionHandler(ModernTwoPlayerGameView view, GameModel gameModel,
+                                         TurnManager turnManager, BoardRenderer boardRenderer) {
         this.view = view;
         this.gameModel = gameModel;
         this.turnManager = turnManager;
+        this.boardRenderer = boardRenderer;
     }
 
     public void setupPatternLineInteractions() {
@@ -45,9 +53,38 @@ public class PatternLineInteractionHandler {
             Node node = patternLinesContainer.getChildren().get(i);
             if (node instanceof HBox patternLine) {
                 final int lineIndex = i - 1; // Adjust index to account for label
-                patternLine.setOnMouseClicked(e -> handlePatternLineClick(lineIndex, playerBoard));
+                patternLine.setOnMouseClicked(e -> {
+                    if (!inputLock.getAsBoolean()) handlePatternLineClick(lineIndex, playerBoard);
+                });
+                // game.css highlights :valid lines on hover
+                patternLine.setOnMouseEntered(e -> {
+                    patternLine.pseudoClassStateChanged(Styles.VALID, isValidTarget(lineIndex, playerBoard));
+                    if (playerBoard == getCurrentPlayerBoard()) onLineHover.accept(lineIndex);
+                });
+                patternLine.setOnMouseExited(e -> {
+                    patternLine.pseudoClassStateChanged(Styles.VALID, false);
+                    onLineHover.accept(-1);
+                });
             }
         }
+
+        // Clicking the floor line drops the whole hand there
+        HBox floorLine = boardRenderer.findFloorLine(playerBoard);
+        if (floorLine != null) {
+            floorLine.setOnMouseClicked(e -> {
+                if (!inputLock.getAsBoolean()) placeOnFloor(playerBoard);
+            });
+        }
+    }
+
+    // Called with the hovered line of the current player's board, and -1 when the pointer leaves it
+    public void setOnLineHover(IntConsumer onLineHover) {
+        this.onLineHover = onLineHover;
+    }
+
+    // While the supplier returns true, clicks on pattern and floor lines are ignored
+    public void setInputLock(BooleanSupplier inputLock) {
+        this.inputLock = inputLock;
     }
 
     public void handlePatternLineClick(int lineIndex, VBox playerBoard) {
@@ -80,8 +117,7 @@ public class PatternLineInteractionHandler {
         if (selectedTiles.isEmpty() || selectedColor == null) return;
 
         // Check if placement is valid
-        PatternLine targetLine = gameModel.getCurrentPlayer().getPatternLines().get(lineIndex);
-        if (!isValidPlacement(targetLine, selectedColor, lineIndex)) {
+        if (!gameModel.getCurrentPlayer().canPlaceTiles(selectedColor, lineIndex)) {
             return;
         }
 
@@ -89,20 +125,44 @@ public class PatternLineInteractionHandler {
         animateTilesToPatternLine(playerHand, lineIndex, selectedTiles, playerBoard);
     }
 
-    private boolean isValidPlacement(PatternLine targetLine, TileColor color, int lineIndex) {
-        // Check if line already has different color
-        if (!targetLine.isEmpty() && targetLine.getColor() != color) {
-            return false;
-        }
+    /**
+     * Moves every tile in the current player's hand straight to the floor line
+     * and ends the turn.
+     */
+    public void placeOnFloor(VBox playerBoard) {
+        if (playerBoard != getCurrentPlayerBoard()) return;
 
-        // Check if the wall already has this color in the corresponding row
-        Wall wall = gameModel.getCurrentPlayer().getWall();
-        if (wall.hasColor(lineIndex, color)) {
-            return false;
+        HBox playerHand = getCurrentPlayerHand();
+        List<Tile> tiles = new ArrayList<>();
+        for (Node node : playerHand.getChildren()) {
+            if (node instanceof Circle circle && circle.getFill() instanceof Color fillColor) {
+                TileColor tileColor = getTileColorFromFill(fillColor);
+                if (tileColor != null) tiles.add(new Tile(tileColor));
+            }
         }
+        if (tiles.isEmpty()) return;
+
+        animateOverflowTiles(tiles, playerBoard);
 
-        // Check if line is full
-        return !targetLine.isFull();
+        List<Node> handTiles = new ArrayList<>(playerHand.getChildren());
+        playerHand.getChildren().clear();
+        TilePool.getInstance().releaseAll(handTiles);
+
+        Player player = gameModel.getCurrentPlayer();
+        player.getFloorLine().addTiles(tiles);
+        player.clearHand();
+        boardRenderer.renderFloorLine(playerBoard, player);
+
+        scheduleEndTurn();
+    }
+
+    // The model's hand is kept in step with the view, so its first tile gives the color
+    private boolean isValidTarget(int lineIndex, VBox playerBoard) {
+        if (playerBoard != getCurrentPlayerBoard()) return false;
+
+        Player player = gameModel.getCurrentPlayer();
+        List<Tile> hand = player.getHand();
+        return !hand.isEmpty() && player.canPlaceTiles(hand.get(0).getColor(), lineIndex);
     }
 
     private void animateTilesToPatternLine(HBox hand, int lineIndex, List<Tile> tiles, VBox playerBoard) {
@@ -119,8 +179,12 @@ public class PatternLineInteractionHandler {
         }
 
         allAnimations.setOnFinished(e -> {
-            // Clear the hand
+            // Clear the hand and return its tiles to the pool
+            List<Node> handTiles = new ArrayList<>(hand.getChildren());
             hand.getChildren().clear();
+            TilePool.getInstance().releaseAll(handTiles);
+
+            gameModel.getCurrentPlayer().clearHand();
 
             // Add tiles to pattern line in the model
             PatternLine patternLine = gameModel.getCurrentPlayer().getPatternLines().get(lineIndex);
@@ -140,59 +204,30 @@ public class PatternLineInteractionHandler {
 
             // Update both pattern lines and floor line display
             updatePatternLines();
-            updateFloorLine(gameModel.getCurrentPlayer(), playerBoard);
+            boardRenderer.renderFloorLine(playerBoard, gameModel.getCurrentPlayer());
 
             // End turn after successful placement
-            Platform.runLater(() -> {
-                PauseTransition pause = new PauseTransition(Duration.millis(300));
-                pause.setOnFinished(event -> turnManager.handleEndTurn());
-                pause.play();
-            });
+            scheduleEndTurn();
         });
 
-        allAnimations.play();
+        AnimationScheduler.getInstance().play("pattern-line", null, allAnimations);
     }
 
-    private void updateFloorLine(Player player, VBox playerBoard) {
-        HBox floorLine = (HBox) playerBoard.getChildren().stream()
-                .filter(node -> node instanceof HBox)
-                .reduce((first, second) -> second) // Get the last HBox (floor line)
-                .orElse(null);
-
-        if (floorLine != null) {
-            floorLine.getChildren().clear();
-
-            // Create spaces for the floor line
-            for (int i = 0; i < FloorLine.MAX_TILES; i++) {
-                Circle space = new Circle(15);
-                space.setFill(Color.web("#374151")); // Empty space color
-                space.setStroke(Color.web("#4B5563"));
-                space.setStrokeWidth(1);
-
-                // If there's a tile at this position, color it
-                Tile tile = player.getFloorLine().getTileAt(i);
-                if (tile != null && tile.getColor() != null) {
-                    space.setFill(Color.web(tile.getColor().getHexCode()));
-                }
-
-                floorLine.getChildren().add(space);
-            }
-        }
+    private void scheduleEndTurn() {
+        Platform.runLater(() -> {
+            PauseTransition pause = new PauseTransition(Duration.millis(300));
+            pause.setOnFinished(event -> turnManager.handleEndTurn());
+            AnimationScheduler.getInstance().play("end-turn-delay", null, pause);
+        });
     }
 
     private void animateOverflowTiles(List<Tile> overflow, VBox playerBoard) {
-        HBox floorLine = (HBox) playerBoard.getChildren().stream()
-                .filter(node -> node instanceof HBox)
-                .reduce((first, second) -> second)
-                .orElse(null);
-
+        HBox floorLine = boardRenderer.findFloorLine(playerBoard);
         if (floorLine == null) return;
 
         for (Tile tile : overflow) {
-            Circle overflowTile = new Circle(15);
-            overflowTile.setFill(Color.web(tile.getColor().getHexCode()));
-            overflowTile.setStroke(Color.web("#4B5563"));
-            overflowTile.setStrokeWidth(1);
+            if (tile.getColor() == null) continue;
+            Circle overflowTile = TilePool.getInstance().acquire(tile.getColor());
 
             // Add animation for overflow tiles
             PathTransition path = createPathTransition(
@@ -200,7 +235,8 @@ public class PatternLineInteractionHandler {
                     floorLine,
                     overflowTile
             );
-            path.play();
+            path.setOnFinished(e -> TilePool.getInstance().release(overflowTile));
+            AnimationScheduler.getInstance().playDecorative("floor-overflow", overflowTile, path);
         }
     }
 
@@ -236,10 +272,13 @@ public class PatternLineInteractionHandler {
     }
 
     public VBox findPatternLinesContainer(VBox playerBoard) {
-        return (VBox) playerBoard.getChildren().stream()
-                .filter(node -> node instanceof VBox)
-                .findFirst()
-                .orElse(null);
+        return boardRenderer.findPatternLinesContainer(playerBoard);
+    }
+
+    private VBox getCurrentPlayerBoard() {
+        return gameModel.getCurrentPlayer() == gameModel.getPlayers().get(0)
+                ? view.getPlayer1Board()
+                : view.getPlayer2Board();
     }
 
     private HBox getCurrentPlayerHand() {
@@ -250,37 +289,11 @@ public class PatternLineInteractionHandler {
 
     private void updatePatternLines() {
         Platform.runLater(() -> {
-            updatePlayerPatternLines(view.getPlayer1Board(), gameModel.getPlayers().get(0));
-            updatePlayerPatternLines(view.getPlayer2Board(), gameModel.getPlayers().get(1));
+            boardRenderer.renderPatternLines(view.getPlayer1Board(), gameModel.getPlayers().get(0));
+            boardRenderer.renderPatternLines(view.getPlayer2Board(), gameModel.getPlayers().get(1));
         });
     }
 
-    private void updatePlayerPatternLines(VBox playerBoard, Player player) {
-        VBox patternLinesContainer = findPatternLinesContainer(playerBoard);
-        if (patternLinesContainer == null) return;
-
-        List<PatternLine> playerPatternLines = player.getPatternLines();
-
-        // Start from index 1 to skip the label
-        for (int i = 1; i <= playerPatternLines.size(); i++) {
-            HBox lineContainer = (HBox) patternLinesContainer.getChildren().get(i);
-            PatternLine patternLine = playerPatternLines.get(i - 1);
-            updateSinglePatternLine(lineContainer, patternLine);
-        }
-    }
-
-    private void updateSinglePatternLine(HBox lineContainer, PatternLine patternLine) {
-        List<Tile> tiles = patternLine.getTiles();
-        for (int i = 0; i < lineContainer.getChildren().size(); i++) {
-            Circle space = (Circle) lineContainer.getChildren().get(i);
-            if (i < tiles.size()) {
-                space.setFill(Color.web(tiles.get(i).getColor().getHexCode()));
-            } else {
-                space.setFill(Color.web("#374151")); // Empty space color
-            }
-        }
-    }
-
     private TileColor getTileColorFromFill(Color fillColor) {
         String hexColor = String.format("#%02X%02X%02X",
                 (int) (fillColor.getRed() * 255),
@@ -0,0 +1,77 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.ai.Analysis;
+import hr.algebra.azul.ai.AnalysisSearch;
+import hr.algebra.azul.ai.HeuristicEvaluator;
+import hr.algebra.azul.ai.Position;
+import hr.algebra.azul.ai.SearchContext;
+import hr.algebra.azul.ai.SearchThreads;
+import hr.algebra.azul.ai.TranspositionTable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps an {@link AnalysisSearch} running on the current position in the
+ * background, on {@link SearchThreads#analysisPool()} so it stays out of the
+ * computer players' way. It uses the engine's transposition table, so a
+ * position the computer players have searched, or one analysed before, comes
+ * back at once. Each new position replaces the last one; {@link #latest()}
+ * can be polled from any thread and only ever returns an analysis of the
+ * current position.
+ */
+public class PositionAnalyzer {
+    private static final System.Logger LOG = System.getLogger(PositionAnalyzer.class.getName());
+    // Long enough to search any position to the end of its round
+    private static final long ANALYSIS_MILLIS = 10 * 60_000;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "position-analyzer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AnalysisSearch search =
+            new AnalysisSearch(new HeuristicEvaluator(), TranspositionTable.engine(), SearchThreads.analysisPool());
+    private final AtomicReference<Analysis> latest = new AtomicReference<>();
+
+    private volatile Position position;
+    private SearchContext context;
+
+    // Stops the running analysis and starts one of the given position
+    public void analyse(Position next) {
+        stop();
+        SearchContext run = new SearchContext(ANALYSIS_MILLIS);
+        context = run;
+        position = next;
+        coordinator.execute(() -> {
+            try {
+                search.analyse(next, run, latest::set);
+            } catch (RuntimeException e) {
+                if (!run.shouldStop()) {
+                    LOG.log(System.Logger.Level.WARNING, "Position analysis failed", e);
+                }
+            }
+        });
+    }
+
+    public void stop() {
+        if (context != null) {
+            context.cancel();
+            context = null;
+        }
+        position = null;
+    }
+
+    // The newest analysis of the current position, or null before the first one
+    public Analysis latest() {
+        Analysis analysis = latest.get();
+        return analysis != null && analysis.position() == position ? analysis : null;
+    }
+
+    public void shutdown() {
+        stop();
+        coordinator.shutdownNow();
+    }
+}
@@ -8,22 +8,23 @@ import javafx.scene.Node;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.LineTo;
 import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TileAnimationManager {
     private StackPane animationLayer;
+    private final TilePool tilePool;
     private static final Duration ANIMATION_DURATION = Duration.millis(500);
 
     public TileAnimationManager(StackPane animationLayer) {
         this.animationLayer = animationLayer;
+        this.tilePool = TilePool.getInstance();
     }
 
     public void animateFactorySelection(VBox factoryNode, List<Tile> selectedTiles, List<Tile> remainingTiles,
@@ -83,21 +84,23 @@ public class TileAnimationManager {
         allAnimations.setOnFinished(e -> {
             animationLayer.getChildren().removeAll(selectedCircles);
             animationLayer.getChildren().removeAll(remainingCircles);
+            tilePool.releaseAll(selectedCircles);
+            tilePool.releaseAll(remainingCircles);
             onComplete.run();
         });
 
-        allAnimations.play();
+        AnimationScheduler.getInstance().play("tile-transfer", null, allAnimations);
     }
 
     private List<Circle> createTileCircles(List<Tile> tiles) {
-        return tiles.stream().map(tile -> {
-            Circle circle = new Circle(15);
-            circle.setFill(Color.web(tile.getColor().getHexCode()));
-            circle.setStroke(Color.web("#4B5563"));
-            circle.setStrokeWidth(1);
+        List<Circle> circles = new ArrayList<>(tiles.size());
+        for (Tile tile : tiles) {
+            Circle circle = tilePool.acquire(tile.getColor());
+            circle.setEffect(null);
             circle.setMouseTransparent(true);
-            return circle;
-        }).collect(Collectors.toList());
+            circles.add(circle);
+        }
+        return circles;
     }
 
     private void positionCirclesAtSource(List<Circle> circles, double centerX, double centerY) {
@@ -0,0 +1,81 @@
+package hr.algebra.azul.helper;
+
+import hr.algebra.azul.models.TileColor;
+import javafx.scene.Node;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Circle;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Pool of pre-styled tile circles for hands, the center pool and tile
+ * animations. Views check a circle out with {@link #acquire(TileColor)} and
+ * hand it back with {@link #release(Node)} once it has been removed from its
+ * parent, so tile movement does not allocate new nodes. FX thread only.
+ */
+public final class TilePool {
+    private static final int PREWARM_SIZE = 32;
+    private static final int MAX_POOLED = 128;
+
+    private static TilePool instance;
+
+    private final Deque<Circle> free = new ArrayDeque<>(MAX_POOLED);
+
+    private TilePool() {
+        for (int i = 0; i < PREWARM_SIZE; i++) {
+            free.push(GameUIConstants.createBaseCircle());
+        }
+    }
+
+    public static TilePool getInstance() {
+        if (instance == null) {
+            instance = new TilePool();
+        }
+        return instance;
+    }
+
+    public Circle acquire(TileColor color) {
+        Circle circle = free.isEmpty() ? GameUIConstants.createBaseCircle() : free.pop();
+        circle.setFill(fillFor(color));
+        circle.setEffect(GameUIConstants.TILE_DROP_SHADOW);
+        return circle;
+    }
+
+    public Paint fillFor(TileColor color) {
+        return GameUIConstants.tileFill(color);
+    }
+
+    // Only circles handed out by acquire() are taken back; other nodes are ignored
+    public void release(Node node) {
+        if (!(node instanceof Circle circle) || circle.getParent() != null || free.size() >= MAX_POOLED) {
+            return;
+        }
+        reset(circle);
+        free.push(circle);
+    }
+
+    public void releaseAll(Collection<? extends Node> nodes) {
+        for (Node node : nodes) {
+            release(node);
+        }
+    }
+
+    private void reset(Circle circle) {
+        GameUIConstants.stopHoverScale(circle);
+        circle.setOnMouseClicked(null);
+        circle.setOnMouseEntered(null);
+        circle.setOnMouseExited(null);
+        circle.setMouseTransparent(false);
+        circle.setCenterX(0);
+        circle.setCenterY(0);
+        circle.setTranslateX(0);
+        circle.setTranslateY(0);
+        circle.setScaleX(1);
+        circle.setScaleY(1);
+        circle.setOpacity(1);
+        circle.setStroke(GameUIConstants.TILE_BORDER);
+        circle.setStrokeWidth(GameUIConstants.TILE_STROKE_WIDTH);
+    }
+}
@@ -1,8 +1,12 @@
 package hr.algebra.azul.helper;
 
-import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.events.EventBus;
+import hr.algebra.azul.events.GameEvent;
+import hr.algebra.azul.events.GameEventType;
 import hr.algebra.azul.models.GameModel;
 import hr.algebra.azul.models.Player;
+import hr.algebra.azul.styles.Styles;
+import hr.algebra.azul.styles.Theme;
 import hr.algebra.azul.view.ModernTwoPlayerGameView;
 import javafx.animation.*;
 import javafx.application.Platform;
@@ -11,7 +15,6 @@ import javafx.beans.property.SimpleIntegerProperty;
 import javafx.geometry.Pos;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
@@ -19,6 +22,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public class TurnManager {
     private final GameModel gameModel;
@@ -27,20 +31,15 @@ public class TurnManager {
     private Timeline timer;
     private boolean isGamePaused;
     private Label timerLabel; // Store reference to timer label
+    private Runnable onPaused = () -> { };
+    private Runnable onResumed = () -> { };
+    private Consumer<Player> onTurnChanged = player -> { };
 
-    // Style constants
-    private static final String ACTIVE_BOARD_STYLE = """
-        -fx-background-color: #1F2937;
-        -fx-padding: 20;
-        -fx-border-color: #4F46E5;
-        -fx-border-width: 2;
-        -fx-border-radius: 10;
-        """;
-
-    private static final String INACTIVE_BOARD_STYLE = """
-        -fx-background-color: #1F2937;
-        -fx-padding: 20;
-        """;
+    // Turn-change nodes and transitions are built once and replayed every turn
+    private Label turnNotification;
+    private SequentialTransition turnNotificationAnimation;
+    private Rectangle turnIndicator;
+    private TranslateTransition turnIndicatorSlide;
 
     public TurnManager(GameModel gameModel, ModernTwoPlayerGameView view, Label timerLabel) {
         this.gameModel = gameModel;
@@ -94,7 +93,8 @@ public class TurnManager {
         }
 
         // Check if round is complete
-        if (isRoundComplete()) {
+        if (gameModel.isRoundComplete()) {
+            EventBus.getInstance().publish(new GameEvent(GameEventType.ROUND_ENDED, null));
         } else {
             switchToNextPlayer();
             showTurnChangeNotification();
@@ -117,6 +117,7 @@ public class TurnManager {
 
         // Reset timer
         resetTimer();
+        onTurnChanged.accept(nextPlayer);
 
         // Update UI
         Platform.runLater(() -> {
@@ -127,60 +128,65 @@ public class TurnManager {
     }
 
     private void updateBoardStyles(boolean isFirstPlayerActive) {
-        view.getPlayer1Board().setStyle(isFirstPlayerActive ? ACTIVE_BOARD_STYLE : INACTIVE_BOARD_STYLE);
-        view.getPlayer2Board().setStyle(isFirstPlayerActive ? INACTIVE_BOARD_STYLE : ACTIVE_BOARD_STYLE);
+        view.getPlayer1Board().pseudoClassStateChanged(Styles.ACTIVE, isFirstPlayerActive);
+        view.getPlayer2Board().pseudoClassStateChanged(Styles.ACTIVE, !isFirstPlayerActive);
     }
 
     private void showTurnChangeNotification() {
-        Label notification = new Label(gameModel.getCurrentPlayer().getName() + "'s Turn");
-        notification.setStyle("""
-            -fx-background-color: #3B82F6;
-            -fx-text-fill: white;
-            -fx-padding: 10 20;
-            -fx-background-radius: 5;
-            -fx-font-size: 16px;
-            """);
+        if (turnNotification == null) {
+            createTurnNotification();
+        }
+        turnNotification.setText(gameModel.getCurrentPlayer().getName() + "'s Turn");
 
-        StackPane.setAlignment(notification, Pos.TOP_CENTER);
-        notification.setTranslateY(100);
+        if (!view.getAnimationLayer().getChildren().contains(turnNotification)) {
+            view.getAnimationLayer().getChildren().add(turnNotification);
+        }
+        AnimationScheduler.getInstance().playDecorative("turn-notification", turnNotification, turnNotificationAnimation);
+    }
 
-        view.getAnimationLayer().getChildren().add(notification);
+    private void createTurnNotification() {
+        turnNotification = new Label();
+        turnNotification.getStyleClass().add(Styles.TURN_NOTIFICATION);
+
+        StackPane.setAlignment(turnNotification, Pos.TOP_CENTER);
+        turnNotification.setTranslateY(100);
 
         // Animations
-        FadeTransition fadeIn = new FadeTransition(Duration.millis(200), notification);
+        FadeTransition fadeIn = new FadeTransition(Duration.millis(200), turnNotification);
         fadeIn.setFromValue(0);
         fadeIn.setToValue(1);
 
-        FadeTransition fadeOut = new FadeTransition(Duration.millis(200), notification);
+        FadeTransition fadeOut = new FadeTransition(Duration.millis(200), turnNotification);
         fadeOut.setFromValue(1);
         fadeOut.setToValue(0);
         fadeOut.setDelay(Duration.seconds(1.5));
 
-        SequentialTransition sequence = new SequentialTransition(fadeIn, fadeOut);
-        sequence.setOnFinished(e -> view.getAnimationLayer().getChildren().remove(notification));
-        sequence.play();
+        turnNotificationAnimation = new SequentialTransition(fadeIn, fadeOut);
+        turnNotificationAnimation.setOnFinished(e -> view.getAnimationLayer().getChildren().remove(turnNotification));
     }
 
-    private void animateTurnChange(boolean isFirstPlayer) {
+    public void animateTurnChange(boolean isFirstPlayer) {
         double sceneWidth = view.getStage().getWidth();
         double sceneHeight = view.getStage().getHeight();
 
-        Rectangle indicator = new Rectangle(sceneWidth, 4);
-        indicator.setFill(Color.web("#3B82F6"));
-        indicator.setTranslateY(isFirstPlayer ? -2 : sceneHeight - 2);
+        if (turnIndicator == null) {
+            turnIndicator = new Rectangle(sceneWidth, 4);
+            turnIndicator.setFill(Color.web("#3B82F6"));
+            turnIndicator.setEffect(GameUIConstants.ACCENT_GLOW);
 
-        DropShadow glow = new DropShadow();
-        glow.setColor(Color.web("#3B82F6"));
-        glow.setRadius(10);
-        indicator.setEffect(glow);
+            turnIndicatorSlide = new TranslateTransition(Duration.millis(600), turnIndicator);
+            turnIndicatorSlide.setOnFinished(e -> view.getAnimationLayer().getChildren().remove(turnIndicator));
+        }
 
-        view.getAnimationLayer().getChildren().add(indicator);
+        turnIndicator.setWidth(sceneWidth);
+        turnIndicator.setTranslateY(isFirstPlayer ? -2 : sceneHeight - 2);
+        turnIndicatorSlide.setFromX(-sceneWidth);
+        turnIndicatorSlide.setToX(sceneWidth);
 
-        TranslateTransition slide = new TranslateTransition(Duration.millis(600), indicator);
-        slide.setFromX(-sceneWidth);
-        slide.setToX(sceneWidth);
-        slide.setOnFinished(e -> view.getAnimationLayer().getChildren().remove(indicator));
-        slide.play();
+        if (!view.getAnimationLayer().getChildren().contains(turnIndicator)) {
+            view.getAnimationLayer().getChildren().add(turnIndicator);
+        }
+        AnimationScheduler.getInstance().playDecorative("turn-indicator", turnIndicator, turnIndicatorSlide);
     }
 
     public void resetTimer() {
@@ -189,22 +195,37 @@ public class TurnManager {
             timer.stop();
         }
         timer.play();
-        timerLabel.setStyle("-fx-text-fill: #9CA3AF;");
+        timerLabel.pseudoClassStateChanged(Styles.WARNING, false);
         updateTimerDisplay();
     }
 
     public void pauseTimer() {
         timer.pause();
         isGamePaused = true;
+        onPaused.run();
     }
 
     public void resumeTimer() {
         timer.play();
         isGamePaused = false;
+        onResumed.run();
+    }
+
+    public void setOnPaused(Runnable onPaused) {
+        this.onPaused = onPaused;
+    }
+
+    public void setOnResumed(Runnable onResumed) {
+        this.onResumed = onResumed;
+    }
+
+    // Called with the new current player once the model has switched turns
+    public void setOnTurnChanged(Consumer<Player> onTurnChanged) {
+        this.onTurnChanged = onTurnChanged;
     }
 
     private void showTimeWarning() {
-        timerLabel.setStyle("-fx-text-fill: #EF4444;");
+        timerLabel.pseudoClassStateChanged(Styles.WARNING, true);
     }
 
     private void handleTimeOut() {
@@ -218,30 +239,12 @@ public class TurnManager {
                 : view.getPlayer2Hand();
     }
 
-    private boolean isRoundComplete() {
-        // Check if all factories are empty
-        boolean factoriesEmpty = true;
-        List<Factory> factories = gameModel.getFactories();
-        for (Factory factory : factories) {
-            if (!factory.isEmpty()) {
-                factoriesEmpty = false;
-                break;
-            }
-        }
-
-        // Check if center is empty
-        boolean centerEmpty = gameModel.getCenterPool().isEmpty();
-
-        return factoriesEmpty && centerEmpty;
-    }
-
-
     private void showInvalidTurnDialog() {
         Alert alert = new Alert(Alert.AlertType.WARNING);
         alert.setTitle("Invalid Turn");
         alert.setHeaderText("Cannot End Turn");
         alert.setContentText("You must place all selected tiles before ending your turn.");
-        styleDialog(alert);
+        Theme.styleDialog(alert);
         alert.showAndWait();
     }
 
@@ -250,40 +253,10 @@ public class TurnManager {
         alert.setTitle("Time Out");
         alert.setHeaderText("Turn Time Out");
         alert.setContentText("Your turn has ended due to time out.");
-        styleDialog(alert);
+        Theme.styleDialog(alert);
         alert.showAndWait();
     }
 
-    private void styleDialog(Alert alert) {
-        alert.getDialogPane().setStyle("""
-            -fx-background-color: #1F2937;
-            """);
-
-        // Style header
-        alert.getDialogPane().lookup(".header-panel").setStyle("""
-            -fx-background-color: #111827;
-            """);
-
-        Label headerText = (Label) alert.getDialogPane().lookup(".header-panel > .label");
-        if (headerText != null) {
-            headerText.setStyle("""
-                -fx-text-fill: white;
-                -fx-font-size: 18px;
-                -fx-font-weight: bold;
-                """);
-        }
-
-        Label contentText = (Label) alert.getDialogPane().lookup(".content.label");
-        if (contentText != null) {
-            contentText.setStyle("""
-                -fx-text-fill: #9CA3AF;
-                -fx-font-size: 14px;
-                """);
-        }
-    }
-
-
-
     public boolean isGamePaused() {
         return isGamePaused;
     }
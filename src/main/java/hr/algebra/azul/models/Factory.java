@@ -7,16 +7,27 @@ import java.util.List;
 public class Factory implements Serializable {
     private final List<Tile> tiles;
     private final int index;
-    private static final int FACTORY_SIZE = 4;
+    public static final int FACTORY_SIZE = 4;
+    private final TableCount count; // null for a factory outside a game
+
+    // Set on every mutation so views only repaint factories that changed
+    private boolean dirty = true;
 
     public Factory(int index) {
+        this(index, null);
+    }
+
+    Factory(int index, TableCount count) {
         this.index = index;
         this.tiles = new ArrayList<>(FACTORY_SIZE);
+        this.count = count;
     }
 
     public void addTile(Tile tile) {
         if (tiles.size() < FACTORY_SIZE) {
             tiles.add(tile);
+            dirty = true;
+            countTiles(1);
         }
     }
 
@@ -39,6 +50,8 @@ public class Factory implements Serializable {
         // Clear the factory and keep only non-selected tiles
         tiles.clear();
         tiles.addAll(remainingTiles);
+        dirty = true;
+        countTiles(-selectedTiles.size());
 
         return selectedTiles;
     }
@@ -46,6 +59,8 @@ public class Factory implements Serializable {
     public List<Tile> removeRemainingTiles() {
         List<Tile> remaining = new ArrayList<>(tiles);
         tiles.clear();
+        dirty = true;
+        countTiles(-remaining.size());
         return remaining;
     }
 
@@ -58,12 +73,36 @@ public class Factory implements Serializable {
     }
 
     public void clear() {
+        countTiles(-tiles.size());
         tiles.clear();
+        dirty = true;
     }
 
     public void fillFromBag(TileBag bag) {
+        int before = tiles.size();
         while (tiles.size() < FACTORY_SIZE && bag.hasNext()) {
             tiles.add(bag.draw());
         }
+        dirty = true;
+        countTiles(tiles.size() - before);
+    }
+
+    private void countTiles(int delta) {
+        if (count != null) {
+            count.addFactoryTiles(delta);
+        }
+    }
+
+    // Dirty tracking
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public void markClean() {
+        dirty = false;
     }
 }
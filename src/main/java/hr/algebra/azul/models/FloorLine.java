@@ -8,6 +8,10 @@ public class FloorLine {
     private final List<Tile> tiles;
     public static final int[] PENALTY_POINTS = {-1, -1, -2, -2, -2, -3, -3};
     public static final int MAX_TILES = 7;
+    private static final int ALL_SLOTS = (1 << MAX_TILES) - 1;
+
+    // Bit i is set when slot i changed since the last render
+    private int dirtySlots = ALL_SLOTS;
 
     public FloorLine() {
         this.tiles = new ArrayList<>();
@@ -19,13 +23,16 @@ public class FloorLine {
         int tilesToAdd = Math.min(remainingSpace, newTiles.size());
 
         if (tilesToAdd > 0) {
+            int oldSize = tiles.size();
             tiles.addAll(newTiles.subList(0, tilesToAdd));
+            markSlotsDirty(oldSize, tiles.size());
         }
     }
 
     public void addTile(Tile tile) {
         if (tiles.size() < MAX_TILES) {
             tiles.add(tile);
+            markSlotsDirty(tiles.size() - 1, tiles.size());
         }
     }
 
@@ -38,6 +45,7 @@ public class FloorLine {
     }
 
     public void clear() {
+        markSlotsDirty(0, tiles.size());
         tiles.clear();
     }
 
@@ -62,6 +70,25 @@ public class FloorLine {
         return null;
     }
 
+    // Dirty tracking
+    private void markSlotsDirty(int from, int to) {
+        for (int i = from; i < to; i++) {
+            dirtySlots |= 1 << i;
+        }
+    }
+
+    public int getDirtySlots() {
+        return dirtySlots;
+    }
+
+    public void markDirty() {
+        dirtySlots = ALL_SLOTS;
+    }
+
+    public void markClean() {
+        dirtySlots = 0;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("FloorLine: ");
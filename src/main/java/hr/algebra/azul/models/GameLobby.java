@@ -2,6 +2,9 @@ package hr.algebra.azul.models;
 
 import javafx.beans.property.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameLobby {
     private final StringProperty name = new SimpleStringProperty();
     private final StringProperty host = new SimpleStringProperty();
@@ -9,6 +12,7 @@ public class GameLobby {
     private final IntegerProperty maxPlayers = new SimpleIntegerProperty();
     private final StringProperty status = new SimpleStringProperty();
     private final StringProperty rank = new SimpleStringProperty();
+    private final List<String> seatStrategies = new ArrayList<>();
 
     public GameLobby(String name, String host, int currentPlayers, int maxPlayers, String status, String rank) {
         this.name.set(name);
@@ -26,6 +30,8 @@ public class GameLobby {
     public int getMaxPlayers() { return maxPlayers.get(); }
     public String getStatus() { return status.get(); }
     public String getRank() { return rank.get(); }
+    public List<String> getSeatStrategies() { return new ArrayList<>(seatStrategies); }
+    public void setSeatStrategies(List<String> strategyIds) { seatStrategies.clear(); seatStrategies.addAll(strategyIds); }
 
     public StringProperty nameProperty() { return name; }
     public StringProperty hostProperty() { return host; }
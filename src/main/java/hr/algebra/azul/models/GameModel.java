@@ -2,7 +2,6 @@ package hr.algebra.azul.models;
 
 import java.io.Serializable;
 import java.util.*;
-import java.util.stream.IntStream;
 
 public class GameModel implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -16,6 +15,7 @@ public class GameModel implements Serializable {
     private final List<Player> players;
     private final TileBag tileBag;
     private final Stack<GameAction> actionHistory;
+    private final TableCount tableCount;
 
     // Game state
     private Player currentPlayer;
@@ -23,9 +23,14 @@ public class GameModel implements Serializable {
     private GameState gameState;
     private int currentRound;
     private boolean isProcessingRound;
+    private boolean centerDirty = true;
 
     public void addTilesToCenter(List<Tile> tiles) {
-        centerPool.addAll(tiles);
+        if (!tiles.isEmpty()) {
+            centerPool.addAll(tiles);
+            centerDirty = true;
+            tableCount.addCenterTiles(countColored(tiles));
+        }
     }
 
     public enum GameState {
@@ -38,10 +43,16 @@ public class GameModel implements Serializable {
     }
 
     public GameModel(int numberOfPlayers) {
-        validatePlayerCount(numberOfPlayers);
+        this(Collections.nCopies(validatePlayerCount(numberOfPlayers), Player.HUMAN_STRATEGY));
+    }
+
+    // One player per entry, each played by the strategy with that id
+    public GameModel(List<String> strategyIds) {
+        validatePlayerCount(strategyIds.size());
+        this.tableCount = new TableCount();
         this.factories = initializeFactories();
         this.centerPool = new ArrayList<>();
-        this.players = createPlayers(numberOfPlayers);
+        this.players = createPlayers(strategyIds);
         this.tileBag = new TileBag();
         this.actionHistory = new Stack<>();
         this.currentPlayer = players.get(0);
@@ -52,25 +63,28 @@ public class GameModel implements Serializable {
         initializeGame();
     }
 
-    private void validatePlayerCount(int numberOfPlayers) {
+    private static int validatePlayerCount(int numberOfPlayers) {
         if (numberOfPlayers < MIN_PLAYERS || numberOfPlayers > MAX_PLAYERS) {
             throw new IllegalArgumentException(
                     "Player count must be between " + MIN_PLAYERS + " and " + MAX_PLAYERS);
         }
+        return numberOfPlayers;
     }
 
     private List<Factory> initializeFactories() {
         List<Factory> factoryList = new ArrayList<>();
         for (int i = 0; i < FACTORY_COUNT; i++) {
-            factoryList.add(new Factory(i));
+            factoryList.add(new Factory(i, tableCount));
         }
         return factoryList;
     }
 
-    private List<Player> createPlayers(int numberOfPlayers) {
+    private List<Player> createPlayers(List<String> strategyIds) {
         List<Player> playerList = new ArrayList<>();
-        for (int i = 0; i < numberOfPlayers; i++) {
-            playerList.add(new Player("Player " + (i + 1)));
+        for (int i = 0; i < strategyIds.size(); i++) {
+            Player player = new Player("Player " + (i + 1), strategyIds.get(i));
+            player.joinTableCount(tableCount);
+            playerList.add(player);
         }
         return playerList;
     }
@@ -85,6 +99,8 @@ public class GameModel implements Serializable {
         // Reset center pool
         centerPool.clear();
         centerPool.add(new Tile(null)); // First player token
+        centerDirty = true;
+        tableCount.clearCenter();
 
         gameState = GameState.FACTORY_SELECTION;
     }
@@ -101,10 +117,13 @@ public class GameModel implements Serializable {
                 processPlayerWallTiling(player);
             }
 
-            // Clear pattern lines and calculate penalties
+            // The token leaves the floor with the penalties, so find its holder first
+            Player startingPlayer = findFirstPlayerTokenHolder();
+
+            // Clear full pattern lines and calculate penalties; partial lines carry over
             for (Player player : players) {
                 applyFloorPenalties(player);
-                clearPatternLines(player);
+                clearFullPatternLines(player);
             }
 
             // Check if game should end
@@ -115,7 +134,7 @@ public class GameModel implements Serializable {
             }
 
             // Start new round
-            startNewRound();
+            startNewRound(startingPlayer);
             return true;
         } finally {
             isProcessingRound = false;
@@ -123,69 +142,61 @@ public class GameModel implements Serializable {
     }
 
     private void processPlayerWallTiling(Player player) {
-        List<PatternLine> patterns = player.getPatternLines();
-        for (int i = 0; i < patterns.size(); i++) {
-            PatternLine line = patterns.get(i);
-            if (line.isFull()) {
-                TileColor color = line.getColor();
-                if (color != null) {
-                    int points = player.getWall().addTile(i, color);
-                    player.addScore(points);
-                }
-            }
+        for (int i = 0; i < player.getPatternLines().size(); i++) {
+            ScoringSystem.tileLine(player, i, currentRound);
         }
     }
 
     private void applyFloorPenalties(Player player) {
-        int penalty = player.getFloorLine().calculatePenalty();
-        if (penalty != 0) {
-            player.addScore(penalty);
-            player.getFloorLine().clear();
-        }
+        ScoringSystem.applyFloorPenalty(player, currentRound);
     }
 
-    private void clearPatternLines(Player player) {
+    private void clearFullPatternLines(Player player) {
         for (PatternLine line : player.getPatternLines()) {
-            line.clear();
+            if (line.isFull()) {
+                line.clear();
+            }
         }
         player.clearHand();
     }
 
+    // The player with the first player token on their floor, or null when nobody took it
+    private Player findFirstPlayerTokenHolder() {
+        for (Player player : players) {
+            for (Tile tile : player.getFloorLine().getTiles()) {
+                if (tile.getColor() == null) {
+                    return player;
+                }
+            }
+        }
+        return null;
+    }
+
+    // A completed row ends the game, and so does a bag too empty to deal another round
     private boolean shouldEndGame() {
-        //TODO: Implement end game conditions
-        //return hasCompletedRow() || currentRound >= 5;
+        if (!tileBag.hasNext()) {
+            return true;
+        }
+        for (Player player : players) {
+            if (player.hasCompletedRow()) {
+                return true;
+            }
+        }
         return false;
     }
 
     private void calculateFinalScores() {
         for (Player player : players) {
-            int rowBonus = calculateRowBonus(player);
-            int columnBonus = calculateColumnBonus(player);
-            int colorBonus = calculateColorBonus(player);
-            player.addScore(rowBonus + columnBonus + colorBonus);
+            ScoringSystem.awardEndGameBonuses(player, currentRound);
         }
     }
 
-    private int calculateRowBonus(Player player) {
-        return (int) IntStream.range(0, Wall.WALL_SIZE)
-                .filter(row -> player.getWall().isRowComplete(row))
-                .count() * 2;
-    }
-
-    private int calculateColumnBonus(Player player) {
-        return (int) IntStream.range(0, Wall.WALL_SIZE)
-                .filter(col -> player.getWall().isColumnComplete(col))
-                .count() * 7;
-    }
-
-    private int calculateColorBonus(Player player) {
-        return (int) Arrays.stream(TileColor.values())
-                .filter(color -> player.getWall().isColorComplete(color))
-                .count() * 10;
-    }
-
-    private void startNewRound() {
+    // The token holder starts the round; without one the current player keeps the turn
+    private void startNewRound(Player startingPlayer) {
         currentRound++;
+        if (startingPlayer != null) {
+            currentPlayer = startingPlayer;
+        }
         firstPlayerTokenTaken = false;
         gameState = GameState.FACTORY_SELECTION;
         initializeGame();
@@ -201,7 +212,7 @@ public class GameModel implements Serializable {
         List<Tile> remainingTiles = factory.removeRemainingTiles();
 
         // Move remaining tiles to center
-        centerPool.addAll(remainingTiles);
+        addTilesToCenter(remainingTiles);
 
         // Record action for undo
         recordAction(factoryIndex, color, patternLineIndex, selectedTiles, remainingTiles);
@@ -233,7 +244,7 @@ public class GameModel implements Serializable {
                 currentPlayer.canPlaceTiles(color, patternLineIndex);
     }
 
-    private List<Tile> collectTilesFromCenter(TileColor color) {
+    public List<Tile> collectTilesFromCenter(TileColor color) {
         List<Tile> selectedTiles = new ArrayList<>();
         Iterator<Tile> iterator = centerPool.iterator();
 
@@ -242,23 +253,27 @@ public class GameModel implements Serializable {
             if (tile.getColor() == color) {
                 selectedTiles.add(tile);
                 iterator.remove();
+                centerDirty = true;
             }
         }
+        tableCount.addCenterTiles(-countColored(selectedTiles));
 
         return selectedTiles;
     }
 
-    private void handleFirstPlayerToken() {
+    public boolean handleFirstPlayerToken() {
         if (!firstPlayerTokenTaken) {
             for (Tile tile : centerPool) {
                 if (tile.getColor() == null) {
                     firstPlayerTokenTaken = true;
                     centerPool.remove(tile);
+                    centerDirty = true;
                     currentPlayer.getFloorLine().addTile(tile);
-                    break;
+                    return true;
                 }
             }
         }
+        return false;
     }
 
     private boolean placeTiles(List<Tile> tiles, int patternLineIndex) {
@@ -305,10 +320,17 @@ public class GameModel implements Serializable {
         ));
     }
 
+    // Kept up to date as tiles move, so this is cheap enough to ask after every click
     public boolean isRoundComplete() {
-        return factories.stream().allMatch(Factory::isEmpty) &&
-                centerPool.stream().noneMatch(tile -> tile.getColor() != null) &&
-                players.stream().allMatch(p -> p.getHand().isEmpty());
+        return tableCount.isEmpty();
+    }
+
+    private static int countColored(List<Tile> tiles) {
+        int colored = 0;
+        for (Tile tile : tiles) {
+            if (tile.getColor() != null) colored++;
+        }
+        return colored;
     }
 
     public void nextTurn() {
@@ -321,6 +343,10 @@ public class GameModel implements Serializable {
         return Collections.unmodifiableList(factories);
     }
 
+    public TileBag getTileBag() {
+        return tileBag;
+    }
+
     public List<Tile> getCenterPool() {
         return Collections.unmodifiableList(centerPool);
     }
@@ -352,6 +378,26 @@ public class GameModel implements Serializable {
         return firstPlayerTokenTaken;
     }
 
+    // Dirty tracking for the center pool; the per-component flags live on
+    // Factory, PatternLine, Wall and FloorLine
+    public boolean isCenterDirty() {
+        return centerDirty;
+    }
+
+    public void markCenterClean() {
+        centerDirty = false;
+    }
+
+    public void markAllDirty() {
+        centerDirty = true;
+        factories.forEach(Factory::markDirty);
+        for (Player player : players) {
+            player.getPatternLines().forEach(PatternLine::markDirty);
+            player.getWall().markDirty();
+            player.getFloorLine().markDirty();
+        }
+    }
+
     // For testing and debugging
     @Override
     public String toString() {
@@ -8,10 +8,17 @@ import java.util.List;
 public class PatternLine implements Serializable {
     private final int size;
     private final List<Tile> tiles;
+    private boolean dirty = true;
+    private final PlacementMask mask; // null for a line outside a player's board
 
     public PatternLine(int size) {
+        this(size, null);
+    }
+
+    PatternLine(int size, PlacementMask mask) {
         this.size = size;
         this.tiles = new ArrayList<>();
+        this.mask = mask;
     }
 
     public boolean isFull() {
@@ -33,6 +40,10 @@ public class PatternLine implements Serializable {
             int spaceLeft = size - tiles.size();
             int tilesToAdd = Math.min(spaceLeft, newTiles.size());
             tiles.addAll(newTiles.subList(0, tilesToAdd));
+            dirty = true;
+            if (mask != null) {
+                mask.lineFilled(size - 1, getColor(), isFull());
+            }
             return true;
         }
         return false;
@@ -47,6 +58,25 @@ public class PatternLine implements Serializable {
     }
 
     public void clear() {
-        tiles.clear();
+        if (!tiles.isEmpty()) {
+            tiles.clear();
+            dirty = true;
+            if (mask != null) {
+                mask.lineCleared(size - 1);
+            }
+        }
+    }
+
+    // Dirty tracking
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public void markClean() {
+        dirty = false;
     }
 }
@@ -0,0 +1,63 @@
+package hr.algebra.azul.models;
+
+import java.io.Serializable;
+
+/**
+ * Where a player may put tiles of each color: bit {@code color * 5 + line} is
+ * set while a pattern line can take that color. A line takes a color when it
+ * is empty or already holds that color and is not full, and the color is not
+ * yet on the line's wall row. The player's pattern lines and wall update it
+ * as they change, so a legality check is one bit test.
+ */
+public final class PlacementMask implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int LINES = Wall.WALL_SIZE;
+    private static final int COLORS = TileColor.values().length;
+    private static final int ALL = (1 << LINES * COLORS) - 1;
+    // LINE_BITS[line] has the bit of every color on that line
+    private static final int[] LINE_BITS = new int[LINES];
+
+    static {
+        for (int line = 0; line < LINES; line++) {
+            for (int color = 0; color < COLORS; color++) {
+                LINE_BITS[line] |= bit(color, line);
+            }
+        }
+    }
+
+    private int legal = ALL;
+    private int onWall; // same layout: colors already on each wall row
+
+    public static int bit(int color, int line) {
+        return 1 << color * LINES + line;
+    }
+
+    public static boolean isSet(int mask, TileColor color, int line) {
+        return color != null && line >= 0 && line < LINES && (mask & bit(color.ordinal(), line)) != 0;
+    }
+
+    public boolean isLegal(TileColor color, int line) {
+        return isSet(legal, color, line);
+    }
+
+    public int bits() {
+        return legal;
+    }
+
+    // The line now holds tiles of one color
+    void lineFilled(int line, TileColor color, boolean full) {
+        legal &= ~LINE_BITS[line];
+        if (!full) {
+            legal |= bit(color.ordinal(), line) & ~onWall;
+        }
+    }
+
+    void lineCleared(int line) {
+        legal = legal & ~LINE_BITS[line] | LINE_BITS[line] & ~onWall;
+    }
+
+    void wallTilePlaced(int row, TileColor color) {
+        onWall |= bit(color.ordinal(), row);
+        legal &= ~onWall;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 
 public class Player implements Serializable {
     private static final int PATTERN_LINE_COUNT = 5;
+    public static final String HUMAN_STRATEGY = "human";
 
     private List<Tile> hand;
     public final String name;
@@ -14,12 +15,24 @@ public class Player implements Serializable {
     public final Wall wall;
     public final List<PatternLine> patternLines;
     public final FloorLine floorLine;
+    private String strategyId;
+    private TableCount count; // set once the player joins a game
+    private final PlacementMask placementMask;
+    private final ArrayList<ScoreEvent> scoreEvents = new ArrayList<>(); // a Serializable type, saved with the game
+    private boolean finalScore; // end of game bonus awarded
 
     public Player(String name) {
+        this(name, HUMAN_STRATEGY);
+    }
+
+    // strategyId names the PlayerStrategy that makes this player's moves
+    public Player(String name, String strategyId) {
         this.hand = new ArrayList<>();
         this.name = name;
+        this.strategyId = strategyId;
         this.score = 0;
-        this.wall = new Wall();
+        this.placementMask = new PlacementMask();
+        this.wall = new Wall(placementMask);
         this.patternLines = initializePatternLines();
         this.floorLine = new FloorLine();
     }
@@ -27,39 +40,23 @@ public class Player implements Serializable {
     private List<PatternLine> initializePatternLines() {
         List<PatternLine> lines = new ArrayList<>();
         for (int i = 0; i < PATTERN_LINE_COUNT; i++) {
-            lines.add(new PatternLine(i + 1)); // Creates pattern lines of sizes 1 through 5
+            lines.add(new PatternLine(i + 1, placementMask)); // Creates pattern lines of sizes 1 through 5
         }
         return lines;
     }
 
+    // True when the pattern line has room for the color and its wall row does not hold it yet
     public boolean canPlaceTiles(TileColor color, int patternLineIndex) {
-        if (patternLineIndex < 0 || patternLineIndex >= PATTERN_LINE_COUNT) {
-            return false;
-        }
-
-        PatternLine patternLine = patternLines.get(patternLineIndex);
-
-        // Check if pattern line already has different color
-        if (!patternLine.isEmpty() && patternLine.getColor() != color) {
-            return false;
-        }
+        return placementMask.isLegal(color, patternLineIndex);
+    }
 
-        // Check if corresponding wall row already has this color
-        return !wall.hasColor(patternLineIndex, color);
+    // Bit color * 5 + line is set where canPlaceTiles(color, line) holds
+    public int getPlacementMask() {
+        return placementMask.bits();
     }
 
     public boolean hasCompletedRow() {
-        for (int row = 0; row < Wall.WALL_SIZE; row++) {
-            boolean rowComplete = true;
-            for (int col = 0; col < Wall.WALL_SIZE; col++) {
-                if (!wall.isTilePlaced(row, col)) {
-                    rowComplete = false;
-                    break;
-                }
-            }
-            if (rowComplete) return true;
-        }
-        return false;
+        return wall.getCompletedRowCount() > 0;
     }
 
     // Getters
@@ -90,11 +87,37 @@ public class Player implements Serializable {
         return floorLine;
     }
 
+    public String getStrategyId() {
+        return strategyId;
+    }
+
+    public void setStrategyId(String strategyId) {
+        this.strategyId = strategyId;
+    }
+
     // Score management
     public void addScore(int points) {
         this.score += points;
     }
 
+    // Adds the event's points and keeps it for the score breakdown
+    public void addScore(ScoreEvent event) {
+        this.score += event.points();
+        scoreEvents.add(event);
+    }
+
+    public List<ScoreEvent> getScoreEvents() {
+        return Collections.unmodifiableList(scoreEvents);
+    }
+
+    public boolean hasFinalScore() {
+        return finalScore;
+    }
+
+    void markFinalScore() {
+        finalScore = true;
+    }
+
     public void setScore(int score) {
         this.score = score;
     }
@@ -113,63 +136,35 @@ public class Player implements Serializable {
         return patternLines.get(index).isFull();
     }
 
-    public int calculateFinalScore() {
-        int finalScore = score;
-
-        // Bonus for completed rows (2 points each)
-        for (int row = 0; row < Wall.WALL_SIZE; row++) {
-            boolean rowComplete = true;
-            for (int col = 0; col < Wall.WALL_SIZE; col++) {
-                if (!wall.isTilePlaced(row, col)) {
-                    rowComplete = false;
-                    break;
-                }
-            }
-            if (rowComplete) finalScore += 2;
-        }
-
-        // Bonus for completed columns (7 points each)
-        for (int col = 0; col < Wall.WALL_SIZE; col++) {
-            boolean colComplete = true;
-            for (int row = 0; row < Wall.WALL_SIZE; row++) {
-                if (!wall.isTilePlaced(row, col)) {
-                    colComplete = false;
-                    break;
-                }
-            }
-            if (colComplete) finalScore += 7;
-        }
-
-        // Bonus for completed colors (10 points each)
-        for (TileColor color : TileColor.values()) {
-            boolean colorComplete = true;
-            boolean[][] tiles = wall.getTiles();
-            TileColor[][] pattern = wall.getWallPattern();
-            for (int row = 0; row < Wall.WALL_SIZE; row++) {
-                for (int col = 0; col < Wall.WALL_SIZE; col++) {
-                    if (pattern[row][col] == color && !tiles[row][col]) {
-                        colorComplete = false;
-                        break;
-                    }
-                }
-                if (!colorComplete) break;
-            }
-            if (colorComplete) finalScore += 10;
-        }
-
-        return finalScore;
+    // Score plus the end of game bonus of the wall as it stands
+    public int getProjectedFinalScore() {
+        return ScoringSystem.projectedFinalScore(this);
     }
 
+    // Read only; the hand changes through clearHand and addTilesToHand
     public List<Tile> getHand() {
-        return hand;
+        return Collections.unmodifiableList(hand);
     }
 
     public void clearHand() {
+        countHand(-hand.size());
         hand.clear();
     }
 
     public void addTilesToHand(List<Tile> tiles) {
         hand.addAll(tiles);
+        countHand(tiles.size());
+    }
+
+    void joinTableCount(TableCount count) {
+        this.count = count;
+        countHand(hand.size());
+    }
+
+    private void countHand(int delta) {
+        if (count != null) {
+            count.addHandTiles(delta);
+        }
     }
 
     @Override
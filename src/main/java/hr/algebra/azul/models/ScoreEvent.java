@@ -0,0 +1,20 @@
+package hr.algebra.azul.models;
+
+import java.io.Serializable;
+
+/**
+ * One change to a player's score, in the round it happened. Row and column
+ * are the wall cell for a tile, the row or column for its bonus and -1 where
+ * they do not apply; color is only set for a tile and a color bonus.
+ */
+public record ScoreEvent(Kind kind, int points, int round, int row, int column, TileColor color)
+        implements Serializable {
+
+    public enum Kind {
+        TILE,
+        FLOOR,
+        ROW_BONUS,
+        COLUMN_BONUS,
+        COLOR_BONUS
+    }
+}
@@ -1,85 +1,120 @@
 package hr.algebra.azul.models;
 
-public class ScoringSystem {
-    private static final int HORIZONTAL_LINE_BONUS = 2;
-    private static final int VERTICAL_LINE_BONUS = 7;
-    private static final int COLOR_SET_BONUS = 10;
+import java.util.ArrayList;
+import java.util.List;
 
-    public static int calculateFloorLinePenalty(FloorLine floorLine) {
-        return floorLine.calculatePenalty();
-    }
+/**
+ * The scoring rules in one place. Every change to a player's score goes
+ * through here and is recorded on the player as a {@link ScoreEvent}. Walls
+ * count their completed rows, columns and colors as tiles are placed, so the
+ * end of game bonus, and with it the projected final score, is known without
+ * looking at the wall.
+ */
+public final class ScoringSystem {
+    public static final int ROW_BONUS = 2;
+    public static final int COLUMN_BONUS = 7;
+    public static final int COLOR_BONUS = 10;
 
-    public static int calculateEndGameBonus(Player player) {
-        int bonus = 0;
+    private ScoringSystem() {
+    }
 
-        // Horizontal lines bonus
-        bonus += calculateHorizontalBonus(player.getWall());
+    /**
+     * Points for a tile just placed at (row, col): one for joining a
+     * horizontal run and one for joining a vertical run, or 1 for a tile on
+     * its own. Completed rows and columns score only at the end of the game,
+     * in {@link #awardEndGameBonuses}.
+     */
+    public static int placementPoints(Wall wall, int row, int col) {
+        int points = 0;
+        if (run(wall, row, col, 0, 1) > 1) points++;
+        if (run(wall, row, col, 1, 0) > 1) points++;
+        return points == 0 ? 1 : points;
+    }
 
-        // Vertical lines bonus
-        bonus += calculateVerticalBonus(player.getWall());
+    // Length of the run of placed tiles through (row, col) along one direction
+    private static int run(Wall wall, int row, int col, int dRow, int dCol) {
+        int length = 1;
+        for (int r = row - dRow, c = col - dCol; wall.isTilePlaced(r, c); r -= dRow, c -= dCol) {
+            length++;
+        }
+        for (int r = row + dRow, c = col + dCol; wall.isTilePlaced(r, c); r += dRow, c += dCol) {
+            length++;
+        }
+        return length;
+    }
 
-        // Color sets bonus
-        bonus += calculateColorBonus(player.getWall());
+    /**
+     * Moves the tile of a full pattern line to the wall and scores it. The
+     * line itself is left for the caller to clear. Returns null when the line
+     * is not full or its color is already on the wall row.
+     */
+    public static ScoreEvent tileLine(Player player, int line, int round) {
+        PatternLine patternLine = player.getPatternLine(line);
+        TileColor color = patternLine.getColor();
+        if (!patternLine.isFull() || color == null) {
+            return null;
+        }
 
-        return bonus;
+        Wall wall = player.getWall();
+        int points = wall.addTile(line, color);
+        if (points == 0) {
+            return null;
+        }
+        return record(player, new ScoreEvent(ScoreEvent.Kind.TILE, points, round,
+                line, wall.getColumn(line, color), color));
     }
 
-    private static int calculateHorizontalBonus(Wall wall) {
-        int bonus = 0;
-        for (int row = 0; row < Wall.WALL_SIZE; row++) {
-            if (isRowComplete(wall, row)) {
-                bonus += HORIZONTAL_LINE_BONUS;
-            }
+    // Charges the floor line's penalty and empties it; null when the floor is empty
+    public static ScoreEvent applyFloorPenalty(Player player, int round) {
+        FloorLine floorLine = player.getFloorLine();
+        int penalty = floorLine.calculatePenalty();
+        if (penalty == 0) {
+            return null;
         }
-        return bonus;
+        floorLine.clear();
+        return record(player, new ScoreEvent(ScoreEvent.Kind.FLOOR, penalty, round, -1, -1, null));
     }
 
-    private static int calculateVerticalBonus(Wall wall) {
-        int bonus = 0;
-        for (int col = 0; col < Wall.WALL_SIZE; col++) {
-            if (isColumnComplete(wall, col)) {
-                bonus += VERTICAL_LINE_BONUS;
+    // Adds a bonus for every complete row, column and color at the end of the game, once
+    public static List<ScoreEvent> awardEndGameBonuses(Player player, int round) {
+        Wall wall = player.getWall();
+        List<ScoreEvent> events = new ArrayList<>();
+        if (player.hasFinalScore()) {
+            return events;
+        }
+        player.markFinalScore();
+        for (int i = 0; i < Wall.WALL_SIZE; i++) {
+            if (wall.isRowComplete(i)) {
+                events.add(record(player, new ScoreEvent(ScoreEvent.Kind.ROW_BONUS, ROW_BONUS, round, i, -1, null)));
+            }
+            if (wall.isColumnComplete(i)) {
+                events.add(record(player, new ScoreEvent(ScoreEvent.Kind.COLUMN_BONUS, COLUMN_BONUS, round, -1, i, null)));
             }
         }
-        return bonus;
-    }
-
-    private static int calculateColorBonus(Wall wall) {
-        int bonus = 0;
         for (TileColor color : TileColor.values()) {
-            if (isColorComplete(wall, color)) {
-                bonus += COLOR_SET_BONUS;
+            if (wall.isColorComplete(color)) {
+                events.add(record(player, new ScoreEvent(ScoreEvent.Kind.COLOR_BONUS, COLOR_BONUS, round, -1, -1, color)));
             }
         }
-        return bonus;
+        return events;
     }
 
-    private static boolean isRowComplete(Wall wall, int row) {
-        for (int col = 0; col < Wall.WALL_SIZE; col++) {
-            if (!wall.isTilePlaced(row, col)) {
-                return false;
-            }
-        }
-        return true;
+    // Bonus the wall would earn if the game ended now
+    public static int endGameBonus(Wall wall) {
+        return wall.getCompletedRowCount() * ROW_BONUS
+                + wall.getCompletedColumnCount() * COLUMN_BONUS
+                + wall.getCompletedColorCount() * COLOR_BONUS;
     }
 
-    private static boolean isColumnComplete(Wall wall, int col) {
-        for (int row = 0; row < Wall.WALL_SIZE; row++) {
-            if (!wall.isTilePlaced(row, col)) {
-                return false;
-            }
-        }
-        return true;
+    // Score plus the bonus of the wall as it stands, or the final score once the bonus is in
+    public static int projectedFinalScore(Player player) {
+        return player.hasFinalScore()
+                ? player.getScore()
+                : player.getScore() + endGameBonus(player.getWall());
     }
 
-    private static boolean isColorComplete(Wall wall, TileColor color) {
-        for (int row = 0; row < Wall.WALL_SIZE; row++) {
-            for (int col = 0; col < Wall.WALL_SIZE; col++) {
-                if (wall.getWallPattern()[row][col] == color && !wall.isTilePlaced(row, col)) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private static ScoreEvent record(Player player, ScoreEvent event) {
+        player.addScore(event);
+        return event;
     }
-}
\ No newline at end of file
+}
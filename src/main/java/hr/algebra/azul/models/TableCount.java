@@ -0,0 +1,45 @@
+package hr.algebra.azul.models;
+
+import java.io.Serializable;
+
+/**
+ * Tiles still to be played this round: on the factories, colored tiles in
+ * the center and tiles in the players' hands. The factories, the players and
+ * the game model update it as tiles move, so the round end is known without
+ * looking at any of them.
+ */
+final class TableCount implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private int factoryTiles;
+    private int centerTiles;
+    private int handTiles;
+
+    void addFactoryTiles(int delta) {
+        factoryTiles += delta;
+    }
+
+    void addCenterTiles(int delta) {
+        centerTiles += delta;
+    }
+
+    void addHandTiles(int delta) {
+        handTiles += delta;
+    }
+
+    void clearCenter() {
+        centerTiles = 0;
+    }
+
+    int getFactoryTiles() {
+        return factoryTiles;
+    }
+
+    int getCenterTiles() {
+        return centerTiles;
+    }
+
+    boolean isEmpty() {
+        return factoryTiles == 0 && centerTiles == 0 && handTiles == 0;
+    }
+}
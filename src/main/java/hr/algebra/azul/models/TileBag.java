@@ -4,14 +4,18 @@ package hr.algebra.azul.models;
 import java.util.*;
 
 public class TileBag {
+    public static final int TILES_PER_COLOR = 20;
+
     private final Queue<Tile> tiles;
+    private final int[] remaining = new int[TileColor.values().length];
 
     public TileBag() {
         tiles = new LinkedList<>();
         for (TileColor color : TileColor.values()) {
-            for (int i = 0; i < 20; i++) {  // 20 tiles of each color
+            for (int i = 0; i < TILES_PER_COLOR; i++) {
                 tiles.add(new Tile(color));
             }
+            remaining[color.ordinal()] = TILES_PER_COLOR;
         }
         // Shuffle tiles
         List<Tile> tileList = new ArrayList<>(tiles);
@@ -21,7 +25,20 @@ public class TileBag {
     }
 
     public Tile draw() {
-        return tiles.poll();
+        Tile tile = tiles.poll();
+        if (tile != null) {
+            remaining[tile.getColor().ordinal()]--;
+        }
+        return tile;
+    }
+
+    // Tiles of the color still in the bag; the draw order stays hidden
+    public int getRemainingCount(TileColor color) {
+        return remaining[color.ordinal()];
+    }
+
+    public int size() {
+        return tiles.size();
     }
 
     public boolean hasNext() {
@@ -6,10 +6,28 @@ public class Wall {
     private final boolean[][] tiles;
     private final TileColor[][] wallPattern;
     public static final int WALL_SIZE = 5;
+    private static final int ALL_CELLS = (1 << (WALL_SIZE * WALL_SIZE)) - 1;
+
+    // Bit (row * WALL_SIZE + col) is set when that cell changed since the last render
+    private int dirtyCells = ALL_CELLS;
+
+    // Tiles placed in each row, column and color, and how many of each are complete
+    private final int[] rowTiles = new int[WALL_SIZE];
+    private final int[] columnTiles = new int[WALL_SIZE];
+    private final int[] colorTiles = new int[TileColor.values().length];
+    private int completedRows;
+    private int completedColumns;
+    private int completedColors;
+    private final PlacementMask mask; // null for a wall outside a player's board
 
     public Wall() {
+        this(null);
+    }
+
+    Wall(PlacementMask mask) {
         this.tiles = new boolean[WALL_SIZE][WALL_SIZE];
         this.wallPattern = initializeWallPattern();
+        this.mask = mask;
     }
 
     public TileColor[][] initializeWallPattern() {
@@ -56,104 +74,59 @@ public class Wall {
 
         // Place the tile
         tiles[row][col] = true;
+        dirtyCells |= 1 << (row * WALL_SIZE + col);
+        if (++rowTiles[row] == WALL_SIZE) {
+            completedRows++;
+        }
+        if (++columnTiles[col] == WALL_SIZE) {
+            completedColumns++;
+        }
+        if (++colorTiles[color.ordinal()] == WALL_SIZE) {
+            completedColors++;
+        }
+        if (mask != null) {
+            mask.wallTilePlaced(row, color);
+        }
 
         // Calculate points for this placement
-        return calculatePoints(row, col);
+        return ScoringSystem.placementPoints(this, row, col);
     }
 
-    private int calculatePoints(int row, int col) {
-        int points = 0;
-        boolean hasHorizontalNeighbor = false;
-        boolean hasVerticalNeighbor = false;
-
-        // Check horizontal line (left and right)
-        if (col > 0 && tiles[row][col - 1] || col < WALL_SIZE - 1 && tiles[row][col + 1]) {
-            hasHorizontalNeighbor = true;
-            points++;
-
-            // Count all connected horizontal tiles
-            int leftCount = 0;
-            for (int c = col - 1; c >= 0; c--) {
-                if (tiles[row][c]) leftCount++;
-                else break;
-            }
-            int rightCount = 0;
-            for (int c = col + 1; c < WALL_SIZE; c++) {
-                if (tiles[row][c]) rightCount++;
-                else break;
-            }
-
-            // Add points for complete horizontal sets
-            if (leftCount + rightCount + 1 == WALL_SIZE) {
-                points += 2; // Bonus for completing a row
-            }
-        }
+    public boolean isRowComplete(int row) {
+        return row >= 0 && row < WALL_SIZE && rowTiles[row] == WALL_SIZE;
+    }
 
-        // Check vertical line (up and down)
-        if (row > 0 && tiles[row - 1][col] || row < WALL_SIZE - 1 && tiles[row + 1][col]) {
-            hasVerticalNeighbor = true;
-            points++;
+    public boolean isColumnComplete(int col) {
+        return col >= 0 && col < WALL_SIZE && columnTiles[col] == WALL_SIZE;
+    }
 
-            // Count all connected vertical tiles
-            int upCount = 0;
-            for (int r = row - 1; r >= 0; r--) {
-                if (tiles[r][col]) upCount++;
-                else break;
-            }
-            int downCount = 0;
-            for (int r = row + 1; r < WALL_SIZE; r++) {
-                if (tiles[r][col]) downCount++;
-                else break;
-            }
+    public boolean isColorComplete(TileColor color) {
+        return color != null && colorTiles[color.ordinal()] == WALL_SIZE;
+    }
 
-            // Add points for complete vertical sets
-            if (upCount + downCount + 1 == WALL_SIZE) {
-                points += 7; // Bonus for completing a column
-            }
-        }
+    public int getCompletedRowCount() {
+        return completedRows;
+    }
 
-        // If tile is isolated (no neighbors), score 1 point
-        if (!hasHorizontalNeighbor && !hasVerticalNeighbor) {
-            points = 1;
-        }
+    public int getCompletedColumnCount() {
+        return completedColumns;
+    }
 
-        return points;
+    public int getCompletedColorCount() {
+        return completedColors;
     }
 
-    public boolean isRowComplete(int row) {
+    // Column of the color in the row, or -1 for a row outside the wall
+    public int getColumn(int row, TileColor color) {
         if (row < 0 || row >= WALL_SIZE) {
-            return false;
+            return -1;
         }
         for (int col = 0; col < WALL_SIZE; col++) {
-            if (!tiles[row][col]) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    public boolean isColumnComplete(int col) {
-        if (col < 0 || col >= WALL_SIZE) {
-            return false;
-        }
-        for (int row = 0; row < WALL_SIZE; row++) {
-            if (!tiles[row][col]) {
-                return false;
+            if (wallPattern[row][col] == color) {
+                return col;
             }
         }
-        return true;
-    }
-
-    public boolean isColorComplete(TileColor color) {
-        int count = 0;
-        for (int row = 0; row < WALL_SIZE; row++) {
-            for (int col = 0; col < WALL_SIZE; col++) {
-                if (tiles[row][col] && wallPattern[row][col] == color) {
-                    count++;
-                }
-            }
-        }
-        return count == WALL_SIZE;
+        return -1;
     }
 
     // Getters for arrays (defensive copies)
@@ -177,6 +150,19 @@ public class Wall {
         return row >= 0 && row < WALL_SIZE && col >= 0 && col < WALL_SIZE && tiles[row][col];
     }
 
+    // Dirty tracking
+    public int getDirtyCells() {
+        return dirtyCells;
+    }
+
+    public void markDirty() {
+        dirtyCells = ALL_CELLS;
+    }
+
+    public void markClean() {
+        dirtyCells = 0;
+    }
+
     // For debugging
     @Override
     public String toString() {
@@ -1,5 +1,7 @@
 package hr.algebra.azul.styles;
 
+import javafx.css.PseudoClass;
+
 public class Styles {
     public static final String BUTTON_STYLE = """
         -fx-font-size: 18px;
@@ -18,4 +20,31 @@ public class Styles {
         -fx-text-fill: white;
         -fx-background-radius: 5;
         """;
-}
\ No newline at end of file
+
+    // Style classes defined in game.css
+    public static final String PLAYER_BOARD = "player-board";
+    public static final String SCORE_LABEL = "score-label";
+    public static final String TIMER_LABEL = "timer-label";
+    public static final String THINKING_INDICATOR = "thinking-indicator";
+    public static final String PREVIEW_LABEL = "preview-label";
+    public static final String ANALYSIS_PANEL = "analysis-panel";
+    public static final String ANALYSIS_LINE = "analysis-line";
+    public static final String DIAGNOSTICS_OVERLAY = "diagnostics-overlay";
+    public static final String DIAGNOSTICS_LINE = "diagnostics-line";
+    public static final String FACTORY_DISPLAY = "factory-display";
+    public static final String CENTER_POOL = "center-pool";
+    public static final String FACTORY_COMPONENT = "factory-component";
+    public static final String PATTERN_LINE = "pattern-line";
+    public static final String WALL_SPACE = "wall-space";
+    public static final String ICON_BUTTON = "icon-button";
+    public static final String FLOATING_TEXT = "floating-text";
+    public static final String TURN_NOTIFICATION = "turn-notification";
+
+    // State pseudo-classes; toggling them only restyles, it never reparses a style string
+    public static final PseudoClass ACTIVE = PseudoClass.getPseudoClass("active");
+    public static final PseudoClass HIGHLIGHTED = PseudoClass.getPseudoClass("highlighted");
+    public static final PseudoClass VALID = PseudoClass.getPseudoClass("valid");
+    public static final PseudoClass WARNING = PseudoClass.getPseudoClass("warning");
+    public static final PseudoClass GAIN = PseudoClass.getPseudoClass("gain");
+    public static final PseudoClass LOSS = PseudoClass.getPseudoClass("loss");
+}
@@ -0,0 +1,109 @@
+package hr.algebra.azul.styles;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Dialog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Color themes for the game screens. A theme is a stylesheet that only defines
+ * looked-up colors on {@code .root}; game.css and dialog.css are written against
+ * those colors. Scenes and dialogs styled through this class switch along when
+ * {@link #setCurrent(Theme)} is called.
+ */
+public enum Theme {
+    DARK("Dark", "/styles/theme-dark.css"),
+    HIGH_CONTRAST("High Contrast", "/styles/theme-high-contrast.css");
+
+    private static final String GAME_STYLESHEET = "/styles/game.css";
+    private static final String DIALOG_STYLESHEET = "/styles/dialog.css";
+
+    private static Theme current = DARK;
+    // Stylesheet lists of styled scenes and dialog panes, held weakly by their owner
+    private static final Set<Object> themedOwners = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final String displayName;
+    private final String stylesheet;
+
+    Theme(String displayName, String stylesheet) {
+        this.displayName = displayName;
+        this.stylesheet = stylesheet;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getStylesheetUrl() {
+        return resolve(stylesheet);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    public static Theme getCurrent() {
+        return current;
+    }
+
+    // Switches every styled scene and open dialog to the new theme
+    public static void setCurrent(Theme theme) {
+        if (theme == null || theme == current) return;
+        Theme previous = current;
+        current = theme;
+        for (Object owner : new ArrayList<>(themedOwners)) {
+            swap(stylesheetsOf(owner), previous, theme);
+        }
+    }
+
+    // Adds the current theme and the game stylesheet to a scene
+    public static void apply(Scene scene) {
+        addStylesheets(scene.getStylesheets(), GAME_STYLESHEET);
+        themedOwners.add(scene);
+    }
+
+    // Replaces per-dialog lookup(...) styling: the dialog pane just gets the stylesheets
+    public static void styleDialog(Dialog<?> dialog) {
+        styleDialog(dialog.getDialogPane());
+    }
+
+    public static void styleDialog(Parent dialogPane) {
+        addStylesheets(dialogPane.getStylesheets(), DIALOG_STYLESHEET);
+        themedOwners.add(dialogPane);
+    }
+
+    private static void addStylesheets(List<String> stylesheets, String componentStylesheet) {
+        String themeUrl = current.getStylesheetUrl();
+        String componentUrl = resolve(componentStylesheet);
+        if (!stylesheets.contains(themeUrl)) {
+            stylesheets.add(themeUrl);
+        }
+        if (!stylesheets.contains(componentUrl)) {
+            stylesheets.add(componentUrl);
+        }
+    }
+
+    private static ObservableList<String> stylesheetsOf(Object owner) {
+        return owner instanceof Scene scene ? scene.getStylesheets() : ((Parent) owner).getStylesheets();
+    }
+
+    private static void swap(List<String> stylesheets, Theme from, Theme to) {
+        int index = stylesheets.indexOf(from.getStylesheetUrl());
+        if (index >= 0) {
+            stylesheets.set(index, to.getStylesheetUrl());
+        } else {
+            stylesheets.add(0, to.getStylesheetUrl());
+        }
+    }
+
+    private static String resolve(String path) {
+        return Theme.class.getResource(path).toExternalForm();
+    }
+}
@@ -1,20 +1,39 @@
-package com.azul.views;
+package hr.algebra.azul.view;
 
+import hr.algebra.azul.ai.PlayerStrategy;
+import hr.algebra.azul.ai.StrategyRegistry;
+import hr.algebra.azul.models.Player;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.util.StringConverter;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class CreateLobbyDialog {
+    private static final String COMBO_STYLE = """
+            -fx-background-color: #1F2937;
+            -fx-text-fill: white;
+            -fx-prompt-text-fill: #6B7280;
+            -fx-padding: 8;
+            -fx-background-radius: 5;
+            -fx-mark-color: white;
+            """;
+
     private Stage dialogStage;
     private TextField lobbyNameField;
     private ComboBox<Integer> maxPlayersBox;
     private ComboBox<String> rankRequirementBox;
+    private VBox seatsBox;
+    private final List<ComboBox<PlayerStrategy>> seatStrategyBoxes = new ArrayList<>();
     private Button createButton;
     private Button cancelButton;
 
@@ -66,14 +85,7 @@ public class CreateLobbyDialog {
         maxPlayersBox = new ComboBox<>();
         maxPlayersBox.getItems().addAll(2, 3, 4);
         maxPlayersBox.setValue(4);
-        maxPlayersBox.setStyle("""
-            -fx-background-color: #1F2937;
-            -fx-text-fill: white;
-            -fx-prompt-text-fill: #6B7280;
-            -fx-padding: 8;
-            -fx-background-radius: 5;
-            -fx-mark-color: white;
-            """);
+        maxPlayersBox.setStyle(COMBO_STYLE);
         maxPlayersBox.setMaxWidth(Double.MAX_VALUE);
 
         // Rank Requirement Dropdown
@@ -88,16 +100,17 @@ public class CreateLobbyDialog {
                 "Diamond+"
         );
         rankRequirementBox.setValue("All Ranks");
-        rankRequirementBox.setStyle("""
-            -fx-background-color: #1F2937;
-            -fx-text-fill: white;
-            -fx-prompt-text-fill: #6B7280;
-            -fx-padding: 8;
-            -fx-background-radius: 5;
-            -fx-mark-color: white;
-            """);
+        rankRequirementBox.setStyle(COMBO_STYLE);
         rankRequirementBox.setMaxWidth(Double.MAX_VALUE);
 
+        // Who plays each seat; rebuilt when the table size changes
+        Label seatsLabel = new Label("Seats");
+        seatsLabel.setStyle("-fx-text-fill: #9CA3AF;");
+
+        seatsBox = new VBox(8);
+        updateSeats(maxPlayersBox.getValue());
+        maxPlayersBox.valueProperty().addListener((obs, oldValue, newValue) -> updateSeats(newValue));
+
         // Buttons
         HBox buttonBox = new HBox(10);
         buttonBox.setAlignment(Pos.CENTER_RIGHT);
@@ -130,6 +143,8 @@ public class CreateLobbyDialog {
                 maxPlayersBox,
                 rankLabel,
                 rankRequirementBox,
+                seatsLabel,
+                seatsBox,
                 buttonBox
         );
 
@@ -138,6 +153,59 @@ public class CreateLobbyDialog {
         dialogStage.setScene(dialogScene);
     }
 
+    private void updateSeats(int seats) {
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+
+        // Keep the choices already made for seats that remain
+        while (seatStrategyBoxes.size() > seats) {
+            seatStrategyBoxes.remove(seatStrategyBoxes.size() - 1);
+        }
+        while (seatStrategyBoxes.size() < seats) {
+            ComboBox<PlayerStrategy> strategyBox = new ComboBox<>();
+            strategyBox.getItems().addAll(registry.getAll());
+            strategyBox.setConverter(new StringConverter<>() {
+                @Override
+                public String toString(PlayerStrategy strategy) {
+                    return strategy == null ? "" : strategy.displayName();
+                }
+
+                @Override
+                public PlayerStrategy fromString(String name) {
+                    return null;
+                }
+            });
+            strategyBox.setValue(registry.get(Player.HUMAN_STRATEGY));
+            strategyBox.setStyle(COMBO_STYLE);
+            strategyBox.setMaxWidth(Double.MAX_VALUE);
+            seatStrategyBoxes.add(strategyBox);
+        }
+
+        seatsBox.getChildren().clear();
+        for (int i = 0; i < seatStrategyBoxes.size(); i++) {
+            Label seatLabel = new Label("Seat " + (i + 1));
+            seatLabel.setStyle("-fx-text-fill: #9CA3AF;");
+            seatLabel.setMinWidth(60);
+
+            ComboBox<PlayerStrategy> strategyBox = seatStrategyBoxes.get(i);
+            HBox.setHgrow(strategyBox, Priority.ALWAYS);
+            HBox seatRow = new HBox(10, seatLabel, strategyBox);
+            seatRow.setAlignment(Pos.CENTER_LEFT);
+            seatsBox.getChildren().add(seatRow);
+        }
+        if (dialogStage.getScene() != null) {
+            dialogStage.sizeToScene();
+        }
+    }
+
+    // Strategy id for every seat, in seat order
+    public List<String> getSeatStrategyIds() {
+        List<String> ids = new ArrayList<>();
+        for (ComboBox<PlayerStrategy> strategyBox : seatStrategyBoxes) {
+            ids.add(strategyBox.getValue().id());
+        }
+        return ids;
+    }
+
     public Stage getStage() { return dialogStage; }
     public TextField getLobbyNameField() { return lobbyNameField; }
     public ComboBox<Integer> getMaxPlayersBox() { return maxPlayersBox; }
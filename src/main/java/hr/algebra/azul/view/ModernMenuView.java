@@ -11,6 +11,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import javafx.util.Duration;
 
 public class ModernMenuView {
@@ -19,6 +20,7 @@ public class ModernMenuView {
     private VBox menuContainer;
     private Button singlePlayerButton;
     private Button multiPlayerButton;
+    private Button replayButton;
     private Button optionsButton;
     private Button exitButton;
     private ImageView logoView;
@@ -72,8 +74,8 @@ public class ModernMenuView {
         stage.setTitle("Azul");
         stage.setScene(scene);
 
-        // Add entrance animation
-        addEntranceAnimation();
+        // Add entrance animation each time the menu appears
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, e -> addEntranceAnimation());
     }
 
     private VBox createTitleSection() {
@@ -104,12 +106,14 @@ public class ModernMenuView {
 
         singlePlayerButton = createMenuButton("Single Player", "🎮");
         multiPlayerButton = createMenuButton("Multiplayer", "👥");
+        replayButton = createMenuButton("Watch Replay", "🎞");
         optionsButton = createMenuButton("Options", "⚙");
         exitButton = createMenuButton("Exit Game", "🚪");
 
         buttonBox.getChildren().addAll(
                 singlePlayerButton,
                 multiPlayerButton,
+                replayButton,
                 optionsButton,
                 exitButton
         );
@@ -176,6 +180,7 @@ public class ModernMenuView {
     public Stage getStage() { return stage; }
     public Button getSinglePlayerButton() { return singlePlayerButton; }
     public Button getMultiPlayerButton() { return multiPlayerButton; }
+    public Button getReplayButton() { return replayButton; }
     public Button getOptionsButton() { return optionsButton; }
     public Button getExitButton() { return exitButton; }
 }
\ No newline at end of file
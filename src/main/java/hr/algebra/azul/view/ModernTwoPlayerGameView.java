@@ -1,35 +1,39 @@
 package hr.algebra.azul.view;
 
+import hr.algebra.azul.helper.AnimationScheduler;
+import hr.algebra.azul.helper.AnalysisPanel;
+import hr.algebra.azul.helper.DiagnosticsOverlay;
+import hr.algebra.azul.helper.GameUIConstants;
 import hr.algebra.azul.helper.ParticleSystem;
 import hr.algebra.azul.models.TileColor;
 import hr.algebra.azul.models.Wall;
+import hr.algebra.azul.styles.Styles;
+import hr.algebra.azul.styles.Theme;
 import javafx.animation.*;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.ListChangeListener;
 import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.effect.InnerShadow;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import javafx.util.Duration;
 
+import java.io.IOException;
+
 public class ModernTwoPlayerGameView {
-    // Style constants
-    private static final String DARK_BG = "#111827";
-    private static final String DARKER_BG = "#0F172A";
-    private static final String CARD_BG = "#1F2937";
-    private static final String BUTTON_BG = "#3B82F6";
-    private static final String BUTTON_HOVER = "#2563EB";
-    private static final String ACCENT_COLOR = "#4F46E5";
     private static final Duration ANIMATION_DURATION = Duration.millis(300);
 
     // Core components
@@ -37,12 +41,17 @@ public class ModernTwoPlayerGameView {
     private Scene scene;
     private BorderPane root;
     private StackPane animationLayer;
+    private ParticleSystem particleSystem;
+    private DiagnosticsOverlay diagnosticsOverlay;
+    private AnalysisPanel analysisPanel;
     private final IntegerProperty timeRemaining = new SimpleIntegerProperty(150);
 
     // UI Components
     private HBox topBar;
     private Label timerLabel;
     private Label currentPlayerLabel;
+    private ProgressIndicator thinkingIndicator;
+    private Label previewLabel;
     private VBox player1Board;
     private VBox player2Board;
     private VBox gameCenter;
@@ -67,22 +76,33 @@ public class ModernTwoPlayerGameView {
     }
 
     private void createView() {
-        // Initialize root and styles
+        // Initialize root, styles come from game.css and the current theme
         root = new BorderPane();
-        root.getStylesheets().add(getClass().getResource("/styles/game.css").toExternalForm());
-        root.setStyle(String.format("-fx-background-color: %s; -fx-padding: 0;", DARK_BG));
+        root.getStyleClass().add("game-root");
 
         // Initialize animation layer
         animationLayer = new StackPane();
         animationLayer.setMouseTransparent(true);
         animationLayer.setPickOnBounds(false);
 
+        // One canvas renders every particle effect on this screen
+        particleSystem = new ParticleSystem();
+        particleSystem.attachTo(animationLayer);
+
+        diagnosticsOverlay = new DiagnosticsOverlay();
+        animationLayer.getChildren().add(diagnosticsOverlay);
+
+        analysisPanel = new AnalysisPanel();
+        animationLayer.getChildren().add(analysisPanel);
+
         // Create root container with animation layer
         StackPane rootContainer = new StackPane();
         rootContainer.getChildren().addAll(root, animationLayer);
 
         // Create scene
         scene = new Scene(rootContainer);
+        Theme.apply(scene);
+        setupDiagnosticsShortcuts();
 
         // Create UI components
         createTopBar();
@@ -97,15 +117,35 @@ public class ModernTwoPlayerGameView {
         stage.setMinWidth(1200);
         stage.setMinHeight(800);
 
-        // Add entrance animations
-        addEntranceAnimations();
+        // Play entrance animations when shown, not when built, so the screen can be preloaded
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, e -> addEntranceAnimations());
+    }
+
+    // F3 toggles the diagnostics overlay, F4 dumps its data to a file, F5 toggles the analysis panel
+    private void setupDiagnosticsShortcuts() {
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F3) {
+                diagnosticsOverlay.toggle();
+                e.consume();
+            } else if (e.getCode() == KeyCode.F4 && diagnosticsOverlay.isVisible()) {
+                try {
+                    diagnosticsOverlay.showStatus("Written to " + diagnosticsOverlay.dump().toAbsolutePath());
+                } catch (IOException ex) {
+                    diagnosticsOverlay.showStatus("Failed to write diagnostics: " + ex.getMessage());
+                }
+                e.consume();
+            } else if (e.getCode() == KeyCode.F5) {
+                analysisPanel.toggle();
+                e.consume();
+            }
+        });
     }
 
     private void createTopBar() {
         topBar = new HBox(15);
         topBar.setAlignment(Pos.CENTER);
         topBar.setPadding(new Insets(15));
-        topBar.setStyle(String.format("-fx-background-color: %s;", DARKER_BG));
+        topBar.getStyleClass().add("top-bar");
 
         // Left section - Title
         HBox leftSection = createTitleSection();
@@ -123,17 +163,13 @@ public class ModernTwoPlayerGameView {
     private HBox createTitleSection() {
         HBox leftSection = new HBox(10);
         Label titleLabel = new Label("AZUL");
-        titleLabel.setStyle("""
-            -fx-font-size: 24px;
-            -fx-font-weight: bold;
-            -fx-text-fill: linear-gradient(to right, #3B82F6, #8B5CF6);
-            """);
+        titleLabel.getStyleClass().add("game-title");
 
         Label separator = new Label(" • ");
-        separator.setStyle("-fx-text-fill: #9CA3AF;");
+        separator.getStyleClass().add("muted-label");
 
         Label subtitle = new Label("Two Player Mode");
-        subtitle.setStyle("-fx-font-size: 14px; -fx-text-fill: #9CA3AF; -fx-font-weight: bold;");
+        subtitle.getStyleClass().add("subtitle");
 
         leftSection.getChildren().addAll(titleLabel, separator, subtitle);
         leftSection.setPadding(new Insets(20, 0, 0, 0));
@@ -149,25 +185,35 @@ public class ModernTwoPlayerGameView {
         VBox turnInfo = new VBox(8);
         turnInfo.setAlignment(Pos.CENTER);
         turnInfo.setPadding(new Insets(8, 15, 8, 15));
-        turnInfo.setStyle("-fx-background-color: #1F2937; -fx-background-radius: 5;");
+        turnInfo.getStyleClass().add("turn-info");
 
         // Turn indicator and timer
         HBox turnContainer = new HBox(10);
         turnContainer.setAlignment(Pos.CENTER);
 
         currentPlayerLabel = new Label("Player 1's Turn");
-        currentPlayerLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: white;");
+        currentPlayerLabel.getStyleClass().add("current-player-label");
 
         timerLabel = new Label("⏱ 02:30");
-        timerLabel.setStyle("-fx-font-size: 16px; -fx-text-fill: #9CA3AF;");
+        timerLabel.getStyleClass().add(Styles.TIMER_LABEL);
 
-        turnContainer.getChildren().addAll(currentPlayerLabel, timerLabel);
+        // Shown while the computer player searches for a move
+        thinkingIndicator = new ProgressIndicator();
+        thinkingIndicator.getStyleClass().add(Styles.THINKING_INDICATOR);
+        thinkingIndicator.setVisible(false);
+        thinkingIndicator.managedProperty().bind(thinkingIndicator.visibleProperty());
+
+        turnContainer.getChildren().addAll(currentPlayerLabel, thinkingIndicator, timerLabel);
 
         // Progress bar
         StackPane timeProgress = createTimeProgressBar();
         timeProgress.setPrefWidth(200);
 
-        turnInfo.getChildren().addAll(turnContainer, timeProgress);
+        // What the hovered move would score; kept in the layout so hovering never relayouts
+        previewLabel = new Label(" ");
+        previewLabel.getStyleClass().add(Styles.PREVIEW_LABEL);
+
+        turnInfo.getChildren().addAll(turnContainer, timeProgress, previewLabel);
         centerSection.getChildren().add(turnInfo);
 
         return centerSection;
@@ -206,17 +252,8 @@ public class ModernTwoPlayerGameView {
     private VBox createPlayerBoard(String playerName, boolean isActive) {
         VBox board = new VBox(10);
         board.setPrefWidth(300);
-        board.setPadding(new Insets(15));
-        board.setStyle(String.format("""
-            -fx-background-color: %s;
-            -fx-border-radius: 10;
-            %s
-            """,
-                CARD_BG,
-                isActive ? "-fx-border-color: " + ACCENT_COLOR + ";" +
-                        "-fx-border-width: 2;" +
-                        "-fx-border-radius: 10;" : ""
-        ));
+        board.getStyleClass().add(Styles.PLAYER_BOARD);
+        board.pseudoClassStateChanged(Styles.ACTIVE, isActive);
 
         // Create board components
         HBox header = createPlayerHeader(playerName);
@@ -228,9 +265,9 @@ public class ModernTwoPlayerGameView {
         board.getChildren().addAll(
                 header,
                 patternLines,
-                new Label("Wall") {{ setStyle("-fx-text-fill: #9CA3AF;"); }},
+                new Label("Wall") {{ getStyleClass().add("muted-label"); }},
                 wall,
-                new Label("Floor Line") {{ setStyle("-fx-text-fill: #9CA3AF;"); }},
+                new Label("Floor Line") {{ getStyleClass().add("muted-label"); }},
                 floorLine
         );
 
@@ -242,17 +279,11 @@ public class ModernTwoPlayerGameView {
         hand.setAlignment(Pos.CENTER_LEFT);
         hand.setPadding(new Insets(10));
         hand.setMinHeight(50);
-        hand.setStyle("""
-            -fx-background-color: #374151;
-            -fx-background-radius: 5;
-            -fx-border-color: #4B5563;
-            -fx-border-radius: 5;
-            -fx-border-width: 1;
-            """);
+        hand.getStyleClass().add("player-hand");
 
         // Add placeholder
         Label placeholder = new Label("Select tiles from factory or center");
-        placeholder.setStyle("-fx-text-fill: #6B7280; -fx-font-style: italic;");
+        placeholder.getStyleClass().add("hand-placeholder");
         hand.getChildren().add(placeholder);
 
         // Handle placeholder visibility
@@ -278,7 +309,7 @@ public class ModernTwoPlayerGameView {
         header.setAlignment(Pos.CENTER_LEFT);
 
         Label handLabel = new Label("Selected Tiles");
-        handLabel.setStyle("-fx-text-fill: #9CA3AF; -fx-font-size: 12px;");
+        handLabel.getStyleClass().add("small-label");
 
         header.getChildren().add(handLabel);
         handSection.getChildren().addAll(header, hand);
@@ -290,16 +321,10 @@ public class ModernTwoPlayerGameView {
         header.setAlignment(Pos.CENTER_LEFT);
 
         Label nameLabel = new Label(playerName);
-        nameLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: white;");
+        nameLabel.getStyleClass().add("player-name");
 
         Label scoreLabel = new Label("0");
-        scoreLabel.setStyle("""
-            -fx-background-color: #374151;
-            -fx-padding: 5 15;
-            -fx-background-radius: 5;
-            -fx-text-fill: #60A5FA;
-            -fx-font-size: 16px;
-            """);
+        scoreLabel.getStyleClass().add(Styles.SCORE_LABEL);
 
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
@@ -313,7 +338,7 @@ public class ModernTwoPlayerGameView {
 
         // Pattern Lines label
         Label titleLabel = new Label("Pattern Lines");
-        titleLabel.setStyle("-fx-text-fill: #9CA3AF; -fx-font-size: 14px;");
+        titleLabel.getStyleClass().add("section-label");
         patternLinesSection.getChildren().add(titleLabel);
 
         // Create lines in reverse order (5 to 1)
@@ -328,9 +353,8 @@ public class ModernTwoPlayerGameView {
 
     private HBox createPatternLine(int spaces) {
         HBox patternLine = new HBox(5);
-        patternLine.setPadding(new Insets(2));
         patternLine.setAlignment(Pos.CENTER_LEFT);
-        patternLine.setStyle("-fx-background-radius: 5; -fx-padding: 5;");
+        patternLine.getStyleClass().add(Styles.PATTERN_LINE);
 
         // Create tile spaces
         for (int i = 0; i < spaces; i++) {
@@ -338,34 +362,14 @@ public class ModernTwoPlayerGameView {
             patternLine.getChildren().add(tileSpace);
         }
 
-        // Add hover effects
-        patternLine.setOnMouseEntered(e -> {
-            if (isValidTarget(patternLine)) {
-                patternLine.setStyle("""
-                    -fx-background-color: rgba(59, 130, 246, 0.1);
-                    -fx-background-radius: 5;
-                    -fx-padding: 5;
-                    """);
-            }
-        });
-
-        patternLine.setOnMouseExited(e -> {
-            patternLine.setStyle("-fx-background-radius: 5; -fx-padding: 5;");
-        });
-
         return patternLine;
     }
 
-    private boolean isValidTarget(HBox patternLine) {
-        // This will be updated based on game logic
-        return patternLine.getStyle().contains("valid-move");
-    }
-
     private GridPane createWallGrid() {
         GridPane wall = new GridPane();
         wall.setHgap(4);
         wall.setVgap(4);
-        wall.setStyle("-fx-padding: 5;");
+        wall.getStyleClass().add("wall-grid");
 
         TileColor[][] wallPattern = new Wall().initializeWallPattern();
 
@@ -384,13 +388,7 @@ public class ModernTwoPlayerGameView {
         tileSpace.setPrefSize(40, 40);
         tileSpace.setMinSize(40, 40);
         tileSpace.setMaxSize(40, 40);
-        tileSpace.setStyle("""
-            -fx-background-color: #1F2937;
-            -fx-background-radius: 5;
-            -fx-border-color: #374151;
-            -fx-border-radius: 5;
-            -fx-border-width: 1;
-            """);
+        tileSpace.getStyleClass().add(Styles.WALL_SPACE);
 
         // Create circles for different states
         Circle baseCircle = new Circle(15);
@@ -426,13 +424,7 @@ public class ModernTwoPlayerGameView {
             if (tileCircle.getOpacity() < 1.0) {
                 patternIndicator.setOpacity(0.8);
                 tileSpace.setEffect(glow);
-                tileSpace.setStyle("""
-                    -fx-background-color: #1F2937;
-                    -fx-background-radius: 5;
-                    -fx-border-color: #60A5FA;
-                    -fx-border-radius: 5;
-                    -fx-border-width: 2;
-                    """);
+                tileSpace.pseudoClassStateChanged(Styles.HIGHLIGHTED, true);
             }
         });
 
@@ -440,13 +432,7 @@ public class ModernTwoPlayerGameView {
             if (tileCircle.getOpacity() < 1.0) {
                 patternIndicator.setOpacity(0.3);
                 tileSpace.setEffect(null);
-                tileSpace.setStyle("""
-                    -fx-background-color: #1F2937;
-                    -fx-background-radius: 5;
-                    -fx-border-color: #374151;
-                    -fx-border-radius: 5;
-                    -fx-border-width: 1;
-                    """);
+                tileSpace.pseudoClassStateChanged(Styles.HIGHLIGHTED, false);
             }
         });
     }
@@ -455,11 +441,7 @@ public class ModernTwoPlayerGameView {
         Tooltip tooltip = new Tooltip(
                 String.format("Position [%d,%d]: %s tile", row + 1, col + 1, color.toString())
         );
-        tooltip.setStyle("""
-            -fx-background-color: #1F2937;
-            -fx-text-fill: white;
-            -fx-font-size: 12px;
-            """);
+        tooltip.getStyleClass().add("wall-tooltip");
         Tooltip.install(tileSpace, tooltip);
     }
 
@@ -495,10 +477,7 @@ public class ModernTwoPlayerGameView {
         factory.setAlignment(Pos.CENTER);
         factory.setPadding(new Insets(15));
         factory.setPrefSize(120, 120);
-        factory.setStyle(String.format("""
-            -fx-background-color: %s;
-            -fx-background-radius: 10;
-            """, CARD_BG));
+        factory.getStyleClass().add(Styles.FACTORY_DISPLAY);
 
         // Create tile grid
         GridPane tiles = new GridPane();
@@ -513,13 +492,13 @@ public class ModernTwoPlayerGameView {
                 tileSpace.setFill(Color.web("#374151"));
                 tileSpace.setStroke(Color.web("#4B5563"));
                 tileSpace.setStrokeWidth(1);
-                tileSpace.setEffect(new InnerShadow(5, Color.web("#000000", 0.2)));
+                tileSpace.setEffect(GameUIConstants.TILE_INNER_SHADOW);
                 tiles.add(tileSpace, col, row);
             }
         }
 
         Label indexLabel = new Label("Factory " + (index + 1));
-        indexLabel.setStyle("-fx-text-fill: #9CA3AF; -fx-font-size: 12px;");
+        indexLabel.getStyleClass().add("small-label");
 
         factory.getChildren().addAll(tiles, indexLabel);
         return factory;
@@ -529,19 +508,16 @@ public class ModernTwoPlayerGameView {
         VBox pool = new VBox(10);
         pool.setAlignment(Pos.CENTER);
         pool.setPadding(new Insets(20));
-        pool.setStyle(String.format("""
-            -fx-background-color: %s;
-            -fx-background-radius: 10;
-            """, CARD_BG));
+        pool.getStyleClass().add(Styles.CENTER_POOL);
 
         Label centerLabel = new Label("Center");
-        centerLabel.setStyle("-fx-text-fill: #9CA3AF; -fx-font-size: 14px;");
+        centerLabel.getStyleClass().add("section-label");
 
         FlowPane tiles = new FlowPane(10, 10);
         tiles.setPrefWrapLength(250);
         tiles.setAlignment(Pos.CENTER);
         tiles.setPadding(new Insets(10));
-        tiles.setStyle("-fx-background-color: rgba(55, 65, 81, 0.3); -fx-background-radius: 5;");
+        tiles.getStyleClass().add("center-tiles");
 
         pool.getChildren().addAll(centerLabel, tiles);
         setupCenterPoolHover(pool, tiles);
@@ -550,30 +526,15 @@ public class ModernTwoPlayerGameView {
     }
 
     private void setupCenterPoolHover(VBox pool, FlowPane tiles) {
-        pool.setOnMouseEntered(e -> {
-            if (!tiles.getChildren().isEmpty()) {
-                pool.setStyle(String.format("""
-                    -fx-background-color: %s;
-                    -fx-background-radius: 10;
-                    -fx-border-color: #60A5FA;
-                    -fx-border-width: 2;
-                    -fx-border-radius: 10;
-                    """, CARD_BG));
-            }
-        });
-
-        pool.setOnMouseExited(e -> {
-            pool.setStyle(String.format("""
-                -fx-background-color: %s;
-                -fx-background-radius: 10;
-                """, CARD_BG));
-        });
+        pool.setOnMouseEntered(e ->
+                pool.pseudoClassStateChanged(Styles.HIGHLIGHTED, !tiles.getChildren().isEmpty()));
+        pool.setOnMouseExited(e -> pool.pseudoClassStateChanged(Styles.HIGHLIGHTED, false));
     }
     private void createControlBar() {
         controlBar = new HBox(10);
         controlBar.setAlignment(Pos.CENTER);
         controlBar.setPadding(new Insets(15));
-        controlBar.setStyle(String.format("-fx-background-color: %s;", DARKER_BG));
+        controlBar.getStyleClass().add("control-bar");
 
         undoButton = createIconButton("↩", "Undo");
         saveButton = createIconButton("💾", "Save");
@@ -630,14 +591,10 @@ public class ModernTwoPlayerGameView {
     }
 
     private void createSparkEffect(Rectangle progressBar) {
-        ParticleSystem sparkSystem = new ParticleSystem();
-        sparkSystem.setEmitterLocation(progressBar.getWidth(), 2);
+        Point2D tip = animationLayer.sceneToLocal(progressBar.localToScene(progressBar.getWidth(), 2));
+        if (tip == null) return;
 
-        Timeline sparkAnimation = new Timeline(
-                new KeyFrame(Duration.millis(50), e -> sparkSystem.emit())
-        );
-        sparkAnimation.setCycleCount(5);
-        sparkAnimation.play();
+        particleSystem.emit(tip.getX(), tip.getY(), 15, Color.WHITE);
     }
 
     private Circle createTileSpace() {
@@ -645,11 +602,7 @@ public class ModernTwoPlayerGameView {
         circle.setFill(Color.web("#374151"));
         circle.setStroke(Color.web("#4B5563"));
         circle.setStrokeWidth(1);
-
-        DropShadow shadow = new DropShadow();
-        shadow.setColor(Color.web("#000000", 0.3));
-        shadow.setRadius(5);
-        circle.setEffect(shadow);
+        circle.setEffect(GameUIConstants.TILE_DROP_SHADOW);
 
         return circle;
     }
@@ -662,11 +615,7 @@ public class ModernTwoPlayerGameView {
 
             // Add penalty tooltip
             Tooltip penalty = new Tooltip("Penalty: -" + (i < 2 ? "1" : i < 5 ? "2" : "3"));
-            penalty.setStyle("""
-                -fx-background-color: #1F2937;
-                -fx-text-fill: #EF4444;
-                -fx-font-size: 12px;
-                """);
+            penalty.getStyleClass().add("penalty-tooltip");
             Tooltip.install(space, penalty);
 
             floorLine.getChildren().add(space);
@@ -676,37 +625,14 @@ public class ModernTwoPlayerGameView {
 
     private Button createIconButton(String icon, String tooltip) {
         Button button = new Button(icon);
-        button.setStyle(String.format("""
-            -fx-background-color: %s;
-            -fx-text-fill: white;
-            -fx-font-size: 14px;
-            -fx-padding: 8 15;
-            -fx-background-radius: 5;
-            """, BUTTON_BG));
-
-        // Add hover effects
-        button.setOnMouseEntered(e ->
-                button.setStyle(button.getStyle().replace(BUTTON_BG, BUTTON_HOVER))
-        );
-
-        button.setOnMouseExited(e ->
-                button.setStyle(button.getStyle().replace(BUTTON_HOVER, BUTTON_BG))
-        );
-
+        button.getStyleClass().add(Styles.ICON_BUTTON);
         Tooltip.install(button, new Tooltip(tooltip));
         return button;
     }
 
     private Button createHelpButton() {
         Button helpButton = new Button("?");
-        helpButton.setStyle("""
-            -fx-background-color: #374151;
-            -fx-text-fill: #9CA3AF;
-            -fx-font-size: 12px;
-            -fx-min-width: 24px;
-            -fx-min-height: 24px;
-            -fx-background-radius: 12px;
-            """);
+        helpButton.getStyleClass().add("help-button");
 
         helpButton.setOnAction(e -> showHelpDialog());
         return helpButton;
@@ -724,27 +650,10 @@ public class ModernTwoPlayerGameView {
             • Hover over any space to see which color tile can be placed there
             """);
 
-        DialogPane dialogPane = help.getDialogPane();
-        styleDialog(dialogPane);
+        Theme.styleDialog(help);
         help.showAndWait();
     }
 
-    private void styleDialog(DialogPane dialogPane) {
-        dialogPane.setStyle("-fx-background-color: #1F2937;");
-        dialogPane.lookup(".content.label").setStyle("""
-            -fx-text-fill: #9CA3AF;
-            -fx-font-size: 14px;
-            """);
-        dialogPane.lookup(".header-panel").setStyle("""
-            -fx-background-color: #111827;
-            """);
-        dialogPane.lookup(".header-panel .label").setStyle("""
-            -fx-text-fill: white;
-            -fx-font-size: 18px;
-            -fx-font-weight: bold;
-            """);
-    }
-
     private void addEntranceAnimations() {
         // Main content fade in
         FadeTransition fadeIn = new FadeTransition(Duration.seconds(0.5), root);
@@ -763,7 +672,7 @@ public class ModernTwoPlayerGameView {
         scaleFactories.setToY(1);
 
         ParallelTransition parallel = new ParallelTransition(fadeIn, leftSlide, rightSlide, scaleFactories);
-        parallel.play();
+        AnimationScheduler.getInstance().playDecorative("entrance", root, parallel);
     }
 
     private TranslateTransition createSlideAnimation(Region node, double fromX, double toX) {
@@ -776,13 +685,8 @@ public class ModernTwoPlayerGameView {
     // Animation layer methods
     public void showFloatingText(String text, Node source, boolean isPositive) {
         Label floatingText = new Label(text);
-        floatingText.setStyle(String.format("""
-            -fx-background-color: %s;
-            -fx-text-fill: white;
-            -fx-padding: 5 10;
-            -fx-background-radius: 3;
-            -fx-font-size: 14px;
-            """, isPositive ? "#22C55E" : "#EF4444"));
+        floatingText.getStyleClass().add(Styles.FLOATING_TEXT);
+        floatingText.pseudoClassStateChanged(Styles.LOSS, !isPositive);
 
         Bounds bounds = source.localToScene(source.getBoundsInLocal());
         floatingText.setTranslateX(bounds.getCenterX() - 20);
@@ -799,18 +703,15 @@ public class ModernTwoPlayerGameView {
 
         ParallelTransition animation = new ParallelTransition(moveUp, fade);
         animation.setOnFinished(e -> animationLayer.getChildren().remove(floatingText));
-        animation.play();
+        AnimationScheduler.getInstance().playDecorative("floating-text", floatingText, animation);
     }
 
     public void addParticleEffect(Node source, Color color) {
-        ParticleSystem particles = new ParticleSystem();
         Bounds bounds = source.localToScene(source.getBoundsInLocal());
+        Point2D center = animationLayer.sceneToLocal(bounds.getCenterX(), bounds.getCenterY());
+        if (center == null) return;
 
-        particles.setEmitterLocation(bounds.getCenterX(), bounds.getCenterY());
-
-        Timeline cleanup = new Timeline(new KeyFrame(Duration.seconds(2),
-                e -> animationLayer.getChildren().remove(particles)));
-        cleanup.play();
+        particleSystem.emit(center.getX(), center.getY(), 30, color);
     }
 
     // Getters
@@ -823,6 +724,8 @@ public class ModernTwoPlayerGameView {
     public Button getEndRoundButton() { return endRoundButton; }
     public Label getTimerLabel() { return timerLabel; }
     public Label getCurrentPlayerLabel() { return currentPlayerLabel; }
+    public ProgressIndicator getThinkingIndicator() { return thinkingIndicator; }
+    public Label getPreviewLabel() { return previewLabel; }
     public VBox getPlayer1Board() { return player1Board; }
     public VBox getPlayer2Board() { return player2Board; }
     public GridPane getFactoriesContainer() { return factoriesContainer; }
@@ -830,4 +733,7 @@ public class ModernTwoPlayerGameView {
     public HBox getPlayer1Hand() { return player1Hand; }
     public HBox getPlayer2Hand() { return player2Hand; }
     public StackPane getAnimationLayer() { return animationLayer; }
+    public ParticleSystem getParticleSystem() { return particleSystem; }
+    public DiagnosticsOverlay getDiagnosticsOverlay() { return diagnosticsOverlay; }
+    public AnalysisPanel getAnalysisPanel() { return analysisPanel; }
 }
\ No newline at end of file
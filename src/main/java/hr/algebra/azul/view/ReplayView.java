@@ -0,0 +1,216 @@
+package hr.algebra.azul.view;
+
+import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.models.Wall;
+import hr.algebra.azul.styles.Styles;
+import hr.algebra.azul.styles.Theme;
+import hr.algebra.azul.view.components.FactoryComponent;
+import hr.algebra.azul.view.components.FloorLineComponent;
+import hr.algebra.azul.view.components.PatternLines;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.stage.Stage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Screen for watching a recorded game. Every node is created once for the
+ * record's players and factories; showing another move only changes fills,
+ * opacities and texts, so scrubbing never rebuilds the scene graph. Boards use
+ * the shared {@link PatternLines}, {@link FloorLineComponent} and
+ * {@link FactoryComponent}.
+ */
+public class ReplayView {
+    private static final double TILE_RADIUS = 15;
+
+    private final Stage stage;
+    private final Scene scene;
+    private final BorderPane root;
+
+    private final List<FactoryComponent> factories = new ArrayList<>();
+    private final List<Circle> centerTiles = new ArrayList<>();
+    private final List<PlayerBoard> boards = new ArrayList<>();
+
+    private Label statusLabel;
+    private Label moveLabel;
+    private Label stepLabel;
+    private Slider timeline;
+    private Button previousButton;
+    private Button playButton;
+    private Button nextButton;
+
+    // The nodes of one player's board that a replay updates
+    public record PlayerBoard(VBox node, Label scoreLabel, PatternLines patternLines,
+                              Circle[][] wallTiles, FloorLineComponent floorLine) {
+    }
+
+    public ReplayView(List<String> players, int factoryCount) {
+        root = new BorderPane();
+        root.getStyleClass().add("game-root");
+
+        createTopBar();
+        createTable(players, factoryCount);
+        createControlBar();
+
+        scene = new Scene(root);
+        Theme.apply(scene);
+
+        stage = new Stage();
+        stage.setTitle("Azul - Replay");
+        stage.setScene(scene);
+        stage.setMinWidth(1200);
+        stage.setMinHeight(800);
+    }
+
+    private void createTopBar() {
+        HBox topBar = new HBox(15);
+        topBar.setAlignment(Pos.CENTER_LEFT);
+        topBar.setPadding(new Insets(15));
+        topBar.getStyleClass().add("top-bar");
+
+        Label titleLabel = new Label("AZUL");
+        titleLabel.getStyleClass().add("game-title");
+
+        Label subtitle = new Label("Replay");
+        subtitle.getStyleClass().add("subtitle");
+
+        statusLabel = new Label();
+        statusLabel.getStyleClass().add("current-player-label");
+
+        // Fixed text slot, so a longer move description never relayouts the bar
+        moveLabel = new Label(" ");
+        moveLabel.getStyleClass().add(Styles.PREVIEW_LABEL);
+
+        topBar.getChildren().addAll(titleLabel, subtitle, statusLabel, moveLabel);
+        root.setTop(topBar);
+    }
+
+    private void createTable(List<String> players, int factoryCount) {
+        FlowPane factoryRow = new FlowPane(15, 15);
+        factoryRow.setAlignment(Pos.CENTER);
+        for (int i = 0; i < factoryCount; i++) {
+            FactoryComponent factory = new FactoryComponent(i);
+            factories.add(factory);
+            factoryRow.getChildren().add(factory);
+        }
+
+        FlowPane center = new FlowPane(6, 6);
+        center.setAlignment(Pos.CENTER);
+        center.setPrefWrapLength(400);
+        center.getStyleClass().add(Styles.CENTER_POOL);
+        // At most three tiles are left over from every factory
+        for (int i = 0; i < 3 * factoryCount; i++) {
+            Circle tile = new Circle(TILE_RADIUS);
+            tile.setVisible(false);
+            tile.managedProperty().bind(tile.visibleProperty());
+            centerTiles.add(tile);
+            center.getChildren().add(tile);
+        }
+
+        HBox boardRow = new HBox(20);
+        boardRow.setAlignment(Pos.CENTER);
+        for (String player : players) {
+            PlayerBoard board = createPlayerBoard(player);
+            boards.add(board);
+            boardRow.getChildren().add(board.node());
+        }
+
+        VBox table = new VBox(20, factoryRow, center, boardRow);
+        table.setAlignment(Pos.CENTER);
+        table.setPadding(new Insets(20));
+        root.setCenter(table);
+    }
+
+    private PlayerBoard createPlayerBoard(String playerName) {
+        VBox board = new VBox(10);
+        board.getStyleClass().add(Styles.PLAYER_BOARD);
+
+        Label nameLabel = new Label(playerName);
+        nameLabel.getStyleClass().add("player-name");
+        Label scoreLabel = new Label("0");
+        scoreLabel.getStyleClass().add(Styles.SCORE_LABEL);
+        HBox header = new HBox(10, nameLabel, scoreLabel);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        PatternLines patternLines = new PatternLines();
+
+        GridPane wall = new GridPane();
+        wall.setHgap(4);
+        wall.setVgap(4);
+        wall.getStyleClass().add("wall-grid");
+        TileColor[][] wallPattern = new Wall().initializeWallPattern();
+        Circle[][] wallTiles = new Circle[Wall.WALL_SIZE][Wall.WALL_SIZE];
+        for (int row = 0; row < Wall.WALL_SIZE; row++) {
+            for (int col = 0; col < Wall.WALL_SIZE; col++) {
+                Circle tile = new Circle(TILE_RADIUS, Color.web(wallPattern[row][col].getHexCode()));
+                tile.setOpacity(0.2);
+                wallTiles[row][col] = tile;
+                wall.add(tile, col, row);
+            }
+        }
+
+        FloorLineComponent floorLine = new FloorLineComponent();
+
+        board.getChildren().addAll(header, patternLines, wall, floorLine);
+        return new PlayerBoard(board, scoreLabel, patternLines, wallTiles, floorLine);
+    }
+
+    private void createControlBar() {
+        HBox controlBar = new HBox(10);
+        controlBar.setAlignment(Pos.CENTER);
+        controlBar.setPadding(new Insets(15));
+        controlBar.getStyleClass().add("control-bar");
+
+        previousButton = createButton("⏮");
+        playButton = createButton("▶");
+        nextButton = createButton("⏭");
+
+        timeline = new Slider(0, 0, 0);
+        timeline.setBlockIncrement(1);
+        timeline.setMajorTickUnit(1);
+        timeline.setMinorTickCount(0);
+        timeline.setSnapToTicks(true);
+        HBox.setHgrow(timeline, Priority.ALWAYS);
+
+        stepLabel = new Label();
+        stepLabel.getStyleClass().add("muted-label");
+        stepLabel.setMinWidth(80);
+
+        controlBar.getChildren().addAll(previousButton, playButton, nextButton, timeline, stepLabel);
+        root.setBottom(controlBar);
+    }
+
+    private Button createButton(String text) {
+        Button button = new Button(text);
+        button.getStyleClass().add("game-button");
+        button.setFocusTraversable(false);
+        return button;
+    }
+
+    // Getters
+    public Stage getStage() { return stage; }
+    public Scene getScene() { return scene; }
+    public List<FactoryComponent> getFactories() { return factories; }
+    public List<Circle> getCenterTiles() { return centerTiles; }
+    public List<PlayerBoard> getBoards() { return boards; }
+    public Label getStatusLabel() { return statusLabel; }
+    public Label getMoveLabel() { return moveLabel; }
+    public Label getStepLabel() { return stepLabel; }
+    public Slider getTimeline() { return timeline; }
+    public Button getPreviousButton() { return previousButton; }
+    public Button getPlayButton() { return playButton; }
+    public Button getNextButton() { return nextButton; }
+}
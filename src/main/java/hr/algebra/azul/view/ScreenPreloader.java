@@ -0,0 +1,86 @@
+package hr.algebra.azul.view;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Builds a screen before it is needed. Classes the screen depends on are loaded
+ * on a background thread; the screen itself is constructed on the FX thread once
+ * the current screen has had time to draw its first frames.
+ * {@link #take()} hands out the prepared instance, or builds one on the spot if
+ * the user got there first.
+ */
+public class ScreenPreloader<T> {
+    private static final Duration IDLE_DELAY = Duration.millis(400);
+
+    private final Supplier<T> factory;
+    private final List<String> warmupClasses;
+    private T prepared;
+    private PauseTransition pending;
+    private Runnable onPrepared;
+
+    public ScreenPreloader(Supplier<T> factory, List<String> warmupClasses) {
+        this.factory = factory;
+        this.warmupClasses = warmupClasses;
+    }
+
+    /**
+     * Starts preparing a screen unless one is ready or on its way. Must be
+     * called on the FX thread.
+     */
+    public void preload() {
+        if (prepared != null || pending != null) return;
+
+        Thread warmup = new Thread(this::loadClasses, "screen-warmup");
+        warmup.setDaemon(true);
+        warmup.setPriority(Thread.MIN_PRIORITY);
+        warmup.start();
+
+        pending = new PauseTransition(IDLE_DELAY);
+        pending.setOnFinished(e -> {
+            pending = null;
+            if (prepared == null) {
+                prepared = factory.get();
+            }
+            if (onPrepared != null) {
+                onPrepared.run();
+            }
+        });
+        pending.play();
+    }
+
+    // Returns the prepared screen, or builds one now if it is not ready yet
+    public T take() {
+        if (pending != null) {
+            pending.stop();
+            pending = null;
+        }
+        T screen = prepared != null ? prepared : factory.get();
+        prepared = null;
+        return screen;
+    }
+
+    public boolean isPrepared() {
+        return prepared != null;
+    }
+
+    public void setOnPrepared(Runnable onPrepared) {
+        this.onPrepared = onPrepared;
+    }
+
+    private void loadClasses() {
+        ClassLoader loader = ScreenPreloader.class.getClassLoader();
+        for (String className : warmupClasses) {
+            try {
+                // Load without initialising: static initialisers stay on the FX thread
+                Class.forName(className, false, loader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Only a warm-up; the screen still loads normally later
+                System.err.println("Warm-up skipped " + className + ": " + e);
+            }
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package hr.algebra.azul.view.components;
 
+import hr.algebra.azul.styles.Styles;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Tooltip;
 import javafx.scene.layout.HBox;
 
-import static hr.algebra.azul.view.components.GameComponent.DARKER_BG;
-
 public class ControlBar extends HBox {
     private final Button undoButton;
     private final Button saveButton;
@@ -18,7 +17,7 @@ public class ControlBar extends HBox {
         setAlignment(Pos.CENTER);
         setPadding(new Insets(15));
         setSpacing(10);
-        setStyle("-fx-background-color: " + DARKER_BG);
+        getStyleClass().add("control-bar");
 
         undoButton = createControlButton("↩", "Undo");
         saveButton = createControlButton("💾", "Save");
@@ -30,18 +29,8 @@ public class ControlBar extends HBox {
 
     private Button createControlButton(String icon, String tooltip) {
         Button button = new Button(icon);
-        button.setStyle("""
-            -fx-background-color: #3B82F6;
-            -fx-text-fill: white;
-            -fx-font-size: 14px;
-            -fx-padding: 8 15;
-            -fx-background-radius: 5;
-            """);
-
-        button.setOnMouseEntered(e -> button.setStyle(button.getStyle()
-                .replace("#3B82F6", "#2563EB")));
-        button.setOnMouseExited(e -> button.setStyle(button.getStyle()
-                .replace("#2563EB", "#3B82F6")));
+        // Colors and the hover color come from game.css
+        button.getStyleClass().add(Styles.ICON_BUTTON);
 
         Tooltip.install(button, new Tooltip(tooltip));
         return button;
@@ -1,6 +1,7 @@
 package hr.algebra.azul.view.components;
 
 import hr.algebra.azul.models.Player;
+import hr.algebra.azul.styles.Styles;
 import javafx.geometry.Pos;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
@@ -27,11 +28,7 @@ public class EndGameDialog extends GameDialog {
         // Winner announcement
         if (winner != null) {
             Label winnerLabel = new Label(winner.getName() + " Wins!");
-            winnerLabel.setStyle("""
-                -fx-font-size: 24px;
-                -fx-font-weight: bold;
-                -fx-text-fill: #22C55E;
-                """);
+            winnerLabel.getStyleClass().add("winner-label");
             content.getChildren().add(winnerLabel);
         }
 
@@ -45,24 +42,14 @@ public class EndGameDialog extends GameDialog {
     private VBox createPlayerScoreBox(Player player, boolean isWinner) {
         VBox scoreBox = new VBox(5);
         scoreBox.setAlignment(Pos.CENTER);
-        scoreBox.setStyle(String.format("""
-            -fx-background-color: %s;
-            -fx-padding: 10;
-            -fx-background-radius: 5;
-            """, isWinner ? "#065F46" : "#1F2937"));
+        scoreBox.getStyleClass().add("summary-box");
+        scoreBox.pseudoClassStateChanged(Styles.HIGHLIGHTED, isWinner);
 
         Label nameLabel = new Label(player.getName());
-        nameLabel.setStyle("""
-            -fx-font-size: 18px;
-            -fx-font-weight: bold;
-            -fx-text-fill: white;
-            """);
+        nameLabel.getStyleClass().add("summary-name");
 
         Label scoreLabel = new Label(player.getScore() + " points");
-        scoreLabel.setStyle("""
-            -fx-font-size: 16px;
-            -fx-text-fill: #9CA3AF;
-            """);
+        scoreLabel.getStyleClass().add("summary-score");
 
         scoreBox.getChildren().addAll(nameLabel, scoreLabel);
         return scoreBox;
@@ -1,13 +1,14 @@
 package hr.algebra.azul.view.components;
 
+import hr.algebra.azul.helper.GameUIConstants;
 import hr.algebra.azul.models.Factory;
 import hr.algebra.azul.models.Tile;
 import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.styles.Styles;
 import javafx.animation.ScaleTransition;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -18,15 +19,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class FactoryComponent extends VBox {
-    private final Factory factory;
+    private final Factory factory; // null when the component only shows tiles
+    private final int index;
     private final GridPane tilesGrid;
     private final List<Circle> tileCircles;
     private FactorySelectionHandler selectionHandler;
 
-    // Style constants
-    private static final String FACTORY_BG = "#1F2937";
-    private static final String BORDER_COLOR = "#374151";
-    private static final String HOVER_BORDER = "#60A5FA";
+    // Style constants; the card itself is styled by .factory-component in game.css
+    private static final Color HOVER_BORDER = Color.web("#60A5FA");
     private static final double TILE_RADIUS = 15.0;
     private static final double FACTORY_SIZE = 120.0;
 
@@ -35,7 +35,17 @@ public class FactoryComponent extends VBox {
     }
 
     public FactoryComponent(Factory factory) {
+        this(factory, factory.getIndex());
+    }
+
+    // A factory without a model behind it, filled through update(List), e.g. for replays
+    public FactoryComponent(int index) {
+        this(null, index);
+    }
+
+    private FactoryComponent(Factory factory, int index) {
         this.factory = factory;
+        this.index = index;
         this.tilesGrid = new GridPane();
         this.tileCircles = new ArrayList<>();
 
@@ -47,18 +57,16 @@ public class FactoryComponent extends VBox {
         setAlignment(Pos.CENTER);
         setPadding(new Insets(15));
         setPrefSize(FACTORY_SIZE, FACTORY_SIZE);
-        setStyle(getDefaultStyle());
+        getStyleClass().add(Styles.FACTORY_COMPONENT);
 
         tilesGrid.setHgap(10);
         tilesGrid.setVgap(10);
         tilesGrid.setAlignment(Pos.CENTER);
 
-        Label label = new Label("Factory " + (factory.getIndex() + 1));
-        label.setStyle("-fx-text-fill: #9CA3AF; -fx-font-size: 12px;");
+        Label label = new Label("Factory " + (index + 1));
+        label.getStyleClass().add("small-label");
 
         getChildren().addAll(tilesGrid, label);
-
-        setupHoverEffect();
     }
 
     private void createTileCircles() {
@@ -73,15 +81,10 @@ public class FactoryComponent extends VBox {
 
     private Circle createTileCircle() {
         Circle circle = new Circle(TILE_RADIUS);
-        circle.setFill(Color.web("#374151")); // Empty tile color
-        circle.setStroke(Color.web("#4B5563"));
+        circle.setFill(GameUIConstants.EMPTY_SPACE);
+        circle.setStroke(GameUIConstants.TILE_BORDER);
         circle.setStrokeWidth(1);
-
-        // Add shadow effect
-        DropShadow shadow = new DropShadow();
-        shadow.setColor(Color.web("#000000", 0.3));
-        shadow.setRadius(5);
-        circle.setEffect(shadow);
+        circle.setEffect(GameUIConstants.TILE_DROP_SHADOW);
 
         // Add hover and click handlers
         setupTileInteractions(circle);
@@ -91,19 +94,15 @@ public class FactoryComponent extends VBox {
 
     private void setupTileInteractions(Circle circle) {
         circle.setOnMouseEntered(e -> {
-            if (circle.getFill() != Color.web("#374151")) { // Only if tile has color
+            if (!GameUIConstants.EMPTY_SPACE.equals(circle.getFill())) { // Only if tile has color
                 ScaleTransition scale = new ScaleTransition(Duration.millis(100), circle);
                 scale.setToX(1.1);
                 scale.setToY(1.1);
                 scale.play();
 
-                circle.setStroke(Color.web(HOVER_BORDER));
+                circle.setStroke(HOVER_BORDER);
                 circle.setStrokeWidth(2);
-
-                DropShadow glow = new DropShadow();
-                glow.setColor(((Color)circle.getFill()).deriveColor(0, 1, 1, 0.5));
-                glow.setRadius(10);
-                circle.setEffect(glow);
+                circle.setEffect(GameUIConstants.tileGlow(circle.getFill()));
             }
         });
 
@@ -113,20 +112,16 @@ public class FactoryComponent extends VBox {
             scale.setToY(1.0);
             scale.play();
 
-            circle.setStroke(Color.web("#4B5563"));
+            circle.setStroke(GameUIConstants.TILE_BORDER);
             circle.setStrokeWidth(1);
-
-            DropShadow shadow = new DropShadow();
-            shadow.setColor(Color.web("#000000", 0.3));
-            shadow.setRadius(5);
-            circle.setEffect(shadow);
+            circle.setEffect(GameUIConstants.TILE_DROP_SHADOW);
         });
 
         circle.setOnMouseClicked(e -> handleTileClick(circle));
     }
 
     private void handleTileClick(Circle circle) {
-        if (circle.getFill() != Color.web("#374151") && selectionHandler != null) {
+        if (!GameUIConstants.EMPTY_SPACE.equals(circle.getFill()) && selectionHandler != null && factory != null) {
             int index = tileCircles.indexOf(circle);
             List<Tile> tiles = factory.getTiles();
             if (index >= 0 && index < tiles.size()) {
@@ -136,53 +131,30 @@ public class FactoryComponent extends VBox {
         }
     }
 
-    private void setupHoverEffect() {
-        setOnMouseEntered(e -> {
-            if (!factory.isEmpty()) {
-                setStyle(getHoverStyle());
-            }
-        });
-
-        setOnMouseExited(e -> setStyle(getDefaultStyle()));
-    }
-
-    private String getDefaultStyle() {
-        return String.format("""
-            -fx-background-color: %s;
-            -fx-background-radius: 10;
-            -fx-border-color: %s;
-            -fx-border-radius: 10;
-            -fx-border-width: 1;
-            """, FACTORY_BG, BORDER_COLOR);
-    }
-
-    private String getHoverStyle() {
-        return String.format("""
-            -fx-background-color: %s;
-            -fx-background-radius: 10;
-            -fx-border-color: %s;
-            -fx-border-radius: 10;
-            -fx-border-width: 2;
-            -fx-effect: dropshadow(gaussian, rgba(96, 165, 250, 0.4), 10, 0, 0, 0);
-            """, FACTORY_BG, HOVER_BORDER);
-    }
-
     public void update() {
-        List<Tile> tiles = factory.getTiles();
+        List<TileColor> colors = new ArrayList<>();
+        for (Tile tile : factory.getTiles()) {
+            colors.add(tile.getColor());
+        }
+        update(colors);
+    }
 
-        // Update all circles
+    // Shows the tiles in order; circles that already have the right color are left alone
+    public void update(List<TileColor> tiles) {
         for (int i = 0; i < tileCircles.size(); i++) {
             Circle circle = tileCircles.get(i);
-            if (i < tiles.size()) {
-                Tile tile = tiles.get(i);
-                circle.setFill(Color.web(tile.getColor().getHexCode()));
-            } else {
-                circle.setFill(Color.web("#374151")); // Empty tile color
+            Color fill = i < tiles.size()
+                    ? GameUIConstants.tileFill(tiles.get(i))
+                    : GameUIConstants.EMPTY_SPACE;
+            if (!fill.equals(circle.getFill())) {
+                circle.setFill(fill);
             }
         }
 
-        // Update factory state visual feedback
-        setOpacity(factory.isEmpty() ? 0.7 : 1.0);
+        // Update factory state visual feedback; only a factory with tiles lights up on hover
+        boolean empty = tiles.isEmpty();
+        setOpacity(empty ? 0.7 : 1.0);
+        pseudoClassStateChanged(Styles.VALID, !empty);
     }
 
     public void setOnTileSelected(FactorySelectionHandler handler) {
@@ -190,15 +162,11 @@ public class FactoryComponent extends VBox {
     }
 
     public void highlight(boolean highlight) {
-        setStyle(highlight ?
-                String.format("""
-                -fx-background-color: %s;
-                -fx-background-radius: 10;
-                -fx-border-color: #4F46E5;
-                -fx-border-radius: 10;
-                -fx-border-width: 2;
-                """, FACTORY_BG) :
-                getDefaultStyle());
+        pseudoClassStateChanged(Styles.HIGHLIGHTED, highlight);
+    }
+
+    public int getIndex() {
+        return index;
     }
 
     public Factory getFactory() {
@@ -1,5 +1,6 @@
 package hr.algebra.azul.view.components;
 
+import hr.algebra.azul.helper.GameUIConstants;
 import hr.algebra.azul.models.FloorLine;
 import hr.algebra.azul.models.Tile;
 import javafx.scene.layout.HBox;
@@ -12,6 +13,8 @@ public class FloorLineComponent extends HBox {
     private final List<Circle> spaces;
     private static final int FLOOR_SIZE = 7;
     private static final double TILE_RADIUS = 15;
+    // Tiles shown by count only, when their colors are not known
+    private static final Color FLOOR_TILE = Color.web("#6B7280");
 
     public FloorLineComponent() {
         setSpacing(5);
@@ -29,8 +32,8 @@ public class FloorLineComponent extends HBox {
 
     private Circle createSpace() {
         Circle circle = new Circle(TILE_RADIUS);
-        circle.setFill(Color.web("#374151")); // Empty space color
-        circle.setStroke(Color.web("#4B5563"));
+        circle.setFill(GameUIConstants.EMPTY_SPACE);
+        circle.setStroke(GameUIConstants.TILE_BORDER);
         circle.setStrokeWidth(1);
         return circle;
     }
@@ -41,9 +44,20 @@ public class FloorLineComponent extends HBox {
             Tile tile = floorLine.getTileAt(i);
 
             if (tile != null && tile.getColor() != null) {
-                space.setFill(Color.web(tile.getColor().getHexCode()));
+                space.setFill(GameUIConstants.tileFill(tile.getColor()));
             } else {
-                space.setFill(Color.web("#374151")); // Empty space color
+                space.setFill(GameUIConstants.EMPTY_SPACE);
+            }
+        }
+    }
+
+    // Fills the first spaces without colors, e.g. for a replayed position; unchanged spaces are left alone
+    public void update(int tiles) {
+        for (int i = 0; i < FLOOR_SIZE; i++) {
+            Circle space = spaces.get(i);
+            Color fill = i < tiles ? FLOOR_TILE : GameUIConstants.EMPTY_SPACE;
+            if (!fill.equals(space.getFill())) {
+                space.setFill(fill);
             }
         }
     }
@@ -1,5 +1,6 @@
 package hr.algebra.azul.view.components;
 
+import hr.algebra.azul.styles.Styles;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.beans.property.IntegerProperty;
@@ -40,7 +41,7 @@ public class GameTimer {
         timerLabel.setText(String.format("⏱ %02d:%02d", minutes, seconds));
 
         if (timeRemaining.get() <= 30) {
-            timerLabel.setStyle("-fx-text-fill: #EF4444;"); // Warning color
+            timerLabel.pseudoClassStateChanged(Styles.WARNING, true);
         }
     }
 
@@ -54,7 +55,7 @@ public class GameTimer {
 
     public void reset() {
         timeRemaining.set(150);
-        timerLabel.setStyle("-fx-text-fill: #9CA3AF;");
+        timerLabel.pseudoClassStateChanged(Styles.WARNING, false);
         updateDisplay();
     }
 
@@ -1,8 +1,10 @@
 package hr.algebra.azul.view.components;
 
+import hr.algebra.azul.helper.GameUIConstants;
 import hr.algebra.azul.models.PatternLine;
 import hr.algebra.azul.models.Tile;
-import javafx.scene.effect.DropShadow;
+import hr.algebra.azul.models.TileColor;
+import hr.algebra.azul.styles.Styles;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
@@ -15,14 +17,13 @@ public class PatternLineRow extends HBox {
     private final List<Circle> spaces;
     private final int size;
     private static final double TILE_RADIUS = 15;
-    private static final String EMPTY_SPACE_COLOR = "#374151";
-    private static final String BORDER_COLOR = "#4B5563";
 
     public PatternLineRow(int size) {
         this.size = size;
         this.spaces = new ArrayList<>();
 
         setSpacing(5);
+        getStyleClass().add("pattern-line-row");
         createSpaces();
     }
 
@@ -36,15 +37,10 @@ public class PatternLineRow extends HBox {
 
     private Circle createSpace() {
         Circle circle = new Circle(TILE_RADIUS);
-        circle.setFill(Color.web(EMPTY_SPACE_COLOR));
-        circle.setStroke(Color.web(BORDER_COLOR));
+        circle.setFill(GameUIConstants.EMPTY_SPACE);
+        circle.setStroke(GameUIConstants.TILE_BORDER);
         circle.setStrokeWidth(1);
-
-        // Add shadow effect
-        DropShadow shadow = new DropShadow();
-        shadow.setColor(Color.web("#000000", 0.3));
-        shadow.setRadius(5);
-        circle.setEffect(shadow);
+        circle.setEffect(GameUIConstants.TILE_DROP_SHADOW);
 
         return circle;
     }
@@ -67,17 +63,36 @@ public class PatternLineRow extends HBox {
         }
     }
 
+    // Shows count tiles of the color; spaces that already look right are left alone
+    public void update(TileColor color, int count) {
+        for (int i = 0; i < spaces.size(); i++) {
+            if (i < count) {
+                fillSpace(spaces.get(i), GameUIConstants.tileFill(color));
+            } else {
+                resetSpace(spaces.get(i));
+            }
+        }
+    }
+
     private void updateSpace(Circle space, Tile tile) {
         if (tile != null && tile.getColor() != null) {
-            space.setFill(Color.web(tile.getColor().getHexCode()));
-            space.setOpacity(1.0);
+            fillSpace(space, GameUIConstants.tileFill(tile.getColor()));
         } else {
             resetSpace(space);
         }
     }
 
+    private void fillSpace(Circle space, Color fill) {
+        if (!fill.equals(space.getFill())) {
+            space.setFill(fill);
+        }
+        space.setOpacity(1.0);
+    }
+
     private void resetSpace(Circle space) {
-        space.setFill(Color.web(EMPTY_SPACE_COLOR));
+        if (!GameUIConstants.EMPTY_SPACE.equals(space.getFill())) {
+            space.setFill(GameUIConstants.EMPTY_SPACE);
+        }
         space.setOpacity(0.7);
     }
 
@@ -86,9 +101,7 @@ public class PatternLineRow extends HBox {
     }
 
     public void setHighlight(boolean highlight) {
-        setStyle(highlight ?
-                "-fx-border-color: #22C55E; -fx-border-width: 2; -fx-border-radius: 5; -fx-padding: 2;" :
-                "-fx-border-color: transparent; -fx-padding: 4;");
+        pseudoClassStateChanged(Styles.HIGHLIGHTED, highlight);
     }
 
     public List<Circle> getSpaces() {
@@ -1,6 +1,7 @@
 package hr.algebra.azul.view.components;
 
 import hr.algebra.azul.models.PatternLine;
+import hr.algebra.azul.models.PlacementMask;
 import hr.algebra.azul.models.TileColor;
 import javafx.geometry.Insets;
 import javafx.scene.layout.VBox;
@@ -37,11 +38,15 @@ public class PatternLines extends VBox {
         }
     }
 
-    public void highlightValidLines(TileColor color, boolean[] validLines) {
-        if (validLines == null) return;
+    // Shows count tiles of the color on one line, e.g. from a replayed position; color may be null for 0
+    public void update(int line, TileColor color, int count) {
+        rows.get(line).update(color, count);
+    }
 
-        for (int i = 0; i < Math.min(rows.size(), validLines.length); i++) {
-            rows.get(i).setHighlight(validLines[i]);
+    // placementMask is a Player.getPlacementMask(); lines that can take the color light up
+    public void highlightValidLines(TileColor color, int placementMask) {
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).setHighlight(PlacementMask.isSet(placementMask, color, i));
         }
     }
 
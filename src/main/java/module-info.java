@@ -1,10 +1,27 @@
 module hr.algebra.azul {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.management;
+    // SIMD evaluation when the module is added at run time; see BatchEvaluator
+    requires static jdk.incubator.vector;
 
 
     opens hr.algebra.azul to javafx.fxml;
     exports hr.algebra.azul;
     exports hr.algebra.azul.handlers;
     opens hr.algebra.azul.handlers to javafx.fxml;
-}
\ No newline at end of file
+
+    // Player strategies are plugged in through ServiceLoader
+    exports hr.algebra.azul.ai;
+    uses hr.algebra.azul.ai.PlayerStrategy;
+    provides hr.algebra.azul.ai.PlayerStrategy with
+            hr.algebra.azul.ai.HumanStrategy,
+            hr.algebra.azul.ai.RandomStrategy,
+            hr.algebra.azul.ai.GreedyStrategy,
+            hr.algebra.azul.ai.HeuristicStrategy,
+            hr.algebra.azul.ai.AlphaBetaStrategy,
+            hr.algebra.azul.ai.LearnedStrategy,
+            hr.algebra.azul.ai.IsmctsStrategy,
+            hr.algebra.azul.ai.MaxnStrategy,
+            hr.algebra.azul.ai.ParanoidStrategy;
+}
@@ -0,0 +1,53 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.GameModel;
+import hr.algebra.azul.models.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameRecorderTest {
+
+    // Observed like the game controller does: at every turn change and around each round end
+    @Test
+    void recordsEveryPickOfAGameModel() {
+        GameModel model = new GameModel(3);
+        GameRecorder recorder = new GameRecorder(model.getPlayers().stream().map(Player::getName).toList());
+        SplittableRandom random = new SplittableRandom(5);
+        int picks = 0;
+        int rounds = 0;
+
+        recorder.observe(Position.of(model));
+        while (model.getGameState() != GameModel.GameState.GAME_END) {
+            while (!model.isRoundComplete()) {
+                int[] moves = Position.of(model).legalMoves();
+                RoundEndTest.play(model, moves[random.nextInt(moves.length)]);
+                picks++;
+                if (!model.isRoundComplete()) {
+                    model.nextTurn();
+                    recorder.observe(Position.of(model));
+                }
+            }
+            recorder.observe(Position.of(model));
+            Position roundOver = Position.of(model);
+            model.processRoundEnd();
+            recorder.observe(Position.of(model));
+            rounds++;
+
+            // The last pick is a move of the round, not the start of a segment
+            GameRecord record = recorder.toRecord();
+            GameRecord.Segment round = record.getSegments().get(rounds - 1);
+            Position replayed = round.start();
+            for (int move : round.moves()) {
+                replayed = replayed.play(move);
+            }
+            assertTrue(replayed.isRoundOver());
+            assertEquals(roundOver.withToMove(replayed.toMove()), replayed);
+        }
+
+        assertEquals(picks, recorder.toRecord().moveCount());
+    }
+}
@@ -0,0 +1,54 @@
+package hr.algebra.azul.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The policy's lookup tables must score a wall tile exactly as the game does
+class GreedyPolicyTest {
+    private static final int LINES = Position.LINES;
+
+    @Test
+    void placementTableMatchesPlacementPoints() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 5000; i++) {
+            // Sparse to nearly full walls, so runs, lone tiles and completed lines all occur
+            int wall = random.nextInt(1 << LINES * LINES) & random.nextInt(1 << LINES * LINES)
+                    | (i % 2 == 0 ? random.nextInt(1 << LINES * LINES) : 0);
+            assertWallMatches(wall);
+        }
+    }
+
+    @Test
+    void placementTableMatchesOnEveryRowAndColumnPattern() {
+        for (int bits = 0; bits < 32; bits++) {
+            for (int line = 0; line < LINES; line++) {
+                int row = 0;
+                int column = 0;
+                for (int i = 0; i < LINES; i++) {
+                    if ((bits & 1 << i) != 0) {
+                        row |= Position.cellBit(line, i);
+                        column |= Position.cellBit(i, line);
+                    }
+                }
+                assertWallMatches(row);
+                assertWallMatches(column);
+                assertWallMatches(row | column);
+            }
+        }
+    }
+
+    private static void assertWallMatches(int wall) {
+        for (int row = 0; row < LINES; row++) {
+            for (int col = 0; col < LINES; col++) {
+                int cell = Position.cellBit(row, col);
+                if ((wall & cell) != 0) continue;
+                assertEquals(Position.placementPoints(wall | cell, row, col),
+                        GreedyPolicy.placementPoints(wall, row, col),
+                        "wall " + Integer.toBinaryString(wall) + " at " + row + "," + col);
+            }
+        }
+    }
+}
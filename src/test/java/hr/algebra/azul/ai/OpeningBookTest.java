@@ -0,0 +1,119 @@
+package hr.algebra.azul.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpeningBookTest {
+    private static final int FACTORIES = HeadlessGame.FACTORY_COUNT;
+    private static final int COLORS = Position.COLORS;
+
+    @Test
+    void canonicalMovesMapBackToTheSameMove() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int i = 0; i < 500; i++) {
+            Position opening = randomOpening(random);
+            OpeningBook.Canonical canonical = OpeningBook.canonicalize(opening);
+            for (int move : opening.legalMoves()) {
+                assertEquals(move, canonical.toActual(canonical.toCanonical(move)), Move.toString(move));
+            }
+        }
+    }
+
+    // Reordered factories and a cyclic color shift are the same opening, with the same move
+    @Test
+    void equivalentOpeningsShareTheirBookMove() {
+        SplittableRandom random = new SplittableRandom(23);
+        int checked = 0;
+        while (checked < 500) {
+            Position opening = randomOpening(random);
+            // With repeated factories or a symmetric deal several moves are the same move
+            if (!isAsymmetric(opening)) continue;
+            checked++;
+            int[] moves = opening.legalMoves();
+            int move = moves[random.nextInt(moves.length)];
+            int[] order = shuffledFactories(random);
+            int shift = random.nextInt(COLORS);
+            Position equivalent = transform(opening, order, shift);
+
+            assertTrue(OpeningBook.isOpening(equivalent));
+            assertEquals(OpeningBook.canonicalize(opening).key(), OpeningBook.canonicalize(equivalent).key());
+
+            OpeningBook book = OpeningBook.empty();
+            book.remember(opening, move);
+            int expected = Move.of(Move.isFromCenter(move) ? Move.CENTER : order[Move.source(move)],
+                    shiftColor(Move.color(move), shift), Move.line(move));
+            int found = book.lookup(equivalent);
+            assertEquals(expected, found, Move.toString(move) + " became " + Move.toString(found));
+        }
+    }
+
+    private static Position randomOpening(SplittableRandom random) {
+        int[] compositions = new int[FACTORIES];
+        for (int f = 0; f < FACTORIES; f++) {
+            compositions[f] = random.nextInt(OpeningBook.compositionCount());
+        }
+        return OpeningBook.opening(2 + random.nextInt(3), compositions);
+    }
+
+    // No two factories alike and no color shift that maps the deal onto itself
+    private static boolean isAsymmetric(Position opening) {
+        Set<List<String>> deals = new HashSet<>();
+        int[] identity = {0, 1, 2, 3, 4};
+        for (int shift = 0; shift < COLORS; shift++) {
+            Position shifted = transform(opening, identity, shift);
+            Set<String> factories = new TreeSet<>();
+            for (int f = 0; f < FACTORIES; f++) {
+                StringBuilder factory = new StringBuilder();
+                for (int color = 0; color < COLORS; color++) {
+                    factory.append(shifted.factoryTiles(f, color));
+                }
+                factories.add(factory.toString());
+            }
+            if (factories.size() < FACTORIES) return false;
+            deals.add(List.copyOf(factories));
+        }
+        return deals.size() == COLORS;
+    }
+
+    // order[f] is where factory f ends up
+    private static int[] shuffledFactories(SplittableRandom random) {
+        int[] order = new int[FACTORIES];
+        for (int f = 0; f < FACTORIES; f++) {
+            order[f] = f;
+        }
+        for (int f = FACTORIES - 1; f > 0; f--) {
+            int other = random.nextInt(f + 1);
+            int swap = order[f];
+            order[f] = order[other];
+            order[other] = swap;
+        }
+        return order;
+    }
+
+    private static Position transform(Position opening, int[] order, int shift) {
+        byte[] tiles = new byte[FACTORIES * COLORS];
+        for (int f = 0; f < FACTORIES; f++) {
+            for (int color = 0; color < COLORS; color++) {
+                tiles[order[f] * COLORS + shiftColor(color, shift)] = (byte) opening.factoryTiles(f, color);
+            }
+        }
+        return Position.start(opening.playerCount(), FACTORIES).withFactories(tiles);
+    }
+
+    // The color whose wall tiles sit shift columns to the right of this color's
+    private static int shiftColor(int color, int shift) {
+        int col = (Position.wallColumn(0, color) + shift) % COLORS;
+        for (int other = 0; other < COLORS; other++) {
+            if (Position.wallColumn(0, other) == col) return other;
+        }
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,96 @@
+package hr.algebra.azul.ai;
+
+import hr.algebra.azul.models.Factory;
+import hr.algebra.azul.models.GameModel;
+import hr.algebra.azul.models.Tile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The search scores a round end exactly as the game does
+class RoundEndTest {
+
+    @Test
+    void scoreRoundMatchesProcessRoundEnd() {
+        SplittableRandom random = new SplittableRandom(7);
+        int roundsChecked = 0;
+        for (int game = 0; game < 20; game++) {
+            GameModel model = new GameModel(2 + game % 3);
+            while (model.getGameState() != GameModel.GameState.GAME_END) {
+                playRound(model, random);
+                Position before = Position.of(model);
+                assertTrue(model.processRoundEnd());
+                if (model.getGameState() == GameModel.GameState.GAME_END) break;
+
+                Position after = Position.of(model);
+                assertEquals(dealtLike(before.scoreRound(), after), after);
+                roundsChecked++;
+            }
+        }
+        assertTrue(roundsChecked > 0);
+    }
+
+    @Test
+    void tokenHolderStartsNextRound() {
+        GameModel model = new GameModel(3);
+        playRound(model, new SplittableRandom(11));
+        int holder = Position.of(model).tokenHolder();
+        model.processRoundEnd();
+        if (model.getGameState() != GameModel.GameState.GAME_END) {
+            assertEquals(holder, model.getPlayers().indexOf(model.getCurrentPlayer()));
+        }
+    }
+
+    // The position with the deal of the other one, which scoreRound leaves to the caller
+    private static Position dealtLike(Position scored, Position dealt) {
+        byte[] factories = new byte[dealt.factoryCount() * Position.COLORS];
+        for (int f = 0; f < dealt.factoryCount(); f++) {
+            for (int color = 0; color < Position.COLORS; color++) {
+                factories[f * Position.COLORS + color] = (byte) dealt.factoryTiles(f, color);
+            }
+        }
+        int[] bag = new int[Position.COLORS];
+        for (int color = 0; color < Position.COLORS; color++) {
+            bag[color] = dealt.bagTiles(color);
+        }
+        return scored.withFactories(factories).withBag(bag);
+    }
+
+    // Random legal moves until the table is empty, turning over like TurnManager
+    static void playRound(GameModel model, SplittableRandom random) {
+        while (!model.isRoundComplete()) {
+            int[] moves = Position.of(model).legalMoves();
+            play(model, moves[random.nextInt(moves.length)]);
+            if (!model.isRoundComplete()) {
+                model.nextTurn();
+            }
+        }
+    }
+
+    static void play(GameModel model, int move) {
+        int source = Move.source(move);
+        int line = Move.line(move);
+        if (!Move.isToFloor(move)) {
+            boolean played = Move.isFromCenter(move)
+                    ? model.selectTilesFromCenter(Move.tileColor(move), line)
+                    : model.selectTilesFromFactory(source, Move.tileColor(move), line);
+            assertTrue(played, Move.toString(move));
+            return;
+        }
+
+        List<Tile> tiles;
+        if (Move.isFromCenter(move)) {
+            tiles = model.collectTilesFromCenter(Move.tileColor(move));
+            model.handleFirstPlayerToken();
+        } else {
+            Factory factory = model.getFactories().get(source);
+            tiles = factory.selectTilesByColor(Move.tileColor(move));
+            model.addTilesToCenter(factory.removeRemainingTiles());
+        }
+        model.getCurrentPlayer().getFloorLine().addTiles(tiles);
+    }
+}
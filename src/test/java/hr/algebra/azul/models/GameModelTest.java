@@ -0,0 +1,80 @@
+package hr.algebra.azul.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameModelTest {
+
+    @Test
+    void roundEndWithoutCompletedRowStartsNextRound() {
+        GameModel model = new GameModel(2);
+        emptyTable(model);
+
+        assertTrue(model.processRoundEnd());
+        assertEquals(GameModel.GameState.FACTORY_SELECTION, model.getGameState());
+        assertEquals(2, model.getCurrentRound());
+        assertFalse(model.isRoundComplete());
+    }
+
+    @Test
+    void completedRowEndsTheGame() {
+        GameModel model = new GameModel(2);
+        Player player = model.getPlayers().get(1);
+        TileColor[][] pattern = player.getWall().getWallPattern();
+        // Four tiles on the wall and the fifth waiting on the one-tile pattern line
+        for (int col = 0; col < Wall.WALL_SIZE - 1; col++) {
+            player.getWall().addTile(0, pattern[0][col]);
+        }
+        player.getPatternLine(0).addTiles(List.of(new Tile(pattern[0][Wall.WALL_SIZE - 1])));
+        emptyTable(model);
+
+        assertTrue(model.processRoundEnd());
+        assertTrue(player.hasCompletedRow());
+        assertEquals(GameModel.GameState.GAME_END, model.getGameState());
+        assertEquals(1, model.getCurrentRound());
+    }
+
+    @Test
+    void emptyBagEndsTheGame() {
+        GameModel model = new GameModel(3);
+        TileBag bag = model.getTileBag();
+        while (bag.hasNext()) {
+            bag.draw();
+        }
+        emptyTable(model);
+
+        assertTrue(model.processRoundEnd());
+        assertEquals(GameModel.GameState.GAME_END, model.getGameState());
+    }
+
+    @Test
+    void roundEndWaitsForAnEmptyTable() {
+        GameModel model = new GameModel(2);
+
+        assertFalse(model.processRoundEnd());
+        assertEquals(GameModel.GameState.FACTORY_SELECTION, model.getGameState());
+        assertEquals(1, model.getCurrentRound());
+    }
+
+    // Moves every tile on the table, and the first player token, to the current player's floor
+    static void emptyTable(GameModel model) {
+        FloorLine floor = model.getCurrentPlayer().getFloorLine();
+        for (Factory factory : model.getFactories()) {
+            if (!factory.isEmpty()) {
+                TileColor color = factory.getTiles().get(0).getColor();
+                floor.addTiles(factory.selectTilesByColor(color));
+                model.addTilesToCenter(factory.removeRemainingTiles());
+            }
+        }
+        for (TileColor color : TileColor.values()) {
+            floor.addTiles(model.collectTilesFromCenter(color));
+        }
+        model.handleFirstPlayerToken();
+        assertTrue(model.isRoundComplete());
+    }
+}
@@ -0,0 +1,76 @@
+package hr.algebra.azul.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoringSystemTest {
+
+    @Test
+    void endGameBonusIsAwardedOnce() {
+        Player player = new Player("Player 1");
+        Wall wall = player.getWall();
+        TileColor[][] pattern = wall.getWallPattern();
+        // A full first row and column, which also completes no color
+        for (int i = 0; i < Wall.WALL_SIZE; i++) {
+            wall.addTile(0, pattern[0][i]);
+            if (i > 0) {
+                wall.addTile(i, pattern[i][0]);
+            }
+        }
+        int bonus = ScoringSystem.ROW_BONUS + ScoringSystem.COLUMN_BONUS;
+        assertEquals(bonus, ScoringSystem.endGameBonus(wall));
+        assertEquals(bonus, ScoringSystem.projectedFinalScore(player));
+
+        List<ScoreEvent> first = ScoringSystem.awardEndGameBonuses(player, 5);
+        List<ScoreEvent> second = ScoringSystem.awardEndGameBonuses(player, 5);
+
+        assertEquals(2, first.size());
+        assertTrue(second.isEmpty());
+        assertEquals(bonus, player.getScore());
+        assertEquals(2, player.getScoreEvents().size());
+        assertEquals(player.getScore(), ScoringSystem.projectedFinalScore(player));
+    }
+
+    @Test
+    void completedRowScoresItsBonusOnlyAtTheEnd() {
+        Player player = new Player("Player 1");
+        TileColor[][] pattern = player.getWall().getWallPattern();
+        // Left to right: a lone tile, then four tiles that each join the run
+        for (int col = 0; col < Wall.WALL_SIZE; col++) {
+            player.getPatternLine(0).addTiles(List.of(new Tile(pattern[0][col])));
+            ScoringSystem.tileLine(player, 0, col + 1);
+            player.getPatternLine(0).clear();
+        }
+        assertTrue(player.getWall().isRowComplete(0));
+        assertEquals(Wall.WALL_SIZE, player.getScore());
+
+        ScoringSystem.awardEndGameBonuses(player, Wall.WALL_SIZE);
+
+        assertEquals(Wall.WALL_SIZE + ScoringSystem.ROW_BONUS, player.getScore());
+    }
+
+    @Test
+    void gameEndAwardsTheBonusOnce() {
+        GameModel model = new GameModel(2);
+        Player player = model.getPlayers().get(0);
+        TileColor[][] pattern = player.getWall().getWallPattern();
+        for (int col = 0; col < Wall.WALL_SIZE; col++) {
+            player.getWall().addTile(0, pattern[0][col]);
+        }
+        GameModelTest.emptyTable(model);
+
+        assertTrue(model.processRoundEnd());
+        assertEquals(GameModel.GameState.GAME_END, model.getGameState());
+        int finalScore = player.getScore();
+        model.processRoundEnd();
+
+        assertEquals(finalScore, player.getScore());
+        assertEquals(1, player.getScoreEvents().stream()
+                .filter(event -> event.kind() == ScoreEvent.Kind.ROW_BONUS)
+                .count());
+    }
+}